@@ -0,0 +1,80 @@
+#!/usr/bin/env bash
+# 직책 상세 조회(getPositionDetail) Hibernate 2차 캐시 미사용 vs 사용 비교
+#
+# 사용법 (로컬/벤치마크 환경에서만 실행, wrk, jq 필요, 메트릭 조회에 관리자 세션 필요):
+#   ./gradlew bootJar
+#   COOKIE='SESSION=...' POSITION_ID=1 ./benchmark/http/position_detail_l2_compare.sh
+#
+# 모드별로 같은 jar 를 HIBERNATE_L2_CACHE=false/true 로 기동하고, 워밍업 후 동시 CONNECTIONS 로 DURATION 동안 부하를 줍니다.
+# 결과: 모드별 초당 요청 수, p50/p99 지연, 요청당 SQL 문장 수(X-DB-Statement-Count), 2차 캐시 적중/실패 수
+# 회의체(MeetingBody) 조회와 직급 공통코드(JOB_RANK) 조회가 캐시되므로, 회의체/관리자가 여러 건 연결된 직책을 대상으로 해야
+# 차이가 드러납니다.
+
+set -euo pipefail
+
+JAR=${JAR:-$(ls build/libs/*.jar | grep -v plain | head -1)}
+PROFILE=${PROFILE:-local}
+PORT=${PORT:-8080}
+POSITION_ID=${POSITION_ID:-1}
+COOKIE=${COOKIE:-}
+CONNECTIONS=${CONNECTIONS:-100}
+THREADS=${THREADS:-8}
+DURATION=${DURATION:-60s}
+WARMUP=${WARMUP:-15s}
+
+BASE="http://localhost:${PORT}/api"
+TARGET="$BASE/positions/$POSITION_ID"
+WORK_DIR=$(mktemp -d)
+APP_PID=
+cleanup() {
+  [ -n "$APP_PID" ] && kill "$APP_PID" 2>/dev/null || true
+  rm -rf "$WORK_DIR"
+}
+trap cleanup EXIT
+
+metric() {
+  # actuator 메트릭 값 (없으면 0)
+  curl -sf -H "Cookie: $COOKIE" "$BASE/actuator/metrics/$1${2:+?tag=$2}" 2>/dev/null \
+    | jq -r '[.measurements[] | select(.statistic == "COUNT")][0].value // 0' 2>/dev/null || echo 0
+}
+
+statements() {
+  # 워밍업 이후 한 번 더 호출하여 요청당 SQL 문장 수 확인
+  curl -sf -o /dev/null -D - -H "Cookie: $COOKIE" "$TARGET" \
+    | awk 'tolower($1) == "x-db-statement-count:" {gsub(/\r/, "", $2); print $2}'
+}
+
+run_mode() {
+  local mode=$1 cache=$2
+  # 적중/미스 메트릭은 Hibernate 통계가 켜져 있어야 집계됨 (PROFILE 과 무관하게 활성화)
+  HIBERNATE_L2_CACHE=$cache HIBERNATE_STATISTICS=true java -jar "$JAR" --spring.profiles.active="$PROFILE" --server.port="$PORT" \
+    > "$WORK_DIR/$mode.log" 2>&1 &
+  APP_PID=$!
+  for _ in $(seq 1 120); do
+    curl -sf "$BASE/actuator/health" > /dev/null 2>&1 && break
+    sleep 1
+  done
+
+  wrk -t"$THREADS" -c"$CONNECTIONS" -d"$WARMUP" -H "Cookie: $COOKIE" "$TARGET" > /dev/null
+  local sql
+  sql=$(statements)
+  wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency -H "Cookie: $COOKIE" "$TARGET" \
+    > "$WORK_DIR/$mode.wrk"
+
+  local rps p50 p99 hits misses
+  rps=$(awk '/^Requests\/sec/ {print $2}' "$WORK_DIR/$mode.wrk")
+  p50=$(awk '$1 == "50%" {print $2}' "$WORK_DIR/$mode.wrk")
+  p99=$(awk '$1 == "99%" {print $2}' "$WORK_DIR/$mode.wrk")
+  hits=$(metric hibernate.second.level.cache.requests result:hit)
+  misses=$(metric hibernate.second.level.cache.requests result:miss)
+  printf "%-8s %12s %10s %10s %8s %12s %12s\n" "$mode" "$rps" "$p50" "$p99" "${sql:-?}" "$hits" "$misses"
+
+  kill "$APP_PID"
+  wait "$APP_PID" 2>/dev/null || true
+  APP_PID=
+}
+
+echo "대상: $TARGET, 동시 ${CONNECTIONS}, ${DURATION}"
+printf "%-8s %12s %10s %10s %8s %12s %12s\n" "mode" "req/s" "p50" "p99" "sql/req" "l2-hit" "l2-miss"
+run_mode no-l2 false
+run_mode l2 true
@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+# 부서장 내부통제 항목 현황 500건 페이지: 전체 17개 속성 vs ?fields= 3개 속성 응답 크기/서버 시간 비교
+#
+# 사용법 (로컬/벤치마크 환경에서 애플리케이션 실행 후, jq 불필요):
+#   COOKIE='SESSION=...' ./benchmark/http/sparse_fieldset_compare.sh
+#
+# 모드별로 WARMUP 회 호출 후 RUNS 회 호출하여 평균을 냅니다.
+# 결과: 응답 크기(bytes, 비압축), 첫 바이트까지 시간(ms, 서버 처리 시간에 해당), DB 시간(X-DB-Time-Ms, itcen.sql-stats.response-headers=true 일 때)
+# hod_ic_item 이 PAGE_SIZE 건 이상 있어야 의미 있는 비교가 됩니다.
+
+set -euo pipefail
+
+PORT=${PORT:-8080}
+COOKIE=${COOKIE:-}
+PAGE_SIZE=${PAGE_SIZE:-500}
+FIELDS=${FIELDS:-hodIcItemId,deptCd,icTask}
+RUNS=${RUNS:-50}
+WARMUP=${WARMUP:-10}
+
+# HodICItemController 매핑이 /api/hod-ic-items 이므로 context-path(/api) 와 합쳐 /api/api/...
+TARGET="http://localhost:${PORT}/api/api/hod-ic-items/search?page=0&size=${PAGE_SIZE}"
+
+measure() {
+  local url=$1
+  curl -sf -o /dev/null -D - -H "Cookie: $COOKIE" -w 'CURL %{size_download} %{time_starttransfer}\n' "$url" \
+    | awk '
+        tolower($1) == "x-db-time-ms:" { gsub(/\r/, "", $2); db = $2 }
+        $1 == "CURL" { printf "%s %.3f %s\n", $2, $3 * 1000, (db == "" ? 0 : db) }'
+}
+
+run_mode() {
+  local mode=$1 url=$2
+  for _ in $(seq 1 "$WARMUP"); do
+    measure "$url" > /dev/null
+  done
+  for _ in $(seq 1 "$RUNS"); do
+    measure "$url"
+  done | awk -v mode="$mode" '
+      { bytes += $1; ttfb += $2; db += $3; n++ }
+      END { printf "%-8s %12d %12.1f %10.1f\n", mode, bytes / n, ttfb / n, db / n }'
+}
+
+echo "대상: $TARGET, fields=$FIELDS, ${RUNS}회 평균"
+printf "%-8s %12s %12s %10s\n" "mode" "bytes" "ttfb(ms)" "db(ms)"
+run_mode full "$TARGET"
+run_mode fields "$TARGET&fields=$FIELDS"
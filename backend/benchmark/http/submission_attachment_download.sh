@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+# 제출 이력 첨부파일 다운로드 처리량 벤치마크 (50MB 파일, 동시 100건)
+#
+# 사용법 (로컬/벤치마크 환경에서만 실행):
+#   BASE_URL=http://localhost:8080/api/api/submissions SUBMISSION_ID=1 COOKIE='SESSION=...' \
+#     ./benchmark/http/submission_attachment_download.sh
+#
+# 1) 50MB 임의 파일을 SUBMISSION_ID 제출 이력에 업로드
+# 2) 동시 CONCURRENCY 건 전체 다운로드 → 총 전송량/소요 시간/처리량, 내용 해시 일치 확인
+# 3) Range(마지막 1MB) / If-None-Match(304) 응답 확인
+# 서버 힙 사용량은 실행 중 /actuator/metrics/jvm.memory.used?tag=area:heap 로 함께 확인 (파일 크기에 비례해 늘지 않아야 함)
+
+set -euo pipefail
+
+BASE_URL=${BASE_URL:-http://localhost:8080/api/api/submissions}
+SUBMISSION_ID=${SUBMISSION_ID:-1}
+COOKIE=${COOKIE:-}
+CONCURRENCY=${CONCURRENCY:-100}
+FILE_SIZE_MB=${FILE_SIZE_MB:-50}
+
+WORK_DIR=$(mktemp -d)
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+SOURCE="$WORK_DIR/source.bin"
+head -c "$((FILE_SIZE_MB * 1024 * 1024))" /dev/urandom > "$SOURCE"
+EXPECTED_SHA=$(sha256sum "$SOURCE" | cut -d' ' -f1)
+
+echo "업로드: ${FILE_SIZE_MB}MB"
+curl -sf -b "$COOKIE" -F "file=@${SOURCE};type=application/octet-stream" \
+  "$BASE_URL/$SUBMISSION_ID/attachment" > /dev/null
+
+echo "다운로드: 동시 ${CONCURRENCY}건"
+START=$(date +%s.%N)
+seq 1 "$CONCURRENCY" | xargs -P "$CONCURRENCY" -I{} \
+  curl -sf -b "$COOKIE" -o "$WORK_DIR/download-{}.bin" "$BASE_URL/$SUBMISSION_ID/attachment"
+END=$(date +%s.%N)
+
+MISMATCH=0
+for f in "$WORK_DIR"/download-*.bin; do
+  [ "$(sha256sum "$f" | cut -d' ' -f1)" = "$EXPECTED_SHA" ] || MISMATCH=$((MISMATCH + 1))
+  rm -f "$f"
+done
+
+awk -v s="$START" -v e="$END" -v n="$CONCURRENCY" -v mb="$FILE_SIZE_MB" -v bad="$MISMATCH" 'BEGIN {
+  t = e - s
+  printf "총 %dMB / %.2fs = %.1f MB/s (건당 평균 %.2fs), 해시 불일치 %d건\n", n * mb, t, n * mb / t, t, bad
+}'
+
+echo "Range (마지막 1MB):"
+curl -s -b "$COOKIE" -o /dev/null -D - -H "Range: bytes=-1048576" "$BASE_URL/$SUBMISSION_ID/attachment" \
+  | grep -iE '^(HTTP|content-range|content-length)'
+
+echo "If-None-Match:"
+curl -s -b "$COOKIE" -o /dev/null -D - -H "If-None-Match: \"$EXPECTED_SHA\"" "$BASE_URL/$SUBMISSION_ID/attachment" \
+  | grep -iE '^(HTTP|etag)'
@@ -0,0 +1,70 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 vs 가상 스레드(+DB 진입 제어) 처리량/p99 비교
+#
+# 사용법 (로컬/벤치마크 환경에서만 실행, wrk 필요):
+#   ./gradlew bootJar
+#   COOKIE='SESSION=...' TARGET_PATH='/api/qna?page=0&size=20' ./benchmark/http/virtual_threads_compare.sh
+#
+# 모드별로 같은 jar 를 VIRTUAL_THREADS=false/true 로 기동하고, 워밍업 후 동시 CONNECTIONS 로 DURATION 동안 부하를 줍니다.
+# 결과: 모드별 초당 요청 수, p50/p99 지연, 오류(non-2xx) 수, DB 진입 거절 수, 가상 스레드 고정 횟수
+# DB 를 실제로 조회하는 엔드포인트를 대상으로 해야 커넥션 풀 대기/진입 제어 효과가 드러납니다.
+
+set -euo pipefail
+
+JAR=${JAR:-$(ls build/libs/*.jar | grep -v plain | head -1)}
+PROFILE=${PROFILE:-local}
+PORT=${PORT:-8080}
+TARGET_PATH=${TARGET_PATH:-/api/qna?page=0&size=20}
+COOKIE=${COOKIE:-}
+CONNECTIONS=${CONNECTIONS:-1000}
+THREADS=${THREADS:-8}
+DURATION=${DURATION:-60s}
+WARMUP=${WARMUP:-15s}
+
+BASE="http://localhost:${PORT}/api"
+WORK_DIR=$(mktemp -d)
+APP_PID=
+cleanup() {
+  [ -n "$APP_PID" ] && kill "$APP_PID" 2>/dev/null || true
+  rm -rf "$WORK_DIR"
+}
+trap cleanup EXIT
+
+metric() {
+  # actuator 메트릭 값 (없으면 0)
+  curl -sf "$BASE/actuator/metrics/$1" 2>/dev/null \
+    | jq -r '[.measurements[] | select(.statistic == "COUNT")][0].value // 0' 2>/dev/null || echo 0
+}
+
+run_mode() {
+  local mode=$1 virtual=$2
+  VIRTUAL_THREADS=$virtual java -jar "$JAR" --spring.profiles.active="$PROFILE" --server.port="$PORT" \
+    > "$WORK_DIR/$mode.log" 2>&1 &
+  APP_PID=$!
+  for _ in $(seq 1 120); do
+    curl -sf "$BASE/actuator/health" > /dev/null 2>&1 && break
+    sleep 1
+  done
+
+  wrk -t"$THREADS" -c"$CONNECTIONS" -d"$WARMUP" -H "Cookie: $COOKIE" "$BASE$TARGET_PATH" > /dev/null
+  wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency -H "Cookie: $COOKIE" "$BASE$TARGET_PATH" \
+    > "$WORK_DIR/$mode.wrk"
+
+  local rps p50 p99 errors rejected pinned
+  rps=$(awk '/^Requests\/sec/ {print $2}' "$WORK_DIR/$mode.wrk")
+  p50=$(awk '$1 == "50%" {print $2}' "$WORK_DIR/$mode.wrk")
+  p99=$(awk '$1 == "99%" {print $2}' "$WORK_DIR/$mode.wrk")
+  errors=$(awk '/Non-2xx/ {print $NF}' "$WORK_DIR/$mode.wrk")
+  rejected=$(metric db.admission.rejected)
+  pinned=$(metric jvm.threads.virtual.pinned)
+  printf "%-8s %12s %10s %10s %10s %10s %8s\n" "$mode" "$rps" "$p50" "$p99" "${errors:-0}" "$rejected" "$pinned"
+
+  kill "$APP_PID"
+  wait "$APP_PID" 2>/dev/null || true
+  APP_PID=
+}
+
+echo "대상: $TARGET_PATH, 동시 ${CONNECTIONS}, ${DURATION}"
+printf "%-8s %12s %10s %10s %10s %10s %8s\n" "mode" "req/s" "p50" "p99" "non-2xx" "rejected" "pinned"
+run_mode platform false
+run_mode virtual true
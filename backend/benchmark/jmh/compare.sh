@@ -0,0 +1,39 @@
+#!/usr/bin/env bash
+# JMH 결과(JSON) 두 개를 벤치마크별로 비교
+#
+# 사용법:
+#   git checkout <기준 커밋> && ./gradlew jmh
+#   git checkout <비교 커밋> && ./gradlew jmh
+#   ./benchmark/jmh/compare.sh build/reports/jmh/results-<기준>.json build/reports/jmh/results-<비교>.json [허용 비율(%)]
+#
+# 점수(평균 시간)와 gc.alloc.rate.norm(연산당 할당 바이트)을 출력하고, 점수가 허용 비율(기본 10%)보다 나빠진 항목이 있으면
+# 종료 코드 1 을 반환합니다. (처리량 모드는 점수가 낮아질수록 나빠진 것으로 판정)
+
+set -euo pipefail
+
+BASE=${1:?기준 결과 JSON 경로}
+TARGET=${2:?비교 결과 JSON 경로}
+THRESHOLD=${3:-10}
+
+command -v jq > /dev/null || { echo "jq 가 필요합니다." >&2; exit 2; }
+
+summarize() {
+  jq -r '.[] | [
+      (.benchmark + (if .params then " " + (.params | to_entries | map(.key + "=" + .value) | join(",")) else "" end)),
+      .mode,
+      .primaryMetric.score,
+      .primaryMetric.scoreUnit,
+      (.secondaryMetrics["·gc.alloc.rate.norm"].score // "")
+    ] | @tsv' "$1" | sort
+}
+
+join -t $'\t' -j 1 <(summarize "$BASE") <(summarize "$TARGET") | awk -F'\t' -v limit="$THRESHOLD" '
+  BEGIN { worse = 0; printf "%-90s %12s %12s %-8s %9s %12s %12s\n", "benchmark", "base", "target", "unit", "change", "alloc(base)", "alloc(tgt)" }
+  {
+    name = $1; mode = $2; base = $3; unit = $4; baseAlloc = $5; target = $7; targetAlloc = $9
+    change = base == 0 ? 0 : (target - base) / base * 100
+    regressed = (mode == "thrpt") ? (change < -limit) : (change > limit)
+    if (regressed) worse++
+    printf "%-90s %12.3f %12.3f %-8s %+8.1f%% %12s %12s%s\n", name, base, target, unit, change, baseAlloc, targetAlloc, regressed ? "  <- 회귀" : ""
+  }
+  END { if (worse > 0) { printf "\n회귀 %d건 (허용 %s%%)\n", worse, limit; exit 1 } }'
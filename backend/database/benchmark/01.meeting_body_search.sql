@@ -0,0 +1,57 @@
+-- 회의체 검색 벤치마크 (pg_trgm GIN 인덱스 전/후 비교)
+--
+-- 사용법 (운영 DB 에서 실행 금지):
+--   psql -d itcen_bench -f database/benchmark/01.meeting_body_search.sql
+--
+-- 1) 100,000건 적재 → 2) 인덱스 없이 EXPLAIN ANALYZE → 3) GIN 인덱스 생성 → 4) 동일 쿼리 EXPLAIN ANALYZE
+-- 애플리케이션과 동일한 쿼리(MeetingBodyRepository.findBySearchConditions / countBySearchConditions)를 사용합니다.
+
+\timing on
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DROP INDEX IF EXISTS idx_meeting_body_name_trgm;
+DROP INDEX IF EXISTS idx_meeting_body_content_trgm;
+DELETE FROM meeting_body WHERE meeting_body_id LIKE 'bench-%';
+
+INSERT INTO meeting_body (meeting_body_id, gubun, meeting_name, meeting_period, content, created_at, updated_at)
+SELECT 'bench-' || g,
+       (ARRAY['이사회', '위원회', '경영진', '협의회'])[1 + g % 4],
+       (ARRAY['리스크관리', '내부통제', '보상', '감사', '경영전략'])[1 + g % 5] || ' 회의체 ' || g,
+       (ARRAY['Q', 'H', 'M', 'N'])[1 + g % 4],
+       repeat('주요 심의 의결사항 ' || md5(g::text) || ' ', 10),
+       now() - (g || ' seconds')::interval,
+       now()
+FROM generate_series(1, 100000) AS g;
+
+ANALYZE meeting_body;
+
+-- 인덱스 없음
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM meeting_body m
+WHERE m.meeting_name ILIKE CONCAT('%', '내부통제 회의체 7777', '%')
+ORDER BY m.created_at DESC, m.meeting_body_id DESC LIMIT 10;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COUNT(*) FROM meeting_body m
+WHERE m.content ILIKE CONCAT('%', 'c4ca4238', '%');
+
+-- pg_trgm GIN 인덱스 (MeetingBodySearchIndexInitializer 와 동일 정의)
+CREATE INDEX idx_meeting_body_name_trgm ON meeting_body USING gin (meeting_name gin_trgm_ops);
+CREATE INDEX idx_meeting_body_content_trgm ON meeting_body USING gin (content gin_trgm_ops);
+ANALYZE meeting_body;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM meeting_body m
+WHERE m.meeting_name ILIKE CONCAT('%', '내부통제 회의체 7777', '%')
+ORDER BY m.created_at DESC, m.meeting_body_id DESC LIMIT 10;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COUNT(*) FROM meeting_body m
+WHERE m.content ILIKE CONCAT('%', 'c4ca4238', '%');
+
+SELECT relname, pg_size_pretty(pg_relation_size(oid))
+FROM pg_class WHERE relname IN ('meeting_body', 'idx_meeting_body_name_trgm', 'idx_meeting_body_content_trgm');
+
+-- 정리
+DELETE FROM meeting_body WHERE meeting_body_id LIKE 'bench-%';
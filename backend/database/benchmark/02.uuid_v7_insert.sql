@@ -0,0 +1,60 @@
+-- 문자열 UUID 기본키 적재/인덱스 크기 벤치마크 (임의 UUIDv4 vs 시간 순서 UUIDv7)
+--
+-- 사용법 (운영 DB 에서 실행 금지):
+--   psql -d itcen_bench -f database/benchmark/02.uuid_v7_insert.sql
+--
+-- meeting_body 와 동일한 varchar(100) 기본키 테이블 두 개에 각각 1,000,000건을 적재하고
+-- 적재 시간(\timing), 기본키 인덱스 크기, leaf 밀도를 비교합니다.
+-- 애플리케이션은 org.itcen.common.id.UuidV7 과 같은 비트 배치(48비트 ms + 버전 + 12비트 카운터 + 변형 + 난수)를 사용합니다.
+-- 실제 애플리케이션처럼 한 건씩 인덱스에 삽입되도록 단건 INSERT 를 반복합니다.
+
+\timing on
+
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+
+CREATE OR REPLACE FUNCTION bench_uuid_v7() RETURNS uuid AS $$
+    SELECT encode(
+               set_bit(set_bit(
+                   overlay(uuid_send(gen_random_uuid())
+                           PLACING substring(int8send((extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                           FROM 1 FOR 6),
+                   52, 1), 53, 1),
+               'hex')::uuid;
+$$ LANGUAGE sql VOLATILE;
+
+DROP TABLE IF EXISTS bench_id_v4;
+DROP TABLE IF EXISTS bench_id_v7;
+CREATE UNLOGGED TABLE bench_id_v4 (id varchar(100) PRIMARY KEY, payload text);
+CREATE UNLOGGED TABLE bench_id_v7 (id varchar(100) PRIMARY KEY, payload text);
+
+-- 1) UUIDv4 (기존 UUID.randomUUID())
+DO $$
+BEGIN
+    FOR i IN 1..1000000 LOOP
+        INSERT INTO bench_id_v4 VALUES (gen_random_uuid()::text, 'x');
+    END LOOP;
+END $$;
+
+-- 2) UUIDv7
+DO $$
+BEGIN
+    FOR i IN 1..1000000 LOOP
+        INSERT INTO bench_id_v7 VALUES (bench_uuid_v7()::text, 'x');
+    END LOOP;
+END $$;
+
+-- 인덱스 크기 / leaf 밀도 (v7 은 오른쪽 끝 삽입이라 avg_leaf_density 가 90% 전후, v4 는 페이지 분할로 70% 전후)
+SELECT 'v4' AS kind, pg_size_pretty(pg_relation_size('bench_id_v4_pkey')) AS index_size,
+       s.avg_leaf_density, s.leaf_fragmentation
+FROM pgstatindex('bench_id_v4_pkey') s
+UNION ALL
+SELECT 'v7', pg_size_pretty(pg_relation_size('bench_id_v7_pkey')),
+       s.avg_leaf_density, s.leaf_fragmentation
+FROM pgstatindex('bench_id_v7_pkey') s;
+
+-- 최신 데이터 범위 조회 시 접근 페이지 수 비교
+EXPLAIN (ANALYZE, BUFFERS) SELECT id FROM bench_id_v7 ORDER BY id DESC LIMIT 100;
+
+DROP TABLE bench_id_v4;
+DROP TABLE bench_id_v7;
+DROP FUNCTION bench_uuid_v7();
@@ -0,0 +1,42 @@
+-- 사용자 고유값 중복 검사 벤치마크 (기존 exists 5회 vs 단일 조회 1회)
+--
+-- 사용법 (운영 DB 에서 실행 금지):
+--   psql -d itcen_bench -f database/benchmark/03.user_uniqueness_check.sql
+--   동시 부하 (문장 수/지연 비교, 각 트랜잭션 = 가입 요청 1건의 중복 검사):
+--     pgbench -n -c 32 -j 8 -T 60 -f database/benchmark/pgbench/user_uniqueness_exists.sql itcen_bench
+--     pgbench -n -c 32 -j 8 -T 60 -f database/benchmark/pgbench/user_uniqueness_single.sql itcen_bench
+--
+-- 1) 사용자 100,000명 적재 → 2) 두 방식의 실행 계획/시간 비교 (애플리케이션과 동일한 쿼리)
+
+\timing on
+
+DELETE FROM users WHERE id LIKE 'bench-%';
+
+INSERT INTO users (id, username, email, address, mobile, "password", num)
+SELECT 'bench-' || g, 'bench_user_' || g, 'bench' || g || '@itcen.org', '서울시',
+       '010-' || lpad((g / 10000)::text, 4, '0') || '-' || lpad((g % 10000)::text, 4, '0'),
+       'x', 'B' || lpad(g::text, 7, '0')
+FROM generate_series(1, 100000) AS g;
+
+ANALYZE users;
+
+-- 기존: 항목별 exists 조회 (왕복 5회)
+EXPLAIN (ANALYZE, BUFFERS) SELECT 1 FROM users WHERE id = 'new-user' LIMIT 1;
+EXPLAIN (ANALYZE, BUFFERS) SELECT 1 FROM users WHERE username = 'new_user' LIMIT 1;
+EXPLAIN (ANALYZE, BUFFERS) SELECT 1 FROM users WHERE email = 'new@itcen.org' LIMIT 1;
+EXPLAIN (ANALYZE, BUFFERS) SELECT 1 FROM users WHERE mobile = '010-9999-9999' LIMIT 1;
+EXPLAIN (ANALYZE, BUFFERS) SELECT 1 FROM users WHERE num = 'N0000001' LIMIT 1;
+
+-- 변경: UserRepository.findUniquenessConflicts (왕복 1회, BitmapOr)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COALESCE(BOOL_OR(u.id = 'new-user'), FALSE),
+       COALESCE(BOOL_OR(u.username = 'bench_user_10'), FALSE),
+       COALESCE(BOOL_OR(u.email = 'new@itcen.org'), FALSE),
+       COALESCE(BOOL_OR(u.mobile = '010-9999-9999'), FALSE),
+       COALESCE(BOOL_OR(u.num = 'N0000001'), FALSE)
+FROM users u
+WHERE u.id = 'new-user' OR u.username = 'bench_user_10' OR u.email = 'new@itcen.org'
+   OR u.mobile = '010-9999-9999' OR (u.num = 'N0000001' AND u.num <> '');
+
+-- 정리는 pgbench 실행 후:
+--   DELETE FROM users WHERE id LIKE 'bench-%';
@@ -0,0 +1,7 @@
+-- 기존 방식: 가입 요청 1건당 exists 조회 5회
+\set n random(1, 200000)
+SELECT 1 FROM users WHERE id = 'bench-' || :n LIMIT 1;
+SELECT 1 FROM users WHERE username = 'bench_user_' || :n LIMIT 1;
+SELECT 1 FROM users WHERE email = 'bench' || :n || '@itcen.org' LIMIT 1;
+SELECT 1 FROM users WHERE mobile = '010-0000-' || lpad((:n % 10000)::text, 4, '0') LIMIT 1;
+SELECT 1 FROM users WHERE num = 'B' || lpad(:n::text, 7, '0') LIMIT 1;
@@ -0,0 +1,13 @@
+-- 변경 방식: 가입 요청 1건당 단일 조회 (UserRepository.findUniquenessConflicts)
+\set n random(1, 200000)
+SELECT COALESCE(BOOL_OR(u.id = 'bench-' || :n), FALSE),
+       COALESCE(BOOL_OR(u.username = 'bench_user_' || :n), FALSE),
+       COALESCE(BOOL_OR(u.email = 'bench' || :n || '@itcen.org'), FALSE),
+       COALESCE(BOOL_OR(u.mobile = '010-0000-' || lpad((:n % 10000)::text, 4, '0')), FALSE),
+       COALESCE(BOOL_OR(u.num = 'B' || lpad(:n::text, 7, '0')), FALSE)
+FROM users u
+WHERE u.id = 'bench-' || :n
+   OR u.username = 'bench_user_' || :n
+   OR u.email = 'bench' || :n || '@itcen.org'
+   OR u.mobile = '010-0000-' || lpad((:n % 10000)::text, 4, '0')
+   OR (u.num = 'B' || lpad(:n::text, 7, '0') AND u.num <> '');
@@ -0,0 +1,41 @@
+-- 원장차수 SelectBox 캐시 갱신 알림 트리거
+-- ledger_orders 또는 ORDER_STATUS 공통코드 변경 시 'ledger_orders_changed' 채널로 NOTIFY
+-- (LedgerOrderSelectCache 가 LISTEN 하여 모든 노드의 스냅샷을 다시 적재)
+
+CREATE OR REPLACE FUNCTION notify_ledger_orders_changed()
+RETURNS TRIGGER AS $$
+BEGIN
+   PERFORM pg_notify('ledger_orders_changed', TG_TABLE_NAME);
+   RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+CREATE OR REPLACE FUNCTION notify_order_status_code_changed()
+RETURNS TRIGGER AS $$
+BEGIN
+   IF TG_OP IN ('UPDATE', 'DELETE') THEN
+      IF OLD.group_code = 'ORDER_STATUS' THEN
+         PERFORM pg_notify('ledger_orders_changed', TG_TABLE_NAME);
+         RETURN NULL;
+      END IF;
+   END IF;
+   IF TG_OP IN ('INSERT', 'UPDATE') THEN
+      IF NEW.group_code = 'ORDER_STATUS' THEN
+         PERFORM pg_notify('ledger_orders_changed', TG_TABLE_NAME);
+      END IF;
+   END IF;
+   RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+DROP TRIGGER IF EXISTS ledger_orders_notify ON ledger_orders;
+CREATE TRIGGER ledger_orders_notify
+AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON ledger_orders
+FOR EACH STATEMENT
+EXECUTE FUNCTION notify_ledger_orders_changed();
+
+DROP TRIGGER IF EXISTS common_code_order_status_notify ON common_code;
+CREATE TRIGGER common_code_order_status_notify
+AFTER INSERT OR UPDATE OR DELETE ON common_code
+FOR EACH ROW
+EXECUTE FUNCTION notify_order_status_code_changed();
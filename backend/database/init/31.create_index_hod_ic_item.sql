@@ -0,0 +1,8 @@
+-- 부서장 내부통제 항목 현황 조회용 인덱스
+-- (HodICItemRepositoryImpl 의 동적 WHERE 조건 / ORDER BY hod_ic_item_id 페이징)
+
+CREATE INDEX IF NOT EXISTS idx_hod_ic_item_ledger_order ON public.hod_ic_item USING btree (ledger_order, hod_ic_item_id);
+CREATE INDEX IF NOT EXISTS idx_hod_ic_item_dept_cd ON public.hod_ic_item USING btree (dept_cd);
+CREATE INDEX IF NOT EXISTS idx_hod_ic_item_field_type_cd ON public.hod_ic_item USING btree (field_type_cd);
+CREATE INDEX IF NOT EXISTS idx_hod_ic_item_approval_id ON public.hod_ic_item USING btree (approval_id);
+CREATE INDEX IF NOT EXISTS idx_hod_ic_item_responsibility_id ON public.hod_ic_item USING btree (responsibility_id);
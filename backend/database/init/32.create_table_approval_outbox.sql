@@ -0,0 +1,33 @@
+-- 결재 요청 Outbox 테이블
+-- approval_outbox
+-- 업무 트랜잭션에서 결재 요청을 기록하고, 백그라운드 워커(ApprovalOutboxWorker)가 배치로 꺼내
+-- approval 행 생성 및 업무 테이블 approval_id 반영을 수행합니다.
+
+-- DROP TABLE public.approval_outbox;
+
+CREATE TABLE public.approval_outbox (
+    outbox_id                   bigserial               NOT NULL,               -- Outbox ID
+    aggregate_type              varchar(50)             NOT NULL,               -- 업무 구분 (예: HOD_IC_ITEM)
+    aggregate_id                int8                    NOT NULL,               -- 업무 ID
+    requester_id                varchar(100)            NOT NULL,               -- 결재 요청자 ID
+    status                      varchar(20)             NOT NULL,               -- 처리상태 (PENDING, PROCESSING, DONE, FAILED, DISCARDED)
+    attempt_count               int4        DEFAULT 0   NOT NULL,               -- 처리 시도 횟수
+    next_attempt_at             timestamptz DEFAULT CURRENT_TIMESTAMP NOT NULL,  -- 다음 처리 가능 일시 (재시도 backoff)
+    locked_at                   timestamptz             NULL,                   -- 처리 시작 일시 (PROCESSING 임대)
+    approval_id                 int8                    NULL,                   -- 생성된 결재ID
+    last_error                  varchar(1000)           NULL,                   -- 마지막 오류 내용
+    processed_at                timestamptz             NULL,                   -- 처리 완료 일시
+    created_id                  VARCHAR(100)            NULL,
+    updated_id                  VARCHAR(100)            NULL,
+    created_at                  timestamptz DEFAULT CURRENT_TIMESTAMP NOT NULL,  -- 생성일
+    updated_at                  timestamptz DEFAULT CURRENT_TIMESTAMP NOT NULL,  -- 수정일
+    CONSTRAINT approval_outbox_pkey PRIMARY KEY (outbox_id)
+);
+
+-- 워커 폴링용 (처리 대기/처리 중 행만 인덱싱)
+CREATE INDEX idx_approval_outbox_pending ON public.approval_outbox USING btree (next_attempt_at, outbox_id)
+    WHERE status IN ('PENDING', 'PROCESSING');
+
+-- 동일 업무에 대한 중복 결재 요청 방지
+CREATE UNIQUE INDEX uk_approval_outbox_active ON public.approval_outbox USING btree (aggregate_type, aggregate_id)
+    WHERE status IN ('PENDING', 'PROCESSING');
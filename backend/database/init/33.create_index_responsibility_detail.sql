@@ -0,0 +1,5 @@
+-- 책무 현황/트리 조회용 인덱스
+-- 책무별 상세를 responsibility_detail_id 순으로 읽을 때 정렬 없이 인덱스 순서로 조회
+
+CREATE INDEX IF NOT EXISTS idx_responsibility_detail_resp_id_detail_id
+    ON public.responsibility_detail USING btree (responsibility_id, responsibility_detail_id);
@@ -0,0 +1,23 @@
+-- 회의체 건수 캐시 갱신 알림 트리거 및 목록 정렬 인덱스
+-- meeting_body 변경 시 'meeting_body_changed' 채널로 NOTIFY
+-- (MeetingBodyStatsCache 가 LISTEN 하여 모든 노드의 구분/개최주기별 건수를 다시 적재하고 검색 건수 캐시를 비움)
+--
+-- 회의체명/내용 검색용 pg_trgm GIN 인덱스(idx_meeting_body_name_trgm, idx_meeting_body_content_trgm)는
+-- 애플리케이션 기동 시 MeetingBodySearchIndexInitializer 가 생성/복구합니다.
+
+CREATE OR REPLACE FUNCTION notify_meeting_body_changed()
+RETURNS TRIGGER AS $$
+BEGIN
+   PERFORM pg_notify('meeting_body_changed', TG_TABLE_NAME);
+   RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+DROP TRIGGER IF EXISTS meeting_body_notify ON meeting_body;
+CREATE TRIGGER meeting_body_notify
+AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON meeting_body
+FOR EACH STATEMENT
+EXECUTE FUNCTION notify_meeting_body_changed();
+
+-- 검색 목록 기본 정렬 (created_at DESC, meeting_body_id DESC)
+CREATE INDEX IF NOT EXISTS idx_meeting_body_created_at ON public.meeting_body USING btree (created_at DESC, meeting_body_id DESC);
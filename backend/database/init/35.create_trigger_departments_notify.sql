@@ -0,0 +1,17 @@
+-- 부서 사전 갱신 알림 트리거
+-- departments 변경 시 'departments_changed' 채널로 NOTIFY
+-- (DepartmentDictionary 가 LISTEN 하여 모든 노드의 부서 사전 스냅샷을 다시 적재)
+
+CREATE OR REPLACE FUNCTION notify_departments_changed()
+RETURNS TRIGGER AS $$
+BEGIN
+   PERFORM pg_notify('departments_changed', TG_TABLE_NAME);
+   RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+DROP TRIGGER IF EXISTS departments_notify ON departments;
+CREATE TRIGGER departments_notify
+AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON departments
+FOR EACH STATEMENT
+EXECUTE FUNCTION notify_departments_changed();
@@ -0,0 +1,32 @@
+-- 사원 검색 색인 갱신 알림 트리거
+-- users 행 변경 시 'users_changed' 채널로 사용자 ID 를 NOTIFY (TRUNCATE 는 빈 payload = 전체 재적재)
+-- (EmployeeDirectory 가 LISTEN 하여 모든 노드의 사원 검색 색인에 해당 사원만 다시 반영)
+
+CREATE OR REPLACE FUNCTION notify_users_changed()
+RETURNS TRIGGER AS $$
+BEGIN
+   IF TG_OP = 'TRUNCATE' THEN
+      PERFORM pg_notify('users_changed', '');
+   ELSIF TG_OP = 'DELETE' THEN
+      PERFORM pg_notify('users_changed', OLD.id);
+   ELSE
+      PERFORM pg_notify('users_changed', NEW.id);
+      IF TG_OP = 'UPDATE' AND OLD.id IS DISTINCT FROM NEW.id THEN
+         PERFORM pg_notify('users_changed', OLD.id);
+      END IF;
+   END IF;
+   RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+DROP TRIGGER IF EXISTS users_notify ON users;
+CREATE TRIGGER users_notify
+AFTER INSERT OR UPDATE OR DELETE ON users
+FOR EACH ROW
+EXECUTE FUNCTION notify_users_changed();
+
+DROP TRIGGER IF EXISTS users_truncate_notify ON users;
+CREATE TRIGGER users_truncate_notify
+AFTER TRUNCATE ON users
+FOR EACH STATEMENT
+EXECUTE FUNCTION notify_users_changed();
@@ -0,0 +1,16 @@
+-- 사용자 고유값 인덱스
+-- UserUniquenessValidator 의 중복 조회(id/username/email/mobile/num 을 한 번에 조회)와 동시 가입 시 최종 중복 방지용
+--
+-- 적용 전 기존 중복 데이터 확인:
+--   SELECT mobile, count(*) FROM users GROUP BY mobile HAVING count(*) > 1;
+--   SELECT num, count(*) FROM users WHERE num IS NOT NULL AND num <> '' GROUP BY num HAVING count(*) > 1;
+
+CREATE UNIQUE INDEX IF NOT EXISTS users_mobile_key ON public.users USING btree (mobile);
+
+-- 사번은 미입력(NULL/빈 값) 사용자가 있으므로 입력된 값만 고유
+CREATE UNIQUE INDEX IF NOT EXISTS users_num_key ON public.users USING btree (num)
+    WHERE num IS NOT NULL AND num <> '';
+
+-- 고유 제약(users_email_key, users_username_key)과 중복되는 일반 인덱스 제거 (INSERT 시 인덱스 갱신 비용 절감)
+DROP INDEX IF EXISTS idx_users_email;
+DROP INDEX IF EXISTS idx_users_username;
@@ -0,0 +1,4 @@
+-- 임원 현황 조회용 인덱스
+-- 직책 LEFT JOIN 임원(eo.positions_id = p.positions_id) 시 직책별 임원 조회
+
+CREATE INDEX IF NOT EXISTS idx_execofficer_positions_id ON public.execofficer USING btree (positions_id);
@@ -0,0 +1,13 @@
+-- 제출 이력 첨부파일 메타데이터
+-- 파일 내용은 로컬 파일 저장소(itcen.file-store.root)에 SHA-256 기준으로 저장하고, 여기에는 메타데이터만 기록
+-- attachment_file 에는 원본 파일명을 기록
+
+ALTER TABLE public.rm_submit_mgmt ADD COLUMN IF NOT EXISTS attachment_sha256 varchar(64) NULL;
+ALTER TABLE public.rm_submit_mgmt ADD COLUMN IF NOT EXISTS attachment_size int8 NULL;
+ALTER TABLE public.rm_submit_mgmt ADD COLUMN IF NOT EXISTS attachment_content_type varchar(200) NULL;
+ALTER TABLE public.rm_submit_mgmt ADD COLUMN IF NOT EXISTS attachment_uploaded_at timestamp NULL;
+
+COMMENT ON COLUMN public.rm_submit_mgmt.attachment_sha256 IS '첨부파일 SHA-256 (파일 저장소 키, ETag)';
+COMMENT ON COLUMN public.rm_submit_mgmt.attachment_size IS '첨부파일 크기(byte)';
+COMMENT ON COLUMN public.rm_submit_mgmt.attachment_content_type IS '첨부파일 콘텐츠 타입';
+COMMENT ON COLUMN public.rm_submit_mgmt.attachment_uploaded_at IS '첨부파일 업로드 일시';
@@ -0,0 +1,6 @@
+-- 최근 케이스스터디 상위 N건 조회용 인덱스
+-- ORDER BY created_at DESC, case_study_id DESC LIMIT n 을 정렬 없이 인덱스 앞부분만 읽어 처리
+-- (created_at 단독 인덱스는 이 인덱스의 앞부분과 같으므로 제거)
+
+CREATE INDEX IF NOT EXISTS idx_case_study_recent ON public.case_study USING btree (created_at DESC, case_study_id DESC);
+DROP INDEX IF EXISTS public.idx_case_study_created_at;
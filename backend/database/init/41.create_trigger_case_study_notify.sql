@@ -0,0 +1,17 @@
+-- 케이스스터디 캐시 무효화 알림 트리거
+-- case_study 변경 시 'case_study_changed' 채널로 NOTIFY
+-- (CaseStudyRecentCache 와 itcen.cache.caches.caseStudies 의 notify-channel 이 LISTEN 하여 모든 노드의 캐시를 비움)
+
+CREATE OR REPLACE FUNCTION notify_case_study_changed()
+RETURNS TRIGGER AS $$
+BEGIN
+   PERFORM pg_notify('case_study_changed', TG_TABLE_NAME);
+   RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+DROP TRIGGER IF EXISTS case_study_notify ON case_study;
+CREATE TRIGGER case_study_notify
+AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON case_study
+FOR EACH STATEMENT
+EXECUTE FUNCTION notify_case_study_changed();
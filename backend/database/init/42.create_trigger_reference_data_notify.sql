@@ -0,0 +1,42 @@
+-- 참조 데이터 2차 캐시 무효화 알림 트리거
+-- common_code, menus, menu_permissions, roles, api_permissions 변경 시 'reference_data_changed' 채널로 테이블명을 NOTIFY
+-- (HibernateCacheEvictor 가 LISTEN 하여 모든 노드의 Hibernate 2차 캐시 영역을 비움,
+--  애플리케이션 밖의 SQL/일괄 변경과 다른 노드에서의 변경도 반영)
+
+CREATE OR REPLACE FUNCTION notify_reference_data_changed()
+RETURNS TRIGGER AS $$
+BEGIN
+   PERFORM pg_notify('reference_data_changed', TG_TABLE_NAME);
+   RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+DROP TRIGGER IF EXISTS common_code_reference_notify ON common_code;
+CREATE TRIGGER common_code_reference_notify
+AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON common_code
+FOR EACH STATEMENT
+EXECUTE FUNCTION notify_reference_data_changed();
+
+DROP TRIGGER IF EXISTS menus_reference_notify ON menus;
+CREATE TRIGGER menus_reference_notify
+AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON menus
+FOR EACH STATEMENT
+EXECUTE FUNCTION notify_reference_data_changed();
+
+DROP TRIGGER IF EXISTS menu_permissions_reference_notify ON menu_permissions;
+CREATE TRIGGER menu_permissions_reference_notify
+AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON menu_permissions
+FOR EACH STATEMENT
+EXECUTE FUNCTION notify_reference_data_changed();
+
+DROP TRIGGER IF EXISTS roles_reference_notify ON roles;
+CREATE TRIGGER roles_reference_notify
+AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON roles
+FOR EACH STATEMENT
+EXECUTE FUNCTION notify_reference_data_changed();
+
+DROP TRIGGER IF EXISTS api_permissions_reference_notify ON api_permissions;
+CREATE TRIGGER api_permissions_reference_notify
+AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON api_permissions
+FOR EACH STATEMENT
+EXECUTE FUNCTION notify_reference_data_changed();
@@ -0,0 +1,91 @@
+package org.itcen.common.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.itcen.config.WebConfig;
+import org.itcen.domain.positions.dto.PositionDetailDto;
+import org.itcen.domain.qna.dto.QnaListResponseDto;
+import org.itcen.domain.qna.entity.QnaPriority;
+import org.itcen.domain.qna.entity.QnaStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ApiResponse JSON 직렬화 벤치마크 (WebConfig ObjectMapper 설정 그대로 사용)
+ *
+ * - qnaList: Q&A 목록 응답 ({@code listSize} 건)
+ * - positionDetail: 직책 상세 응답 (중첩 목록 포함)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ApiResponseSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int listSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<QnaListResponseDto>> qnaList;
+    private ApiResponse<PositionDetailDto> positionDetail;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new WebConfig().objectMapper();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<QnaListResponseDto> items = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            items.add(QnaListResponseDto.builder()
+                    .id((long) i)
+                    .department("리스크관리부")
+                    .title("책무구조도 작성 관련 문의 " + i)
+                    .questionerName("질문자" + i)
+                    .answererName(i % 2 == 0 ? "답변자" + i : null)
+                    .status(QnaStatus.PENDING)
+                    .statusDescription(QnaStatus.PENDING.getDescription())
+                    .priority(QnaPriority.NORMAL)
+                    .priorityDescription(QnaPriority.NORMAL.getDescription())
+                    .category("일반")
+                    .isPublic(true)
+                    .viewCount(i)
+                    .createdAt(now)
+                    .createdAtFormatted("2025.01.01")
+                    .build());
+        }
+        qnaList = ApiResponse.success(items);
+
+        List<PositionDetailDto.OwnerDeptInfo> ownerDepts = new ArrayList<>();
+        List<PositionDetailDto.MeetingInfo> meetings = new ArrayList<>();
+        List<PositionDetailDto.ManagerInfo> managers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ownerDepts.add(new PositionDetailDto.OwnerDeptInfo("D" + (100 + i), "부서" + i));
+            meetings.add(new PositionDetailDto.MeetingInfo("MB" + i, "리스크관리위원회" + i, "위원장", "분기",
+                    "리스크 관리 정책 심의 및 의결"));
+            managers.add(new PositionDetailDto.ManagerInfo(String.format("E%07d", i), "관리자" + i, "차장"));
+        }
+        positionDetail = ApiResponse.success(new PositionDetailDto(1L, "최고리스크관리책임자", "D100", ownerDepts,
+                meetings, managers));
+    }
+
+    @Benchmark
+    public byte[] qnaList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(qnaList);
+    }
+
+    @Benchmark
+    public byte[] positionDetail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(positionDetail);
+    }
+}
@@ -0,0 +1,43 @@
+package org.itcen.common.id;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * UUIDv7 생성 벤치마크 (UUID.randomUUID 와 비교, 단일/다중 스레드)
+ *
+ * 다중 스레드 결과로 {@link UuidV7} 의 CAS 경합 비용을 확인합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=UuidV7Benchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UuidV7Benchmark {
+
+    @Benchmark
+    public UUID uuidV7() {
+        return UuidV7.generate();
+    }
+
+    @Benchmark
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID uuidV7Contended() {
+        return UuidV7.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID randomUuidContended() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,72 @@
+package org.itcen.config;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Redis 세션 속성 직렬화 벤치마크
+ *
+ * RedisConfig 는 세션 직렬화기를 따로 등록하지 않으므로 Spring Session 기본값인 JDK 직렬화가 사용됩니다.
+ * 로그인 세션이 보관하는 속성(SecurityContext, userId, username, authorities)을 속성별 해시 필드로 저장/조회하는 비용을 측정합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=RedisSessionSerializerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RedisSessionSerializerBenchmark {
+
+    private final RedisSerializer<Object> serializer = new JdkSerializationRedisSerializer();
+
+    private Object[] attributes;
+    private byte[][] serialized;
+
+    @Setup
+    public void setUp() {
+        Collection<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        UserDetails userDetails = User.builder()
+                .username("hong.gildong")
+                .password("{bcrypt}encoded-password")
+                .authorities(authorities)
+                .build();
+        SecurityContextImpl securityContext = new SecurityContextImpl(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+
+        attributes = new Object[] {securityContext, "user-0001", "hong.gildong", userDetails.getAuthorities()};
+        serialized = new byte[attributes.length][];
+        for (int i = 0; i < attributes.length; i++) {
+            serialized[i] = serializer.serialize(attributes[i]);
+        }
+    }
+
+    @Benchmark
+    public void serialize(Blackhole blackhole) {
+        for (Object attribute : attributes) {
+            blackhole.consume(serializer.serialize(attribute));
+        }
+    }
+
+    @Benchmark
+    public void deserialize(Blackhole blackhole) {
+        for (byte[] bytes : serialized) {
+            blackhole.consume(serializer.deserialize(bytes));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.itcen.domain.execofficer.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.itcen.domain.execofficer.dto.ExecOfficerDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 임원 현황 행 매핑 벤치마크 (행당 할당량 비교)
+ *
+ * - legacyObjectArray: 기존 방식 (Object[] 인덱스 매핑 + 행별 try/catch + Timestamp → LocalDateTime 변환 + stream/filter)
+ * - constructorExpression: 변경 방식 (드라이버가 LocalDateTime 으로 읽은 값으로 생성자 호출)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ExecOfficerRowMappingBenchmark (gc 프로파일러의 gc.alloc.rate.norm = 행당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExecOfficerRowMappingBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private List<Object[]> legacyRows;
+    private List<Object[]> typedRows;
+
+    @Setup
+    public void setUp() {
+        legacyRows = new ArrayList<>(ROWS);
+        typedRows = new ArrayList<>(ROWS);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ROWS; i++) {
+            legacyRows.add(new Object[] {(long) i, "직책" + i, (long) i, "E" + i, "20250101", "N", null, null,
+                    "2025-01", "01", "system", "system", Timestamp.valueOf(now), Timestamp.valueOf(now)});
+            typedRows.add(new Object[] {(long) i, "E" + i, "20250101", "N", null, (long) i, null, "2025-01", "01",
+                    "system", "system", now, now, "직책" + i});
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<ExecOfficerDto> legacyObjectArray() {
+        return legacyRows.stream().map(row -> {
+            try {
+                ExecOfficerDto dto = new ExecOfficerDto();
+                dto.setPositionsId(row[0] != null ? ((Number) row[0]).longValue() : null);
+                dto.setPositionNameMapped((String) row[1]);
+                dto.setExecofficerId(row[2] != null ? ((Number) row[2]).longValue() : null);
+                dto.setEmpId((String) row[3]);
+                dto.setExecofficerDt((String) row[4]);
+                dto.setDualYn((String) row[5]);
+                dto.setDualDetails((String) row[6]);
+                dto.setApprovalId(row[7] != null ? ((Number) row[7]).longValue() : null);
+                dto.setLedgerOrder((String) row[8]);
+                dto.setOrderStatus((String) row[9]);
+                dto.setCreatedId((String) row[10]);
+                dto.setUpdatedId((String) row[11]);
+                dto.setCreatedAt(row[12] != null ? ((Timestamp) row[12]).toLocalDateTime() : null);
+                dto.setUpdatedAt(row[13] != null ? ((Timestamp) row[13]).toLocalDateTime() : null);
+                return dto;
+            } catch (Exception e) {
+                return null;
+            }
+        }).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<ExecOfficerDto> constructorExpression() {
+        List<ExecOfficerDto> result = new ArrayList<>(ROWS);
+        for (Object[] row : typedRows) {
+            result.add(new ExecOfficerDto((Long) row[0], (String) row[1], (String) row[2], (String) row[3],
+                    (String) row[4], (Long) row[5], (Long) row[6], (String) row[7], (String) row[8],
+                    (String) row[9], (String) row[10], (LocalDateTime) row[11], (LocalDateTime) row[12],
+                    (String) row[13], null));
+        }
+        return result;
+    }
+}
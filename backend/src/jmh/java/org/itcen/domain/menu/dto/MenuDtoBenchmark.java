@@ -0,0 +1,65 @@
+package org.itcen.domain.menu.dto;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.itcen.domain.menu.entity.Menu;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * 권한 포함 메뉴 DTO 변환 벤치마크 (MenuDto.fromWithPermissions, 메뉴당 시간/할당량)
+ *
+ * 상위 메뉴 20개 × 하위 메뉴 9개 구성으로 로그인 사용자 메뉴 트리 조회 한 번과 같은 규모입니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=MenuDtoBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MenuDtoBenchmark {
+
+    private static final int ROOTS = 20;
+    private static final int CHILDREN_PER_ROOT = 9;
+    private static final int MENUS = ROOTS * (CHILDREN_PER_ROOT + 1);
+
+    private List<Menu> menus;
+
+    @Setup
+    public void setUp() {
+        Field id = ReflectionUtils.findField(Menu.class, "id");
+        ReflectionUtils.makeAccessible(id);
+
+        menus = new ArrayList<>(MENUS);
+        long nextId = 1;
+        for (int r = 0; r < ROOTS; r++) {
+            Menu root = new Menu("M" + r, "메뉴" + r, "Menu" + r, null, 1, r, null, "icon-" + r, null);
+            ReflectionUtils.setField(id, root, nextId++);
+            menus.add(root);
+            for (int c = 0; c < CHILDREN_PER_ROOT; c++) {
+                Menu child = new Menu("M" + r + "_" + c, "메뉴" + r + "-" + c, "Menu" + r + "-" + c, root, 2, c,
+                        "/menu/" + r + "/" + c, null, "하위 메뉴 설명");
+                ReflectionUtils.setField(id, child, nextId++);
+                menus.add(child);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MENUS)
+    public List<MenuDto> fromWithPermissions() {
+        List<MenuDto> result = new ArrayList<>(MENUS);
+        for (int i = 0; i < MENUS; i++) {
+            result.add(MenuDto.fromWithPermissions(menus.get(i), Boolean.TRUE, i % 2 == 0, i % 5 == 0));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,75 @@
+package org.itcen.domain.positions.dto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 직책 상세 DTO 조립 벤치마크 (PositionServiceImpl.getPositionDetail 의 조회 이후 조립 단계)
+ *
+ * 소관부서 5개, 회의체 5개, 관리자 10명 규모의 조회 결과로 PositionDetailDto 를 조립하는 비용만 측정합니다. (DB 조회 제외)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=PositionDetailDtoBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PositionDetailDtoBenchmark {
+
+    private List<String> ownerDeptCodes;
+    private Map<String, String> deptNames;
+    private List<String[]> meetingRows;
+    private List<String[]> managerRows;
+
+    @Setup
+    public void setUp() {
+        ownerDeptCodes = new ArrayList<>();
+        deptNames = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            ownerDeptCodes.add("D" + (100 + i));
+            deptNames.put("D" + (100 + i), "부서" + i);
+        }
+        meetingRows = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            meetingRows.add(new String[] {"MB" + i, "리스크관리위원회" + i, "위원장", "분기", "리스크 관리 정책 심의 및 의결"});
+        }
+        managerRows = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            managerRows.add(new String[] {String.format("E%07d", i), "관리자" + i, "차장"});
+        }
+    }
+
+    @Benchmark
+    public PositionDetailDto assemble() {
+        List<PositionDetailDto.OwnerDeptInfo> ownerDepts = ownerDeptCodes.stream()
+                .map(code -> PositionDetailDto.OwnerDeptInfo.builder().deptCode(code)
+                        .deptName(deptNames.getOrDefault(code, code)).build())
+                .collect(Collectors.toList());
+        List<PositionDetailDto.MeetingInfo> meetings = meetingRows.stream()
+                .map(row -> PositionDetailDto.MeetingInfo.builder().meetingBodyId(row[0]).meetingBodyName(row[1])
+                        .memberGubun(row[2]).meetingPeriod(row[3]).deliberationContent(row[4]).build())
+                .collect(Collectors.toList());
+        List<PositionDetailDto.ManagerInfo> managers = managerRows.stream()
+                .map(row -> PositionDetailDto.ManagerInfo.builder().empNo(row[0]).empName(row[1]).position(row[2])
+                        .build())
+                .collect(Collectors.toList());
+        return PositionDetailDto.builder()
+                .positionsId(1L)
+                .positionName("최고리스크관리책임자")
+                .writeDeptCd("D100")
+                .ownerDepts(ownerDepts)
+                .meetings(meetings)
+                .managers(managers)
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package org.itcen.domain.qna.dto;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.itcen.common.entity.BaseEntity;
+import org.itcen.domain.qna.entity.Qna;
+import org.itcen.domain.qna.entity.QnaPriority;
+import org.itcen.domain.qna.entity.QnaStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Q&A 목록 DTO 변환 벤치마크 (QnaListResponseDto.from, 행당 시간/할당량)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=QnaListResponseDtoBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QnaListResponseDtoBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private List<Qna> rows;
+
+    @Setup
+    public void setUp() {
+        Field createdAt = ReflectionUtils.findField(BaseEntity.class, "createdAt");
+        ReflectionUtils.makeAccessible(createdAt);
+        LocalDateTime now = LocalDateTime.now();
+        QnaStatus[] statuses = QnaStatus.values();
+        QnaPriority[] priorities = QnaPriority.values();
+
+        rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Qna qna = Qna.builder()
+                    .id((long) i)
+                    .department("리스크관리부")
+                    .title("책무구조도 작성 관련 문의 " + i)
+                    .questionerId("user" + i)
+                    .questionerName("질문자" + i)
+                    .answererName(i % 2 == 0 ? "답변자" + i : null)
+                    .status(statuses[i % statuses.length])
+                    .priority(priorities[i % priorities.length])
+                    .category("일반")
+                    .viewCount(i)
+                    .answeredAt(i % 2 == 0 ? now.minusDays(i % 30) : null)
+                    .build();
+            ReflectionUtils.setField(createdAt, qna, now.minusDays(i % 365));
+            rows.add(qna);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<QnaListResponseDto> from() {
+        List<QnaListResponseDto> result = new ArrayList<>(ROWS);
+        for (Qna qna : rows) {
+            result.add(QnaListResponseDto.from(qna));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,88 @@
+package org.itcen.domain.user.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 사원 검색 색인 벤치마크 (사원 100,000명)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=EmployeeSearchIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeSearchIndexBenchmark {
+
+    private static final String[] LAST_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] FIRST_NAMES = {"민준", "서연", "도윤", "하은", "시우", "지유", "예준", "서윤", "주원", "지호",
+            "하준", "수아", "지민", "은우", "유나", "건우", "채원", "현우", "다은", "우진"};
+
+    @Param({"100000"})
+    private int employeeCount;
+
+    @Param({"20"})
+    private int limit;
+
+    private EmployeeSearchIndex index;
+    private List<EmployeeSearchIndex.Employee> employees;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        employees = new ArrayList<>(employeeCount);
+        for (int i = 0; i < employeeCount; i++) {
+            String name = LAST_NAMES[random.nextInt(LAST_NAMES.length)]
+                    + FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            employees.add(new EmployeeSearchIndex.Employee("user" + i, name + i, "user" + i + "@itcen.org",
+                    "서울시", "010-0000-0000", "D" + (100 + random.nextInt(200)), String.format("E%07d", i),
+                    "R" + random.nextInt(10), "T" + random.nextInt(10), now, now));
+        }
+        index = new EmployeeSearchIndex(employees);
+        // 변경분이 있는 상태에서의 조회 비용도 반영
+        for (int i = 0; i < 500; i++) {
+            index.upsert(employees.get(random.nextInt(employeeCount)));
+        }
+    }
+
+    @Benchmark
+    public List<EmployeeSearchIndex.Employee> keywordPrefix() {
+        return index.search(new EmployeeSearchIndex.Query(null, null, null, null, "김민"), limit);
+    }
+
+    @Benchmark
+    public List<EmployeeSearchIndex.Employee> keywordChosung() {
+        return index.search(new EmployeeSearchIndex.Query(null, null, null, null, "ㅂㅈㅎ"), limit);
+    }
+
+    @Benchmark
+    public List<EmployeeSearchIndex.Employee> numInfix() {
+        return index.search(new EmployeeSearchIndex.Query(null, "12345", null, null, null), limit);
+    }
+
+    @Benchmark
+    public List<EmployeeSearchIndex.Employee> rareCombination() {
+        return index.search(new EmployeeSearchIndex.Query("윤채원", null, "D12", "R3", null), limit);
+    }
+
+    @Benchmark
+    public List<EmployeeSearchIndex.Employee> noMatch() {
+        return index.search(new EmployeeSearchIndex.Query(null, null, null, null, "없는사원"), limit);
+    }
+
+    @Benchmark
+    public EmployeeSearchIndex build() {
+        return new EmployeeSearchIndex(employees);
+    }
+}
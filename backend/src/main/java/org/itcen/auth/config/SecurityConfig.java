@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.itcen.auth.handler.CustomAuthFailureHandler;
 import org.itcen.auth.handler.CustomAuthSuccessHandler;
 import org.itcen.auth.service.AuthService;
+import org.itcen.common.jfr.JfrPasswordEncoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -48,12 +49,13 @@ public class SecurityConfig {
     /**
      * 비밀번호 인코더 Bean 설정
      * BCrypt 알고리즘 사용 (강력한 해시 함수)
+     * JFR 녹화 중에는 해시 생성/검증마다 이벤트를 기록합니다.
      *
      * @return BCrypt 비밀번호 인코더
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12); // strength 12 (보안 강화)
+        return new JfrPasswordEncoder(new BCryptPasswordEncoder(12)); // strength 12 (보안 강화)
     }
 
     /**
@@ -108,11 +110,14 @@ public class SecurityConfig {
 
             // 요청 권한 설정
             .authorizeHttpRequests(authz -> authz
+                // 관리 엔드포인트: 상태 확인/정보만 공개, 나머지(메트릭, SQL/실행 계획, JFR 녹화 등)는 관리자 전용
+                .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                 // 인증 없이 접근 가능한 경로
                 .requestMatchers(
                     "/auth/**",
                     "/h2-console/**",
-                    "/actuator/**",
                     "/error",
                     // Q&A 공개 API
                     "/qna/recent",
@@ -3,6 +3,10 @@ package org.itcen.auth.domain.permission;
 import java.util.ArrayList;
 import java.util.List;
 import org.itcen.common.entity.BaseTimeEntity;
+import org.itcen.common.jpa.HibernateCacheRegions;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -23,6 +27,8 @@ import lombok.NoArgsConstructor;
  * - 인터페이스 분리: 필요한 기능만 노출 - 의존성 역전: 구현체가 아닌 추상화에 의존
  */
 @Entity(name = "PermissionRole")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheRegions.ROLE)
 @Table(name = "roles")
 @Data
 @EqualsAndHashCode(callSuper = true)
@@ -8,6 +8,8 @@ import org.itcen.auth.repository.AuthUserRepository;
 import org.itcen.domain.menu.dto.MenuDto;
 import org.itcen.domain.menu.service.MenuService;
 import org.itcen.domain.user.entity.User;
+import org.itcen.domain.user.service.UserUniquenessValidator;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -45,13 +47,16 @@ public class AuthService {
     private final AuthUserRepository authUserRepository;
     private final PasswordEncoder passwordEncoder;
     private final MenuService menuService;
+    private final UserUniquenessValidator uniquenessValidator;
     
     public AuthService(AuthUserRepository authUserRepository, 
                       PasswordEncoder passwordEncoder,
-                      MenuService menuService) {
+                      MenuService menuService,
+                      UserUniquenessValidator uniquenessValidator) {
         this.authUserRepository = authUserRepository;
         this.passwordEncoder = passwordEncoder;
         this.menuService = menuService;
+        this.uniquenessValidator = uniquenessValidator;
     }
     
     /**
@@ -233,7 +238,15 @@ public class AuthService {
                 .mobile(request.getMobile())
                 .build();
         
-        User savedUser = authUserRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = authUserRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // 동시 가입으로 고유 인덱스에 걸린 경우 같은 메시지로 변환
+            throwIfTaken(UserUniquenessValidator.conflictOf(e));
+            throw e;
+        }
+        uniquenessValidator.registerTaken(savedUser);
         
         log.info("회원가입 완료: {} (User ID: {})", savedUser.getUsername(), savedUser.getId());
         
@@ -343,19 +356,25 @@ public class AuthService {
      * @param request 회원가입 요청 DTO
      */
     private void validateDuplicateUser(AuthRequestDto.SignupRequest request) {
-        if (authUserRepository.existsById(request.getId())) {
+        // ID/사용자명/이메일/휴대폰 번호를 한 번에 조회
+        throwIfTaken(uniquenessValidator.check(request.getId(), request.getUsername(), request.getEmail(),
+                request.getMobile(), null));
+    }
+
+    private void throwIfTaken(UserUniquenessValidator.Conflicts conflicts) {
+        if (conflicts.idTaken()) {
             throw new IllegalArgumentException("이미 사용 중인 사용자 ID입니다.");
         }
         
-        if (authUserRepository.existsByUsername(request.getUsername())) {
+        if (conflicts.usernameTaken()) {
             throw new IllegalArgumentException("이미 사용 중인 사용자명입니다.");
         }
         
-        if (authUserRepository.existsByEmail(request.getEmail())) {
+        if (conflicts.emailTaken()) {
             throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
         }
         
-        if (authUserRepository.existsByMobile(request.getMobile())) {
+        if (conflicts.mobileTaken()) {
             throw new IllegalArgumentException("이미 사용 중인 휴대폰 번호입니다.");
         }
     }
@@ -0,0 +1,62 @@
+package org.itcen.common.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 동시 호출 합치기 (single-flight)
+ *
+ * 같은 메서드를 같은 인자와 같은 조회 범위({@link #scope})로 동시에 호출하면 처음 호출만 실행하고, 나머지는 그 결과(또는 예외)를
+ * 함께 받습니다. 결과를 보관하지 않으므로 실행이 끝난 뒤의 호출은 다시 조회합니다. ({@link CoalescingAspect})
+ *
+ * - 결과 객체를 여러 요청이 공유하므로, 호출자가 결과를 수정하지 않는 조회 메서드에만 사용
+ * - 인자는 equals/hashCode 를 구현한 값이어야 함 (String, 숫자, @Data DTO 등)
+ * - 이미 트랜잭션 안에서 호출되면 합치지 않음 (호출자 트랜잭션의 변경 사항을 읽어야 하므로)
+ *
+ * SOLID 원칙:
+ * - Open/Closed: 서비스 코드 변경 없이 어노테이션으로 적용
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesced {
+
+    /**
+     * 메트릭 이름 태그 (비우면 "클래스명.메서드명")
+     */
+    String name() default "";
+
+    /**
+     * 결과를 함께 받을 수 있는 호출자 범위
+     */
+    Scope scope() default Scope.USER;
+
+    /**
+     * 진행 중인 실행을 기다릴 최대 시간(ms), 초과하면 직접 실행 (0 이하이면 itcen.coalesce.max-wait-ms)
+     */
+    long maxWaitMs() default 0;
+
+    /**
+     * 조회 범위
+     */
+    enum Scope {
+
+        /**
+         * 호출자와 무관한 결과 (권한 검사는 URL 단위로 서비스 호출 전에 끝남)
+         */
+        GLOBAL,
+
+        /**
+         * 같은 권한(Role) 조합의 호출자끼리만 공유
+         */
+        AUTHORITIES,
+
+        /**
+         * 같은 사용자의 호출끼리만 공유
+         */
+        USER
+    }
+}
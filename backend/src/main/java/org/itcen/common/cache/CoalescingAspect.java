@@ -0,0 +1,188 @@
+package org.itcen.common.cache;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.itcen.common.jdbc.PrimaryRead;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link Coalesced} 메서드의 동시 호출 합치기
+ *
+ * 메서드별 {@link SingleFlight} 에 (인자, 조회 범위) 를 키로 실행을 합칩니다. 캐시(@Cacheable) 바로 안쪽, 트랜잭션 바깥에서
+ * 동작하므로 기다리는 호출은 DB 커넥션을 잡지 않습니다. 최대 대기 시간 안에 결과를 받지 못한 호출은 직접 실행합니다.
+ *
+ * 메트릭 (name 태그: 메서드)
+ * - coalesce.calls{result}: executed(직접 실행), collapsed(결과 공유), timeout(대기 초과 후 직접 실행), bypassed(합치지 않음)
+ * - coalesce.wait: 결과를 공유받기까지 기다린 시간
+ * - coalesce.inflight: 진행 중인 실행 수
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 동시 호출 합치기만 담당
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class CoalescingAspect implements Ordered {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Method, Flight> flights = new ConcurrentHashMap<>();
+
+    @Value("${itcen.coalesce.enabled:true}")
+    private boolean enabled;
+
+    @Value("${itcen.coalesce.max-wait-ms:3000}")
+    private long defaultMaxWaitMs;
+
+    /**
+     * 캐시 어드바이스(HIGHEST_PRECEDENCE) 안쪽, 트랜잭션 어드바이스(LOWEST_PRECEDENCE) 바깥
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+
+    @Around("@annotation(coalesced)")
+    public Object aroundCoalesced(ProceedingJoinPoint joinPoint, Coalesced coalesced) throws Throwable {
+        Flight flight = flights.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                method -> new Flight(nameOf(method, coalesced), maxWaitOf(coalesced)));
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive() || PrimaryRead.isActive()) {
+            flight.bypassed.increment();
+            return joinPoint.proceed();
+        }
+
+        CallKey key = new CallKey(Arrays.asList(joinPoint.getArgs()), scopeOf(coalesced.scope()));
+        boolean[] executed = {false};
+        long startedAt = System.nanoTime();
+        try {
+            Object result = flight.singleFlight.execute(key, () -> {
+                executed[0] = true;
+                return proceed(joinPoint);
+            }, flight.maxWait);
+            record(flight, executed[0], startedAt);
+            return result;
+        } catch (SingleFlight.WaitTimeoutException e) {
+            flight.timedOut.increment();
+            return joinPoint.proceed();
+        } catch (Exception | Error e) {
+            record(flight, executed[0], startedAt);
+            throw e;
+        }
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint) throws Exception {
+        try {
+            return joinPoint.proceed();
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    private static void record(Flight flight, boolean executed, long startedAt) {
+        if (executed) {
+            flight.executed.increment();
+        } else {
+            flight.collapsed.increment();
+            flight.waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 조회 범위 키 (GLOBAL 은 모든 호출자 공유)
+     */
+    static Object scopeOf(Coalesced.Scope scope) {
+        if (scope == Coalesced.Scope.GLOBAL) {
+            return Coalesced.Scope.GLOBAL;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return scope;
+        }
+        if (scope == Coalesced.Scope.USER) {
+            return "user:" + authentication.getName();
+        }
+        TreeSet<String> authorities = new TreeSet<>();
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            authorities.add(authority.getAuthority());
+        }
+        return authorities;
+    }
+
+    private static String nameOf(Method method, Coalesced coalesced) {
+        return coalesced.name().isEmpty()
+                ? method.getDeclaringClass().getSimpleName() + "." + method.getName()
+                : coalesced.name();
+    }
+
+    private Duration maxWaitOf(Coalesced coalesced) {
+        return Duration.ofMillis(coalesced.maxWaitMs() > 0 ? coalesced.maxWaitMs() : defaultMaxWaitMs);
+    }
+
+    /**
+     * 합치기 키 (인자 목록 + 조회 범위, 메서드는 {@link Flight} 단위로 구분)
+     */
+    private record CallKey(List<Object> args, Object scope) {
+    }
+
+    /**
+     * 메서드별 실행기와 메트릭
+     */
+    private final class Flight {
+
+        private final SingleFlight<CallKey, Object> singleFlight = new SingleFlight<>();
+        private final Duration maxWait;
+        private final Counter executed;
+        private final Counter collapsed;
+        private final Counter timedOut;
+        private final Counter bypassed;
+        private final Timer waitTimer;
+
+        private Flight(String name, Duration maxWait) {
+            this.maxWait = maxWait;
+            this.executed = calls(name, "executed");
+            this.collapsed = calls(name, "collapsed");
+            this.timedOut = calls(name, "timeout");
+            this.bypassed = calls(name, "bypassed");
+            this.waitTimer = Timer.builder("coalesce.wait")
+                    .description("합쳐진 호출이 결과를 받기까지 기다린 시간")
+                    .tag("name", name)
+                    .register(meterRegistry);
+            Gauge.builder("coalesce.inflight", singleFlight, SingleFlight::inFlightCount)
+                    .description("진행 중인 합치기 실행 수")
+                    .tag("name", name)
+                    .register(meterRegistry);
+        }
+
+        private Counter calls(String name, String result) {
+            return Counter.builder("coalesce.calls")
+                    .description("합치기 대상 메서드 호출 수")
+                    .tag("name", name)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.itcen.common.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 같은 키의 동시 적재를 한 번으로 합치는 실행기
+ *
+ * 캐시가 비었을 때 같은 키로 몰린 요청 중 처음 요청만 적재 함수를 실행하고, 나머지는 그 결과(또는 예외)를 함께 받습니다.
+ * 적재가 끝나면 키를 비우므로 결과를 보관하지는 않습니다. (보관은 캐시의 몫)
+ * 최대 대기 시간을 주면 그 안에 끝나지 않은 적재를 기다리던 요청은 {@link WaitTimeoutException} 을 받습니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 동시 적재 합치기만 담당
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 적재 실행 (같은 키로 진행 중인 적재가 있으면 그 결과를 기다림)
+     *
+     * @param key 키
+     * @param loader 적재 함수
+     * @return 적재 결과
+     */
+    public V execute(K key, Callable<V> loader) throws Exception {
+        return execute(key, loader, null);
+    }
+
+    /**
+     * 적재 실행 (같은 키로 진행 중인 적재가 있으면 최대 maxWait 동안 그 결과를 기다림)
+     *
+     * @param key 키
+     * @param loader 적재 함수
+     * @param maxWait 진행 중인 적재를 기다릴 최대 시간 (null 이면 끝날 때까지)
+     * @return 적재 결과
+     * @throws WaitTimeoutException 진행 중인 적재가 maxWait 안에 끝나지 않은 경우
+     */
+    public V execute(K key, Callable<V> loader, Duration maxWait) throws Exception {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return await(running, maxWait);
+        }
+        try {
+            V value = loader.call();
+            mine.complete(value);
+            return value;
+        } catch (Throwable t) {
+            mine.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 진행 중인 적재 수
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> running, Duration maxWait) throws Exception {
+        try {
+            if (maxWait == null) {
+                return running.get();
+            }
+            return running.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new WaitTimeoutException(maxWait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            throw (Error) cause;
+        }
+    }
+
+    /**
+     * 진행 중인 적재를 최대 대기 시간 안에 받지 못함 (적재 함수가 던진 예외와 구분)
+     */
+    public static final class WaitTimeoutException extends TimeoutException {
+
+        private static final long serialVersionUID = 1L;
+
+        WaitTimeoutException(Duration maxWait) {
+            super("진행 중인 적재를 " + maxWait.toMillis() + "ms 안에 받지 못했습니다.");
+        }
+    }
+}
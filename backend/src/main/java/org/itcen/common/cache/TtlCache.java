@@ -0,0 +1,83 @@
+package org.itcen.common.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.itcen.common.jfr.CacheAccessEvent;
+
+/**
+ * 짧은 TTL 인메모리 캐시
+ *
+ * 같은 키로 반복되는 비싼 조회(COUNT 등)를 몇 초 동안 재사용하기 위한 단순 캐시입니다. 만료된 항목은 조회 시 다시 적재하고,
+ * 항목 수가 상한을 넘으면 전체를 비웁니다. (짧은 TTL 에서는 LRU 관리보다 비우는 편이 단순하고 충분함)
+ *
+ * 데이터 변경 시에는 {@link #clear()} 로 무효화합니다. JFR 녹화 중에는 조회마다 {@link CacheAccessEvent} 를 기록합니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: TTL 기반 값 재사용만 담당
+ * - Open/Closed: 키/값 타입과 적재 함수로 용도별 확장
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public final class TtlCache<K, V> {
+
+    private final String name;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @param name 캐시 이름 (JFR 이벤트 구분용)
+     * @param ttl 항목 유효 시간
+     * @param maxEntries 최대 항목 수
+     */
+    public TtlCache(String name, Duration ttl, int maxEntries) {
+        this.name = name;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 캐시 조회, 없거나 만료되었으면 적재 함수로 다시 적재
+     *
+     * @param key 키
+     * @param loader 적재 함수
+     * @return 값
+     */
+    public V get(K key, Supplier<V> loader) {
+        CacheAccessEvent event = new CacheAccessEvent();
+        event.begin();
+        long now = System.nanoTime();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && now - entry.loadedAt < ttlNanos) {
+            event.finish(name, true);
+            return entry.value;
+        }
+        long loadGeneration = generation.get();
+        V value = loader.get();
+        // 적재 중 무효화되었으면 이전 데이터일 수 있으므로 보관하지 않음
+        if (generation.get() == loadGeneration) {
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+            entries.put(key, new Entry<>(value, now));
+        }
+        event.finish(name, false);
+        return value;
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
@@ -0,0 +1,278 @@
+package org.itcen.common.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import org.itcen.common.jfr.CacheAccessEvent;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.lang.Nullable;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬(Caffeine) + 공유(Redis) 2단계 캐시
+ *
+ * 조회는 로컬 → Redis → 적재 순서이며, Redis 에서 찾은 값은 로컬에도 보관합니다. 적재는 키별로 한 번만 실행되고
+ * ({@link SingleFlight}), 적재 중 무효화되면 이전 데이터일 수 있으므로 보관하지 않습니다.
+ * 저장/삭제/비우기는 Redis 에 반영한 뒤 다른 노드에 알려 각 노드의 로컬 캐시를 비우게 합니다.
+ * Redis 장애 시에는 로컬 캐시와 적재만으로 동작합니다. (Redis 오류는 캐시 미스로 취급)
+ *
+ * 키는 문자열(toString)로 다룹니다. null 값은 보관하지 않습니다.
+ *
+ * 메트릭: cache.gets{cache, result, tier}, cache.load{cache}, cache.size{cache}, cache.redis.errors{cache}
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 한 캐시의 2단계 조회/저장/무효화만 담당
+ * - Open/Closed: Spring Cache 추상화(@Cacheable)로 서비스 코드 변경 없이 적용
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private static final int CLEAR_BATCH_SIZE = 500;
+
+    private final String name;
+    private final Cache<String, Object> local;
+    @Nullable
+    private final RedisOperations<String, Object> redis;
+    private final String redisKeyPrefix;
+    private final TwoTierCacheProperties.Spec spec;
+    private final BiConsumer<String, String> invalidationPublisher;
+    private final SingleFlight<String, Object> loads = new SingleFlight<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final Counter redisErrors;
+    private final Timer loadTimer;
+
+    /**
+     * @param redis Redis (null 이면 로컬만 사용)
+     * @param invalidationPublisher 다른 노드에 무효화 알림 (캐시 이름, 키 또는 전체이면 null)
+     */
+    public TwoTierCache(String name, TwoTierCacheProperties.Spec spec, @Nullable RedisOperations<String, Object> redis,
+            String keyPrefix, BiConsumer<String, String> invalidationPublisher, MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.spec = spec;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(spec.getLocalMaxSize())
+                .expireAfterWrite(spec.getLocalTtl())
+                .build();
+        this.redis = redis;
+        this.redisKeyPrefix = keyPrefix + name + "::";
+        this.invalidationPublisher = invalidationPublisher;
+
+        this.localHits = gets(meterRegistry, "hit", "local");
+        this.redisHits = gets(meterRegistry, "hit", "redis");
+        this.misses = gets(meterRegistry, "miss", "none");
+        this.redisErrors = Counter.builder("cache.redis.errors")
+                .description("Redis 캐시 오류 (미스로 처리)")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.loadTimer = Timer.builder("cache.load")
+                .description("캐시 미스 적재 시간")
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("cache.size", local, Cache::estimatedSize)
+                .description("로컬 캐시 항목 수")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    @Nullable
+    protected Object lookup(Object key) {
+        CacheAccessEvent event = new CacheAccessEvent();
+        event.begin();
+        String cacheKey = String.valueOf(key);
+        Object value = local.getIfPresent(cacheKey);
+        if (value != null) {
+            localHits.increment();
+            event.finish(name, true);
+            return value;
+        }
+        value = redisGet(cacheKey);
+        if (value != null) {
+            local.put(cacheKey, value);
+            redisHits.increment();
+            event.finish(name, true);
+            return value;
+        }
+        misses.increment();
+        event.finish(name, false);
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = lookup(key);
+        if (cached != null) {
+            return (T) fromStoreValue(cached);
+        }
+        String cacheKey = String.valueOf(key);
+        try {
+            return (T) fromStoreValue(loads.execute(cacheKey, () -> {
+                // 먼저 끝난 적재가 이미 보관했으면 그 값을 사용
+                Object value = local.getIfPresent(cacheKey);
+                if (value != null) {
+                    return value;
+                }
+                long loadGeneration = generation.get();
+                long startedAt = System.nanoTime();
+                value = toStoreValue(valueLoader.call());
+                loadTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                if (generation.get() == loadGeneration) {
+                    local.put(cacheKey, value);
+                    redisSet(cacheKey, value);
+                }
+                return value;
+            }));
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        String cacheKey = String.valueOf(key);
+        Object storeValue = toStoreValue(value);
+        local.put(cacheKey, storeValue);
+        redisSet(cacheKey, storeValue);
+        invalidationPublisher.accept(name, cacheKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = String.valueOf(key);
+        local.invalidate(cacheKey);
+        redisDelete(List.of(cacheKey));
+        invalidationPublisher.accept(name, cacheKey);
+    }
+
+    @Override
+    public void clear() {
+        invalidateAll(true);
+    }
+
+    /**
+     * 로컬과 Redis 전체 무효화
+     *
+     * @param publish 다른 노드에 알릴지 여부 (모든 노드가 같은 DB 알림을 받는 경우 false)
+     */
+    public void invalidateAll(boolean publish) {
+        clearLocal();
+        redisClear();
+        if (publish) {
+            invalidationPublisher.accept(name, null);
+        }
+    }
+
+    /**
+     * 다른 노드의 알림으로 로컬 항목만 제거
+     */
+    void evictLocal(String cacheKey) {
+        local.invalidate(cacheKey);
+    }
+
+    /**
+     * 다른 노드의 알림으로 로컬 전체만 제거
+     */
+    void clearLocal() {
+        generation.incrementAndGet();
+        local.invalidateAll();
+    }
+
+    @Nullable
+    private Object redisGet(String cacheKey) {
+        if (redis == null) {
+            return null;
+        }
+        try {
+            return redis.opsForValue().get(redisKeyPrefix + cacheKey);
+        } catch (RuntimeException e) {
+            redisError("조회", e);
+            return null;
+        }
+    }
+
+    private void redisSet(String cacheKey, Object value) {
+        if (redis == null) {
+            return;
+        }
+        try {
+            redis.opsForValue().set(redisKeyPrefix + cacheKey, value, spec.getRedisTtl());
+        } catch (RuntimeException e) {
+            redisError("저장", e);
+        }
+    }
+
+    private void redisDelete(List<String> cacheKeys) {
+        if (redis == null) {
+            return;
+        }
+        try {
+            redis.delete(cacheKeys.stream().map(k -> redisKeyPrefix + k).toList());
+        } catch (RuntimeException e) {
+            redisError("삭제", e);
+        }
+    }
+
+    private void redisClear() {
+        if (redis == null) {
+            return;
+        }
+        ScanOptions options = ScanOptions.scanOptions().match(redisKeyPrefix + "*").count(CLEAR_BATCH_SIZE).build();
+        try (Cursor<String> cursor = redis.scan(options)) {
+            List<String> batch = new ArrayList<>(CLEAR_BATCH_SIZE);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == CLEAR_BATCH_SIZE) {
+                    redis.delete(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                redis.delete(batch);
+            }
+        } catch (RuntimeException e) {
+            redisError("전체 삭제", e);
+        }
+    }
+
+    private void redisError(String operation, RuntimeException e) {
+        redisErrors.increment();
+        log.debug("Redis 캐시 {} 실패, 로컬 캐시로 계속합니다: cache={}, {}", operation, name, e.getMessage());
+    }
+
+    private Counter gets(MeterRegistry meterRegistry, String result, String tier) {
+        return Counter.builder("cache.gets")
+                .description("캐시 조회 수")
+                .tag("cache", name)
+                .tag("result", result)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+}
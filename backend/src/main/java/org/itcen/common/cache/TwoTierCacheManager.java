@@ -0,0 +1,144 @@
+package org.itcen.common.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.Nullable;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 2단계 캐시({@link TwoTierCache}) CacheManager
+ *
+ * 캐시 하나의 저장/삭제/비우기가 일어나면 Redis pub/sub({@code itcen.cache.channel})로 다른 노드에 알리고, 알림을 받은 노드는
+ * 로컬 캐시만 비웁니다. (Redis 는 이미 반영됨) 메시지 형식은 "노드ID\n캐시이름[\n키]" 이며 자기 노드의 메시지는 무시합니다.
+ *
+ * 트랜잭션 안에서의 저장/삭제는 커밋 후에 반영합니다. (커밋 전 무효화 후 다른 요청이 이전 값을 다시 적재하는 것을 방지)
+ * Redis 가 없으면(연결 팩토리 null) 노드별 로컬 캐시로만 동작합니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 캐시 생성과 노드 간 무효화 전달만 담당
+ */
+@Slf4j
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager
+        implements MessageListener, DisposableBean {
+
+    private final TwoTierCacheProperties properties;
+    @Nullable
+    private final RedisOperations<String, Object> redis;
+    @Nullable
+    private final StringRedisTemplate publisher;
+    @Nullable
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param redis 값 저장용 Redis (null 이면 로컬만 사용)
+     * @param connectionFactory 무효화 알림용 Redis 연결 (null 이면 알림 없음)
+     */
+    public TwoTierCacheManager(TwoTierCacheProperties properties, @Nullable RedisOperations<String, Object> redis,
+            @Nullable RedisConnectionFactory connectionFactory, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redis = redis;
+        this.meterRegistry = meterRegistry;
+        if (connectionFactory != null) {
+            this.publisher = new StringRedisTemplate(connectionFactory);
+            this.listenerContainer = new RedisMessageListenerContainer();
+            this.listenerContainer.setConnectionFactory(connectionFactory);
+            this.listenerContainer.addMessageListener(this, new ChannelTopic(properties.getChannel()));
+        } else {
+            this.publisher = null;
+            this.listenerContainer = null;
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        if (listenerContainer != null) {
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<Cache> loaded = new ArrayList<>();
+        for (String name : properties.getCaches().keySet()) {
+            loaded.add(create(name));
+        }
+        return loaded;
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return create(name);
+    }
+
+    /**
+     * DB 변경 알림으로 캐시 전체 무효화 (모든 노드가 같은 알림을 받으므로 다른 노드에 전달하지 않음)
+     */
+    public void invalidateFromNotification(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            cache.invalidateAll(false);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, @Nullable byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoTierCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        if (parts.length == 2) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[2]);
+        }
+    }
+
+    private TwoTierCache create(String name) {
+        return caches.computeIfAbsent(name, key -> new TwoTierCache(key, properties.specOf(key), redis,
+                properties.getKeyPrefix(), this::publish, meterRegistry));
+    }
+
+    private void publish(String cacheName, @Nullable String cacheKey) {
+        if (publisher == null) {
+            return;
+        }
+        String message = nodeId + "\n" + cacheName + (cacheKey != null ? "\n" + cacheKey : "");
+        try {
+            publisher.convertAndSend(properties.getChannel(), message);
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 알림 전송 실패: cache={}, {}", cacheName, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.itcen.common.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 2단계 캐시 설정 (itcen.cache.*)
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 캐시 설정 값만 보관
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "itcen.cache")
+public class TwoTierCacheProperties {
+
+    /**
+     * 캐시 사용 여부 (false 이면 @Cacheable 이 항상 메서드를 실행)
+     */
+    private boolean enabled = true;
+
+    /**
+     * Redis 키 접두어
+     */
+    private String keyPrefix = "itcen:cache:";
+
+    /**
+     * 노드 간 무효화 Redis pub/sub 채널
+     */
+    private String channel = "itcen:cache:invalidate";
+
+    /**
+     * 설정에 없는 캐시의 기본값
+     */
+    private Spec defaults = new Spec();
+
+    /**
+     * 캐시별 설정 (키: 캐시 이름)
+     */
+    private Map<String, Spec> caches = new LinkedHashMap<>();
+
+    public Spec specOf(String cacheName) {
+        return caches.getOrDefault(cacheName, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        /**
+         * 로컬(노드) 캐시 최대 항목 수
+         */
+        private long localMaxSize = 1000;
+
+        /**
+         * 로컬 캐시 유효 시간 (적재/저장 후)
+         */
+        private Duration localTtl = Duration.ofMinutes(5);
+
+        /**
+         * Redis 캐시 유효 시간
+         */
+        private Duration redisTtl = Duration.ofMinutes(30);
+
+        /**
+         * 이 채널로 PostgreSQL NOTIFY 가 오면 캐시 전체 무효화 (DB 트리거로 변경을 알리는 테이블)
+         */
+        private String notifyChannel;
+    }
+}
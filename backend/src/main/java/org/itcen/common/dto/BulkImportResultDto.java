@@ -0,0 +1,80 @@
+package org.itcen.common.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량 등록(파일 업로드) 결과 DTO
+ *
+ * 적재 건수와 행 단위 오류 목록을 전달합니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 대량 등록 결과 데이터 전송만 담당
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkImportResultDto {
+
+    /**
+     * 데이터 행 수 (헤더 제외)
+     */
+    private int totalRows;
+
+    /**
+     * 적재된 행 수 (롤백된 경우 0)
+     */
+    private int importedRows;
+
+    /**
+     * 오류 행 수
+     */
+    private int errorRows;
+
+    /**
+     * 적재 반영 여부 (오류가 있고 부분 적재를 허용하지 않으면 false)
+     */
+    private boolean committed;
+
+    /**
+     * 오류 목록이 최대 건수를 넘어 잘렸는지 여부
+     */
+    private boolean errorsTruncated;
+
+    /**
+     * 처리 시간(ms)
+     */
+    private long elapsedMs;
+
+    /**
+     * 행 단위 오류 목록 (행 번호 순)
+     */
+    private List<RowError> errors;
+
+    /**
+     * 행 단위 오류
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+
+        /**
+         * 파일 기준 행 번호 (헤더 = 1)
+         */
+        private final int rowNumber;
+
+        /**
+         * 오류 컬럼 (행 전체 오류는 null)
+         */
+        private final String column;
+
+        /**
+         * 오류 내용
+         */
+        private final String message;
+    }
+}
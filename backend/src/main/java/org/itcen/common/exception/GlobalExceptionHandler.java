@@ -2,14 +2,19 @@ package org.itcen.common.exception;
 
 import lombok.extern.slf4j.Slf4j;
 import org.itcen.common.dto.ApiResponse;
+import org.itcen.common.jdbc.DbAdmissionRejectedException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.nio.file.NoSuchFileException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -123,4 +128,34 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.CONFLICT)
                 .body(ApiResponse.error(e.getMessage(), "INVALID_STATE"));
     }
-} 
\ No newline at end of file
+
+    /**
+     * 저장소에 파일 내용이 없는 경우 (메타데이터만 남은 첨부파일)
+     */
+    @ExceptionHandler(NoSuchFileException.class)
+    public ResponseEntity<ApiResponse<Object>> handleNoSuchFileException(NoSuchFileException e) {
+        log.warn("Stored file not found: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error("파일을 찾을 수 없습니다.", "FILE_NOT_FOUND"));
+    }
+
+    /**
+     * DB 커넥션 획득 실패 처리
+     *
+     * DB 진입 제어에서 거절된 경우(과부하)는 503 과 Retry-After 로 응답하고, 그 외에는 기존 런타임 예외와 같이 처리합니다.
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ApiResponse<Object>> handleConnectionFailure(RuntimeException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DbAdmissionRejectedException) {
+                log.warn("DB admission rejected: {}", cause.getMessage());
+                return ResponseEntity
+                        .status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .body(ApiResponse.error("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", "DB_BUSY"));
+            }
+        }
+        return handleRuntimeException(e);
+    }
+}
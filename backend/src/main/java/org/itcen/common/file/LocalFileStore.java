@@ -0,0 +1,110 @@
+package org.itcen.common.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 디스크 파일 저장소 (내용 주소 방식)
+ *
+ * 파일을 내용의 SHA-256 값을 이름으로 {root}/{앞 2자}/{다음 2자}/{sha256} 에 저장하므로 같은 내용은 한 번만 저장됩니다.
+ *
+ * - 업로드: 멀티파트 임시 파일을 저장소 임시 디렉터리로 옮긴 뒤(같은 파일시스템이면 이름 변경만) 직접 버퍼로 읽으며 해시를 계산하고,
+ *   최종 경로로 원자적으로 이동합니다. 파일 내용을 힙에 올리지 않습니다.
+ * - 다운로드: {@link #resolve(String)} 로 경로를 얻어 {@link FileDownloadSupport} 로 전송합니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 파일 내용 저장/위치 확인만 담당 (메타데이터는 각 도메인 테이블)
+ */
+@Slf4j
+@Component
+public class LocalFileStore {
+
+    private static final Pattern SHA256_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final int HASH_BUFFER_SIZE = 256 * 1024;
+
+    private final Path root;
+    private final Path tempDirectory;
+
+    public LocalFileStore(@Value("${itcen.file-store.root:./data/files}") String root) throws IOException {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.tempDirectory = this.root.resolve("tmp");
+        Files.createDirectories(tempDirectory);
+        log.info("로컬 파일 저장소: {}", this.root);
+    }
+
+    /**
+     * 업로드 파일 저장 (같은 내용이 있으면 재사용)
+     */
+    public StoredFile store(MultipartFile file) throws IOException {
+        Path temp = Files.createTempFile(tempDirectory, "upload-", ".part");
+        try {
+            // 서블릿 컨테이너가 디스크에 받아 둔 파일이면 복사 없이 이름만 변경됨
+            file.transferTo(temp.toFile());
+            long size = Files.size(temp);
+            String sha256 = sha256(temp);
+
+            Path target = pathOf(sha256);
+            if (Files.exists(target)) {
+                return new StoredFile(sha256, size, false);
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("파일 저장 완료: sha256={}, size={}", sha256, size);
+            return new StoredFile(sha256, size, true);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 저장된 파일 경로
+     *
+     * @throws NoSuchFileException 저장소에 없는 경우
+     */
+    public Path resolve(String sha256) throws NoSuchFileException {
+        Path path = pathOf(sha256);
+        if (!Files.isRegularFile(path)) {
+            throw new NoSuchFileException(sha256);
+        }
+        return path;
+    }
+
+    private Path pathOf(String sha256) {
+        if (sha256 == null || !SHA256_PATTERN.matcher(sha256).matches()) {
+            throw new IllegalArgumentException("유효하지 않은 파일 키입니다: " + sha256);
+        }
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(HASH_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
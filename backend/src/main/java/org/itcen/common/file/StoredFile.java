@@ -0,0 +1,11 @@
+package org.itcen.common.file;
+
+/**
+ * 파일 저장소에 저장된 파일 정보
+ *
+ * @param sha256 내용 SHA-256 (소문자 16진수, 저장소 키)
+ * @param size 바이트 수
+ * @param created 새로 저장되었으면 true, 같은 내용이 이미 있어 재사용했으면 false
+ */
+public record StoredFile(String sha256, long size, boolean created) {
+}
@@ -0,0 +1,28 @@
+package org.itcen.common.id;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * UUIDv7 문자열 식별자 자동 생성
+ *
+ * 문자열 PK 엔티티의 @Id 필드에 선언하면 INSERT 시 {@link UuidV7} 값이 할당됩니다. 식별자를 직접 할당하지 않으므로
+ * save() 가 merge(사전 SELECT) 대신 persist 로 처리됩니다.
+ *
+ * <pre>
+ * &#64;Id
+ * &#64;UuidV7Id
+ * &#64;Column(name = "meeting_body_id", nullable = false, length = 100)
+ * private String meetingBodyId;
+ * </pre>
+ */
+@IdGeneratorType(UuidV7IdentifierGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface UuidV7Id {
+}
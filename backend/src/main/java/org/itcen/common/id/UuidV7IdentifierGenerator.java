@@ -0,0 +1,27 @@
+package org.itcen.common.id;
+
+import java.util.EnumSet;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * {@link UuidV7Id} 식별자 생성기 (Hibernate)
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 엔티티 INSERT 시 UUIDv7 식별자 할당만 담당
+ */
+public class UuidV7IdentifierGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+            EventType eventType) {
+        return UuidV7.generateString();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
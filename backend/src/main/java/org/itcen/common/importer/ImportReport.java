@@ -0,0 +1,98 @@
+package org.itcen.common.importer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.itcen.common.dto.BulkImportResultDto;
+import org.itcen.common.dto.BulkImportResultDto.RowError;
+
+/**
+ * 대량 등록 진행 집계
+ *
+ * 처리 행 수와 행 단위 오류를 모읍니다. 오류 목록은 최대 {@value #MAX_REPORTED_ERRORS}건까지만 보관하여 오류가 많은 파일에서도 힙
+ * 사용량을 제한합니다. (건수는 모두 집계)
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 대량 등록 결과 집계만 담당
+ */
+public final class ImportReport {
+
+    /**
+     * 결과에 포함하는 최대 오류 건수
+     */
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final long startedAt = System.nanoTime();
+    private final List<RowError> errors = new ArrayList<>();
+    private int totalRows;
+    private int importedRows;
+    private int errorRows;
+    private boolean errorsTruncated;
+
+    /**
+     * 데이터 행 1건 읽음
+     */
+    public void countRow() {
+        totalRows++;
+    }
+
+    /**
+     * 적재 건수 추가
+     */
+    public void addImported(long rows) {
+        importedRows += (int) rows;
+    }
+
+    /**
+     * 행 오류 기록 (한 행의 여러 컬럼 오류를 함께 전달)
+     *
+     * @param rowErrors 같은 행의 오류 목록
+     */
+    public void reject(List<RowError> rowErrors) {
+        if (rowErrors.isEmpty()) {
+            return;
+        }
+        errorRows++;
+        for (RowError error : rowErrors) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(error);
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+
+    /**
+     * 행 오류 1건 기록
+     */
+    public void reject(int rowNumber, String column, String message) {
+        reject(List.of(new RowError(rowNumber, column, message)));
+    }
+
+    public boolean hasErrors() {
+        return errorRows > 0;
+    }
+
+    public int getTotalRows() {
+        return totalRows;
+    }
+
+    /**
+     * 결과 DTO 생성
+     *
+     * @param committed 적재 반영 여부
+     * @return 결과
+     */
+    public BulkImportResultDto toResult(boolean committed) {
+        errors.sort(Comparator.comparingInt(RowError::getRowNumber));
+        return BulkImportResultDto.builder()
+                .totalRows(totalRows)
+                .importedRows(committed ? importedRows : 0)
+                .errorRows(errorRows)
+                .committed(committed)
+                .errorsTruncated(errorsTruncated)
+                .elapsedMs((System.nanoTime() - startedAt) / 1_000_000)
+                .errors(List.copyOf(errors))
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package org.itcen.common.importer;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.postgresql.PGConnection;
+
+/**
+ * PostgreSQL COPY FROM STDIN (CSV) 버퍼
+ *
+ * 행을 CSV 텍스트로 누적했다가 flush 시 한 번의 COPY 로 적재합니다. 호출자가 일정 건수마다 flush 하여 버퍼 크기를 제한합니다.
+ * null 은 따옴표 없는 빈 값, 빈 문자열은 "" 로 기록하여 COPY CSV 의 NULL 규칙과 일치시킵니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: COPY 입력 버퍼링과 전송만 담당
+ */
+public final class PgCopyBuffer {
+
+    private final String copySql;
+    private final StringBuilder buffer = new StringBuilder(256 * 1024);
+    private int rowCount;
+
+    /**
+     * @param table 테이블명
+     * @param columns 적재 컬럼 (addRow 값 순서)
+     */
+    public PgCopyBuffer(String table, String... columns) {
+        this.copySql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+    }
+
+    /**
+     * 한 행 추가
+     *
+     * @param values 컬럼 값 (toString 으로 기록, null 은 NULL)
+     */
+    public void addRow(Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            Object value = values[i];
+            if (value != null) {
+                String text = value.toString();
+                buffer.append('"');
+                for (int j = 0; j < text.length(); j++) {
+                    char c = text.charAt(j);
+                    if (c == '"') {
+                        buffer.append('"');
+                    }
+                    buffer.append(c);
+                }
+                buffer.append('"');
+            }
+        }
+        buffer.append('\n');
+        rowCount++;
+    }
+
+    /**
+     * 버퍼에 쌓인 행 수
+     */
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * 버퍼 내용을 COPY 로 적재하고 비움
+     *
+     * @param connection 현재 트랜잭션 커넥션
+     * @return 적재된 행 수
+     */
+    public long flush(Connection connection) throws SQLException {
+        if (rowCount == 0) {
+            return 0;
+        }
+        try {
+            long copied = connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn(copySql, new StringReader(buffer.toString()));
+            return copied;
+        } catch (IOException e) {
+            throw new SQLException("COPY 적재 실패", e);
+        } finally {
+            buffer.setLength(0);
+            rowCount = 0;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package org.itcen.common.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.itcen.common.exception.BusinessException;
+import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * CSV/XLSX 스트리밍 파서
+ *
+ * 업로드 파일을 행 단위로 읽어 TabularRowHandler 에 전달합니다. 파일 전체를 객체로 적재하지 않으므로 행 수와 관계없이 힙 사용량이
+ * 일정합니다.
+ *
+ * - CSV: UTF-8(BOM 허용), RFC 4180 (따옴표 안의 쉼표/줄바꿈/"" 이스케이프)
+ * - XLSX: 첫 번째 시트만, POI SAX 이벤트 모델 (셀 표시 형식 그대로 문자열로 읽음)
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 파일 형식별 행 읽기만 담당
+ * - Open/Closed: 새로운 형식은 분기 추가로 확장
+ */
+public final class TabularFileParser {
+
+    private TabularFileParser() {
+    }
+
+    /**
+     * 업로드 파일 파싱 (확장자로 형식 판별)
+     *
+     * @param file 업로드 파일 (.csv, .xlsx)
+     * @param handler 행 처리기
+     * @throws IOException 파일 읽기 실패
+     */
+    public static void parse(MultipartFile file, TabularRowHandler handler) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new BusinessException("업로드할 파일을 선택해주세요.");
+        }
+        String filename = file.getOriginalFilename() != null
+                ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+        if (filename.endsWith(".csv")) {
+            try (InputStream in = file.getInputStream()) {
+                parseCsv(new InputStreamReader(in, StandardCharsets.UTF_8), handler);
+            }
+        } else if (filename.endsWith(".xlsx")) {
+            // OPCPackage 는 파일 경로로 열어야 zip 전체를 메모리에 올리지 않음
+            Path tempFile = Files.createTempFile("import-", ".xlsx");
+            try {
+                file.transferTo(tempFile);
+                parseXlsx(tempFile, handler);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } else {
+            throw new BusinessException("CSV(.csv) 또는 Excel(.xlsx) 파일만 업로드할 수 있습니다.");
+        }
+    }
+
+    /**
+     * CSV 파싱
+     */
+    static void parseCsv(Reader source, TabularRowHandler handler) throws IOException {
+        BufferedReader reader = new BufferedReader(source, 64 * 1024);
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        boolean cellQuoted = false;
+        boolean first = true;
+        boolean rowHasData = false;
+        int rowNumber = 0;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (first) {
+                first = false;
+                if (c == '\uFEFF') {
+                    continue;
+                }
+            }
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        cell.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    cell.append((char) c);
+                }
+                continue;
+            }
+            switch (c) {
+                case '"' -> {
+                    quoted = true;
+                    cellQuoted = true;
+                    rowHasData = true;
+                }
+                case ',' -> {
+                    cells.add(toCell(cell, cellQuoted));
+                    cellQuoted = false;
+                    rowHasData = true;
+                }
+                case '\r' -> {
+                    // CRLF 의 CR 은 무시
+                }
+                case '\n' -> {
+                    rowNumber++;
+                    if (rowHasData || cell.length() > 0) {
+                        cells.add(toCell(cell, cellQuoted));
+                        handler.handle(rowNumber, cells.toArray(new String[0]));
+                    }
+                    cells.clear();
+                    cellQuoted = false;
+                    rowHasData = false;
+                }
+                default -> {
+                    cell.append((char) c);
+                    rowHasData = true;
+                }
+            }
+        }
+        if (rowHasData || cell.length() > 0) {
+            cells.add(toCell(cell, cellQuoted));
+            handler.handle(rowNumber + 1, cells.toArray(new String[0]));
+        }
+    }
+
+    private static String toCell(StringBuilder cell, boolean quoted) {
+        String value = cell.toString();
+        cell.setLength(0);
+        return value.isEmpty() && !quoted ? null : value;
+    }
+
+    /**
+     * XLSX 첫 번째 시트 파싱
+     */
+    static void parseXlsx(Path path, TabularRowHandler handler) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(path.toFile(), PackageAccess.READ)) {
+            XSSFReader xssfReader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(xssfReader.getStylesTable(), null, strings,
+                        new RowCollector(handler), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException e) {
+            throw new BusinessException("Excel 파일을 읽을 수 없습니다: " + e.getMessage());
+        } catch (javax.xml.parsers.ParserConfigurationException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * SAX 셀 이벤트를 행 단위로 모아 전달 (빈 셀은 건너뛰어 오므로 셀 참조로 위치 계산)
+     */
+    private static final class RowCollector implements SheetContentsHandler {
+
+        private final TabularRowHandler handler;
+        private final List<String> cells = new ArrayList<>();
+
+        RowCollector(TabularRowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (!cells.isEmpty()) {
+                handler.handle(rowNum + 1, cells.toArray(new String[0]));
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : cells.size();
+            while (cells.size() < column) {
+                cells.add(null);
+            }
+            cells.add(formattedValue == null || formattedValue.isEmpty() ? null : formattedValue);
+        }
+    }
+}
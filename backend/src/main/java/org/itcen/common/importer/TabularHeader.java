@@ -0,0 +1,73 @@
+package org.itcen.common.importer;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 표 형식 파일 헤더
+ *
+ * 헤더명은 대소문자, '_', 공백을 무시하고 비교하므로 "responsibility_id", "responsibilityId", "Responsibility ID" 가 같은 컬럼으로
+ * 인식됩니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 헤더명과 컬럼 위치 매핑만 담당
+ */
+public final class TabularHeader {
+
+    private final Map<String, Integer> indexes;
+
+    private TabularHeader(Map<String, Integer> indexes) {
+        this.indexes = indexes;
+    }
+
+    /**
+     * 헤더 행으로 생성
+     *
+     * @param cells 헤더 행 셀 값
+     * @return 헤더
+     */
+    public static TabularHeader of(String[] cells) {
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i] != null) {
+                indexes.putIfAbsent(normalize(cells[i]), i);
+            }
+        }
+        return new TabularHeader(indexes);
+    }
+
+    /**
+     * 컬럼 존재 여부
+     */
+    public boolean contains(String name) {
+        return indexes.containsKey(normalize(name));
+    }
+
+    /**
+     * 행에서 컬럼 값 조회 (앞뒤 공백 제거, 빈 값은 null)
+     *
+     * @param row 데이터 행
+     * @param name 컬럼명
+     * @return 컬럼 값
+     */
+    public String get(String[] row, String name) {
+        Integer index = indexes.get(normalize(name));
+        if (index == null || index >= row.length || row[index] == null) {
+            return null;
+        }
+        String value = row[index].trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String normalize(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != '_' && !Character.isWhitespace(c) && c != '\uFEFF') {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,22 @@
+package org.itcen.common.importer;
+
+/**
+ * 표 형식 파일(CSV/XLSX) 행 처리기
+ *
+ * TabularFileParser 가 한 행을 읽을 때마다 호출합니다. 파일 전체를 메모리에 올리지 않고 행 단위로 처리하기 위한 콜백입니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 행 단위 처리 계약만 정의
+ * - Dependency Inversion: 파서가 업무별 처리 로직에 의존하지 않음
+ */
+@FunctionalInterface
+public interface TabularRowHandler {
+
+    /**
+     * 한 행 처리
+     *
+     * @param rowNumber 파일 기준 행 번호 (1부터 시작, 헤더 포함)
+     * @param cells 셀 값 (빈 셀은 null)
+     */
+    void handle(int rowNumber, String[] cells);
+}
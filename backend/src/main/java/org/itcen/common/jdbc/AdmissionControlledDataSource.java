@@ -0,0 +1,93 @@
+package org.itcen.common.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션을 얻기 전에 {@link DbAdmissionGate} 를 통과시키는 DataSource
+ *
+ * 커넥션을 닫으면(풀 반납) 진입 허가를 돌려줍니다.
+ *
+ * SOLID 원칙:
+ * - Open/Closed: 기존 DataSource 를 감싸 진입 제어만 추가 (Decorator)
+ */
+public class AdmissionControlledDataSource extends DelegatingDataSource {
+
+    private final DbAdmissionGate gate;
+
+    public AdmissionControlledDataSource(DataSource targetDataSource, DbAdmissionGate gate) {
+        super(targetDataSource);
+        this.gate = gate;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        gate.acquire();
+        try {
+            return releasing(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            gate.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        gate.acquire();
+        try {
+            return releasing(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            gate.release();
+            throw e;
+        }
+    }
+
+    private Connection releasing(Connection target) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                new ReleasingHandler(target, gate));
+    }
+
+    private static final class ReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final DbAdmissionGate gate;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleasingHandler(Connection target, DbAdmissionGate gate) {
+            this.target = target;
+            this.gate = gate;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "close":
+                    try {
+                        target.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            gate.release();
+                        }
+                    }
+                    return null;
+                default:
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+            }
+        }
+    }
+}
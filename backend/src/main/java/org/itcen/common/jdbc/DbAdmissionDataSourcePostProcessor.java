@@ -0,0 +1,59 @@
+package org.itcen.common.jdbc;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커넥션 풀에 DB 진입 제어 적용 (itcen.db.admission.enabled=true 인 경우)
+ *
+ * SQL 실행 수신기({@link SqlStatementDataSourcePostProcessor})보다 먼저 적용되어 풀 바로 앞에 위치합니다.
+ * 허가 수를 지정하지 않으면(0) 커넥션 풀 최대 크기를 사용합니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: DataSource 진입 제어 적용만 담당
+ */
+@Slf4j
+@Component
+public class DbAdmissionDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final boolean enabled;
+    private final int permits;
+    private final long maxWaitMs;
+    private final int maxQueue;
+
+    public DbAdmissionDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${itcen.db.admission.enabled:false}") boolean enabled,
+            @Value("${itcen.db.admission.permits:0}") int permits,
+            @Value("${itcen.db.admission.max-wait-ms:2000}") long maxWaitMs,
+            @Value("${itcen.db.admission.max-queue:200}") int maxQueue) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.permits = permits;
+        this.maxWaitMs = maxWaitMs;
+        this.maxQueue = maxQueue;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof HikariDataSource hikari)) {
+            return bean;
+        }
+        int gatePermits = permits > 0 ? permits : hikari.getMaximumPoolSize();
+        log.info("DB 진입 제어 적용: permits={}, maxWait={}ms, maxQueue={}", gatePermits, maxWaitMs, maxQueue);
+        return new AdmissionControlledDataSource((DataSource) bean,
+                new DbAdmissionGate(gatePermits, maxWaitMs, maxQueue, meterRegistry.getObject()));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
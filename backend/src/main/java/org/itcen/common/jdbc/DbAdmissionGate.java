@@ -0,0 +1,93 @@
+package org.itcen.common.jdbc;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * DB 커넥션 진입 제어 (공정 세마포어)
+ *
+ * 커넥션 풀 앞에서 동시에 커넥션을 쓰는 작업 수를 permits 로 제한하고, 먼저 온 순서대로 진입시킵니다.
+ * 대기 중인 작업이 maxQueue 이상이면 즉시, maxWait 안에 진입하지 못하면 대기 후 거절합니다. 가상 스레드 모드에서 수천 개의 요청이
+ * 커넥션 풀 대기열에 쌓여 타임아웃이 연쇄되는 대신, 감당할 수 있는 만큼만 기다리고 나머지는 빨리 503 으로 돌려보냅니다.
+ *
+ * 메트릭: db.admission.wait, db.admission.rejected{reason}, db.admission.queued, db.admission.active
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: DB 진입 허용/거절 판단만 담당
+ */
+public class DbAdmissionGate {
+
+    private final Semaphore semaphore;
+    private final int permits;
+    private final long maxWaitNanos;
+    private final int maxQueue;
+    private final Timer waitTimer;
+    private final Counter queueFullRejections;
+    private final Counter timeoutRejections;
+
+    public DbAdmissionGate(int permits, long maxWaitMs, int maxQueue, MeterRegistry meterRegistry) {
+        this.semaphore = new Semaphore(permits, true);
+        this.permits = permits;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.maxQueue = maxQueue;
+        this.waitTimer = Timer.builder("db.admission.wait")
+                .description("DB 진입 대기 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.queueFullRejections = Counter.builder("db.admission.rejected")
+                .description("DB 진입 거절 수")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.timeoutRejections = Counter.builder("db.admission.rejected")
+                .description("DB 진입 거절 수")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+        Gauge.builder("db.admission.queued", semaphore, Semaphore::getQueueLength)
+                .description("DB 진입 대기 수")
+                .register(meterRegistry);
+        Gauge.builder("db.admission.active", semaphore, s -> permits - s.availablePermits())
+                .description("DB 진입 중인 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 진입 (성공 시 반드시 {@link #release()})
+     */
+    public void acquire() throws DbAdmissionRejectedException {
+        long startedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            // 인자 없는 tryAcquire() 는 공정성을 무시하고 대기 중인 스레드를 앞지름
+            if (semaphore.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                waitTimer.record(0, TimeUnit.NANOSECONDS);
+                return;
+            }
+            if (semaphore.getQueueLength() >= maxQueue) {
+                queueFullRejections.increment();
+                throw new DbAdmissionRejectedException("DB 진입 대기열이 가득 찼습니다. (대기 " + maxQueue + "건)");
+            }
+            acquired = semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DbAdmissionRejectedException("DB 진입 대기 중 인터럽트되었습니다.");
+        }
+        waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            timeoutRejections.increment();
+            throw new DbAdmissionRejectedException(
+                    "DB 진입 대기 시간을 초과했습니다. (" + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + "ms)");
+        }
+    }
+
+    public void release() {
+        semaphore.release();
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+}
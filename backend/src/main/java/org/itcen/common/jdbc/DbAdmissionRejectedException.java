@@ -0,0 +1,15 @@
+package org.itcen.common.jdbc;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * DB 진입 제어에서 거절된 경우 (대기열 초과 또는 대기 시간 초과)
+ *
+ * 일시적인 과부하이므로 GlobalExceptionHandler 가 503 과 Retry-After 로 응답합니다.
+ */
+public class DbAdmissionRejectedException extends SQLTransientConnectionException {
+
+    public DbAdmissionRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,45 @@
+package org.itcen.common.jdbc;
+
+import java.util.function.Supplier;
+
+/**
+ * primary 강제 조회 범위
+ *
+ * 범위 안에서 시작한 readOnly 트랜잭션은 복제본 대신 primary 를 사용합니다. 변경 알림을 받아 캐시를 다시 적재하는 경우처럼
+ * 방금 커밋된 내용을 반드시 읽어야 하는 곳에서 사용합니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 현재 스레드의 primary 강제 여부만 관리
+ */
+public final class PrimaryRead {
+
+    private static final ThreadLocal<Integer> DEPTH = new ThreadLocal<>();
+
+    private PrimaryRead() {
+    }
+
+    public static void run(Runnable task) {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public static <T> T call(Supplier<T> task) {
+        Integer depth = DEPTH.get();
+        DEPTH.set(depth == null ? 1 : depth + 1);
+        try {
+            return task.get();
+        } finally {
+            if (depth == null) {
+                DEPTH.remove();
+            } else {
+                DEPTH.set(depth);
+            }
+        }
+    }
+
+    public static boolean isActive() {
+        return DEPTH.get() != null;
+    }
+}
@@ -0,0 +1,119 @@
+package org.itcen.common.jdbc;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * primary 커넥션 풀에 읽기 복제본 라우팅 적용 (itcen.datasource.read-replica.enabled=true 인 경우)
+ *
+ * DB 진입 제어({@link DbAdmissionDataSourcePostProcessor}) 다음, SQL 실행 수신기 이전에 적용되어 복제본 조회도 SQL 집계에 포함됩니다.
+ * 복제본 풀은 primary 풀 설정(계정, 최대 크기, autoCommit)을 기본으로 readOnly 로 생성하며, 기동 시 복제본이 내려가 있어도
+ * 기동은 계속하고 primary 로 대체합니다. 라우팅은 첫 SQL 실행 시점으로 미뤄야 readOnly 여부를 알 수 있으므로
+ * LazyConnectionDataSourceProxy 로 감쌉니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 복제본 풀 생성과 라우팅 DataSource 적용만 담당
+ */
+@Slf4j
+@Component
+public class ReadReplicaDataSourcePostProcessor implements BeanPostProcessor, Ordered, DisposableBean {
+
+    private final ObjectProvider<ReadReplicaProperties> properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final boolean enabled;
+
+    private final List<ReadReplicaRoutingDataSource> routingDataSources = new ArrayList<>();
+
+    public ReadReplicaDataSourcePostProcessor(ObjectProvider<ReadReplicaProperties> properties,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${itcen.datasource.read-replica.enabled:false}") boolean enabled) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        HikariDataSource primaryPool = unwrapHikari(dataSource);
+        if (primaryPool == null) {
+            return bean;
+        }
+        ReadReplicaProperties config = properties.getObject();
+        if (config.getReplicas().isEmpty()) {
+            log.warn("읽기 복제본 라우팅이 켜져 있지만 복제본이 없어 primary 만 사용합니다.");
+            return bean;
+        }
+        MeterRegistry registry = meterRegistry.getObject();
+        List<HikariDataSource> replicaPools = new ArrayList<>();
+        for (ReadReplicaProperties.Replica replica : config.getReplicas()) {
+            replicaPools.add(createReplicaPool(primaryPool, replica, config, registry, replicaPools.size() + 1));
+        }
+        ReadReplicaRoutingDataSource routing =
+                new ReadReplicaRoutingDataSource(dataSource, replicaPools, config, registry);
+        routingDataSources.add(routing);
+        log.info("읽기 복제본 라우팅 적용: replicas={}, maxLag={}ms, stickyWindow={}ms",
+                replicaPools.stream().map(HikariDataSource::getPoolName).toList(), config.getMaxLagMs(),
+                config.getStickyWindowMs());
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * 감싼 DataSource 는 종료 메서드 추론 대상이 아니므로 직접 풀을 닫습니다.
+     */
+    @Override
+    public void destroy() {
+        routingDataSources.forEach(ReadReplicaRoutingDataSource::close);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 10;
+    }
+
+    private static HikariDataSource createReplicaPool(HikariDataSource primaryPool, ReadReplicaProperties.Replica replica,
+            ReadReplicaProperties config, MeterRegistry registry, int sequence) {
+        HikariConfig hikari = new HikariConfig();
+        hikari.setPoolName(StringUtils.hasText(replica.getName()) ? replica.getName() : "replica-" + sequence);
+        hikari.setJdbcUrl(replica.getUrl());
+        hikari.setDriverClassName(primaryPool.getDriverClassName());
+        hikari.setUsername(StringUtils.hasText(replica.getUsername()) ? replica.getUsername()
+                : primaryPool.getUsername());
+        hikari.setPassword(StringUtils.hasText(replica.getUsername()) ? replica.getPassword()
+                : primaryPool.getPassword());
+        hikari.setMaximumPoolSize(replica.getMaximumPoolSize() > 0 ? replica.getMaximumPoolSize()
+                : primaryPool.getMaximumPoolSize());
+        hikari.setMinimumIdle(Math.min(primaryPool.getMinimumIdle(), hikari.getMaximumPoolSize()));
+        hikari.setAutoCommit(primaryPool.isAutoCommit());
+        hikari.setReadOnly(true);
+        hikari.setConnectionTimeout(config.getConnectionTimeoutMs());
+        hikari.setInitializationFailTimeout(-1);
+        hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        return new HikariDataSource(hikari);
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
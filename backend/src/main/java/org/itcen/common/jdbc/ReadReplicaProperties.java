@@ -0,0 +1,84 @@
+package org.itcen.common.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽기 복제본 라우팅 설정 (itcen.datasource.read-replica.*)
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 읽기 복제본 설정 값만 보관
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "itcen.datasource.read-replica")
+public class ReadReplicaProperties {
+
+    /**
+     * 라우팅 사용 여부 (false 이면 모든 조회가 primary)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 복제본 목록
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 허용 복제 지연(ms), 초과한 복제본은 지연이 줄어들 때까지 제외
+     */
+    private long maxLagMs = 1000;
+
+    /**
+     * 상태/지연 확인 주기(ms)
+     */
+    private long healthCheckIntervalMs = 2000;
+
+    /**
+     * 복제본 커넥션 획득 제한 시간(ms), 초과 시 primary 로 대체
+     */
+    private long connectionTimeoutMs = 1000;
+
+    /**
+     * 쓰기 후 같은 세션의 조회를 primary 로 보내는 시간(ms), 0 이면 사용 안 함
+     */
+    private long stickyWindowMs = 5000;
+
+    /**
+     * 복제 지연(ms) 조회 SQL (H2 등 PostgreSQL 이 아닌 대역 DB 는 SELECT 0)
+     *
+     * 수신한 WAL 을 모두 재생했으면 primary 에 변경이 없는 것이므로 마지막 재생 시각과 관계없이 0 입니다.
+     */
+    private String lagQuery = "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 "
+            + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        /**
+         * 이름 (풀 이름, 메트릭 태그)
+         */
+        private String name;
+
+        private String url;
+
+        /**
+         * 계정 (비어 있으면 primary 계정)
+         */
+        private String username;
+
+        private String password;
+
+        /**
+         * 최대 커넥션 수 (0 이면 primary 풀과 동일)
+         */
+        private int maximumPoolSize = 0;
+    }
+}
@@ -0,0 +1,263 @@
+package org.itcen.common.jdbc;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpSession;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * readOnly 트랜잭션을 읽기 복제본으로 보내는 DataSource
+ *
+ * LazyConnectionDataSourceProxy 뒤에서 첫 SQL 실행 시점에 호출되므로 트랜잭션의 readOnly 여부가 이미 정해져 있습니다.
+ *
+ * - readOnly 가 아니면 primary, 커밋되면 현재 세션에 쓰기 시각을 기록 (세션은 Redis 에 있으므로 노드 간 공유)
+ * - 쓰기 후 sticky-window 안의 같은 세션 조회, {@link PrimaryRead} 범위의 조회는 primary
+ * - 그 외에는 사용 가능한(정상, 지연 max-lag 이하) 복제본을 차례로 사용하고, 없거나 커넥션 획득에 실패하면 primary
+ *
+ * 메트릭: db.routing{target, reason}, db.replica.lag{replica}, db.replica.available{replica}
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 커넥션을 얻을 DB 선택과 복제본 상태 확인만 담당
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    /**
+     * 마지막 쓰기 커밋 시각 세션 속성
+     */
+    static final String LAST_WRITE_ATTRIBUTE = ReadReplicaRoutingDataSource.class.getName() + ".LAST_WRITE";
+
+    private final DataSource primary;
+    private final List<ReplicaPool> replicas;
+    private final ReadReplicaProperties properties;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+    private final MeterRegistry meterRegistry;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicaDataSources,
+            ReadReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.replicas = replicaDataSources.stream().map(ReplicaPool::new).toList();
+        for (ReplicaPool replica : replicas) {
+            Gauge.builder("db.replica.lag", replica, ReplicaPool::getLagMs)
+                    .description("읽기 복제본 복제 지연")
+                    .baseUnit("milliseconds")
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+            Gauge.builder("db.replica.available", replica, r -> isAvailable(r) ? 1 : 0)
+                    .description("읽기 복제본 사용 가능 여부")
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+        }
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "read-replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.healthChecker.scheduleWithFixedDelay(this::checkReplicas, 0, properties.getHealthCheckIntervalMs(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWriteOnCommit();
+            return primary("write");
+        }
+        if (PrimaryRead.isActive()) {
+            return primary("pinned");
+        }
+        if (isSticky()) {
+            return primary("sticky");
+        }
+        for (int i = 0; i < replicas.size(); i++) {
+            ReplicaPool replica = replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+            if (!isAvailable(replica)) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                count(replica.name, "read");
+                return connection;
+            } catch (SQLException e) {
+                replica.markDown(e);
+            }
+        }
+        return primary("fallback");
+    }
+
+    /**
+     * 계정 지정 커넥션 (라우팅하지 않고 primary 사용)
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        count("primary", "credentials");
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * primary 풀 조회 (커넥션 풀 메트릭/상태 확인용)
+     */
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+        try {
+            if (primary.isWrapperFor(HikariDataSource.class)) {
+                primary.unwrap(HikariDataSource.class).close();
+            }
+        } catch (SQLException e) {
+            log.warn("primary 커넥션 풀 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    private Connection primary(String reason) throws SQLException {
+        count("primary", reason);
+        return primary.getConnection();
+    }
+
+    private void count(String target, String reason) {
+        Counter.builder("db.routing")
+                .description("DB 커넥션 라우팅")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private boolean isAvailable(ReplicaPool replica) {
+        return replica.up && replica.lagMs <= properties.getMaxLagMs();
+    }
+
+    private void checkReplicas() {
+        for (ReplicaPool replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                    Statement statement = connection.createStatement();
+                    ResultSet rs = statement.executeQuery(properties.getLagQuery())) {
+                long lagMs = rs.next() ? rs.getLong(1) : 0;
+                if (!replica.up) {
+                    log.info("읽기 복제본 복구: {}, 지연 {}ms", replica.name, lagMs);
+                } else if (lagMs > properties.getMaxLagMs() && replica.lagMs <= properties.getMaxLagMs()) {
+                    log.warn("읽기 복제본 지연 초과로 제외: {}, 지연 {}ms", replica.name, lagMs);
+                }
+                replica.lagMs = lagMs;
+                replica.up = true;
+            } catch (Exception e) {
+                replica.markDown(e);
+            }
+        }
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션이 커밋되면 세션에 쓰기 시각 기록
+     */
+    private void markWriteOnCommit() {
+        if (properties.getStickyWindowMs() <= 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        HttpSession session = currentSession();
+        if (session == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    session.setAttribute(LAST_WRITE_ATTRIBUTE, System.currentTimeMillis());
+                } catch (IllegalStateException e) {
+                    // 커밋 사이에 세션이 무효화된 경우
+                }
+            }
+        });
+    }
+
+    private boolean isSticky() {
+        if (properties.getStickyWindowMs() <= 0) {
+            return false;
+        }
+        HttpSession session = currentSession();
+        if (session == null) {
+            return false;
+        }
+        try {
+            Object lastWrite = session.getAttribute(LAST_WRITE_ATTRIBUTE);
+            return lastWrite instanceof Long at
+                    && System.currentTimeMillis() - at < properties.getStickyWindowMs();
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 현재 요청의 세션 (요청 속성을 넘겨받은 작업 스레드가 응답 완료 후에도 실행 중이면 null)
+     */
+    private static HttpSession currentSession() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            try {
+                return servletAttributes.getRequest().getSession(false);
+            } catch (IllegalStateException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 복제본 커넥션 풀과 최근 상태
+     */
+    private static final class ReplicaPool {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile boolean up = true;
+        private volatile long lagMs;
+
+        ReplicaPool(HikariDataSource dataSource) {
+            this.name = dataSource.getPoolName();
+            this.dataSource = dataSource;
+        }
+
+        long getLagMs() {
+            return lagMs;
+        }
+
+        void markDown(Exception e) {
+            if (up) {
+                log.warn("읽기 복제본 사용 중지, primary 로 대체: {}: {}", name, e.getMessage());
+            }
+            up = false;
+        }
+    }
+}
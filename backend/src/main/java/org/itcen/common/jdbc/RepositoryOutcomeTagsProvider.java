@@ -0,0 +1,26 @@
+package org.itcen.common.jdbc;
+
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult.State;
+import org.springframework.stereotype.Component;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Repository 메서드 Timer(spring.data.repository.invocations) 태그
+ *
+ * 기본 태그(repository, method, state, exception)에 HTTP 요청 Timer 와 같은 이름의 outcome(SUCCESS/ERROR) 태그를 더합니다.
+ *
+ * SOLID 원칙:
+ * - Open/Closed: 기본 태그 제공자를 확장하여 태그만 추가
+ */
+@Component
+public class RepositoryOutcomeTagsProvider extends DefaultRepositoryTagsProvider {
+
+    @Override
+    public Iterable<Tag> repositoryTags(RepositoryMethodInvocation invocation) {
+        State state = invocation.getResult() != null ? invocation.getResult().getState() : null;
+        return Tags.of(super.repositoryTags(invocation)).and("outcome", state == State.SUCCESS ? "SUCCESS" : "ERROR");
+    }
+}
@@ -0,0 +1,50 @@
+package org.itcen.common.jdbc;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.itcen.common.jfr.RepositoryCallEvent;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repository 메서드 호출 동안 실행 중인 메서드명을 설정
+ *
+ * {@link SqlStatementListener} 가 SQL 을 "UserRepository.findById" 처럼 호출한 Repository 메서드별로 집계합니다.
+ * JFR 녹화 중에는 호출마다 {@link RepositoryCallEvent} 를 기록합니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: Repository 호출 식별만 담당
+ */
+@Aspect
+@Component
+public class RepositoryStatementAspect {
+
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object aroundRepositoryMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = repositoryName(joinPoint.getThis()) + "." + joinPoint.getSignature().getName();
+        String previous = SqlStatementContext.enterRepositoryMethod(method);
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            Object result = joinPoint.proceed();
+            success = true;
+            return result;
+        } finally {
+            event.finish(method, success);
+            SqlStatementContext.exitRepositoryMethod(previous);
+        }
+    }
+
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), type -> {
+            Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(proxy);
+            return interfaces.length > 0 ? interfaces[0].getSimpleName() : type.getSimpleName();
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package org.itcen.common.jdbc;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 느린 SQL 기록
+ *
+ * 바인드 값은 보관하지 않고 타입만 기록합니다. 실행 계획은 별도 스레드에서 EXPLAIN 후 채워집니다.
+ */
+@Getter
+public class SlowQuery {
+
+    private final Instant executedAt;
+    private final String repositoryMethod;
+    private final String sql;
+    private final List<String> parameterTypes;
+    private final boolean batch;
+    private final long elapsedMillis;
+    private volatile String plan;
+
+    SlowQuery(Instant executedAt, String repositoryMethod, String sql, List<String> parameterTypes, boolean batch,
+            long elapsedMillis) {
+        this.executedAt = executedAt;
+        this.repositoryMethod = repositoryMethod;
+        this.sql = sql;
+        this.parameterTypes = parameterTypes;
+        this.batch = batch;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    void setPlan(String plan) {
+        this.plan = plan;
+    }
+}
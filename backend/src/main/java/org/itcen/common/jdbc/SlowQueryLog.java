@@ -0,0 +1,199 @@
+package org.itcen.common.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * 느린 SQL 기록 (최근 N건 링 버퍼)
+ *
+ * itcen.sql-stats.slow-query.threshold-ms 이상 걸린 문장의 SQL, 바인드 파라미터 타입, 호출한 Repository 메서드를 보관하고,
+ * 같은 바인드 값으로 EXPLAIN(ANALYZE 없이, 실제 실행하지 않음)한 실행 계획을 전용 스레드에서 채웁니다.
+ *
+ * - 보관 건수: itcen.sql-stats.slow-query.capacity (초과 시 가장 오래된 기록부터 제거)
+ * - 같은 형태의 문장은 실행 계획을 재사용하고, EXPLAIN 대기열이 차면 계획 없이 기록만 남깁니다.
+ * - 조회: /actuator/slowqueries ({@link SlowQueryEndpoint})
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 느린 SQL 보관과 실행 계획 수집만 담당
+ */
+@Slf4j
+@Component
+public class SlowQueryLog {
+
+    private static final ThreadLocal<Boolean> EXPLAINING = new ThreadLocal<>();
+    private static final int PLAN_CACHE_SIZE = 256;
+
+    private final ObjectProvider<DataSource> dataSource;
+    private final long thresholdNanos;
+    private final int capacity;
+    private final boolean explainEnabled;
+
+    private final Deque<SlowQuery> entries = new ArrayDeque<>();
+    private final Map<String, String> planCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > PLAN_CACHE_SIZE;
+        }
+    };
+    private final ThreadPoolExecutor explainExecutor;
+
+    public SlowQueryLog(ObjectProvider<DataSource> dataSource,
+            @Value("${itcen.sql-stats.slow-query.threshold-ms:500}") long thresholdMs,
+            @Value("${itcen.sql-stats.slow-query.capacity:100}") int capacity,
+            @Value("${itcen.sql-stats.slow-query.explain:true}") boolean explainEnabled) {
+        this.dataSource = dataSource;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.capacity = capacity;
+        this.explainEnabled = explainEnabled;
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * 기록 대상 여부
+     */
+    boolean isSlow(long nanos) {
+        return nanos >= thresholdNanos;
+    }
+
+    /**
+     * EXPLAIN 스레드에서 실행된 문장인지 여부 (집계/기록 제외)
+     */
+    static boolean isExplaining() {
+        return EXPLAINING.get() != null;
+    }
+
+    /**
+     * 느린 문장 기록
+     */
+    void record(QueryInfo queryInfo, boolean batch, String repositoryMethod, long nanos) {
+        String sql = queryInfo.getQuery();
+        List<Object> parameters = parameterValues(queryInfo);
+        List<String> parameterTypes = parameters.stream()
+                .map(value -> value == null ? "null" : value.getClass().getSimpleName())
+                .toList();
+        SlowQuery entry = new SlowQuery(Instant.now(), repositoryMethod, sql, parameterTypes, batch,
+                TimeUnit.NANOSECONDS.toMillis(nanos));
+        log.warn("느린 SQL ({}ms, {}): {}", entry.getElapsedMillis(), repositoryMethod, sql);
+
+        String shape = SqlStatementStats.shapeOf(sql);
+        String cachedPlan;
+        synchronized (this) {
+            if (entries.size() >= capacity) {
+                entries.pollFirst();
+            }
+            entries.addLast(entry);
+            cachedPlan = planCache.get(shape);
+        }
+        if (cachedPlan != null) {
+            entry.setPlan(cachedPlan);
+        } else if (explainEnabled && isExplainable(sql)) {
+            explainExecutor.execute(() -> explain(entry, shape, parameters));
+        }
+    }
+
+    /**
+     * 보관 중인 기록 (최근 순)
+     */
+    public synchronized List<SlowQuery> getEntries() {
+        List<SlowQuery> result = new ArrayList<>(entries);
+        result.sort(Comparator.comparing(SlowQuery::getExecutedAt).reversed());
+        return result;
+    }
+
+    /**
+     * 기록 전체 삭제
+     */
+    public synchronized void clear() {
+        entries.clear();
+        planCache.clear();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        explainExecutor.shutdownNow();
+    }
+
+    private void explain(SlowQuery entry, String shape, List<Object> parameters) {
+        EXPLAINING.set(Boolean.TRUE);
+        try (Connection connection = dataSource.getObject().getConnection()) {
+            connection.setReadOnly(true);
+            entry.setPlan(explain(connection, entry.getSql(), parameters));
+            synchronized (this) {
+                planCache.put(shape, entry.getPlan());
+            }
+        } catch (SQLException e) {
+            entry.setPlan("EXPLAIN 실패: " + e.getMessage());
+        } finally {
+            EXPLAINING.remove();
+        }
+    }
+
+    private static String explain(Connection connection, String sql, List<Object> parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    if (!plan.isEmpty()) {
+                        plan.append('\n');
+                    }
+                    plan.append(resultSet.getString(1));
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    /**
+     * 첫 번째 파라미터 세트의 값 (인덱스 순, 배치는 첫 행 기준)
+     */
+    private static List<Object> parameterValues(QueryInfo queryInfo) {
+        if (queryInfo.getParametersList().isEmpty()) {
+            return List.of();
+        }
+        List<ParameterSetOperation> operations = new ArrayList<>(queryInfo.getParametersList().get(0));
+        operations.removeIf(operation -> !(operation.getArgs()[0] instanceof Integer));
+        operations.sort(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]));
+        List<Object> values = new ArrayList<>(operations.size());
+        for (ParameterSetOperation operation : operations) {
+            boolean setNull = "setNull".equals(operation.getMethod().getName());
+            values.add(setNull || operation.getArgs().length < 2 ? null : operation.getArgs()[1]);
+        }
+        return values;
+    }
+
+    private static boolean isExplainable(String sql) {
+        String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return head.startsWith("select") || head.startsWith("with") || head.startsWith("insert")
+                || head.startsWith("update") || head.startsWith("delete");
+    }
+}
@@ -0,0 +1,94 @@
+package org.itcen.common.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 현재 스레드의 SQL 집계 범위와 실행 중인 Repository 메서드
+ *
+ * - 범위: HTTP 요청({@link SqlStatementFilter}), 테스트(SqlStatementCountExtension) 등이 {@link #begin()} / {@link #end}
+ *   로 엽니다. 범위가 겹치면 열린 모든 범위에 기록합니다.
+ * - Repository 메서드: {@link RepositoryStatementAspect} 가 호출 동안 설정하여 문장을 메서드별로 집계할 수 있게 합니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 스레드별 집계 범위 관리만 담당
+ */
+public final class SqlStatementContext {
+
+    private static final ThreadLocal<List<SqlStatementStats>> SCOPES = new ThreadLocal<>();
+    private static final ThreadLocal<String> REPOSITORY_METHOD = new ThreadLocal<>();
+
+    private SqlStatementContext() {
+    }
+
+    /**
+     * 집계 범위 시작
+     */
+    public static SqlStatementStats begin() {
+        List<SqlStatementStats> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayList<>(2);
+            SCOPES.set(scopes);
+        }
+        SqlStatementStats stats = new SqlStatementStats();
+        scopes.add(stats);
+        return stats;
+    }
+
+    /**
+     * 집계 범위 종료
+     */
+    public static void end(SqlStatementStats stats) {
+        List<SqlStatementStats> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+        scopes.remove(stats);
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+    }
+
+    /**
+     * 열린 범위가 있는지 여부
+     */
+    public static boolean isActive() {
+        return SCOPES.get() != null;
+    }
+
+    static void record(String shape, long nanos) {
+        List<SqlStatementStats> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+        for (SqlStatementStats stats : scopes) {
+            stats.record(shape, nanos);
+        }
+    }
+
+    /**
+     * 실행 중인 Repository 메서드 (예: UserRepository.findById, 없으면 null)
+     */
+    public static String currentRepositoryMethod() {
+        return REPOSITORY_METHOD.get();
+    }
+
+    /**
+     * Repository 메서드 진입
+     *
+     * @return 이전 값 ({@link #exitRepositoryMethod} 로 복원)
+     */
+    static String enterRepositoryMethod(String method) {
+        String previous = REPOSITORY_METHOD.get();
+        REPOSITORY_METHOD.set(method);
+        return previous;
+    }
+
+    static void exitRepositoryMethod(String previous) {
+        if (previous == null) {
+            REPOSITORY_METHOD.remove();
+        } else {
+            REPOSITORY_METHOD.set(previous);
+        }
+    }
+}
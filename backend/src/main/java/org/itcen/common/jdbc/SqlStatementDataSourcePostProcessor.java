@@ -0,0 +1,65 @@
+package org.itcen.common.jdbc;
+
+import java.sql.SQLException;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DataSource 에 SQL 실행 수신기를 연결
+ *
+ * itcen.sql-stats.enabled=false 이면 DataSource 를 감싸지 않습니다.
+ * 수신기는 MeterRegistry 에 의존하므로 첫 실행 시점에 조회합니다. (후처리기는 다른 빈보다 먼저 생성됨)
+ * 실행 직전에 현재 스레드의 문장 제한 시각({@link StatementDeadline})도 적용합니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: DataSource 프록시 적용만 담당
+ */
+@Slf4j
+@Component
+public class SqlStatementDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SqlStatementListener> listener;
+    private final boolean enabled;
+
+    public SqlStatementDataSourcePostProcessor(ObjectProvider<SqlStatementListener> listener,
+            @Value("${itcen.sql-stats.enabled:true}") boolean enabled) {
+        this.listener = listener;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(new QueryExecutionListener() {
+                    @Override
+                    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                        try {
+                            StatementDeadline.apply(execInfo.getStatement());
+                        } catch (SQLException e) {
+                            log.debug("문장 제한 시간 설정 실패: {}", e.getMessage());
+                        }
+                        listener.getObject().beforeQuery(execInfo, queryInfoList);
+                    }
+
+                    @Override
+                    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                        listener.getObject().afterQuery(execInfo, queryInfoList);
+                    }
+                })
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package org.itcen.common.jdbc;
+
+import java.io.IOException;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HTTP 요청별 SQL 실행 집계
+ *
+ * 요청마다 집계 범위를 열고, 끝나면 URI 패턴별로
+ * - http.server.requests.db.statements: 요청당 실행 문장 수
+ * - http.server.requests.db.time: 요청당 총 DB 시간
+ * - db.statements.n_plus_one: 같은 형태의 문장이 itcen.sql-stats.n-plus-one-threshold 회 이상 실행된 요청 수
+ * 를 기록하고, N+1 의심 문장은 WARN 로그로 남깁니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 요청 단위 SQL 집계/판정만 담당
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    /**
+     * 요청 속성명 (현재 요청의 {@link SqlStatementStats})
+     */
+    public static final String STATS_ATTRIBUTE = SqlStatementFilter.class.getName() + ".stats";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${itcen.sql-stats.n-plus-one-threshold:10}")
+    private int nPlusOneThreshold;
+
+    public SqlStatementFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementContext.begin();
+        request.setAttribute(STATS_ATTRIBUTE, stats);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementContext.end(stats);
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        if (stats.getStatementCount() == 0) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+
+        DistributionSummary.builder("http.server.requests.db.statements")
+                .description("요청당 SQL 실행 수")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        Timer.builder("http.server.requests.db.time")
+                .description("요청당 총 DB 시간")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getTotalTime());
+
+        Map<String, Integer> repeated = stats.getRepeatedShapes(nPlusOneThreshold);
+        if (!repeated.isEmpty()) {
+            Counter.builder("db.statements.n_plus_one")
+                    .description("같은 형태의 SQL 이 반복 실행된(N+1 의심) 요청 수")
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            repeated.forEach((shape, count) -> log.warn("N+1 의심 SQL: {} {} ({}회): {}", request.getMethod(), uri,
+                    count, shape));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.itcen.common.jdbc;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 헤더로 SQL 실행 집계 노출 (개발/검증 환경용, 운영 프로파일에서는 비활성화)
+ *
+ * - X-DB-Statement-Count: 응답 본문 작성 시점까지 실행된 문장 수
+ * - X-DB-Time-Ms: 총 DB 시간(ms)
+ * - X-DB-Repeated-Statements: N+1 의심 문장 형태 수
+ *
+ * 본문을 직접 쓰는 스트리밍/다운로드 응답에는 붙지 않습니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 집계 결과의 응답 헤더 노출만 담당
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "itcen.sql-stats.response-headers", havingValue = "true")
+public class SqlStatementHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Value("${itcen.sql-stats.n-plus-one-threshold:10}")
+    private int nPlusOneThreshold;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(SqlStatementFilter.STATS_ATTRIBUTE)
+                        instanceof SqlStatementStats stats) {
+            response.getHeaders().set("X-DB-Statement-Count", String.valueOf(stats.getStatementCount()));
+            response.getHeaders().set("X-DB-Time-Ms", String.valueOf(stats.getTotalTime().toMillis()));
+            response.getHeaders().set("X-DB-Repeated-Statements",
+                    String.valueOf(stats.getRepeatedShapes(nPlusOneThreshold).size()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,73 @@
+package org.itcen.common.jdbc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * SQL 실행 수신기 (datasource-proxy)
+ *
+ * 모든 JDBC 실행(JPA, JdbcTemplate 포함)의 실행 시간을 재어
+ * - 현재 스레드의 집계 범위({@link SqlStatementContext})에 문장 형태별로 기록하고
+ * - Repository 메서드별 Timer(db.statements{repository}: 건수 = 실행 문장 수, 합계 = DB 시간)에 기록하고
+ * - 기준 시간을 넘은 문장은 {@link SlowQueryLog} 에 남깁니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: SQL 실행 측정과 기록만 담당
+ */
+@Component
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private static final String STARTED_AT = SqlStatementListener.class.getName() + ".startedAt";
+    private static final String NO_REPOSITORY = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final SlowQueryLog slowQueryLog;
+    private final Map<String, Timer> repositoryTimers = new ConcurrentHashMap<>();
+
+    public SqlStatementListener(MeterRegistry meterRegistry, SlowQueryLog slowQueryLog) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (SlowQueryLog.isExplaining()) {
+            return;
+        }
+        Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        long nanos = startedAt != null ? System.nanoTime() - startedAt : TimeUnit.MILLISECONDS.toNanos(
+                execInfo.getElapsedTime());
+
+        String repositoryMethod = SqlStatementContext.currentRepositoryMethod();
+        repositoryTimers.computeIfAbsent(repositoryMethod != null ? repositoryMethod : NO_REPOSITORY,
+                method -> Timer.builder("db.statements")
+                        .description("SQL 실행 (Repository 메서드별)")
+                        .tag("repository", method)
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        if (queryInfoList.isEmpty()) {
+            return;
+        }
+        if (SqlStatementContext.isActive()) {
+            // 배치는 한 번의 실행으로 계산 (첫 문장 형태 기준)
+            SqlStatementContext.record(SqlStatementStats.shapeOf(queryInfoList.get(0).getQuery()), nanos);
+        }
+        if (slowQueryLog.isSlow(nanos)) {
+            slowQueryLog.record(queryInfoList.get(0), execInfo.isBatch(), repositoryMethod, nanos);
+        }
+    }
+}
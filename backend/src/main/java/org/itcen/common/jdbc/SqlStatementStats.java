@@ -0,0 +1,70 @@
+package org.itcen.common.jdbc;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 실행 통계 (한 HTTP 요청 또는 한 테스트 범위)
+ *
+ * 실행 건수, 총 DB 시간, 문장 형태(리터럴/IN 목록을 ? 로 정규화한 SQL)별 실행 건수를 보관합니다.
+ * 한 스레드에서만 기록되므로 동기화하지 않습니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 범위별 SQL 실행 집계만 담당
+ */
+public final class SqlStatementStats {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private int statementCount;
+    private long totalNanos;
+    private final Map<String, Integer> shapeCounts = new HashMap<>();
+
+    void record(String shape, long nanos) {
+        statementCount++;
+        totalNanos += nanos;
+        shapeCounts.merge(shape, 1, Integer::sum);
+    }
+
+    /**
+     * 실행 건수 (배치는 한 번으로 계산)
+     */
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    /**
+     * 총 DB 시간
+     */
+    public Duration getTotalTime() {
+        return Duration.ofNanos(totalNanos);
+    }
+
+    /**
+     * 같은 형태로 threshold 회 이상 실행된 문장 (N+1 의심, 실행 건수 역순)
+     */
+    public Map<String, Integer> getRepeatedShapes(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        shapeCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    /**
+     * 문장 형태 (문자열/숫자 리터럴과 IN 목록을 ? 로 정규화하고 공백을 정리한 SQL)
+     */
+    public static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
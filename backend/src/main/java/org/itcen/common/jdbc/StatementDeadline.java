@@ -0,0 +1,59 @@
+package org.itcen.common.jdbc;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL 문장 제한 시각 범위
+ *
+ * 범위 안에서 실행하는 문장에는 제한 시각까지 남은 시간을 JDBC 쿼리 제한 시간(초 단위 올림, 최소 1초)으로 설정합니다.
+ * 시간을 넘긴 문장은 드라이버가 DB 에 취소 요청을 보내 끝내므로, 스레드 인터럽트와 달리 커넥션을 닫지 않고 풀로 돌려줍니다.
+ * 적용은 {@link SqlStatementDataSourcePostProcessor} 의 DataSource 프록시가 담당합니다. (itcen.sql-stats.enabled=true)
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 현재 스레드의 문장 제한 시각만 관리
+ */
+public final class StatementDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private StatementDeadline() {
+    }
+
+    /**
+     * 제한 시각 범위 안에서 실행 (범위가 겹치면 이른 제한 시각 적용)
+     *
+     * @param deadlineNanos 제한 시각 ({@link System#nanoTime()} 기준)
+     */
+    public static <T> T call(long deadlineNanos, Callable<T> task) throws Exception {
+        Long previous = DEADLINE.get();
+        DEADLINE.set(previous == null ? deadlineNanos : Math.min(previous, deadlineNanos));
+        try {
+            return task.call();
+        } finally {
+            if (previous == null) {
+                DEADLINE.remove();
+            } else {
+                DEADLINE.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 실행 직전 문장에 남은 시간 적용 (이미 더 짧은 제한 시간이 있으면 유지)
+     */
+    static void apply(Statement statement) throws SQLException {
+        Long deadline = DEADLINE.get();
+        if (deadline == null || statement == null) {
+            return;
+        }
+        long remainingNanos = deadline - System.nanoTime();
+        int seconds = (int) Math.max(1, (remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        int current = statement.getQueryTimeout();
+        if (current == 0 || seconds < current) {
+            statement.setQueryTimeout(seconds);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.itcen.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 애플리케이션 캐시 조회 JFR 이벤트 (적중 시에는 조회 시간, 적재 시에는 적재 시간 포함)
+ */
+@Name("org.itcen.CacheAccess")
+@Label("Cache Access")
+@Category({"ITCEN", "Cache"})
+@Description("애플리케이션 캐시 조회 (적중/적재)")
+@StackTrace(false)
+public class CacheAccessEvent extends Event {
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Hit")
+    boolean hit;
+
+    /**
+     * 종료 후 기록 (기록 대상일 때만 필드 설정)
+     */
+    public void finish(String cache, boolean hit) {
+        end();
+        if (shouldCommit()) {
+            this.cache = cache;
+            this.hit = hit;
+            commit();
+        }
+    }
+}
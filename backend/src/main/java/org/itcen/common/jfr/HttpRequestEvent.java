@@ -0,0 +1,52 @@
+package org.itcen.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * HTTP 요청 처리 JFR 이벤트
+ */
+@Name("org.itcen.HttpRequest")
+@Label("HTTP Request")
+@Category({"ITCEN", "HTTP"})
+@Description("HTTP 요청 처리 (엔드포인트, 상태 코드, DB 시간)")
+@StackTrace(false)
+public class HttpRequestEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Endpoint")
+    @Description("URI 패턴 (매핑되지 않은 요청은 UNKNOWN)")
+    String endpoint;
+
+    @Label("Status")
+    int status;
+
+    @Label("DB Statements")
+    int dbStatements;
+
+    @Label("DB Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long dbTime;
+
+    /**
+     * 종료 후 기록 (기록 대상일 때만 필드 설정)
+     */
+    public void finish(String method, String endpoint, int status, int dbStatements, long dbTimeNanos) {
+        end();
+        if (shouldCommit()) {
+            this.method = method;
+            this.endpoint = endpoint;
+            this.status = status;
+            this.dbStatements = dbStatements;
+            this.dbTime = dbTimeNanos;
+            commit();
+        }
+    }
+}
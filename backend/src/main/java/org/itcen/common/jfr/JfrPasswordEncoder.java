@@ -0,0 +1,41 @@
+package org.itcen.common.jfr;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 해시 생성/검증마다 {@link PasswordVerificationEvent} 를 기록하는 PasswordEncoder
+ *
+ * SOLID 원칙:
+ * - Open/Closed: 기존 인코더를 감싸 계측만 추가 (Decorator)
+ */
+public class JfrPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    public JfrPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        PasswordVerificationEvent event = new PasswordVerificationEvent();
+        event.begin();
+        String encoded = delegate.encode(rawPassword);
+        event.finish("encode", false);
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        PasswordVerificationEvent event = new PasswordVerificationEvent();
+        event.begin();
+        boolean matched = delegate.matches(rawPassword, encodedPassword);
+        event.finish("matches", matched);
+        return matched;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
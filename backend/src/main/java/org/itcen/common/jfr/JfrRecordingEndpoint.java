@@ -0,0 +1,141 @@
+package org.itcen.common.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JFR 녹화 Actuator 엔드포인트 (/actuator/jfr, 관리자 전용)
+ *
+ * 에이전트 없이 운영 중인 JVM 에서 JDK Flight Recorder 녹화를 시작/중지하고 결과 파일을 내려받습니다.
+ * 한 번에 하나의 녹화만 허용하며, 시간과 크기는 설정 상한을 넘지 않습니다. 기본 설정(default)은 오버헤드 1% 미만을 목표로 하는
+ * JDK 기본 프로파일입니다.
+ *
+ * - GET /actuator/jfr: 녹화 상태
+ * - POST /actuator/jfr {"durationSeconds": 60, "maxSizeMb": 50, "settings": "default"}: 녹화 시작
+ * - GET /actuator/jfr/recording.jfr: 녹화 중지 후 .jfr 파일 다운로드
+ * - DELETE /actuator/jfr: 녹화 중지 및 폐기
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: JFR 녹화 수명 관리만 담당
+ */
+@Slf4j
+@Component
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final String RECORDING_NAME = "itcen";
+
+    private final Duration maxDuration;
+    private final long maxSizeBytes;
+
+    private Recording recording;
+    private Path dumpFile;
+
+    public JfrRecordingEndpoint(@Value("${itcen.jfr.max-duration-seconds:600}") long maxDurationSeconds,
+            @Value("${itcen.jfr.max-size-mb:200}") long maxSizeMb) {
+        this.maxDuration = Duration.ofSeconds(maxDurationSeconds);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording != null ? recording.getState().name() : "NONE");
+        if (recording != null) {
+            status.put("startTime", recording.getStartTime());
+            status.put("duration", recording.getDuration());
+            status.put("maxSize", recording.getMaxSize());
+            status.put("size", recording.getSize());
+        }
+        return status;
+    }
+
+    /**
+     * 녹화 시작 (진행 중인 녹화가 있으면 실패)
+     *
+     * @param durationSeconds 녹화 시간 (기본/최대 itcen.jfr.max-duration-seconds)
+     * @param maxSizeMb 최대 크기 (기본/최대 itcen.jfr.max-size-mb)
+     * @param settings JFR 설정 이름 (default 또는 profile, 기본 default)
+     */
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable Long durationSeconds, @Nullable Long maxSizeMb,
+            @Nullable String settings) throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new IllegalStateException("진행 중인 JFR 녹화가 있습니다.");
+        }
+        discard();
+
+        Duration duration = durationSeconds != null && durationSeconds > 0
+                ? Duration.ofSeconds(Math.min(durationSeconds, maxDuration.toSeconds()))
+                : maxDuration;
+        long maxSize = maxSizeMb != null && maxSizeMb > 0
+                ? Math.min(maxSizeMb * 1024 * 1024, maxSizeBytes)
+                : maxSizeBytes;
+
+        recording = new Recording(Configuration.getConfiguration(settings != null ? settings : "default"));
+        recording.setName(RECORDING_NAME);
+        recording.setDuration(duration);
+        recording.setMaxSize(maxSize);
+        recording.setToDisk(true);
+        recording.start();
+        log.info("JFR 녹화 시작: duration={}, maxSize={}MB", duration, maxSize / 1024 / 1024);
+        return status();
+    }
+
+    /**
+     * 녹화 중지 후 파일 반환
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized Resource recording(@Selector String fileName) throws IOException {
+        if (recording == null) {
+            throw new IllegalStateException("JFR 녹화가 없습니다.");
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        if (dumpFile == null) {
+            dumpFile = Files.createTempFile("itcen-", ".jfr");
+            recording.dump(dumpFile);
+            log.info("JFR 녹화 저장: {} ({} bytes, {} ~ {})", dumpFile, Files.size(dumpFile),
+                    recording.getStartTime(), recording.getStopTime() != null ? recording.getStopTime() : Instant.now());
+        }
+        return new FileSystemResource(dumpFile);
+    }
+
+    /**
+     * 녹화 중지 및 폐기
+     */
+    @DeleteOperation
+    @PreDestroy
+    public synchronized void discard() throws IOException {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+        if (dumpFile != null) {
+            Files.deleteIfExists(dumpFile);
+            dumpFile = null;
+        }
+    }
+}
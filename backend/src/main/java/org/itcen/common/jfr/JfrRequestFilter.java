@@ -0,0 +1,51 @@
+package org.itcen.common.jfr;
+
+import java.io.IOException;
+import org.itcen.common.jdbc.SqlStatementFilter;
+import org.itcen.common.jdbc.SqlStatementStats;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * HTTP 요청마다 {@link HttpRequestEvent} 기록
+ *
+ * {@link SqlStatementFilter} 안쪽에서 실행되어 요청의 SQL 집계(문장 수, DB 시간)를 함께 기록합니다.
+ * 녹화 중이 아니면 이벤트 객체 생성 외의 비용은 없습니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 요청 단위 JFR 이벤트 기록만 담당
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class JfrRequestFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        HttpRequestEvent event = new HttpRequestEvent();
+        if (!event.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        event.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            SqlStatementStats stats = request.getAttribute(SqlStatementFilter.STATS_ATTRIBUTE)
+                    instanceof SqlStatementStats s ? s : null;
+            event.finish(request.getMethod(), pattern != null ? pattern.toString() : UNKNOWN_URI,
+                    response.getStatus(), stats != null ? stats.getStatementCount() : 0,
+                    stats != null ? stats.getTotalTime().toNanos() : 0);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.itcen.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 비밀번호 해시/검증 JFR 이벤트 (BCrypt CPU 비용 확인용)
+ */
+@Name("org.itcen.PasswordVerification")
+@Label("Password Verification")
+@Category({"ITCEN", "Security"})
+@Description("비밀번호 해시 생성 또는 검증")
+@StackTrace(false)
+public class PasswordVerificationEvent extends Event {
+
+    @Label("Operation")
+    @Description("encode 또는 matches")
+    String operation;
+
+    @Label("Matched")
+    boolean matched;
+
+    /**
+     * 종료 후 기록 (기록 대상일 때만 필드 설정)
+     */
+    public void finish(String operation, boolean matched) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.matched = matched;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.itcen.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Repository 메서드 호출 JFR 이벤트
+ */
+@Name("org.itcen.RepositoryCall")
+@Label("Repository Call")
+@Category({"ITCEN", "Database"})
+@Description("Spring Data Repository 메서드 호출")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Method")
+    @Description("예: UserRepository.findById")
+    String method;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * 종료 후 기록 (기록 대상일 때만 필드 설정)
+     */
+    public void finish(String method, boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.method = method;
+            this.success = success;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.itcen.common.jfr;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 감시 (spring.threads.virtual.enabled=true 인 경우)
+ *
+ * synchronized 블록이나 네이티브 프레임 안에서 가상 스레드가 블로킹되면 캐리어 스레드가 함께 묶여 처리량이 떨어집니다.
+ * JFR 이벤트 스트림으로 jdk.VirtualThreadPinned 를 받아, 임계 시간 이상 고정된 경우 경고 로그를 남기고
+ * jvm.threads.virtual.pinned{frame} 타이머로 집계합니다. frame 은 스택에서 가장 가까운 애플리케이션(org.itcen) 프레임입니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 가상 스레드 고정 감지와 보고만 담당
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "org.itcen.";
+    private static final String UNKNOWN_FRAME = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+            @Value("${itcen.virtual-threads.pinned-threshold-ms:20}") long thresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        RecordingStream recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        stream = recordingStream;
+        log.info("가상 스레드 고정 감시 시작: threshold={}ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String frame = applicationFrameOf(event.getStackTrace());
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("가상 스레드 캐리어 고정 시간")
+                .tag("frame", frame)
+                .register(meterRegistry)
+                .record(event.getDuration().toNanos(), TimeUnit.NANOSECONDS);
+        log.warn("가상 스레드 고정 감지: {}ms, frame={}, thread={}", event.getDuration().toMillis(), frame,
+                event.getThread() != null ? event.getThread().getJavaName() : null);
+        if (log.isDebugEnabled() && event.getStackTrace() != null) {
+            log.debug("가상 스레드 고정 스택:\n{}", event.getStackTrace());
+        }
+    }
+
+    /**
+     * 스택에서 가장 가까운 애플리케이션 프레임 (클래스명.메서드명, 태그 카디널리티를 위해 라인 제외)
+     */
+    private static String applicationFrameOf(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return UNKNOWN_FRAME;
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APPLICATION_PACKAGE) && !type.contains("$$")) {
+                return type.substring(APPLICATION_PACKAGE.length()) + "." + frame.getMethod().getName();
+            }
+        }
+        return frames.isEmpty() ? UNKNOWN_FRAME
+                : frames.get(0).getMethod().getType().getName() + "." + frames.get(0).getMethod().getName();
+    }
+}
@@ -0,0 +1,122 @@
+package org.itcen.common.jpa;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.cache.CacheManager;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Hibernate 2차 캐시 Actuator 엔드포인트 (/actuator/hibernatecache, 관리자 전용)
+ *
+ * - GET: 전체 적중/미스 건수와 영역별 설정(최대 항목 수, 유효 시간), 현재 항목 수, 적중/미스/저장/축출 건수
+ * - DELETE (region 생략 시 전체): 영역 비우기
+ *
+ * 적중/미스 건수는 hibernate.generate_statistics=true 일 때만 집계됩니다. (기본 false, local 프로필 또는 HIBERNATE_STATISTICS=true)
+ * 같은 값이 hibernate.second.level.cache.* 메트릭으로도 노출됩니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 2차 캐시 상태 조회와 비우기만 담당
+ */
+@Component
+@Endpoint(id = "hibernatecache")
+@RequiredArgsConstructor
+public class HibernateCacheEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager hibernateJCacheManager;
+    private final HibernateCacheProperties properties;
+
+    @ReadOperation
+    public Map<String, Object> regions() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        result.put("secondLevelCacheHits", statistics.getSecondLevelCacheHitCount());
+        result.put("secondLevelCacheMisses", statistics.getSecondLevelCacheMissCount());
+        result.put("queryCacheHits", statistics.getQueryCacheHitCount());
+        result.put("queryCacheMisses", statistics.getQueryCacheMissCount());
+
+        Set<String> names = new TreeSet<>();
+        hibernateJCacheManager.getCacheNames().forEach(names::add);
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String name : names) {
+            regions.put(name, region(name, statistics));
+        }
+        result.put("regions", regions);
+        return result;
+    }
+
+    /**
+     * 영역 비우기
+     *
+     * @param region 영역 이름 (생략 시 엔티티/쿼리 영역 전체)
+     */
+    @DeleteOperation
+    public void evict(@Nullable String region) {
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        if (region == null) {
+            cache.evictAllRegions();
+        } else {
+            cache.evictRegion(region);
+        }
+    }
+
+    private Map<String, Object> region(String name, Statistics statistics) {
+        Map<String, Object> region = new LinkedHashMap<>();
+        if (!HibernateCacheRegions.UPDATE_TIMESTAMPS.equals(name)) {
+            HibernateCacheProperties.Region config = properties.regionOf(name);
+            region.put("maxSize", config.getMaxSize());
+            region.put("ttl", config.getTtl().toString());
+        }
+        region.put("size", estimatedSize(name));
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(name);
+        if (regionStatistics != null) {
+            region.put("hits", regionStatistics.getHitCount());
+            region.put("misses", regionStatistics.getMissCount());
+            region.put("puts", regionStatistics.getPutCount());
+        }
+        region.put("evictions", jcacheStatistic(name, "CacheEvictions"));
+        return region;
+    }
+
+    private long estimatedSize(String name) {
+        javax.cache.Cache<Object, Object> cache = hibernateJCacheManager.getCache(name);
+        if (cache == null) {
+            return -1;
+        }
+        try {
+            return cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class).estimatedSize();
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * JCache 통계 MBean 값 (statisticsEnabled 인 영역만 등록됨)
+     */
+    @Nullable
+    private static Object jcacheStatistic(String cacheName, String attribute) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            Set<ObjectName> names = server.queryNames(
+                    new ObjectName("javax.cache:type=CacheStatistics,Cache=" + cacheName + ",*"), null);
+            return names.isEmpty() ? null : server.getAttribute(names.iterator().next(), attribute);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.itcen.common.jpa;
+
+import java.util.List;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.itcen.common.notify.PgNotificationListener;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 변경 알림으로 Hibernate 2차 캐시 무효화
+ *
+ * 2차 캐시는 노드별 메모리에 있으므로 다른 노드의 변경, 애플리케이션 밖의 SQL/일괄 변경, 같은 테이블을 매핑한 다른 엔티티
+ * (auth.domain.Role)를 통한 변경은 Hibernate 가 알 수 없습니다. 테이블 트리거의 NOTIFY 를 받아 해당 엔티티 영역과
+ * 쿼리 결과 영역을 비웁니다. (database/init/35, 34, 42 트리거)
+ *
+ * 애플리케이션 안의 네이티브 DML 은 Hibernate 가 모든 영역을 비우므로 안전합니다. 영향 범위를 줄이려면
+ * NativeQuery#addSynchronizedEntityClass 로 대상 엔티티를 지정합니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 외부 변경에 따른 2차 캐시 무효화만 담당
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HibernateCacheEvictor {
+
+    /**
+     * 참조 데이터(공통코드, 메뉴, 메뉴권한, 역할, API권한) 변경 알림 채널 (payload: 테이블명)
+     */
+    public static final String CHANNEL = "reference_data_changed";
+
+    private static final String DEPARTMENTS_CHANNEL = "departments_changed";
+    private static final String MEETING_BODY_CHANNEL = "meeting_body_changed";
+
+    private final PgNotificationListener notificationListener;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void subscribe() {
+        notificationListener.subscribe(CHANNEL, payload -> {
+            String region = payload != null ? HibernateCacheRegions.BY_TABLE.get(payload) : null;
+            if (region != null) {
+                evict(List.of(region));
+            } else {
+                evict(HibernateCacheRegions.ENTITY_REGIONS);
+            }
+        });
+        notificationListener.subscribe(DEPARTMENTS_CHANNEL, payload -> evict(List.of(HibernateCacheRegions.DEPARTMENT)));
+        notificationListener.subscribe(MEETING_BODY_CHANNEL,
+                payload -> evict(List.of(HibernateCacheRegions.MEETING_BODY)));
+    }
+
+    private void evict(List<String> regions) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        regions.forEach(cache::evictRegion);
+        cache.evictQueryRegions();
+        log.debug("2차 캐시 무효화: regions={}", regions);
+    }
+}
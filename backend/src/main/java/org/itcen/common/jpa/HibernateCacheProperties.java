@@ -0,0 +1,53 @@
+package org.itcen.common.jpa;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 2차 캐시 영역 설정 (itcen.hibernate-cache.*)
+ *
+ * 사용 여부는 spring.jpa.properties.hibernate.cache.use_second_level_cache / use_query_cache 로 정합니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 캐시 영역 크기/만료 설정 값만 보관
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "itcen.hibernate-cache")
+public class HibernateCacheProperties {
+
+    /**
+     * 설정에 없는 영역의 기본값
+     */
+    private Region defaults = new Region();
+
+    /**
+     * 영역별 설정 (키: {@link HibernateCacheRegions} 의 영역 이름)
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    public Region regionOf(String name) {
+        return regions.getOrDefault(name, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Region {
+
+        /**
+         * 최대 항목 수 (초과 시 빈도/최근 사용 기준으로 축출)
+         */
+        private long maxSize = 1000;
+
+        /**
+         * 저장 후 유효 시간
+         */
+        private Duration ttl = Duration.ofHours(1);
+    }
+}
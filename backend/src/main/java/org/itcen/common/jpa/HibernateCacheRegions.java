@@ -0,0 +1,47 @@
+package org.itcen.common.jpa;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 영역 이름과 테이블 매핑
+ *
+ * 엔티티의 @Cache(region) 와 영역 설정(itcen.hibernate-cache.regions), DB 변경 알림에 따른 무효화가 같은 이름을 사용합니다.
+ */
+public final class HibernateCacheRegions {
+
+    public static final String COMMON_CODE = "commonCode";
+    public static final String DEPARTMENT = "department";
+    public static final String MEETING_BODY = "meetingBody";
+    public static final String MENU = "menu";
+    public static final String MENU_PERMISSION = "menuPermission";
+    public static final String ROLE = "role";
+    public static final String API_PERMISSION = "apiPermission";
+
+    /**
+     * 쿼리 캐시 결과 영역 (Hibernate 기본 이름)
+     */
+    public static final String QUERY_RESULTS = "default-query-results-region";
+
+    /**
+     * 쿼리 캐시 테이블 갱신 시각 영역 (Hibernate 기본 이름, 만료/축출되면 안 됨)
+     */
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    /**
+     * 테이블별 엔티티 영역
+     */
+    public static final Map<String, String> BY_TABLE = Map.of(
+            "common_code", COMMON_CODE,
+            "departments", DEPARTMENT,
+            "meeting_body", MEETING_BODY,
+            "menus", MENU,
+            "menu_permissions", MENU_PERMISSION,
+            "roles", ROLE,
+            "api_permissions", API_PERMISSION);
+
+    public static final List<String> ENTITY_REGIONS = List.copyOf(BY_TABLE.values());
+
+    private HibernateCacheRegions() {
+    }
+}
@@ -0,0 +1,183 @@
+package org.itcen.common.notify;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import org.itcen.common.jdbc.PrimaryRead;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 수신기
+ *
+ * 커넥션 풀과 분리된 전용 커넥션 하나로 채널을 LISTEN 하고, 수신한 알림을 채널별 구독자에게 전달합니다.
+ * 여러 노드가 동일한 채널을 구독하므로 한 노드(또는 DB 트리거)에서 발생한 변경이 모든 노드에 전파됩니다.
+ *
+ * - 연결(재연결) 직후에는 그 사이 놓친 알림이 있을 수 있으므로 모든 구독자에게 payload=null 로 전체 갱신 신호를 보냅니다.
+ * - 같은 폴링 주기에 같은 채널, 같은 payload 로 들어온 알림은 한 번만 전달합니다. (payload 가 다르면 각각 전달)
+ * - 구독자는 방금 커밋된 변경을 읽어야 하므로 읽기 복제본이 아닌 primary 를 조회합니다. ({@link PrimaryRead})
+ *
+ * SOLID 원칙: - Single Responsibility: DB 알림 수신과 전달만 담당 - Open/Closed: 채널 구독으로 새로운 캐시 추가 시 확장 가능
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PgNotificationListener {
+
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final DataSourceProperties dataSourceProperties;
+
+    private final Map<String, List<Consumer<String>>> subscribers = new ConcurrentHashMap<>();
+    private final Queue<String> pendingChannels = new ConcurrentLinkedQueue<>();
+
+    @Value("${itcen.notify.poll-timeout-ms:500}")
+    private int pollTimeoutMs;
+
+    @Value("${itcen.notify.reconnect-delay-ms:5000}")
+    private long reconnectDelayMs;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    /**
+     * 채널 구독
+     *
+     * @param channel 채널명 (소문자, 숫자, '_' 만 허용)
+     * @param handler 알림 처리기 (payload, 재연결 시에는 null)
+     */
+    public void subscribe(String channel, Consumer<String> handler) {
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException("유효하지 않은 알림 채널명입니다: " + channel);
+        }
+        subscribers.computeIfAbsent(channel, key -> {
+            pendingChannels.add(key);
+            return new CopyOnWriteArrayList<>();
+        }).add(handler);
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 수신 스레드 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::listenLoop, "pg-notify-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = openConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                pendingChannels.clear();
+                listen(connection, subscribers.keySet());
+                log.info("PostgreSQL 알림 수신 시작: channels={}", subscribers.keySet());
+
+                // 연결이 끊긴 동안 놓친 알림이 있을 수 있으므로 전체 갱신 신호 전달
+                subscribers.keySet().forEach(channel -> dispatch(channel, null));
+
+                while (running) {
+                    listen(connection, drainPendingChannels());
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications == null || notifications.length == 0) {
+                        continue;
+                    }
+                    Set<Map.Entry<String, String>> distinct = new LinkedHashSet<>();
+                    for (PGNotification notification : notifications) {
+                        distinct.add(Map.entry(notification.getName(), notification.getParameter()));
+                    }
+                    distinct.forEach(entry -> dispatch(entry.getKey(), entry.getValue()));
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("PostgreSQL 알림 수신 연결 오류, {}ms 후 재연결: {}", reconnectDelayMs,
+                        e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private Connection openConnection() throws SQLException {
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+    }
+
+    private void listen(Connection connection, Set<String> channels) throws SQLException {
+        if (channels.isEmpty()) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String channel : channels) {
+                // 채널명은 subscribe()에서 패턴 검증됨
+                statement.execute("LISTEN " + channel);
+            }
+        }
+    }
+
+    private Set<String> drainPendingChannels() {
+        if (pendingChannels.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> channels = new HashSet<>();
+        String channel;
+        while ((channel = pendingChannels.poll()) != null) {
+            channels.add(channel);
+        }
+        return channels;
+    }
+
+    private void dispatch(String channel, String payload) {
+        List<Consumer<String>> handlers = subscribers.get(channel);
+        if (handlers == null) {
+            return;
+        }
+        for (Consumer<String> handler : handlers) {
+            try {
+                PrimaryRead.run(() -> handler.accept(payload));
+            } catch (Exception e) {
+                log.error("PostgreSQL 알림 처리 중 오류 발생: channel={}", channel, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.itcen.common.util;
+
+/**
+ * 한글 문자열 유틸리티
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 한글 초성 변환/판별만 담당
+ */
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulUtils() {
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꾼 문자열 반환 (한글 음절이 아닌 문자는 그대로)
+     *
+     * 예) "홍길동" → "ㅎㄱㄷ", "김A1" → "ㄱA1"
+     */
+    public static String toChosung(String text) {
+        if (text == null) {
+            return null;
+        }
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            char c = chars[i];
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                chars[i] = CHOSUNG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG];
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 초성(호환 자모 자음 ㄱ~ㅎ)으로만 이루어진 문자열인지 확인
+     */
+    public static boolean isChosungOnly(String text) {
+        if (text == null || text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
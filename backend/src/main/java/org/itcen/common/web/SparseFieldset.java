@@ -0,0 +1,19 @@
+package org.itcen.common.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * ?fields= 로 직렬화할 속성을 고를 수 있는 응답 DTO 표시
+ *
+ * 웹 응답용 ObjectMapper 에서만 {@link SparseFieldsets#FILTER_ID} 필터가 적용되며, 캐시/Redis 직렬화에는 영향이 없습니다.
+ * ({@link SparseFieldsetIntrospector})
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SparseFieldset {
+}
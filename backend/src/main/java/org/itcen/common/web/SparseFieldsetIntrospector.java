@@ -0,0 +1,28 @@
+package org.itcen.common.web;
+
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+
+/**
+ * {@link SparseFieldset} DTO 에 속성 필터를 연결하는 Jackson 어노테이션 해석기
+ *
+ * DTO 에 @JsonFilter 를 직접 붙이면 필터 설정이 없는 다른 ObjectMapper(캐시, Redis)에서 직렬화가 실패하므로,
+ * 웹 응답용 ObjectMapper 에만 이 해석기를 등록합니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 필터 ID 연결만 담당
+ */
+public class SparseFieldsetIntrospector extends JacksonAnnotationIntrospector {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public Object findFilterId(Annotated annotated) {
+        Object filterId = super.findFilterId(annotated);
+        if (filterId == null && annotated instanceof AnnotatedClass && annotated.hasAnnotation(SparseFieldset.class)) {
+            return SparseFieldsets.FILTER_ID;
+        }
+        return filterId;
+    }
+}
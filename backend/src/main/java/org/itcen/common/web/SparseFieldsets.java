@@ -0,0 +1,114 @@
+package org.itcen.common.web;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+/**
+ * 목록 API 의 ?fields= (sparse fieldset) 처리
+ *
+ * fields 는 ',' 로 구분한 DTO 속성명입니다. DTO 에 없는 속성을 요청하면 {@link IllegalArgumentException} (400) 으로 거절합니다.
+ *
+ * - 직렬화만 줄이는 경우: {@link #select} 로 응답을 감싸면 {@link SparseFieldset} DTO 에서 고른 속성만 씁니다.
+ * - DB 조회 컬럼까지 줄이는 경우: {@link #parse} 결과를 Repository 에 넘겨 고른 컬럼만 조회합니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 필드 선택 검증과 응답 필터 구성만 담당
+ */
+public final class SparseFieldsets {
+
+    /**
+     * {@link SparseFieldset} DTO 의 Jackson 필터 ID
+     */
+    public static final String FILTER_ID = "sparseFieldset";
+
+    /**
+     * 속성 목록 조회용 (직렬화에는 사용하지 않음)
+     */
+    private static final ObjectMapper INTROSPECTION_MAPPER = new ObjectMapper();
+
+    private static final Map<Class<?>, Set<String>> PROPERTIES = new ConcurrentHashMap<>();
+
+    private SparseFieldsets() {
+    }
+
+    /**
+     * 필터를 지정하지 않은 응답의 기본 필터 (모든 속성 직렬화)
+     */
+    public static FilterProvider defaultFilters() {
+        return new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+    }
+
+    /**
+     * fields 파라미터 검증
+     *
+     * @param fields ',' 로 구분한 속성명 (비어 있으면 선택 없음)
+     * @param type 응답 DTO 타입
+     * @return 요청 순서대로 고른 속성명 (선택 없으면 null)
+     * @throws IllegalArgumentException DTO 에 없는 속성을 요청한 경우
+     */
+    public static Set<String> parse(String fields, Class<?> type) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> allowed = propertiesOf(type);
+        Set<String> selected = new LinkedHashSet<>();
+        List<String> unknown = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (allowed.contains(name)) {
+                selected.add(name);
+            } else {
+                unknown.add(name);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("알 수 없는 필드입니다: " + String.join(", ", unknown)
+                    + " (선택 가능: " + String.join(", ", allowed) + ")");
+        }
+        return selected.isEmpty() ? null : Collections.unmodifiableSet(selected);
+    }
+
+    /**
+     * 응답 본문에 필드 선택 적용 (선택 없으면 모든 속성)
+     */
+    public static MappingJacksonValue select(Object body, Set<String> fields) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        if (fields != null) {
+            value.setFilters(new SimpleFilterProvider()
+                    .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+        }
+        return value;
+    }
+
+    /**
+     * DTO 의 직렬화 속성명 (Jackson 어노테이션 반영, 선언 순서)
+     */
+    public static Set<String> propertiesOf(Class<?> type) {
+        return PROPERTIES.computeIfAbsent(type, key -> {
+            BeanDescription description = INTROSPECTION_MAPPER.getSerializationConfig()
+                    .introspect(INTROSPECTION_MAPPER.constructType(key));
+            Set<String> names = new LinkedHashSet<>();
+            for (BeanPropertyDefinition property : description.findProperties()) {
+                if (property.couldSerialize()) {
+                    names.add(property.getName());
+                }
+            }
+            return Collections.unmodifiableSet(names);
+        });
+    }
+}
@@ -0,0 +1,95 @@
+package org.itcen.config;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.itcen.common.cache.TwoTierCacheManager;
+import org.itcen.common.cache.TwoTierCacheProperties;
+import org.itcen.common.notify.PgNotificationListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * 캐시 설정 클래스
+ *
+ * Spring Cache(@Cacheable/@CacheEvict)를 로컬(Caffeine) + Redis 2단계 캐시로 연결합니다.
+ * 캐시 적용이 트랜잭션보다 바깥에서 일어나도록 순서를 가장 앞에 두어, 캐시 적중 시에는 트랜잭션(커넥션)을 시작하지 않습니다.
+ * itcen.cache.caches.*.notify-channel 이 있는 캐시는 해당 PostgreSQL 알림(DB 트리거)으로 전체 무효화합니다.
+ * @Cacheable 은 sync = true 로 선언합니다. 그래야 미스 적재가 노드별 키당 한 번으로 합쳐지고, 적재 중 무효화된 값을 보관하지 않습니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 캐시 설정만 담당
+ * - Dependency Inversion: 서비스는 Spring Cache 추상화에만 의존
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    /**
+     * 2단계 CacheManager
+     *
+     * @param properties 캐시 설정
+     * @param connectionFactory Redis 연결 팩토리 (없으면 로컬 캐시만 사용)
+     * @param notificationListener DB 변경 알림 수신기
+     * @param meterRegistry 메트릭 레지스트리
+     * @return CacheManager
+     */
+    @Bean
+    public CacheManager cacheManager(TwoTierCacheProperties properties,
+            ObjectProvider<RedisConnectionFactory> connectionFactory,
+            PgNotificationListener notificationListener, MeterRegistry meterRegistry) {
+        if (!properties.isEnabled()) {
+            return new NoOpCacheManager();
+        }
+        RedisConnectionFactory redisConnectionFactory = connectionFactory.getIfAvailable();
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(properties,
+                redisConnectionFactory != null ? cacheRedisTemplate(redisConnectionFactory) : null,
+                redisConnectionFactory, meterRegistry);
+        cacheManager.setTransactionAware(true);
+
+        properties.getCaches().forEach((name, spec) -> {
+            if (spec.getNotifyChannel() != null) {
+                notificationListener.subscribe(spec.getNotifyChannel(),
+                        payload -> cacheManager.invalidateFromNotification(name));
+            }
+        });
+        return cacheManager;
+    }
+
+    /**
+     * 캐시 값 저장용 Redis Template
+     *
+     * 타입 정보를 포함한 JSON 으로 저장하며, DTO 에 필드가 추가/삭제되어도 이전 버전이 저장한 값을 읽을 수 있도록
+     * 알 수 없는 속성은 무시합니다.
+     */
+    private static RedisTemplate<String, Object> cacheRedisTemplate(RedisConnectionFactory connectionFactory) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        objectMapper.activateDefaultTyping(
+            objectMapper.getPolymorphicTypeValidator(),
+            ObjectMapper.DefaultTyping.NON_FINAL,
+            JsonTypeInfo.As.PROPERTY
+        );
+
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new GenericJackson2JsonRedisSerializer(objectMapper));
+        template.afterPropertiesSet();
+        return template;
+    }
+}
@@ -0,0 +1,74 @@
+package org.itcen.config;
+
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.itcen.common.jpa.HibernateCacheProperties;
+import org.itcen.common.jpa.HibernateCacheRegions;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시 설정 클래스
+ *
+ * 참조 엔티티(공통코드, 부서, 회의체, 메뉴/메뉴권한, 역할/API권한)와 쿼리 캐시 영역을 JCache(Caffeine)로 미리 만들어
+ * Hibernate 에 넘깁니다. 영역별 최대 항목 수와 유효 시간은 itcen.hibernate-cache.regions 로 조정합니다.
+ * 쿼리 캐시의 테이블 갱신 시각 영역은 축출/만료되면 오래된 쿼리 결과가 쓰일 수 있으므로 제한을 두지 않습니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 2차 캐시 영역 구성만 담당
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    /**
+     * 2차 캐시용 JCache CacheManager
+     *
+     * @param properties 영역 설정
+     * @return JCache CacheManager
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateJCacheManager(HibernateCacheProperties properties) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        for (String region : HibernateCacheRegions.ENTITY_REGIONS) {
+            createRegion(cacheManager, region, properties.regionOf(region));
+        }
+        createRegion(cacheManager, HibernateCacheRegions.QUERY_RESULTS,
+                properties.regionOf(HibernateCacheRegions.QUERY_RESULTS));
+        if (cacheManager.getCache(HibernateCacheRegions.UPDATE_TIMESTAMPS) == null) {
+            CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+            timestamps.setStatisticsEnabled(true);
+            cacheManager.createCache(HibernateCacheRegions.UPDATE_TIMESTAMPS, timestamps);
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Hibernate 에 JCache CacheManager 전달
+     *
+     * @param hibernateJCacheManager 2차 캐시용 JCache CacheManager
+     * @return Hibernate 설정 커스터마이저
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateJCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateJCacheManager);
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, HibernateCacheProperties.Region region) {
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.getMaxSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -3,6 +3,8 @@ package org.itcen.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.itcen.common.web.SparseFieldsetIntrospector;
+import org.itcen.common.web.SparseFieldsets;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -52,6 +54,10 @@ public class WebConfig implements WebMvcConfigurer {
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
+
+        // ?fields= 속성 선택 (@SparseFieldset DTO, 모듈 등록 전에 해석기 지정)
+        mapper.setAnnotationIntrospector(new SparseFieldsetIntrospector());
+        mapper.setFilterProvider(SparseFieldsets.defaultFilters());
         
         // Java 8 시간 모듈 등록
         mapper.registerModule(new JavaTimeModule());
@@ -0,0 +1,64 @@
+package org.itcen.domain.approval.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결재 요청 Outbox 워커 설정 (itcen.approval.outbox.*)
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: Outbox 워커 설정 값만 보관
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "itcen.approval.outbox")
+public class ApprovalOutboxProperties {
+
+    /**
+     * 워커 실행 여부 (false 이면 요청은 적재만 되고 처리되지 않음)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 워커 스레드 수
+     */
+    private int workerThreads = 2;
+
+    /**
+     * 한 번에 가져오는 최대 건수
+     */
+    private int batchSize = 50;
+
+    /**
+     * 처리 대상이 없을 때 대기 시간(ms)
+     */
+    private long pollIntervalMs = 1000;
+
+    /**
+     * 최대 처리 시도 횟수 (초과 시 FAILED)
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * 첫 재시도 대기 시간(ms), 이후 시도마다 2배
+     */
+    private long initialBackoffMs = 1000;
+
+    /**
+     * 재시도 대기 시간 상한(ms)
+     */
+    private long maxBackoffMs = 300_000;
+
+    /**
+     * PROCESSING 임대 시간(초), 초과 시 다른 워커가 재처리
+     */
+    private long leaseSeconds = 300;
+
+    /**
+     * 대기열 지표 갱신 주기(ms)
+     */
+    private long metricsIntervalMs = 5000;
+}
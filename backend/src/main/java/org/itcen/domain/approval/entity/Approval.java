@@ -0,0 +1,83 @@
+package org.itcen.domain.approval.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.itcen.common.entity.BaseTimeEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결재 엔티티
+ *
+ * 업무별 결재 요청/처리 정보를 저장합니다. (approval 테이블)
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 결재 데이터만 담당
+ */
+@Entity
+@Table(name = "approval")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class Approval extends BaseTimeEntity {
+
+    /**
+     * 결재 상태코드: 결재 요청됨
+     */
+    public static final String STATUS_REQUESTED = "REQUESTED";
+
+    /**
+     * 결재ID (serial4)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "approval_id")
+    private Integer approvalId;
+
+    /**
+     * 관련 업무 ID (어떤 업무에 대한 결재인지 식별)
+     */
+    @Column(name = "task_id", length = 100, nullable = false)
+    private String taskId;
+
+    /**
+     * 결재 요청자 ID
+     */
+    @Column(name = "requester_id", length = 100, nullable = false)
+    private String requesterId;
+
+    /**
+     * 결재자 ID
+     */
+    @Column(name = "approver_id", length = 100)
+    private String approverId;
+
+    /**
+     * 결재 상태 코드
+     */
+    @Column(name = "appr_stat_cd", length = 20)
+    private String apprStatCd;
+
+    /**
+     * 결재 요청 일시
+     */
+    @Column(name = "request_datetime")
+    private LocalDateTime requestDatetime;
+
+    /**
+     * 결재 완료 일시
+     */
+    @Column(name = "approval_datetime")
+    private LocalDateTime approvalDatetime;
+
+    /**
+     * 결재 메모
+     */
+    @Column(name = "comments", columnDefinition = "TEXT")
+    private String comments;
+}
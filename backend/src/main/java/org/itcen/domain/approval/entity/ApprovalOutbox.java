@@ -0,0 +1,102 @@
+package org.itcen.domain.approval.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.itcen.common.entity.BaseTimeEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결재 요청 Outbox 엔티티
+ *
+ * 업무 트랜잭션에서 기록한 결재 요청을 백그라운드 워커가 처리할 때까지 보관합니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 결재 요청 Outbox 데이터만 담당
+ * - Open/Closed: aggregateType 으로 새로운 업무 추가 시 확장 가능
+ */
+@Entity
+@Table(name = "approval_outbox")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ApprovalOutbox extends BaseTimeEntity {
+
+    /**
+     * Outbox ID (Primary Key)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    /**
+     * 업무 구분 (예: HOD_IC_ITEM)
+     */
+    @Column(name = "aggregate_type", length = 50, nullable = false)
+    private String aggregateType;
+
+    /**
+     * 업무 ID
+     */
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    /**
+     * 결재 요청자 ID
+     */
+    @Column(name = "requester_id", length = 100, nullable = false)
+    private String requesterId;
+
+    /**
+     * 처리상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    @Builder.Default
+    private ApprovalOutboxStatus status = ApprovalOutboxStatus.PENDING;
+
+    /**
+     * 처리 시도 횟수
+     */
+    @Column(name = "attempt_count", nullable = false)
+    @Builder.Default
+    private Integer attemptCount = 0;
+
+    /**
+     * 다음 처리 가능 일시
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 처리 시작 일시
+     */
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    /**
+     * 생성된 결재 ID
+     */
+    @Column(name = "approval_id")
+    private Long approvalId;
+
+    /**
+     * 마지막 오류 내용
+     */
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    /**
+     * 처리 완료 일시
+     */
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,45 @@
+package org.itcen.domain.approval.entity;
+
+/**
+ * 결재 요청 Outbox 처리상태 열거형
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: Outbox 처리상태 값만 정의
+ * - Open/Closed: 새로운 상태 추가 시 확장 가능
+ */
+public enum ApprovalOutboxStatus {
+    /**
+     * 처리 대기 (재시도 대기 포함)
+     */
+    PENDING("처리대기"),
+
+    /**
+     * 워커 처리 중
+     */
+    PROCESSING("처리중"),
+
+    /**
+     * 처리 완료
+     */
+    DONE("처리완료"),
+
+    /**
+     * 최대 재시도 초과
+     */
+    FAILED("처리실패"),
+
+    /**
+     * 대상 업무가 없거나 이미 결재 요청되어 폐기
+     */
+    DISCARDED("폐기");
+
+    private final String description;
+
+    ApprovalOutboxStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
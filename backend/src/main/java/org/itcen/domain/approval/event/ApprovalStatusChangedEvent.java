@@ -0,0 +1,51 @@
+package org.itcen.domain.approval.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.itcen.domain.approval.entity.ApprovalOutboxStatus;
+
+/**
+ * 결재 요청 처리상태 변경 이벤트
+ *
+ * Outbox 워커가 결재 요청 처리를 커밋한 뒤 발행합니다. (DONE, FAILED, DISCARDED)
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 결재 상태 변경 정보 전달만 담당
+ * - Open/Closed: 리스너 추가로 후속 처리(알림 등) 확장 가능
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ApprovalStatusChangedEvent {
+
+    /**
+     * Outbox ID
+     */
+    private final Long outboxId;
+
+    /**
+     * 업무 구분
+     */
+    private final String aggregateType;
+
+    /**
+     * 업무 ID
+     */
+    private final Long aggregateId;
+
+    /**
+     * 생성된 결재 ID (DONE 인 경우)
+     */
+    private final Long approvalId;
+
+    /**
+     * 결재 상태 코드 (DONE 인 경우)
+     */
+    private final String apprStatCd;
+
+    /**
+     * Outbox 처리상태
+     */
+    private final ApprovalOutboxStatus status;
+}
@@ -0,0 +1,77 @@
+package org.itcen.domain.approval.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.itcen.domain.approval.entity.ApprovalOutbox;
+import org.itcen.domain.approval.entity.ApprovalOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 결재 요청 Outbox Repository
+ *
+ * SOLID 원칙: - Single Responsibility: 결재 요청 Outbox 데이터 액세스만 담당 - Dependency Inversion: 구현체에 의존하지 않고
+ * 인터페이스에 의존
+ */
+@Repository
+public interface ApprovalOutboxRepository extends JpaRepository<ApprovalOutbox, Long> {
+
+    /**
+     * 처리 대상 Outbox 행을 잠그고 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * 처리 시각이 도래한 PENDING 행과, 임대 시간이 지난 PROCESSING 행(워커 비정상 종료)을 함께 가져옵니다. 여러 워커/노드가 동시에
+     * 호출해도 서로 다른 행을 가져가도록 이미 잠긴 행은 건너뜁니다.
+     *
+     * @param now 현재 시각
+     * @param leaseExpiredBefore 이 시각 이전에 처리 시작된 PROCESSING 행은 재처리
+     * @param limit 최대 건수
+     * @return 잠긴 Outbox 행 ID 목록
+     */
+    @Query(value = """
+                SELECT o.outbox_id FROM approval_outbox o
+                WHERE (o.status = 'PENDING' AND o.next_attempt_at <= :now)
+                   OR (o.status = 'PROCESSING' AND o.locked_at < :leaseExpiredBefore)
+                ORDER BY o.next_attempt_at, o.outbox_id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            """,
+            nativeQuery = true)
+    List<Long> lockNextBatch(@Param("now") LocalDateTime now,
+            @Param("leaseExpiredBefore") LocalDateTime leaseExpiredBefore, @Param("limit") int limit);
+
+    /**
+     * 잠근 Outbox 행을 PROCESSING 으로 표시 (단일 UPDATE 문)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ApprovalOutbox o SET o.status = org.itcen.domain.approval.entity.ApprovalOutboxStatus.PROCESSING, "
+            + "o.lockedAt = :now, o.attemptCount = o.attemptCount + 1 WHERE o.outboxId IN :ids")
+    int markProcessing(@Param("ids") Collection<Long> outboxIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 처리 대기/처리 중인 업무 ID 조회
+     *
+     * @param aggregateType 업무 구분
+     * @param aggregateIds 업무 ID 목록
+     * @return 결재 요청이 진행 중인 업무 ID 목록
+     */
+    @Query("SELECT o.aggregateId FROM ApprovalOutbox o WHERE o.aggregateType = :aggregateType "
+            + "AND o.aggregateId IN :aggregateIds AND o.status IN :statuses")
+    List<Long> findAggregateIdsByStatusIn(@Param("aggregateType") String aggregateType,
+            @Param("aggregateIds") Collection<Long> aggregateIds,
+            @Param("statuses") Collection<ApprovalOutboxStatus> statuses);
+
+    /**
+     * 상태별 건수 (대기열 길이 지표용)
+     */
+    long countByStatusIn(Collection<ApprovalOutboxStatus> statuses);
+
+    /**
+     * 가장 오래된 처리 대기 요청의 생성 일시 (처리 지연 지표용)
+     */
+    @Query("SELECT MIN(o.createdAt) FROM ApprovalOutbox o WHERE o.status IN :statuses")
+    LocalDateTime findOldestCreatedAtByStatusIn(@Param("statuses") Collection<ApprovalOutboxStatus> statuses);
+}
@@ -0,0 +1,14 @@
+package org.itcen.domain.approval.repository;
+
+import org.itcen.domain.approval.entity.Approval;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 결재 Repository
+ *
+ * SOLID 원칙: - Single Responsibility: 결재 데이터 액세스만 담당 - Dependency Inversion: 구현체에 의존하지 않고 인터페이스에 의존
+ */
+@Repository
+public interface ApprovalRepository extends JpaRepository<Approval, Integer> {
+}
@@ -0,0 +1,45 @@
+package org.itcen.domain.approval.service;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 결재 요청 Outbox 서비스 인터페이스
+ *
+ * 업무 트랜잭션 안에서 결재 요청을 Outbox 에 적재합니다. 실제 결재 생성은 ApprovalOutboxWorker 가 비동기로 처리합니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 결재 요청 적재/조회만 담당
+ * - Interface Segregation: 업무 도메인에 필요한 메서드만 정의
+ * - Dependency Inversion: 구현체가 아닌 인터페이스에 의존
+ */
+public interface ApprovalOutboxService {
+
+    /**
+     * 결재 요청 적재 (호출자 트랜잭션에 참여)
+     *
+     * @param aggregateType 업무 구분
+     * @param aggregateId 업무 ID
+     * @param requesterId 결재 요청자 ID
+     * @return Outbox ID
+     */
+    Long enqueue(String aggregateType, Long aggregateId, String requesterId);
+
+    /**
+     * 결재 요청 일괄 적재 (호출자 트랜잭션에 참여, JDBC 배치 INSERT)
+     *
+     * @param aggregateType 업무 구분
+     * @param aggregateIds 업무 ID 목록
+     * @param requesterId 결재 요청자 ID
+     */
+    void enqueueAll(String aggregateType, Collection<Long> aggregateIds, String requesterId);
+
+    /**
+     * 결재 요청이 처리 대기/처리 중인 업무 ID 조회
+     *
+     * @param aggregateType 업무 구분
+     * @param aggregateIds 업무 ID 목록
+     * @return 처리 대기/처리 중인 업무 ID
+     */
+    Set<Long> findInFlightAggregateIds(String aggregateType, Collection<Long> aggregateIds);
+}
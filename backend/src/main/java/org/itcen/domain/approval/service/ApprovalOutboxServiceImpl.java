@@ -0,0 +1,86 @@
+package org.itcen.domain.approval.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.itcen.domain.approval.entity.ApprovalOutbox;
+import org.itcen.domain.approval.entity.ApprovalOutboxStatus;
+import org.itcen.domain.approval.repository.ApprovalOutboxRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 결재 요청 Outbox 서비스 구현체
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 결재 요청 적재/조회만 담당
+ * - Liskov Substitution: ApprovalOutboxService 인터페이스를 안전하게 구현
+ * - Dependency Inversion: Repository 인터페이스에 의존
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ApprovalOutboxServiceImpl implements ApprovalOutboxService {
+
+    /**
+     * 처리 대기/처리 중 상태 (uk_approval_outbox_active 인덱스 조건과 동일)
+     */
+    static final List<ApprovalOutboxStatus> IN_FLIGHT_STATUSES =
+            List.of(ApprovalOutboxStatus.PENDING, ApprovalOutboxStatus.PROCESSING);
+
+    private static final String INSERT_SQL = "INSERT INTO approval_outbox "
+            + "(aggregate_type, aggregate_id, requester_id, status, attempt_count, next_attempt_at, "
+            + "created_id, updated_id, created_at, updated_at) VALUES (?, ?, ?, 'PENDING', 0, ?, ?, ?, ?, ?)";
+
+    private final ApprovalOutboxRepository approvalOutboxRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public Long enqueue(String aggregateType, Long aggregateId, String requesterId) {
+        ApprovalOutbox outbox = ApprovalOutbox.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .requesterId(requesterId)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        ApprovalOutbox saved = approvalOutboxRepository.save(outbox);
+
+        log.debug("결재 요청 적재: outboxId={}, {}:{}", saved.getOutboxId(), aggregateType, aggregateId);
+        return saved.getOutboxId();
+    }
+
+    @Override
+    @Transactional
+    public void enqueueAll(String aggregateType, Collection<Long> aggregateIds, String requesterId) {
+        if (aggregateIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(aggregateIds.size());
+        for (Long aggregateId : aggregateIds) {
+            args.add(new Object[] {aggregateType, aggregateId, requesterId, now, requesterId, requesterId,
+                    now, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+
+        log.debug("결재 요청 일괄 적재: {} {}건", aggregateType, aggregateIds.size());
+    }
+
+    @Override
+    public Set<Long> findInFlightAggregateIds(String aggregateType, Collection<Long> aggregateIds) {
+        if (aggregateIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(approvalOutboxRepository.findAggregateIdsByStatusIn(aggregateType, aggregateIds,
+                IN_FLIGHT_STATUSES));
+    }
+}
@@ -0,0 +1,297 @@
+package org.itcen.domain.approval.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.itcen.domain.approval.config.ApprovalOutboxProperties;
+import org.itcen.domain.approval.entity.Approval;
+import org.itcen.domain.approval.entity.ApprovalOutbox;
+import org.itcen.domain.approval.entity.ApprovalOutboxStatus;
+import org.itcen.domain.approval.event.ApprovalStatusChangedEvent;
+import org.itcen.domain.approval.repository.ApprovalOutboxRepository;
+import org.itcen.domain.approval.repository.ApprovalRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 결재 요청 Outbox 처리 워커
+ *
+ * approval_outbox 를 주기적으로 폴링하여 배치 단위로 결재를 생성하고 업무 테이블에 결재 ID 를 반영합니다.
+ *
+ * - 배치 선점은 짧은 트랜잭션에서 FOR UPDATE SKIP LOCKED 로 수행하므로 여러 워커/노드가 같은 행을 처리하지 않습니다.
+ * - 각 요청은 별도 트랜잭션에서 처리하여 한 건의 실패가 배치 전체를 롤백하지 않습니다.
+ * - 실패 시 지수 backoff 로 재시도하고, 최대 시도 횟수를 넘기면 FAILED 로 남깁니다.
+ * - 커밋 이후 ApprovalStatusChangedEvent 를 발행합니다.
+ *
+ * 지표: approval.outbox.queue.depth, approval.outbox.oldest.age, approval.outbox.processing.lag,
+ * approval.outbox.processed(result)
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: Outbox 처리 흐름만 담당 (업무 반영은 ApprovalTargetHandler 에 위임)
+ * - Open/Closed: 업무별 처리기 추가로 확장 가능
+ */
+@Slf4j
+@Component
+public class ApprovalOutboxWorker {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ApprovalOutboxRepository approvalOutboxRepository;
+    private final ApprovalRepository approvalRepository;
+    private final ApprovalOutboxProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, ApprovalTargetHandler> handlers;
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+    private final Timer processingLag;
+    private final MeterRegistry meterRegistry;
+
+    private volatile boolean running;
+    private ExecutorService workers;
+    private ScheduledExecutorService metricsScheduler;
+
+    public ApprovalOutboxWorker(ApprovalOutboxRepository approvalOutboxRepository,
+            ApprovalRepository approvalRepository, ApprovalOutboxProperties properties,
+            ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+            List<ApprovalTargetHandler> targetHandlers, MeterRegistry meterRegistry) {
+        this.approvalOutboxRepository = approvalOutboxRepository;
+        this.approvalRepository = approvalRepository;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.handlers = targetHandlers.stream()
+                .collect(Collectors.toMap(ApprovalTargetHandler::aggregateType, Function.identity()));
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("approval.outbox.queue.depth", queueDepth, AtomicLong::get)
+                .description("처리 대기/처리 중인 결재 요청 건수")
+                .register(meterRegistry);
+        Gauge.builder("approval.outbox.oldest.age", oldestPendingAgeSeconds, AtomicLong::get)
+                .description("가장 오래된 처리 대기 결재 요청의 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.processingLag = Timer.builder("approval.outbox.processing.lag")
+                .description("결재 요청 적재부터 처리 완료까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 워커 스레드 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running || !properties.isEnabled()) {
+            return;
+        }
+        running = true;
+
+        int threads = Math.max(1, properties.getWorkerThreads());
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "approval-outbox-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < threads; i++) {
+            workers.execute(this::pollLoop);
+        }
+
+        metricsScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "approval-outbox-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        metricsScheduler.scheduleWithFixedDelay(this::refreshQueueMetrics, 0,
+                properties.getMetricsIntervalMs(), TimeUnit.MILLISECONDS);
+
+        log.info("결재 요청 Outbox 워커 시작: threads={}, batchSize={}, handlers={}", threads,
+                properties.getBatchSize(), handlers.keySet());
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (workers != null) {
+            workers.shutdownNow();
+            workers = null;
+        }
+        if (metricsScheduler != null) {
+            metricsScheduler.shutdownNow();
+            metricsScheduler = null;
+        }
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                int processed = processNextBatch();
+                if (processed < properties.getBatchSize()) {
+                    Thread.sleep(properties.getPollIntervalMs());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("결재 요청 Outbox 폴링 중 오류 발생", e);
+                try {
+                    Thread.sleep(properties.getPollIntervalMs());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 처리 대상 배치를 선점하여 한 건씩 처리
+     *
+     * @return 선점한 건수
+     */
+    int processNextBatch() {
+        List<Long> outboxIds = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = approvalOutboxRepository.lockNextBatch(now,
+                    now.minusSeconds(properties.getLeaseSeconds()), properties.getBatchSize());
+            if (!ids.isEmpty()) {
+                approvalOutboxRepository.markProcessing(ids, now);
+            }
+            return ids;
+        });
+        if (outboxIds == null || outboxIds.isEmpty()) {
+            return 0;
+        }
+
+        for (Long outboxId : outboxIds) {
+            if (!running) {
+                break;
+            }
+            processOne(outboxId);
+        }
+        return outboxIds.size();
+    }
+
+    private void processOne(Long outboxId) {
+        ApprovalStatusChangedEvent event;
+        try {
+            event = transactionTemplate.execute(status -> process(outboxId));
+        } catch (Exception e) {
+            log.warn("결재 요청 처리 실패: outboxId={}, {}", outboxId, e.getMessage());
+            event = transactionTemplate.execute(status -> scheduleRetry(outboxId, e));
+        }
+        if (event != null) {
+            meterRegistry.counter("approval.outbox.processed", "result", event.getStatus().name()).increment();
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    private ApprovalStatusChangedEvent process(Long outboxId) {
+        ApprovalOutbox outbox = approvalOutboxRepository.findById(outboxId).orElse(null);
+        if (outbox == null || outbox.getStatus() != ApprovalOutboxStatus.PROCESSING) {
+            return null;
+        }
+
+        ApprovalTargetHandler handler = handlers.get(outbox.getAggregateType());
+        if (handler == null) {
+            return complete(outbox, ApprovalOutboxStatus.FAILED, null,
+                    "결재 대상 처리기가 없습니다: " + outbox.getAggregateType());
+        }
+        if (!handler.lockIfRequestable(outbox.getAggregateId())) {
+            return complete(outbox, ApprovalOutboxStatus.DISCARDED, null, "대상이 없거나 이미 결재 요청된 항목입니다.");
+        }
+
+        Approval approval = approvalRepository.save(Approval.builder()
+                .taskId(outbox.getAggregateType() + ":" + outbox.getAggregateId())
+                .requesterId(outbox.getRequesterId())
+                .apprStatCd(Approval.STATUS_REQUESTED)
+                .requestDatetime(LocalDateTime.now())
+                .build());
+        Long approvalId = approval.getApprovalId().longValue();
+        handler.assignApproval(outbox.getAggregateId(), approvalId, outbox.getRequesterId());
+
+        processingLag.record(Duration.between(outbox.getCreatedAt(), LocalDateTime.now()));
+        return complete(outbox, ApprovalOutboxStatus.DONE, approvalId, null);
+    }
+
+    private ApprovalStatusChangedEvent scheduleRetry(Long outboxId, Exception cause) {
+        ApprovalOutbox outbox = approvalOutboxRepository.findById(outboxId).orElse(null);
+        if (outbox == null || outbox.getStatus() != ApprovalOutboxStatus.PROCESSING) {
+            return null;
+        }
+        String error = truncate(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+        if (outbox.getAttemptCount() >= properties.getMaxAttempts()) {
+            log.error("결재 요청 최대 재시도 초과: outboxId={}, {}:{}", outboxId, outbox.getAggregateType(),
+                    outbox.getAggregateId());
+            return complete(outbox, ApprovalOutboxStatus.FAILED, null, error);
+        }
+
+        outbox.setStatus(ApprovalOutboxStatus.PENDING);
+        outbox.setLockedAt(null);
+        outbox.setLastError(error);
+        outbox.setNextAttemptAt(LocalDateTime.now().plus(backoff(outbox.getAttemptCount())));
+        return null;
+    }
+
+    private ApprovalStatusChangedEvent complete(ApprovalOutbox outbox, ApprovalOutboxStatus status,
+            Long approvalId, String error) {
+        outbox.setStatus(status);
+        outbox.setApprovalId(approvalId);
+        outbox.setLockedAt(null);
+        outbox.setLastError(truncate(error));
+        outbox.setProcessedAt(LocalDateTime.now());
+        return new ApprovalStatusChangedEvent(outbox.getOutboxId(), outbox.getAggregateType(),
+                outbox.getAggregateId(), approvalId,
+                status == ApprovalOutboxStatus.DONE ? Approval.STATUS_REQUESTED : null, status);
+    }
+
+    /**
+     * 지수 backoff (상한 적용, 동시 재시도 분산을 위해 최대 20% 지터)
+     */
+    private Duration backoff(int attempt) {
+        long base = properties.getInitialBackoffMs() << Math.min(Math.max(attempt - 1, 0), 20);
+        long capped = Math.min(base, properties.getMaxBackoffMs());
+        long jitter = ThreadLocalRandom.current().nextLong(capped / 5 + 1);
+        return Duration.ofMillis(capped + jitter);
+    }
+
+    private void refreshQueueMetrics() {
+        try {
+            queueDepth.set(approvalOutboxRepository.countByStatusIn(ApprovalOutboxServiceImpl.IN_FLIGHT_STATUSES));
+            LocalDateTime oldest = approvalOutboxRepository
+                    .findOldestCreatedAtByStatusIn(ApprovalOutboxServiceImpl.IN_FLIGHT_STATUSES);
+            oldestPendingAgeSeconds.set(oldest == null ? 0
+                    : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+        } catch (Exception e) {
+            log.debug("결재 요청 Outbox 지표 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String truncate(String value) {
+        if (value == null || value.length() <= MAX_ERROR_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_ERROR_LENGTH);
+    }
+}
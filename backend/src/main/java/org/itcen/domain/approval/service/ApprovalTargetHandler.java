@@ -0,0 +1,35 @@
+package org.itcen.domain.approval.service;
+
+/**
+ * 결재 대상 업무 처리기
+ *
+ * Outbox 워커가 결재를 생성한 뒤 업무 테이블에 결재 ID 를 반영할 때 사용합니다. 업무 도메인별로 구현하여 빈으로 등록합니다.
+ *
+ * SOLID 원칙:
+ * - Open/Closed: 새로운 결재 대상 업무는 구현체 추가만으로 확장
+ * - Dependency Inversion: 결재 도메인이 업무 도메인 구현에 의존하지 않음
+ */
+public interface ApprovalTargetHandler {
+
+    /**
+     * 처리하는 업무 구분 (approval_outbox.aggregate_type)
+     */
+    String aggregateType();
+
+    /**
+     * 대상 업무 행을 잠그고 결재 요청 가능 여부 확인
+     *
+     * @param aggregateId 업무 ID
+     * @return 대상이 존재하고 아직 결재 ID 가 없으면 true
+     */
+    boolean lockIfRequestable(Long aggregateId);
+
+    /**
+     * 업무 행에 결재 ID 반영
+     *
+     * @param aggregateId 업무 ID
+     * @param approvalId 결재 ID
+     * @param requesterId 결재 요청자 ID
+     */
+    void assignApproval(Long aggregateId, Long approvalId, String requesterId);
+}
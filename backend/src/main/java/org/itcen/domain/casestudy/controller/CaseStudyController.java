@@ -24,4 +24,9 @@ public class CaseStudyController {
         List<CaseStudyDto> caseStudies = caseStudyService.getRecentCaseStudies(limit);
         return ApiResponse.success(caseStudies);
     }
+
+    @GetMapping("/{caseStudyId}")
+    public ApiResponse<CaseStudyDto> getCaseStudy(@PathVariable Long caseStudyId) {
+        return ApiResponse.success(caseStudyService.getCaseStudy(caseStudyId));
+    }
 }
\ No newline at end of file
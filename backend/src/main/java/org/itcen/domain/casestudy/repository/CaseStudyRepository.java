@@ -1,7 +1,11 @@
 package org.itcen.domain.casestudy.repository;
 
+import java.util.List;
+import org.itcen.domain.casestudy.dto.CaseStudyDto;
 import org.itcen.domain.casestudy.entity.CaseStudy;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,5 +13,21 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface CaseStudyRepository extends JpaRepository<CaseStudy, Long> {
-    // 필요시 커스텀 쿼리 추가
-}
\ No newline at end of file
+
+    /**
+     * 최근 목록에 싣는 본문 미리보기 길이 (글자 수)
+     */
+    int CONTENT_PREVIEW_LENGTH = 200;
+
+    /**
+     * 최근 케이스스터디 목록 (본문은 앞 {@value #CONTENT_PREVIEW_LENGTH}자 미리보기, 생성일시 역순 상위 N건)
+     *
+     * idx_case_study_recent (created_at DESC, case_study_id DESC) 를 앞에서부터 N건만 읽습니다.
+     * (database/init/40.create_index_case_study_recent.sql)
+     */
+    @Query("SELECT new org.itcen.domain.casestudy.dto.CaseStudyDto("
+            + "c.caseStudyId, c.caseStudyTitle, SUBSTRING(c.caseStudyContent, 1, " + CONTENT_PREVIEW_LENGTH + "), "
+            + "c.createdId, c.updatedId, c.createdAt, c.updatedAt) "
+            + "FROM CaseStudy c ORDER BY c.createdAt DESC, c.caseStudyId DESC")
+    List<CaseStudyDto> findRecent(Pageable pageable);
+}
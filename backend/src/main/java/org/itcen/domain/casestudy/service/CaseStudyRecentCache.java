@@ -0,0 +1,57 @@
+package org.itcen.domain.casestudy.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import org.itcen.common.cache.TtlCache;
+import org.itcen.common.notify.PgNotificationListener;
+import org.itcen.domain.casestudy.dto.CaseStudyDto;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 최근 케이스스터디 목록 캐시
+ *
+ * 랜딩 페이지에서 호출되는 최근 목록을 건수별로 {@value #TTL_SECONDS}초 동안 재사용합니다.
+ * case_study 가 변경되면 DB 트리거가 {@value #CHANNEL} 채널로 NOTIFY 하고, 모든 노드가 캐시를 비웁니다.
+ * (database/init/41.create_trigger_case_study_notify.sql)
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 최근 케이스스터디 목록 캐싱만 담당
+ */
+@Component
+@RequiredArgsConstructor
+public class CaseStudyRecentCache {
+
+    /**
+     * 케이스스터디 변경 알림 채널
+     */
+    public static final String CHANNEL = "case_study_changed";
+
+    private static final long TTL_SECONDS = 60;
+
+    private final PgNotificationListener notificationListener;
+
+    private final TtlCache<Integer, List<CaseStudyDto>> recent =
+            new TtlCache<>("caseStudy.recent", Duration.ofSeconds(TTL_SECONDS), 100);
+
+    @PostConstruct
+    void subscribe() {
+        notificationListener.subscribe(CHANNEL, payload -> recent.clear());
+    }
+
+    /**
+     * 건수별 최근 목록 (없거나 만료되었으면 적재 함수로 다시 적재)
+     */
+    public List<CaseStudyDto> getRecent(int limit, Supplier<List<CaseStudyDto>> loader) {
+        return recent.get(limit, loader);
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void clear() {
+        recent.clear();
+    }
+}
@@ -7,6 +7,14 @@ import java.util.List;
  * CaseStudy 비즈니스 로직 추상화
  */
 public interface CaseStudyService {
+    /**
+     * 최근 케이스스터디 목록 (본문은 앞부분 미리보기)
+     */
     List<CaseStudyDto> getRecentCaseStudies(int limit);
 
-}
\ No newline at end of file
+    /**
+     * 케이스스터디 상세 (본문 포함)
+     */
+    CaseStudyDto getCaseStudy(Long caseStudyId);
+
+}
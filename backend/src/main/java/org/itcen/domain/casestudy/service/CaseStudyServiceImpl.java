@@ -4,28 +4,54 @@ import lombok.RequiredArgsConstructor;
 import org.itcen.domain.casestudy.dto.CaseStudyDto;
 import org.itcen.domain.casestudy.entity.CaseStudy;
 import org.itcen.domain.casestudy.repository.CaseStudyRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * CaseStudy 비즈니스 로직 구현
  * 서비스 계층의 책임만 가짐
+ *
+ * 단건 조회는 캐시(로컬 + Redis)를 사용하며, case_study 가 변경되면 DB 트리거의
+ * case_study_changed 알림으로 모든 노드가 무효화합니다. (itcen.cache.caches.caseStudies)
  */
 @Service
 @RequiredArgsConstructor
 public class CaseStudyServiceImpl implements CaseStudyService {
 
+    /**
+     * 최근 목록 최대 건수
+     */
+    private static final int MAX_RECENT_LIMIT = 50;
+
+    /**
+     * 케이스스터디 단건 캐시 이름
+     */
+    public static final String CACHE_NAME = "caseStudies";
+
     private final CaseStudyRepository caseStudyRepository;
+    private final CaseStudyRecentCache recentCache;
 
     @Override
     public List<CaseStudyDto> getRecentCaseStudies(int limit) {
-        return caseStudyRepository.findAll().stream()
-                .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                .limit(limit)
+        if (limit <= 0) {
+            return List.of();
+        }
+        int size = Math.min(limit, MAX_RECENT_LIMIT);
+        return recentCache.getRecent(size,
+                () -> List.copyOf(caseStudyRepository.findRecent(PageRequest.of(0, size))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CACHE_NAME, key = "#caseStudyId", sync = true)
+    public CaseStudyDto getCaseStudy(Long caseStudyId) {
+        return caseStudyRepository.findById(caseStudyId)
                 .map(this::convertToDto)
-                .collect(Collectors.toList());
+                .orElseThrow(() -> new IllegalArgumentException("케이스스터디가 존재하지 않습니다."));
     }
 
     private CaseStudyDto convertToDto(CaseStudy entity) {
@@ -39,4 +65,4 @@ public class CaseStudyServiceImpl implements CaseStudyService {
                 .updatedAt(entity.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,9 @@
 package org.itcen.domain.common.entity;
 
 import org.itcen.common.entity.BaseTimeEntity;
+import org.itcen.common.jpa.HibernateCacheRegions;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -26,6 +29,8 @@ import java.util.Objects;
  * - Immutable Entity: 생성 후 수정을 제한하여 데이터 일관성 보장
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheRegions.COMMON_CODE)
 @Table(name = "common_code")
 @IdClass(CommonCodeId.class)
 @Getter
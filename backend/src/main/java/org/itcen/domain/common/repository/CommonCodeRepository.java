@@ -3,6 +3,9 @@ package org.itcen.domain.common.repository;
 import org.itcen.domain.common.entity.CommonCode;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -31,6 +34,7 @@ public interface CommonCodeRepository extends JpaRepository<CommonCode, CommonCo
      * @param groupCode 그룹코드
      * @return 해당 그룹의 공통코드 목록 (정렬순서 기준 정렬)
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT cc FROM CommonCode cc WHERE cc.groupCode = :groupCode ORDER BY cc.sortOrder ASC, cc.code ASC")
     List<CommonCode> findByGroupCodeOrderBySortOrderAscCodeAsc(@Param("groupCode") String groupCode);
 
@@ -41,6 +45,7 @@ public interface CommonCodeRepository extends JpaRepository<CommonCode, CommonCo
      * @param useYn 사용여부
      * @return 조건에 맞는 공통코드 목록
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT cc FROM CommonCode cc WHERE cc.groupCode = :groupCode AND cc.useYn = :useYn ORDER BY cc.sortOrder ASC, cc.code ASC")
     List<CommonCode> findByGroupCodeAndUseYnOrderBySortOrderAscCodeAsc(
             @Param("groupCode") String groupCode, 
@@ -63,6 +68,7 @@ public interface CommonCodeRepository extends JpaRepository<CommonCode, CommonCo
      * @param code 코드
      * @return 조건에 맞는 공통코드
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<CommonCode> findByGroupCodeAndCode(String groupCode, String code);
 
     /**
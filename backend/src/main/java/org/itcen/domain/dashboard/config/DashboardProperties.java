@@ -0,0 +1,40 @@
+package org.itcen.domain.dashboard.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대시보드 항목 조회 설정 (itcen.dashboard.*)
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 대시보드 설정 값만 보관
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "itcen.dashboard")
+public class DashboardProperties {
+
+    /**
+     * 항목별 기본 제한 시간(ms), 요청 시작부터 계산
+     */
+    private long timeoutMs = 1500;
+
+    /**
+     * 항목별 제한 시간(ms) (항목명 → 제한 시간, 없으면 timeoutMs)
+     */
+    private Map<String, Long> partTimeoutsMs = new LinkedHashMap<>();
+
+    /**
+     * 목록 항목 최대 건수
+     */
+    private int maxLimit = 20;
+
+    public long timeoutOf(String part) {
+        return partTimeoutsMs.getOrDefault(part, timeoutMs);
+    }
+}
@@ -0,0 +1,45 @@
+package org.itcen.domain.dashboard.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.itcen.common.dto.ApiResponse;
+import org.itcen.domain.dashboard.dto.DashboardDto;
+import org.itcen.domain.dashboard.service.DashboardService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 첫 화면 대시보드 API 컨트롤러
+ *
+ * 첫 화면이 따로 호출하던 미답변 Q&A 개수, 최근/인기 Q&A, 최근 Case Study, 원장차수 목록, 메뉴, 공통코드를 한 번의 요청으로
+ * 조회합니다. 항목별 소요 시간은 Server-Timing 헤더로 내려줍니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 대시보드 API 요청 처리만 담당
+ */
+@RestController
+@RequestMapping("/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * 대시보드 조회 (일부 항목 실패 시에도 200, 실패 항목은 failedParts)
+     *
+     * @param qnaLimit 최근/인기 Q&A 건수
+     * @param caseStudyLimit 최근 Case Study 건수
+     * @return 대시보드
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<DashboardDto>> getDashboard(
+            @RequestParam(value = "qnaLimit", defaultValue = "10") int qnaLimit,
+            @RequestParam(value = "caseStudyLimit", defaultValue = "5") int caseStudyLimit) {
+        DashboardService.Dashboard result = dashboardService.getDashboard(qnaLimit, caseStudyLimit);
+        return ResponseEntity.ok()
+                .header("Server-Timing", result.serverTiming())
+                .body(ApiResponse.success(result.dashboard()));
+    }
+}
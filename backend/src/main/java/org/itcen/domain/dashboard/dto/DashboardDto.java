@@ -0,0 +1,66 @@
+package org.itcen.domain.dashboard.dto;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.itcen.domain.casestudy.dto.CaseStudyDto;
+import org.itcen.domain.common.dto.CommonCodeDto;
+import org.itcen.domain.menu.dto.MenuDto;
+import org.itcen.domain.positions.dto.LedgerOrderSelectDto;
+import org.itcen.domain.qna.dto.QnaListResponseDto;
+
+/**
+ * 첫 화면 대시보드 DTO
+ *
+ * 첫 화면이 따로 호출하던 항목들을 한 번에 담습니다. 조회에 실패하거나 제한 시간을 넘긴 항목은 null 이며,
+ * {@link #failedParts} 에 항목명과 사유(timeout, error)가 담깁니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardDto {
+
+    /**
+     * 미답변 Q&A 개수
+     */
+    private Long pendingQnaCount;
+
+    /**
+     * 최근 Q&A 목록
+     */
+    private List<QnaListResponseDto> recentQna;
+
+    /**
+     * 인기 Q&A 목록
+     */
+    private List<QnaListResponseDto> popularQna;
+
+    /**
+     * 최근 Case Study 목록
+     */
+    private List<CaseStudyDto> recentCaseStudies;
+
+    /**
+     * 원장차수+진행상태 목록 (SelectBox)
+     */
+    private List<LedgerOrderSelectDto> ledgerOrders;
+
+    /**
+     * 사용자 역할로 접근 가능한 메뉴 목록
+     */
+    private List<MenuDto> menus;
+
+    /**
+     * 사용 중인 공통코드 (그룹별)
+     */
+    private List<CommonCodeDto.GroupResponse> commonCodes;
+
+    /**
+     * 조회하지 못한 항목 (항목명 → timeout, error)
+     */
+    private Map<String, String> failedParts;
+}
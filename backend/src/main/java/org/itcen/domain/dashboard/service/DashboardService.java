@@ -0,0 +1,262 @@
+package org.itcen.domain.dashboard.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.itcen.common.jdbc.StatementDeadline;
+import org.itcen.domain.casestudy.dto.CaseStudyDto;
+import org.itcen.domain.casestudy.service.CaseStudyService;
+import org.itcen.domain.common.dto.CommonCodeDto;
+import org.itcen.domain.common.service.CommonCodeService;
+import org.itcen.domain.dashboard.config.DashboardProperties;
+import org.itcen.domain.dashboard.dto.DashboardDto;
+import org.itcen.domain.menu.dto.MenuDto;
+import org.itcen.domain.menu.service.MenuService;
+import org.itcen.domain.positions.dto.LedgerOrderSelectDto;
+import org.itcen.domain.positions.service.PositionService;
+import org.itcen.domain.qna.dto.QnaListResponseDto;
+import org.itcen.domain.qna.service.QnaService;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 첫 화면 대시보드 서비스
+ *
+ * 첫 화면 항목을 가상 스레드에서 동시에 조회하고, 항목마다 요청 시작부터 제한 시간(itcen.dashboard.part-timeouts-ms)까지만
+ * 기다립니다. 실패하거나 제한 시간을 넘긴 항목은 비워 두고 나머지 항목으로 응답합니다.
+ *
+ * - 각 항목은 기존 서비스 메서드를 그대로 호출하므로 캐시, 트랜잭션, 동시 호출 합치기가 항목별로 적용됩니다.
+ * - 항목 스레드에는 호출자의 SecurityContext 와 요청 속성을 전달합니다. (세션 기준 쓰기 후 primary 조회 유지)
+ * - 제한 시간을 넘긴 항목은 인터럽트하지 않습니다. JDBC 소켓 읽기 중 인터럽트는 풀 커넥션을 닫으므로, 항목의 SQL 에
+ *   같은 제한 시각({@link StatementDeadline})을 걸어 DB 가 문장을 취소하게 합니다.
+ * - 항목별 소요 시간은 Server-Timing 헤더 값과 dashboard.part{part,outcome} 메트릭으로 남깁니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 대시보드 항목 동시 조회와 취합만 담당
+ * - Dependency Inversion: 각 항목은 도메인 서비스에 위임
+ */
+@Slf4j
+@Service
+public class DashboardService {
+
+    public static final String PART_PENDING_QNA = "pendingQna";
+    public static final String PART_RECENT_QNA = "recentQna";
+    public static final String PART_POPULAR_QNA = "popularQna";
+    public static final String PART_RECENT_CASE_STUDIES = "recentCaseStudies";
+    public static final String PART_LEDGER_ORDERS = "ledgerOrders";
+    public static final String PART_MENUS = "menus";
+    public static final String PART_COMMON_CODES = "commonCodes";
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+    private static final String OUTCOME_TIMEOUT = "timeout";
+
+    private final QnaService qnaService;
+    private final CaseStudyService caseStudyService;
+    private final PositionService positionService;
+    private final MenuService menuService;
+    private final CommonCodeService commonCodeService;
+    private final DashboardProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dashboard-", 0).factory());
+
+    public DashboardService(QnaService qnaService, CaseStudyService caseStudyService,
+            PositionService positionService, MenuService menuService, CommonCodeService commonCodeService,
+            DashboardProperties properties, MeterRegistry meterRegistry) {
+        this.qnaService = qnaService;
+        this.caseStudyService = caseStudyService;
+        this.positionService = positionService;
+        this.menuService = menuService;
+        this.commonCodeService = commonCodeService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 대시보드 조회
+     *
+     * @param qnaLimit 최근/인기 Q&A 건수
+     * @param caseStudyLimit 최근 Case Study 건수
+     * @return 대시보드와 Server-Timing 헤더 값
+     */
+    public Dashboard getDashboard(int qnaLimit, int caseStudyLimit) {
+        validateLimit("qnaLimit", qnaLimit);
+        validateLimit("caseStudyLimit", caseStudyLimit);
+
+        long startedAt = System.nanoTime();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        Caller caller = new Caller(securityContext, RequestContextHolder.getRequestAttributes(), startedAt);
+        String role = currentRole(securityContext.getAuthentication());
+
+        Part<Long> pendingQna = submit(PART_PENDING_QNA, caller, qnaService::getPendingQnaCount);
+        Part<List<QnaListResponseDto>> recentQna =
+                submit(PART_RECENT_QNA, caller, () -> qnaService.getRecentQnaList(qnaLimit));
+        Part<List<QnaListResponseDto>> popularQna =
+                submit(PART_POPULAR_QNA, caller, () -> qnaService.getPopularQnaList(qnaLimit));
+        Part<List<CaseStudyDto>> recentCaseStudies =
+                submit(PART_RECENT_CASE_STUDIES, caller,
+                        () -> caseStudyService.getRecentCaseStudies(caseStudyLimit));
+        Part<List<LedgerOrderSelectDto>> ledgerOrders =
+                submit(PART_LEDGER_ORDERS, caller, positionService::getLedgerOrderSelectList);
+        Part<List<MenuDto>> menus =
+                submit(PART_MENUS, caller, () -> menuService.getAccessibleMenusByRole(role));
+        Part<List<CommonCodeDto.GroupResponse>> commonCodes =
+                submit(PART_COMMON_CODES, caller, commonCodeService::findAllUsableGrouped);
+
+        Map<String, String> failedParts = new LinkedHashMap<>();
+        StringJoiner serverTiming = new StringJoiner(", ");
+        DashboardDto dashboard = DashboardDto.builder()
+                .pendingQnaCount(await(pendingQna, startedAt, failedParts, serverTiming))
+                .recentQna(await(recentQna, startedAt, failedParts, serverTiming))
+                .popularQna(await(popularQna, startedAt, failedParts, serverTiming))
+                .recentCaseStudies(await(recentCaseStudies, startedAt, failedParts, serverTiming))
+                .ledgerOrders(await(ledgerOrders, startedAt, failedParts, serverTiming))
+                .menus(await(menus, startedAt, failedParts, serverTiming))
+                .commonCodes(await(commonCodes, startedAt, failedParts, serverTiming))
+                .failedParts(failedParts)
+                .build();
+        serverTiming.add(timing("total", System.nanoTime() - startedAt, null));
+
+        if (!failedParts.isEmpty()) {
+            log.warn("대시보드 일부 항목 조회 실패: {}", failedParts);
+        }
+        return new Dashboard(dashboard, serverTiming.toString());
+    }
+
+    private <T> Part<T> submit(String name, Caller caller, Callable<T> task) {
+        Part<T> part = new Part<>(name, properties.timeoutOf(name));
+        long deadlineNanos = caller.startedAt() + TimeUnit.MILLISECONDS.toNanos(part.timeoutMs);
+        part.future = executor.submit(() -> {
+            SecurityContextHolder.setContext(caller.securityContext());
+            RequestContextHolder.setRequestAttributes(caller.requestAttributes());
+            long startedAt = System.nanoTime();
+            try {
+                return StatementDeadline.call(deadlineNanos, task);
+            } finally {
+                part.elapsedNanos = System.nanoTime() - startedAt;
+                RequestContextHolder.resetRequestAttributes();
+                SecurityContextHolder.clearContext();
+            }
+        });
+        return part;
+    }
+
+    /**
+     * 항목 결과 대기 (요청 시작부터 항목 제한 시간까지)
+     *
+     * @return 항목 결과 (실패/시간 초과 시 null)
+     */
+    private <T> T await(Part<T> part, long startedAt, Map<String, String> failedParts, StringJoiner serverTiming) {
+        long remainingNanos = startedAt + TimeUnit.MILLISECONDS.toNanos(part.timeoutMs) - System.nanoTime();
+        T value = null;
+        String outcome = OUTCOME_SUCCESS;
+        try {
+            value = part.future.get(Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 실행 중인 SQL 은 문장 제한 시간으로 끝남 (인터럽트하면 커넥션이 닫힘)
+            part.future.cancel(false);
+            outcome = OUTCOME_TIMEOUT;
+        } catch (ExecutionException e) {
+            outcome = OUTCOME_ERROR;
+            log.warn("대시보드 항목 조회 오류: part={}", part.name, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            part.future.cancel(false);
+            outcome = OUTCOME_ERROR;
+        }
+
+        long elapsedNanos = OUTCOME_TIMEOUT.equals(outcome) ? System.nanoTime() - startedAt : part.elapsedNanos;
+        Timer.builder("dashboard.part")
+                .description("대시보드 항목 조회 시간")
+                .tag("part", part.name)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (!OUTCOME_SUCCESS.equals(outcome)) {
+            failedParts.put(part.name, outcome);
+        }
+        serverTiming.add(timing(part.name, elapsedNanos, OUTCOME_SUCCESS.equals(outcome) ? null : outcome));
+        return value;
+    }
+
+    /**
+     * Server-Timing 항목 (name;dur=ms[;desc="..."])
+     */
+    private static String timing(String name, long nanos, String description) {
+        String entry = name + ";dur=" + String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+        return description == null ? entry : entry + ";desc=\"" + description + "\"";
+    }
+
+    /**
+     * 메뉴 조회 역할 (첫 번째 권한에서 ROLE_ 접두사 제거, 로그인 시 메뉴 조회와 동일)
+     */
+    private static String currentRole(Authentication authentication) {
+        if (authentication == null) {
+            return "USER";
+        }
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .findFirst()
+                .map(authority -> authority.replace("ROLE_", ""))
+                .orElse("USER");
+    }
+
+    private void validateLimit(String name, int limit) {
+        if (limit < 1 || limit > properties.getMaxLimit()) {
+            throw new IllegalArgumentException(name + " 는 1~" + properties.getMaxLimit() + " 사이여야 합니다.");
+        }
+    }
+
+    /**
+     * 대시보드와 Server-Timing 헤더 값
+     */
+    public record Dashboard(DashboardDto dashboard, String serverTiming) {
+    }
+
+    /**
+     * 항목 스레드에 전달할 호출자 문맥
+     */
+    private record Caller(SecurityContext securityContext, RequestAttributes requestAttributes, long startedAt) {
+    }
+
+    /**
+     * 동시 조회 중인 항목
+     */
+    private static final class Part<T> {
+
+        private final String name;
+        private final long timeoutMs;
+        private Future<T> future;
+        private volatile long elapsedNanos;
+
+        private Part(String name, long timeoutMs) {
+            this.name = name;
+            this.timeoutMs = timeoutMs;
+        }
+    }
+}
@@ -3,12 +3,17 @@ package org.itcen.domain.departments.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.itcen.common.entity.BaseTimeEntity;
+import org.itcen.common.jpa.HibernateCacheRegions;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * 부서 정보 엔티티
  * departments 테이블과 매핑
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheRegions.DEPARTMENT)
 @Table(name = "departments")
 @Getter
 @Setter
@@ -0,0 +1,190 @@
+package org.itcen.domain.departments.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import org.itcen.common.notify.PgNotificationListener;
+import org.itcen.domain.departments.dto.DepartmentDto;
+import org.itcen.domain.departments.entity.Department;
+import org.itcen.domain.departments.repository.DepartmentRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부서 사전 (부서 ID → 부서명, 사용여부)
+ *
+ * 부서 전체를 불변 스냅샷으로 보관하여 부서명 조회와 SelectBox 용 활성 부서 목록을 DB 접근 없이 반환합니다.
+ *
+ * - departments 가 변경되면 DB 트리거가 {@value #CHANNEL} 채널로 NOTIFY 하고 모든 노드가 스냅샷을 다시 적재
+ *   (database/init/35.create_trigger_departments_notify.sql)
+ * - 변경한 노드는 커밋 직후 바로 다시 적재하여 알림 도착 전에도 자신의 변경을 조회할 수 있음
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 부서 사전 스냅샷 관리만 담당
+ */
+@Slf4j
+@Component
+public class DepartmentDictionary {
+
+    /**
+     * 부서 변경 알림 채널
+     */
+    public static final String CHANNEL = "departments_changed";
+
+    private final DepartmentRepository departmentRepository;
+    private final PgNotificationListener notificationListener;
+    private final TransactionTemplate refreshTransaction;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 스냅샷 재적재 직렬화
+     */
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public DepartmentDictionary(DepartmentRepository departmentRepository,
+            PgNotificationListener notificationListener, PlatformTransactionManager transactionManager) {
+        this.departmentRepository = departmentRepository;
+        this.notificationListener = notificationListener;
+        this.refreshTransaction = new TransactionTemplate(transactionManager);
+        this.refreshTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.refreshTransaction.setReadOnly(true);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        notificationListener.subscribe(CHANNEL, payload -> refresh());
+    }
+
+    /**
+     * 기동 시 최초 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("부서 사전 최초 적재 실패, 첫 조회 시 재시도합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 부서명 조회 (사용여부 무관, 없으면 부서 ID 반환)
+     */
+    public String getName(String departmentId) {
+        Entry entry = currentSnapshot().byId().get(departmentId);
+        return entry != null ? entry.departmentName() : departmentId;
+    }
+
+    /**
+     * 활성 부서명 조회 (미사용 또는 없는 부서는 부서 ID 반환)
+     */
+    public String getActiveName(String departmentId) {
+        Entry entry = currentSnapshot().byId().get(departmentId);
+        return entry != null && entry.isActive() ? entry.departmentName() : departmentId;
+    }
+
+    /**
+     * 부서명 일괄 조회 (사용여부 무관, 없으면 부서 ID를 값으로 사용)
+     *
+     * @param departmentIds 부서 ID 목록 (null 제외, 중복 허용)
+     * @return 요청 순서를 유지한 부서 ID → 부서명
+     */
+    public Map<String, String> getNames(Collection<String> departmentIds) {
+        Map<String, Entry> byId = currentSnapshot().byId();
+        Map<String, String> names = new LinkedHashMap<>();
+        for (String departmentId : departmentIds) {
+            if (departmentId == null) {
+                continue;
+            }
+            Entry entry = byId.get(departmentId);
+            names.put(departmentId, entry != null ? entry.departmentName() : departmentId);
+        }
+        return names;
+    }
+
+    /**
+     * 활성 부서 목록 (부서명 순, 불변 목록)
+     */
+    public List<DepartmentDto.SimpleDto> getActiveSimpleList() {
+        return currentSnapshot().activeSimpleList();
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 스냅샷을 다시 적재합니다. (트랜잭션 밖이면 즉시)
+     */
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    refresh();
+                } catch (Exception e) {
+                    log.warn("부서 사전 갱신 실패, 변경 알림 수신 시 재시도합니다: {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * 부서 전체로 스냅샷을 다시 적재합니다.
+     */
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            // afterCommit 에서도 호출되므로 항상 새 트랜잭션으로 조회
+            List<Department> departments = refreshTransaction
+                    .execute(status -> departmentRepository.findAll(Sort.by("departmentName")));
+
+            Map<String, Entry> byId = new HashMap<>();
+            List<DepartmentDto.SimpleDto> activeSimpleList = new ArrayList<>();
+            for (Department department : departments) {
+                Entry entry = new Entry(department.getDepartmentId(), department.getDepartmentName(),
+                        department.getUseYn());
+                byId.put(entry.departmentId(), entry);
+                if (entry.isActive()) {
+                    activeSimpleList.add(DepartmentDto.SimpleDto.from(department));
+                }
+            }
+            snapshot = new Snapshot(Map.copyOf(byId), List.copyOf(activeSimpleList));
+            log.debug("부서 사전 갱신 완료: 전체 {}건, 활성 {}건", byId.size(), activeSimpleList.size());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private record Snapshot(Map<String, Entry> byId, List<DepartmentDto.SimpleDto> activeSimpleList) {
+    }
+
+    private record Entry(String departmentId, String departmentName, String useYn) {
+        boolean isActive() {
+            return "Y".equals(useYn);
+        }
+    }
+}
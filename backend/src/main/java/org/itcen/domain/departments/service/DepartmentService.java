@@ -1,6 +1,8 @@
 package org.itcen.domain.departments.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import org.itcen.domain.departments.dto.DepartmentDto;
 import org.springframework.data.domain.Page;
 
@@ -60,6 +62,11 @@ public interface DepartmentService {
      */
     String getDepartmentNameById(String departmentId);
 
+    /**
+     * 부서명 일괄 조회 (부서 ID → 부서명, 없는 부서는 ID 그대로)
+     */
+    Map<String, String> getDepartmentNames(Collection<String> departmentIds);
+
     /**
      * 프론트엔드 호환용 부서 목록 조회
      */
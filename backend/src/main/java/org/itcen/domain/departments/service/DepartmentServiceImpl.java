@@ -6,16 +6,24 @@ import org.itcen.common.exception.BusinessException;
 import org.itcen.domain.departments.dto.DepartmentDto;
 import org.itcen.domain.departments.entity.Department;
 import org.itcen.domain.departments.repository.DepartmentRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * 부서 서비스 구현체
+ *
+ * 전체/활성 목록과 단건 조회는 {@value #CACHE_NAME} 캐시(로컬 + Redis)를 사용하고, 변경 시 커밋 후 전체 무효화합니다.
+ * DB 에서 직접 변경된 경우는 departments_changed 알림으로 무효화됩니다. (itcen.cache.caches.departments)
  */
 @Service
 @RequiredArgsConstructor
@@ -23,9 +31,16 @@ import java.util.stream.Collectors;
 @Slf4j
 public class DepartmentServiceImpl implements DepartmentService {
 
+    /**
+     * 부서 캐시 이름
+     */
+    public static final String CACHE_NAME = "departments";
+
     private final DepartmentRepository departmentRepository;
+    private final DepartmentDictionary departmentDictionary;
 
     @Override
+    @Cacheable(cacheNames = CACHE_NAME, key = "'all'", sync = true)
     public List<DepartmentDto> getAllDepartments() {
         List<Department> departments = departmentRepository.findAll();
         return departments.stream()
@@ -34,6 +49,7 @@ public class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
+    @Cacheable(cacheNames = CACHE_NAME, key = "'active'", sync = true)
     public List<DepartmentDto> getActiveDepartments() {
         List<Department> departments = departmentRepository.findActiveDepartments();
         return departments.stream()
@@ -63,6 +79,7 @@ public class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
+    @Cacheable(cacheNames = CACHE_NAME, key = "'id:' + #departmentId", sync = true)
     public DepartmentDto getDepartmentById(String departmentId) {
         Department department = departmentRepository.findById(departmentId)
                 .orElseThrow(() -> new BusinessException("부서를 찾을 수 없습니다. ID: " + departmentId));
@@ -72,6 +89,7 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CACHE_NAME, allEntries = true)
     public DepartmentDto createDepartment(DepartmentDto.CreateRequestDto createRequestDto) {
         // 부서 ID 중복 검사
         if (departmentRepository.existsByDepartmentId(createRequestDto.getDepartmentId())) {
@@ -88,6 +106,7 @@ public class DepartmentServiceImpl implements DepartmentService {
         department.setUpdatedId("system");
 
         Department savedDepartment = departmentRepository.save(department);
+        departmentDictionary.refreshAfterCommit();
         log.info("부서 생성 완료: {}", savedDepartment.getDepartmentId());
 
         return DepartmentDto.from(savedDepartment);
@@ -95,6 +114,7 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CACHE_NAME, allEntries = true)
     public DepartmentDto updateDepartment(String departmentId, DepartmentDto.UpdateRequestDto updateRequestDto) {
         Department department = departmentRepository.findById(departmentId)
                 .orElseThrow(() -> new BusinessException("부서를 찾을 수 없습니다. ID: " + departmentId));
@@ -117,6 +137,7 @@ public class DepartmentServiceImpl implements DepartmentService {
         department.setUpdatedId("system"); // TODO: 실제 사용자 ID로 변경
 
         Department savedDepartment = departmentRepository.save(department);
+        departmentDictionary.refreshAfterCommit();
         log.info("부서 수정 완료: {}", savedDepartment.getDepartmentId());
 
         return DepartmentDto.from(savedDepartment);
@@ -124,6 +145,7 @@ public class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CACHE_NAME, allEntries = true)
     public void deleteDepartment(String departmentId) {
         Department department = departmentRepository.findById(departmentId)
                 .orElseThrow(() -> new BusinessException("부서를 찾을 수 없습니다. ID: " + departmentId));
@@ -131,12 +153,14 @@ public class DepartmentServiceImpl implements DepartmentService {
         department.deactivate();
         department.setUpdatedId("system"); // TODO: 실제 사용자 ID로 변경
         departmentRepository.save(department);
+        departmentDictionary.refreshAfterCommit();
 
         log.info("부서 비활성화 완료: {}", departmentId);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CACHE_NAME, allEntries = true)
     public void activateDepartment(String departmentId) {
         Department department = departmentRepository.findById(departmentId)
                 .orElseThrow(() -> new BusinessException("부서를 찾을 수 없습니다. ID: " + departmentId));
@@ -144,22 +168,29 @@ public class DepartmentServiceImpl implements DepartmentService {
         department.activate();
         department.setUpdatedId("system"); // TODO: 실제 사용자 ID로 변경
         departmentRepository.save(department);
+        departmentDictionary.refreshAfterCommit();
 
         log.info("부서 활성화 완료: {}", departmentId);
     }
 
+    /**
+     * 부서 사전에서 조회하므로 트랜잭션(커넥션)을 시작하지 않습니다.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String getDepartmentNameById(String departmentId) {
-        return departmentRepository.findById(departmentId)
-                .map(Department::getDepartmentName)
-                .orElse(departmentId); // 부서를 찾을 수 없으면 ID를 반환
+        return departmentDictionary.getName(departmentId); // 부서를 찾을 수 없으면 ID를 반환
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<String, String> getDepartmentNames(Collection<String> departmentIds) {
+        return departmentDictionary.getNames(departmentIds);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<DepartmentDto.SimpleDto> getSimpleDepartments() {
-        List<Department> departments = departmentRepository.findActiveDepartments();
-        return departments.stream()
-                .map(DepartmentDto.SimpleDto::from)
-                .collect(Collectors.toList());
+        return departmentDictionary.getActiveSimpleList();
     }
 }
@@ -1,12 +1,19 @@
 package org.itcen.domain.execofficer.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.itcen.common.dto.ApiResponse;
 import org.itcen.domain.execofficer.dto.ExecOfficerDto;
 import org.itcen.domain.execofficer.service.ExecOfficerService;
+import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @Slf4j
@@ -14,12 +21,54 @@ import java.util.List;
 @RequestMapping("/execofficer")
 @RequiredArgsConstructor
 public class ExecOfficerController {
+
+    /**
+     * NDJSON(Newline Delimited JSON) 미디어 타입
+     */
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
     private final ExecOfficerService service;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ApiResponse<List<ExecOfficerDto>> getAll() {
-        log.info("getAll() method called");
-        return ApiResponse.success(service.getAll());
+    public ApiResponse<List<ExecOfficerDto>> getAll(
+            @RequestParam(value = "ledgerOrder", required = false) String ledgerOrder) {
+        log.info("getAll() method called: ledgerOrder={}", ledgerOrder);
+        return ApiResponse.success(service.getAll(ledgerOrder));
+    }
+
+    /**
+     * 직책별 임원 현황 페이지 조회
+     */
+    @GetMapping("/search")
+    public ApiResponse<Page<ExecOfficerDto>> search(
+            @RequestParam(value = "ledgerOrder", required = false) String ledgerOrder,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ApiResponse.success(service.search(ledgerOrder, page, size));
+    }
+
+    /**
+     * 직책별 임원 현황 전체 다운로드 (NDJSON 스트리밍)
+     *
+     * 한 줄에 한 건씩 JSON 으로 기록하며, 결과 전체를 메모리에 올리지 않고 DB 커서에서 읽는 대로 응답에 씁니다.
+     */
+    @GetMapping(value = "/export", produces = NDJSON_CONTENT_TYPE)
+    public void export(@RequestParam(value = "ledgerOrder", required = false) String ledgerOrder,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON_CONTENT_TYPE);
+        response.setCharacterEncoding("UTF-8");
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            service.export(ledgerOrder, row -> {
+                try {
+                    generator.writeObject(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeRaw('\n');
+        }
     }
 
     @PostMapping
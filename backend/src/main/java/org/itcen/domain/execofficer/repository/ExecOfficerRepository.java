@@ -1,7 +1,49 @@
 package org.itcen.domain.execofficer.repository;
 
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.itcen.domain.execofficer.dto.ExecOfficerDto;
 import org.itcen.domain.execofficer.entity.ExecOfficer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import jakarta.persistence.QueryHint;
 
 public interface ExecOfficerRepository extends JpaRepository<ExecOfficer, Long> {
+
+    /**
+     * 직책별 임원 현황 (직책 LEFT JOIN 임원) - 생성자 표현식으로 ExecOfficerDto 에 바로 매핑
+     */
+    String STATUS_SELECT = """
+            SELECT new org.itcen.domain.execofficer.dto.ExecOfficerDto(
+                eo.execofficerId, eo.empId, eo.execofficerDt, eo.dualYn, eo.dualDetails,
+                p.positionsId, eo.approvalId, eo.ledgerOrder, eo.orderStatus,
+                eo.createdId, eo.updatedId, eo.createdAt, eo.updatedAt,
+                p.positionsNm, CAST(NULL AS String))
+            """;
+
+    String STATUS_FROM = """
+            FROM Position p
+            LEFT JOIN ExecOfficer eo ON eo.positionsId = p.positionsId
+            WHERE (:ledgerOrder IS NULL OR p.ledgerOrder = :ledgerOrder)
+            """;
+
+    /**
+     * 직책별 임원 현황 페이지 조회 (원장차수 필터, 직책 ID 순)
+     */
+    @Query(value = STATUS_SELECT + STATUS_FROM + "ORDER BY p.positionsId",
+            countQuery = "SELECT COUNT(p) " + STATUS_FROM)
+    Page<ExecOfficerDto> findStatusPage(@Param("ledgerOrder") String ledgerOrder, Pageable pageable);
+
+    /**
+     * 직책별 임원 현황 스트리밍 조회 (전체 다운로드용, 호출자가 트랜잭션 안에서 닫아야 함)
+     */
+    @Query(STATUS_SELECT + STATUS_FROM + "ORDER BY p.positionsId")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<ExecOfficerDto> streamStatus(@Param("ledgerOrder") String ledgerOrder);
 }
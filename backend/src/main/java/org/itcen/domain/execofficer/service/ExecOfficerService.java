@@ -2,20 +2,19 @@ package org.itcen.domain.execofficer.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.itcen.common.cache.Coalesced;
 import org.itcen.domain.execofficer.dto.ExecOfficerDto;
 import org.itcen.domain.execofficer.entity.ExecOfficer;
 import org.itcen.domain.execofficer.repository.ExecOfficerRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigInteger;
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.sql.Timestamp;
-import java.time.ZoneId;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -23,47 +22,52 @@ import java.util.stream.Collectors;
 public class ExecOfficerService {
     private final ExecOfficerRepository repository;
 
-    @PersistenceContext
-    private EntityManager em;
+    /**
+     * 페이지 크기 최대값
+     */
+    private static final int MAX_PAGE_SIZE = 500;
 
-    public List<ExecOfficerDto> getAll() {
-        String sql = "SELECT  " +
-                     "p.positions_id, p.positions_nm,  " +
-                     "eo.execofficer_id, eo.emp_id,  eo.execofficer_dt, eo.dual_yn, eo.dual_details,  " +
-                     "eo.approval_id, eo.ledger_order, eo.order_status,  " +
-                     "eo.created_id, eo.updated_id, eo.created_at, eo.updated_at  " +
-                     "FROM positions p  " +
-                     "LEFT JOIN execofficer eo ON p.positions_id = eo.positions_id " +
-                     "ORDER BY p.positions_id";
+    /**
+     * 직책별 임원 현황 전체 조회 (원장차수 필터 선택)
+     */
+    @Coalesced(scope = Coalesced.Scope.GLOBAL)
+    @Transactional(readOnly = true)
+    public List<ExecOfficerDto> getAll(String ledgerOrder) {
+        try (Stream<ExecOfficerDto> stream = repository.streamStatus(normalize(ledgerOrder))) {
+            return stream.toList();
+        }
+    }
 
-        List<Object[]> results = em.createNativeQuery(sql).getResultList();
+    /**
+     * 직책별 임원 현황 페이지 조회
+     */
+    @Coalesced(scope = Coalesced.Scope.GLOBAL)
+    @Transactional(readOnly = true)
+    public Page<ExecOfficerDto> search(String ledgerOrder, int page, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        return repository.findStatusPage(normalize(ledgerOrder), PageRequest.of(Math.max(page, 0), size));
+    }
 
-        return results.stream().map(row -> {
-            try {
-                ExecOfficerDto dto = new ExecOfficerDto();
-                dto.setPositionsId(row[0] != null ? ((Number) row[0]).longValue() : null);
-                dto.setPositionNameMapped((String) row[1]);
-                dto.setExecofficerId(row[2] != null ? ((Number) row[2]).longValue() : null);
-                dto.setEmpId((String) row[3]);
-                dto.setExecofficerDt((String) row[4]);
-                dto.setDualYn((String) row[5]);
-                dto.setDualDetails((String) row[6]);
-                dto.setApprovalId(row[7] != null ? ((Number) row[7]).longValue() : null);
-                dto.setLedgerOrder((String) row[8]);
-                dto.setOrderStatus((String) row[9]);
-                dto.setCreatedId((String) row[10]);
-                dto.setUpdatedId((String) row[11]);
-                dto.setCreatedAt(row[12] != null ? toLocalDateTime(row[12]) : null);
-                dto.setUpdatedAt(row[13] != null ? toLocalDateTime(row[13]) : null);
-                // dto.setUserName((String) row[14]);
-                return dto;
-            } catch (Exception e) {
-                log.error("Error processing row: {}", row, e);
-                return null; // Return null for problematic rows
+    /**
+     * 직책별 임원 현황 스트리밍 조회 (전체 다운로드용)
+     *
+     * DB 커서에서 읽는 대로 consumer 에 전달하므로 결과 전체를 메모리에 올리지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public void export(String ledgerOrder, Consumer<ExecOfficerDto> consumer) {
+        long count = 0;
+        try (Stream<ExecOfficerDto> stream = repository.streamStatus(normalize(ledgerOrder))) {
+            Iterator<ExecOfficerDto> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
             }
-        }).filter(java.util.Objects::nonNull) // Filter out nulls
-        .collect(Collectors.toList());
+        }
+        log.info("임원 현황 스트리밍 조회 완료: 총 {}건", count);
     }
+
     public ExecOfficerDto getnameById(Long id) {
         ExecOfficer entity = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("임원을 찾을 수 없습니다."));
@@ -131,17 +135,7 @@ public class ExecOfficerService {
                 .build();
     }
 
-    private LocalDateTime toLocalDateTime(Object value) {
-        if (value instanceof Timestamp) {
-            return ((Timestamp) value).toLocalDateTime();
-        } else if (value instanceof Instant) {
-            return LocalDateTime.ofInstant((Instant) value, ZoneId.systemDefault());
-        } else if (value instanceof LocalDateTime) {
-            return (LocalDateTime) value;
-        } else if (value != null) {
-            // 문자열 등 기타 타입 처리
-            return LocalDateTime.parse(value.toString());
-        }
-        return null;
+    private String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
     }
 }
@@ -1,17 +1,32 @@
 package org.itcen.domain.hodicitem.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.itcen.common.dto.ApiResponse;
+import org.itcen.common.dto.BulkImportResultDto;
+import org.itcen.common.web.SparseFieldsets;
+import org.itcen.domain.hodicitem.dto.HodICItemBatchResultDto;
 import org.itcen.domain.hodicitem.dto.HodICItemCreateRequestDto;
 import org.itcen.domain.hodicitem.dto.HodICItemResponseDto;
-import org.itcen.domain.hodicitem.dto.HodICItemStatusProjection;
+import org.itcen.domain.hodicitem.dto.HodICItemSearchRequestDto;
+import org.itcen.domain.hodicitem.dto.HodICItemStatusDto;
+import org.itcen.domain.hodicitem.service.HodICItemImportService;
 import org.itcen.domain.hodicitem.service.HodICItemService;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 부서장 내부통제 항목 컨트롤러
@@ -30,7 +45,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class HodICItemController {
 
+    /**
+     * NDJSON(Newline Delimited JSON) 미디어 타입
+     */
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
     private final HodICItemService hodICItemService;
+    private final HodICItemImportService hodICItemImportService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 부서장 내부통제 항목 현황 조회
@@ -39,12 +61,12 @@ public class HodICItemController {
      * @return 부서장 내부통제 항목 현황 목록
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<HodICItemStatusProjection>>> getHodICItemStatusList(
+    public ResponseEntity<ApiResponse<List<HodICItemStatusDto>>> getHodICItemStatusList(
             @RequestParam(value = "ledgerOrder", required = false) String ledgerOrder) {
 
         log.info("부서장 내부통제 항목 현황 조회 API 호출: ledgerOrder={}", ledgerOrder);
 
-        List<HodICItemStatusProjection> statusList = hodICItemService.getHodICItemStatusList(ledgerOrder);
+        List<HodICItemStatusDto> statusList = hodICItemService.getHodICItemStatusList(ledgerOrder);
 
         log.info("부서장 내부통제 항목 현황 조회 완료: 총 {}건", statusList.size());
         return ResponseEntity.ok(
@@ -52,6 +74,95 @@ public class HodICItemController {
         );
     }
 
+    /**
+     * 부서장 내부통제 항목 현황 검색 (페이징)
+     *
+     * @param ledgerOrder 책무번호(원장차수) 필터
+     * @param deptCd 부서코드 필터
+     * @param fieldTypeCd 항목구분 필터
+     * @param approvalStatus 결재상태 필터 (결재 요청 전 항목은 NONE)
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @param sortBy 정렬 기준
+     * @param sortDirection 정렬 방향 (asc, desc)
+     * @param fields 조회할 속성 (',' 구분, 고른 컬럼만 조회, 없으면 전체)
+     * @return 페이징된 부서장 내부통제 항목 현황
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<Page<?>>> searchHodICItemStatus(
+            @RequestParam(value = "ledgerOrder", required = false) String ledgerOrder,
+            @RequestParam(value = "deptCd", required = false) String deptCd,
+            @RequestParam(value = "fieldTypeCd", required = false) String fieldTypeCd,
+            @RequestParam(value = "approvalStatus", required = false) String approvalStatus,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "sortBy", defaultValue = "hodIcItemId") String sortBy,
+            @RequestParam(value = "sortDirection", defaultValue = "asc") String sortDirection,
+            @RequestParam(value = "fields", required = false) String fields) {
+
+        Set<String> selectedFields = SparseFieldsets.parse(fields, HodICItemStatusDto.class);
+        HodICItemSearchRequestDto searchRequest = HodICItemSearchRequestDto.builder()
+                .ledgerOrder(ledgerOrder)
+                .deptCd(deptCd)
+                .fieldTypeCd(fieldTypeCd)
+                .approvalStatus(approvalStatus)
+                .page(page)
+                .size(size)
+                .sortBy(sortBy)
+                .sortDirection(sortDirection)
+                .build();
+
+        Page<?> statusPage = selectedFields == null
+                ? hodICItemService.searchHodICItemStatus(searchRequest)
+                : hodICItemService.searchHodICItemStatus(searchRequest, selectedFields);
+        return ResponseEntity.ok(
+            ApiResponse.success("부서장 내부통제 항목 현황 검색 성공", statusPage)
+        );
+    }
+
+    /**
+     * 부서장 내부통제 항목 현황 전체 다운로드 (NDJSON 스트리밍)
+     *
+     * 한 줄에 한 건씩 JSON 으로 기록하며, 결과 전체를 메모리에 올리지 않고 DB 커서에서 읽는 대로 응답에 씁니다.
+     *
+     * @param ledgerOrder 책무번호(원장차수) 필터
+     * @param deptCd 부서코드 필터
+     * @param fieldTypeCd 항목구분 필터
+     * @param approvalStatus 결재상태 필터
+     * @param response HTTP 응답
+     */
+    @GetMapping(value = "/export", produces = NDJSON_CONTENT_TYPE)
+    public void exportHodICItemStatus(
+            @RequestParam(value = "ledgerOrder", required = false) String ledgerOrder,
+            @RequestParam(value = "deptCd", required = false) String deptCd,
+            @RequestParam(value = "fieldTypeCd", required = false) String fieldTypeCd,
+            @RequestParam(value = "approvalStatus", required = false) String approvalStatus,
+            HttpServletResponse response) throws IOException {
+
+        log.info("부서장 내부통제 항목 현황 다운로드 API 호출: ledgerOrder={}", ledgerOrder);
+
+        HodICItemSearchRequestDto searchRequest = HodICItemSearchRequestDto.builder()
+                .ledgerOrder(ledgerOrder)
+                .deptCd(deptCd)
+                .fieldTypeCd(fieldTypeCd)
+                .approvalStatus(approvalStatus)
+                .build();
+
+        response.setContentType(NDJSON_CONTENT_TYPE);
+        response.setCharacterEncoding("UTF-8");
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            hodICItemService.exportHodICItemStatus(searchRequest, row -> {
+                try {
+                    generator.writeObject(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeRaw('\n');
+        }
+    }
+
     /**
      * 부서장 내부통제 항목 상세 조회
      *
@@ -145,29 +256,77 @@ public class HodICItemController {
      *
      * @param hodIcItemIds 삭제할 부서장 내부통제 항목 ID 목록
      * @param currentUserId 현재 사용자 ID (헤더에서 추출)
-     * @return 삭제 성공 메시지
+     * @return 항목별 삭제 결과
      */
     @DeleteMapping("/batch")
-    public ResponseEntity<ApiResponse<Void>> deleteMultipleHodICItems(
+    public ResponseEntity<ApiResponse<HodICItemBatchResultDto>> deleteMultipleHodICItems(
             @RequestBody List<Long> hodIcItemIds,
             @RequestHeader(value = "X-User-Id", defaultValue = "system") String currentUserId) {
 
         log.info("부서장 내부통제 항목 다중 삭제 API 호출: 개수={}, 사용자={}", hodIcItemIds.size(), currentUserId);
 
-        hodICItemService.deleteMultipleHodICItems(hodIcItemIds, currentUserId);
+        HodICItemBatchResultDto result = hodICItemService.deleteMultipleHodICItems(hodIcItemIds, currentUserId);
+
+        log.info("부서장 내부통제 항목 다중 삭제 완료: 성공 {}건, 실패 {}건", result.getSuccessCount(), result.getFailureCount());
+        return ResponseEntity.ok(
+            ApiResponse.success("선택한 부서장 내부통제 항목들의 삭제가 처리되었습니다.", result)
+        );
+    }
+
+    /**
+     * 파일(CSV/XLSX) 대량 등록
+     *
+     * @param file 업로드 파일 (첫 행은 헤더)
+     * @param allowPartial 오류 행을 제외하고 적재할지 여부 (기본값: false, 오류가 있으면 전체 롤백)
+     * @param currentUserId 현재 사용자 ID (헤더에서 추출)
+     * @return 적재 결과 및 행 단위 오류
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<BulkImportResultDto>> importHodICItems(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "allowPartial", defaultValue = "false") boolean allowPartial,
+            @RequestHeader(value = "X-User-Id", defaultValue = "system") String currentUserId) {
 
-        log.info("부서장 내부통제 항목 다중 삭제 완료: 총 {}개", hodIcItemIds.size());
+        log.info("부서장 내부통제 항목 대량 등록 API 호출: file={}, allowPartial={}, 사용자={}",
+                file.getOriginalFilename(), allowPartial, currentUserId);
+
+        BulkImportResultDto result = hodICItemImportService.importHodICItems(file, allowPartial, currentUserId);
+
+        String message = result.isCommitted() ? "부서장 내부통제 항목 대량 등록이 완료되었습니다."
+                : "오류가 있어 등록되지 않았습니다. 오류 내역을 확인해주세요.";
+        return ResponseEntity.ok(ApiResponse.success(message, result));
+    }
+
+    /**
+     * 다중 결재 승인 요청
+     *
+     * @param hodIcItemIds 결재 요청할 부서장 내부통제 항목 ID 목록
+     * @param currentUserId 현재 사용자 ID (헤더에서 추출)
+     * @return 항목별 결재 요청 결과
+     */
+    @PostMapping("/approval/batch")
+    public ResponseEntity<ApiResponse<HodICItemBatchResultDto>> requestApprovalBatch(
+            @RequestBody List<Long> hodIcItemIds,
+            @RequestHeader(value = "X-User-Id", defaultValue = "system") String currentUserId) {
+
+        log.info("다중 결재 승인 요청 API 호출: 개수={}, 사용자={}", hodIcItemIds.size(), currentUserId);
+
+        HodICItemBatchResultDto result = hodICItemService.requestApprovalBatch(hodIcItemIds, currentUserId);
+
+        log.info("다중 결재 승인 요청 완료: 성공 {}건, 실패 {}건", result.getSuccessCount(), result.getFailureCount());
         return ResponseEntity.ok(
-            ApiResponse.success("선택한 부서장 내부통제 항목들이 성공적으로 삭제되었습니다.", null)
+            ApiResponse.success("선택한 부서장 내부통제 항목들의 결재 승인 요청이 접수되었습니다.", result)
         );
     }
 
     /**
      * 결재 승인 요청
      *
+     * 결재 요청을 접수하고 즉시 202 Accepted 를 반환합니다. 결재 ID 는 비동기로 반영됩니다.
+     *
      * @param hodIcItemId 부서장 내부통제 항목 ID
      * @param currentUserId 현재 사용자 ID (헤더에서 추출)
-     * @return 생성된 결재 ID
+     * @return 결재 요청 접수 ID
      */
     @PostMapping("/{hodIcItemId}/approval")
     public ResponseEntity<ApiResponse<Long>> requestApproval(
@@ -176,11 +335,11 @@ public class HodICItemController {
 
         log.info("결재 승인 요청 API 호출: hodIcItemId={}, 사용자={}", hodIcItemId, currentUserId);
 
-        Long approvalId = hodICItemService.requestApproval(hodIcItemId, currentUserId);
+        Long requestId = hodICItemService.requestApproval(hodIcItemId, currentUserId);
 
-        log.info("결재 승인 요청 완료: hodIcItemId={}, approvalId={}", hodIcItemId, approvalId);
-        return ResponseEntity.ok(
-            ApiResponse.success("결재 승인 요청이 성공적으로 처리되었습니다.", approvalId)
+        log.info("결재 승인 요청 접수: hodIcItemId={}, requestId={}", hodIcItemId, requestId);
+        return ResponseEntity.accepted().body(
+            ApiResponse.success("결재 승인 요청이 접수되었습니다.", requestId)
         );
     }
 
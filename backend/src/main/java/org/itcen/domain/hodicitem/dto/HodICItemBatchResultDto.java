@@ -0,0 +1,101 @@
+package org.itcen.domain.hodicitem.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 부서장 내부통제 항목 일괄 처리 결과 DTO
+ *
+ * 일괄 삭제/결재 요청의 항목별 처리 결과를 전달합니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 일괄 처리 결과 데이터 전송만 담당
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HodICItemBatchResultDto {
+
+    /**
+     * 요청 건수
+     */
+    private int requestedCount;
+
+    /**
+     * 성공 건수
+     */
+    private int successCount;
+
+    /**
+     * 실패 건수
+     */
+    private int failureCount;
+
+    /**
+     * 항목별 처리 결과 (요청 순서)
+     */
+    private List<ItemResult> results;
+
+    /**
+     * 항목별 처리 결과
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ItemResult {
+
+        /**
+         * 부서장 내부통제 항목 ID
+         */
+        private Long hodIcItemId;
+
+        /**
+         * 성공 여부
+         */
+        private boolean success;
+
+        /**
+         * 실패 사유 코드 (NOT_FOUND, NOT_OWNER, APPROVAL_IN_PROGRESS, ALREADY_REQUESTED, CONFLICT)
+         */
+        private String errorCode;
+
+        /**
+         * 실패 사유 메시지
+         */
+        private String message;
+
+        public static ItemResult success(Long hodIcItemId) {
+            return ItemResult.builder().hodIcItemId(hodIcItemId).success(true).build();
+        }
+
+        public static ItemResult failure(Long hodIcItemId, String errorCode, String message) {
+            return ItemResult.builder()
+                    .hodIcItemId(hodIcItemId)
+                    .success(false)
+                    .errorCode(errorCode)
+                    .message(message)
+                    .build();
+        }
+    }
+
+    /**
+     * 항목별 결과로 일괄 처리 결과 생성
+     *
+     * @param results 항목별 처리 결과
+     * @return 일괄 처리 결과
+     */
+    public static HodICItemBatchResultDto of(List<ItemResult> results) {
+        int successCount = (int) results.stream().filter(ItemResult::isSuccess).count();
+        return HodICItemBatchResultDto.builder()
+                .requestedCount(results.size())
+                .successCount(successCount)
+                .failureCount(results.size() - successCount)
+                .results(results)
+                .build();
+    }
+}
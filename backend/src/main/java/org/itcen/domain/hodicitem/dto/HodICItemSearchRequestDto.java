@@ -0,0 +1,67 @@
+package org.itcen.domain.hodicitem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 부서장 내부통제 항목 현황 검색 요청 DTO
+ *
+ * 현황 목록의 페이징, 정렬, 필터 조건을 전송하기 위한 DTO입니다.
+ * 값이 없는 조건은 WHERE 절에서 제외되어 인덱스를 사용할 수 있는 조건만 생성됩니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 부서장 내부통제 항목 검색 조건 데이터 전송만 담당
+ * - Open/Closed: 새로운 검색 조건 추가 시 확장 가능
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HodICItemSearchRequestDto {
+
+    /**
+     * 책무번호(원장차수) 필터
+     */
+    private String ledgerOrder;
+
+    /**
+     * 부서코드 필터
+     */
+    private String deptCd;
+
+    /**
+     * 항목구분 필터 (FIELD_TYPE)
+     */
+    private String fieldTypeCd;
+
+    /**
+     * 결재상태 필터 (결재 요청 전 항목은 NONE)
+     */
+    private String approvalStatus;
+
+    /**
+     * 페이지 번호 (0부터 시작)
+     */
+    @Builder.Default
+    private Integer page = 0;
+
+    /**
+     * 페이지 크기
+     */
+    @Builder.Default
+    private Integer size = 20;
+
+    /**
+     * 정렬 기준 (hodIcItemId, deptCd, fieldTypeCd, approvalStatus, ledgerOrder, createdAt, updatedAt)
+     */
+    @Builder.Default
+    private String sortBy = "hodIcItemId";
+
+    /**
+     * 정렬 방향 (asc, desc)
+     */
+    @Builder.Default
+    private String sortDirection = "asc";
+}
@@ -0,0 +1,106 @@
+package org.itcen.domain.hodicitem.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 부서장 내부통제 항목 현황 DTO
+ *
+ * hod_ic_item, responsibility, approval JOIN 결과를 담는 클래스 기반 Projection 입니다.
+ * 인터페이스 Projection(프록시) 대신 @ConstructorResult 로 생성자에 직접 매핑되어 행마다 프록시/Map 을 만들지 않습니다.
+ * (매핑 정의: HodICItem 엔티티의 {@code HodICItemStatusMapping})
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 부서장 내부통제 항목 현황 데이터 전송만 담당
+ * - Open/Closed: 새로운 필드 추가 시 확장 가능
+ */
+@Getter
+@AllArgsConstructor
+public class HodICItemStatusDto {
+
+    /**
+     * 부서장 내부통제 항목 ID
+     */
+    private final Long hodIcItemId;
+
+    /**
+     * 책무 ID
+     */
+    private final Long responsibilityId;
+
+    /**
+     * 책무 내용
+     */
+    private final String responsibilityContent;
+
+    /**
+     * 부서명
+     */
+    private final String deptCd;
+
+    /**
+     * 항목구분
+     */
+    private final String fieldTypeCd;
+
+    /**
+     * 직무구분
+     */
+    private final String roleTypeCd;
+
+    /**
+     * 내부통제 업무
+     */
+    private final String icTask;
+
+    /**
+     * 조치활동
+     */
+    private final String measureDesc;
+
+    /**
+     * 조치유형
+     */
+    private final String measureType;
+
+    /**
+     * 주기
+     */
+    private final String periodCd;
+
+    /**
+     * 관련근거
+     */
+    private final String supportDoc;
+
+    /**
+     * 점검시기
+     */
+    private final String checkPeriod;
+
+    /**
+     * 점검방법
+     */
+    private final String checkWay;
+
+    /**
+     * 등록일자
+     */
+    private final LocalDateTime createdAt;
+
+    /**
+     * 최종수정일자
+     */
+    private final LocalDateTime updatedAt;
+
+    /**
+     * 결재상태
+     */
+    private final String approvalStatus;
+
+    /**
+     * 책무번호(원장차수)
+     */
+    private final String ledgerOrder;
+}
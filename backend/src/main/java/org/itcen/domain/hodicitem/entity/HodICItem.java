@@ -7,9 +7,11 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import org.itcen.common.entity.BaseTimeEntity;
+import org.itcen.domain.hodicitem.dto.HodICItemStatusDto;
 import org.itcen.domain.responsibility.entity.Responsibility;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * 부서장 내부통제 항목 엔티티
@@ -25,6 +27,26 @@ import java.time.LocalDate;
  */
 @Entity
 @Table(name = "hod_ic_item")
+@SqlResultSetMapping(name = HodICItem.STATUS_MAPPING, classes = @ConstructorResult(
+        targetClass = HodICItemStatusDto.class,
+        columns = {
+                @ColumnResult(name = "hod_ic_item_id", type = Long.class),
+                @ColumnResult(name = "responsibility_id", type = Long.class),
+                @ColumnResult(name = "responsibility_content", type = String.class),
+                @ColumnResult(name = "dept_cd", type = String.class),
+                @ColumnResult(name = "field_type_cd", type = String.class),
+                @ColumnResult(name = "role_type_cd", type = String.class),
+                @ColumnResult(name = "ic_task", type = String.class),
+                @ColumnResult(name = "measure_desc", type = String.class),
+                @ColumnResult(name = "measure_type", type = String.class),
+                @ColumnResult(name = "period_cd", type = String.class),
+                @ColumnResult(name = "support_doc", type = String.class),
+                @ColumnResult(name = "check_period", type = String.class),
+                @ColumnResult(name = "check_way", type = String.class),
+                @ColumnResult(name = "created_at", type = LocalDateTime.class),
+                @ColumnResult(name = "updated_at", type = LocalDateTime.class),
+                @ColumnResult(name = "approval_status", type = String.class),
+                @ColumnResult(name = "ledger_order", type = String.class)}))
 @Data
 @EqualsAndHashCode(callSuper = false)
 @Builder
@@ -32,6 +54,11 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class HodICItem extends BaseTimeEntity {
 
+    /**
+     * 현황 조회 결과 → HodICItemStatusDto 생성자 매핑 이름
+     */
+    public static final String STATUS_MAPPING = "HodICItemStatusMapping";
+
     /**
      * 부서장 내부통제 항목 ID (Primary Key)
      */
@@ -1,12 +1,15 @@
 package org.itcen.domain.hodicitem.repository;
 
 import java.util.List;
-import org.itcen.domain.hodicitem.dto.HodICItemStatusProjection;
 import org.itcen.domain.hodicitem.entity.HodICItem;
+import java.util.Collection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.LockModeType;
 
 /**
  * 부서장 내부통제 항목 Repository
@@ -17,39 +20,8 @@ import org.springframework.stereotype.Repository;
  * Dependency Inversion: 구현체에 의존하지 않고 인터페이스에 의존
  */
 @Repository
-public interface HodICItemRepository extends JpaRepository<HodICItem, Long> {
-
-    /**
-     * 부서장 내부통제 항목 현황 조회 (JOIN 쿼리) hod_ic_item, responsibility INNER JOIN approval은 OUTER JOIN하여
-     * 결재상태 조회 (Native Query 사용)
-     */
-    @Query(value = """
-                SELECT
-                    h.hod_ic_item_id as "hodIcItemId",
-                    r.responsibility_id as "responsibilityId",
-                    r.responsibility_content as "responsibilityContent",
-                    h.dept_cd as "deptCd",
-                    h.field_type_cd as "fieldTypeCd",
-                    h.role_type_cd as "roleTypeCd",
-                    h.ic_task as "icTask",
-                    h.measure_desc as "measureDesc",
-                    h.measure_type as "measureType",
-                    h.period_cd as "periodCd",
-                    h.support_doc as "supportDoc",
-                    h.check_period as "checkPeriod",
-                    h.check_way as "checkWay",
-                    h.created_at as "createdAt",
-                    h.updated_at as "updatedAt",
-                    COALESCE(a.appr_stat_cd, 'NONE') as "approvalStatus",
-                    h.ledger_order as "ledgerOrder"
-                FROM hod_ic_item h
-                INNER JOIN responsibility r ON h.responsibility_id = r.responsibility_id
-                LEFT JOIN approval a ON h.approval_id = a.approval_id
-                WHERE (:ledgerOrder IS NULL OR h.ledger_order = :ledgerOrder)
-                ORDER BY h.hod_ic_item_id
-            """, nativeQuery = true)
-    List<HodICItemStatusProjection> findHodICItemStatusList(
-            @Param("ledgerOrder") String ledgerOrder);
+public interface HodICItemRepository
+        extends JpaRepository<HodICItem, Long>, HodICItemRepositoryCustom {
 
     /**
      * 특정 책무번호로 부서장 내부통제 항목 조회
@@ -79,4 +51,44 @@ public interface HodICItemRepository extends JpaRepository<HodICItem, Long> {
             """,
             nativeQuery = true)
     List<HodICItem> findByApprovalStatus(@Param("approvalStatus") String approvalStatus);
+
+    /**
+     * 일괄 처리 대상 항목 조회 (단일 SELECT ... FOR UPDATE)
+     *
+     * 검증부터 벌크 DELETE/UPDATE 까지 다른 요청이 대상 행을 변경하지 못하도록 행 잠금을 겁니다.
+     *
+     * @param hodIcItemIds 대상 항목 ID 목록
+     * @return 존재하는 항목 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM HodICItem h WHERE h.hodIcItemId IN :ids")
+    List<HodICItem> findAllByIdForUpdate(@Param("ids") Collection<Long> hodIcItemIds);
+
+    /**
+     * 결재 요청 전 항목 일괄 삭제 (단일 DELETE 문)
+     *
+     * 검증 이후 다른 요청으로 결재가 시작된 항목은 삭제되지 않도록 approval_id 조건을 함께 적용합니다.
+     *
+     * @param hodIcItemIds 삭제할 항목 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM HodICItem h WHERE h.hodIcItemId IN :ids AND h.approvalId IS NULL")
+    int deleteAllUnapprovedByIdIn(@Param("ids") Collection<Long> hodIcItemIds);
+
+    /**
+     * 결재 요청 전 항목에 결재 ID 일괄 설정 (단일 UPDATE 문)
+     *
+     * 벌크 UPDATE 는 엔티티 콜백(@PreUpdate)을 거치지 않으므로 수정일시/수정자를 직접 갱신합니다.
+     *
+     * @param hodIcItemIds 대상 항목 ID 목록
+     * @param approvalId 결재 ID
+     * @param updatedId 수정자 ID
+     * @return 갱신된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE HodICItem h SET h.approvalId = :approvalId, h.updatedAt = CURRENT_TIMESTAMP, "
+            + "h.updatedId = :updatedId WHERE h.hodIcItemId IN :ids AND h.approvalId IS NULL")
+    int updateApprovalIdForUnrequested(@Param("ids") Collection<Long> hodIcItemIds,
+            @Param("approvalId") Long approvalId, @Param("updatedId") String updatedId);
 }
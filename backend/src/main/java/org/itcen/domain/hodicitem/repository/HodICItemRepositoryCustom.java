@@ -0,0 +1,50 @@
+package org.itcen.domain.hodicitem.repository;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.itcen.domain.hodicitem.dto.HodICItemSearchRequestDto;
+import org.itcen.domain.hodicitem.dto.HodICItemStatusDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 부서장 내부통제 항목 동적 조회 Repository
+ *
+ * 검색 조건에 따라 WHERE/ORDER BY 절을 동적으로 구성하는 조회를 정의합니다.
+ *
+ * SOLID 원칙: - Interface Segregation: 동적 현황 조회 메서드만 정의
+ */
+public interface HodICItemRepositoryCustom {
+
+    /**
+     * 부서장 내부통제 항목 현황 페이징 조회
+     *
+     * @param searchRequest 검색 조건 (값이 없는 조건은 제외)
+     * @param pageable 페이징/정렬 정보
+     * @return 페이징된 현황 목록
+     */
+    Page<HodICItemStatusDto> searchHodICItemStatus(HodICItemSearchRequestDto searchRequest,
+            Pageable pageable);
+
+    /**
+     * 부서장 내부통제 항목 현황 페이징 조회 (고른 속성의 컬럼만 조회)
+     *
+     * @param searchRequest 검색 조건 (값이 없는 조건은 제외)
+     * @param pageable 페이징/정렬 정보 (정렬 항목은 고르지 않은 속성도 가능)
+     * @param fields HodICItemStatusDto 속성명
+     * @return 속성명 → 값 (요청 순서) 페이지
+     */
+    Page<Map<String, Object>> searchHodICItemStatus(HodICItemSearchRequestDto searchRequest,
+            Pageable pageable, Set<String> fields);
+
+    /**
+     * 부서장 내부통제 항목 현황 전체 스트리밍 조회 (hod_ic_item_id 순)
+     *
+     * 반드시 읽기 전용 트랜잭션 안에서 사용하고, 사용 후 Stream 을 닫아야 합니다.
+     *
+     * @param searchRequest 검색 조건 (값이 없는 조건은 제외)
+     * @return 현황 Stream
+     */
+    Stream<HodICItemStatusDto> streamHodICItemStatus(HodICItemSearchRequestDto searchRequest);
+}
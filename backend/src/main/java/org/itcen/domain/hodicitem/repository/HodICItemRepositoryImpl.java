@@ -0,0 +1,225 @@
+package org.itcen.domain.hodicitem.repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.itcen.domain.hodicitem.dto.HodICItemSearchRequestDto;
+import org.itcen.domain.hodicitem.dto.HodICItemStatusDto;
+import org.itcen.domain.hodicitem.entity.HodICItem;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+
+/**
+ * 부서장 내부통제 항목 동적 조회 Repository 구현체
+ *
+ * 값이 있는 조건만 WHERE 절에 추가하여 ":x IS NULL OR ..." 형태 없이 인덱스를 사용할 수 있는 조건만 생성합니다.
+ * 결과는 @ConstructorResult 매핑으로 HodICItemStatusDto 에 바로 생성됩니다.
+ * ?fields= 로 속성을 고르면 해당 컬럼만 SELECT 하여 속성명 → 값 Map 으로 반환합니다.
+ *
+ * SOLID 원칙: - Single Responsibility: 부서장 내부통제 항목 동적 현황 조회만 담당
+ */
+public class HodICItemRepositoryImpl implements HodICItemRepositoryCustom {
+
+    /**
+     * 스트리밍 조회 시 한 번에 가져올 행 수
+     */
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    /**
+     * 현황 속성 → SELECT 항목 (HodICItemStatusDto 생성자 순서, ?fields= 선택 가능 속성)
+     */
+    private static final Map<String, String> STATUS_COLUMNS = statusColumns();
+
+    private static final String SELECT_COLUMNS =
+            "SELECT " + String.join(", ", STATUS_COLUMNS.values()) + " ";
+
+    private static final String FROM_CLAUSE = """
+            FROM hod_ic_item h
+            INNER JOIN responsibility r ON h.responsibility_id = r.responsibility_id
+            LEFT JOIN approval a ON h.approval_id = a.approval_id
+            """;
+
+    /**
+     * 정렬 가능한 속성 → 컬럼 (화이트리스트)
+     */
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "hodIcItemId", "h.hod_ic_item_id",
+            "deptCd", "h.dept_cd",
+            "fieldTypeCd", "h.field_type_cd",
+            "approvalStatus", "COALESCE(a.appr_stat_cd, 'NONE')",
+            "ledgerOrder", "h.ledger_order",
+            "createdAt", "h.created_at",
+            "updatedAt", "h.updated_at");
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Page<HodICItemStatusDto> searchHodICItemStatus(HodICItemSearchRequestDto searchRequest,
+            Pageable pageable) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        String where = buildWhereClause(searchRequest, params);
+
+        Query query = em.createNativeQuery(
+                SELECT_COLUMNS + FROM_CLAUSE + where + buildOrderByClause(pageable.getSort()),
+                HodICItem.STATUS_MAPPING);
+        params.forEach(query::setParameter);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+        List<HodICItemStatusDto> content = query.getResultList();
+        return toPage(content, pageable, where, params);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Page<Map<String, Object>> searchHodICItemStatus(HodICItemSearchRequestDto searchRequest,
+            Pageable pageable, Set<String> fields) {
+        List<String> properties = List.copyOf(fields);
+        StringJoiner select = new StringJoiner(", ", "SELECT ", " ");
+        for (String property : properties) {
+            String column = STATUS_COLUMNS.get(property);
+            if (column == null) {
+                throw new IllegalArgumentException("선택할 수 없는 항목입니다: " + property);
+            }
+            select.add(column);
+        }
+
+        Map<String, Object> params = new LinkedHashMap<>();
+        String where = buildWhereClause(searchRequest, params);
+
+        Query query = em.createNativeQuery(
+                select + FROM_CLAUSE + where + buildOrderByClause(pageable.getSort()), Tuple.class);
+        params.forEach(query::setParameter);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+        List<Tuple> tuples = query.getResultList();
+
+        List<Map<String, Object>> content = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < properties.size(); i++) {
+                Object value = tuple.get(i);
+                row.put(properties.get(i), value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : value);
+            }
+            content.add(row);
+        }
+        return toPage(content, pageable, where, params);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<HodICItemStatusDto> streamHodICItemStatus(HodICItemSearchRequestDto searchRequest) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        String where = buildWhereClause(searchRequest, params);
+
+        Query query = em.createNativeQuery(
+                SELECT_COLUMNS + FROM_CLAUSE + where + " ORDER BY h.hod_ic_item_id",
+                HodICItem.STATUS_MAPPING);
+        params.forEach(query::setParameter);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        return query.getResultStream();
+    }
+
+    /**
+     * 조회 결과를 페이지로 (첫 페이지가 다 차지 않으면 COUNT 쿼리 생략)
+     */
+    private <T> Page<T> toPage(List<T> content, Pageable pageable, String where, Map<String, Object> params) {
+        if (pageable.getOffset() == 0 && content.size() < pageable.getPageSize()) {
+            return new PageImpl<>(content, pageable, content.size());
+        }
+
+        Query countQuery = em.createNativeQuery("SELECT COUNT(*) " + FROM_CLAUSE + where);
+        params.forEach(countQuery::setParameter);
+        long total = ((Number) countQuery.getSingleResult()).longValue();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private String buildWhereClause(HodICItemSearchRequestDto searchRequest,
+            Map<String, Object> params) {
+        List<String> conditions = new ArrayList<>();
+        if (searchRequest != null) {
+            if (hasText(searchRequest.getLedgerOrder())) {
+                conditions.add("h.ledger_order = :ledgerOrder");
+                params.put("ledgerOrder", searchRequest.getLedgerOrder().trim());
+            }
+            if (hasText(searchRequest.getDeptCd())) {
+                conditions.add("h.dept_cd = :deptCd");
+                params.put("deptCd", searchRequest.getDeptCd().trim());
+            }
+            if (hasText(searchRequest.getFieldTypeCd())) {
+                conditions.add("h.field_type_cd = :fieldTypeCd");
+                params.put("fieldTypeCd", searchRequest.getFieldTypeCd().trim());
+            }
+            if (hasText(searchRequest.getApprovalStatus())) {
+                String approvalStatus = searchRequest.getApprovalStatus().trim();
+                if ("NONE".equals(approvalStatus)) {
+                    // COALESCE(a.appr_stat_cd, 'NONE') = 'NONE' 과 동일
+                    conditions.add("(a.approval_id IS NULL OR a.appr_stat_cd IS NULL)");
+                } else {
+                    conditions.add("a.appr_stat_cd = :approvalStatus");
+                    params.put("approvalStatus", approvalStatus);
+                }
+            }
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private String buildOrderByClause(Sort sort) {
+        StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+        boolean hasIdOrder = false;
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("정렬할 수 없는 항목입니다: " + order.getProperty());
+            }
+            orderBy.append(column).append(order.isAscending() ? " ASC" : " DESC").append(", ");
+            hasIdOrder |= "hodIcItemId".equals(order.getProperty());
+        }
+        if (hasIdOrder) {
+            return orderBy.substring(0, orderBy.length() - 2);
+        }
+        // 페이지 경계가 흔들리지 않도록 PK 를 마지막 정렬 기준으로 고정
+        return orderBy.append("h.hod_ic_item_id ASC").toString();
+    }
+
+    private static Map<String, String> statusColumns() {
+        Map<String, String> columns = new LinkedHashMap<>();
+        columns.put("hodIcItemId", "h.hod_ic_item_id AS hod_ic_item_id");
+        columns.put("responsibilityId", "r.responsibility_id AS responsibility_id");
+        columns.put("responsibilityContent", "r.responsibility_content AS responsibility_content");
+        columns.put("deptCd", "h.dept_cd AS dept_cd");
+        columns.put("fieldTypeCd", "h.field_type_cd AS field_type_cd");
+        columns.put("roleTypeCd", "h.role_type_cd AS role_type_cd");
+        columns.put("icTask", "h.ic_task AS ic_task");
+        columns.put("measureDesc", "h.measure_desc AS measure_desc");
+        columns.put("measureType", "h.measure_type AS measure_type");
+        columns.put("periodCd", "h.period_cd AS period_cd");
+        columns.put("supportDoc", "h.support_doc AS support_doc");
+        columns.put("checkPeriod", "h.check_period AS check_period");
+        columns.put("checkWay", "h.check_way AS check_way");
+        columns.put("createdAt", "h.created_at AS created_at");
+        columns.put("updatedAt", "h.updated_at AS updated_at");
+        columns.put("approvalStatus", "COALESCE(a.appr_stat_cd, 'NONE') AS approval_status");
+        columns.put("ledgerOrder", "h.ledger_order AS ledger_order");
+        return Collections.unmodifiableMap(columns);
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+}
@@ -0,0 +1,49 @@
+package org.itcen.domain.hodicitem.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.itcen.domain.approval.service.ApprovalTargetHandler;
+import org.itcen.domain.hodicitem.entity.HodICItem;
+import org.itcen.domain.hodicitem.repository.HodICItemRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * 부서장 내부통제 항목 결재 대상 처리기
+ *
+ * 결재 요청 Outbox 워커가 생성한 결재 ID 를 hod_ic_item.approval_id 에 반영합니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 부서장 내부통제 항목 결재 ID 반영만 담당
+ * - Liskov Substitution: ApprovalTargetHandler 인터페이스를 안전하게 구현
+ */
+@Component
+@RequiredArgsConstructor
+public class HodICItemApprovalTargetHandler implements ApprovalTargetHandler {
+
+    /**
+     * 결재 요청 Outbox 업무 구분
+     */
+    public static final String AGGREGATE_TYPE = "HOD_IC_ITEM";
+
+    private final HodICItemRepository hodICItemRepository;
+
+    @Override
+    public String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+
+    @Override
+    public boolean lockIfRequestable(Long aggregateId) {
+        List<HodICItem> items = hodICItemRepository.findAllByIdForUpdate(List.of(aggregateId));
+        return !items.isEmpty() && items.get(0).getApprovalId() == null;
+    }
+
+    @Override
+    public void assignApproval(Long aggregateId, Long approvalId, String requesterId) {
+        int updated = hodICItemRepository.updateApprovalIdForUnrequested(List.of(aggregateId), approvalId,
+                requesterId);
+        if (updated != 1) {
+            throw new IllegalStateException("결재 ID 반영 대상이 변경되었습니다. hodIcItemId=" + aggregateId);
+        }
+    }
+}
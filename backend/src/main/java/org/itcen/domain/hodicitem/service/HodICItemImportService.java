@@ -0,0 +1,26 @@
+package org.itcen.domain.hodicitem.service;
+
+import org.itcen.common.dto.BulkImportResultDto;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 부서장 내부통제 항목 대량 등록 서비스 인터페이스
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 부서장 내부통제 항목 파일 대량 등록만 담당
+ * - Dependency Inversion: 구현체가 아닌 인터페이스에 의존
+ */
+public interface HodICItemImportService {
+
+    /**
+     * CSV/XLSX 파일로 부서장 내부통제 항목 대량 등록
+     *
+     * 첫 행은 헤더이며 컬럼명은 hod_ic_item 컬럼명 또는 필드명을 사용합니다. responsibility_id 는 필수입니다.
+     *
+     * @param file 업로드 파일
+     * @param allowPartial true 이면 오류 행을 제외하고 적재, false 이면 오류가 하나라도 있으면 전체 롤백
+     * @param currentUserId 현재 사용자 ID
+     * @return 적재 결과 및 행 단위 오류
+     */
+    BulkImportResultDto importHodICItems(MultipartFile file, boolean allowPartial, String currentUserId);
+}
@@ -0,0 +1,273 @@
+package org.itcen.domain.hodicitem.service;
+
+import java.io.IOException;
+import java.sql.Array;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.itcen.common.dto.BulkImportResultDto;
+import org.itcen.common.dto.BulkImportResultDto.RowError;
+import org.itcen.common.exception.BusinessException;
+import org.itcen.common.importer.ImportReport;
+import org.itcen.common.importer.PgCopyBuffer;
+import org.itcen.common.importer.TabularFileParser;
+import org.itcen.common.importer.TabularHeader;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 부서장 내부통제 항목 대량 등록 서비스 구현체
+ *
+ * 파일을 스트리밍으로 읽어 {@value #CHUNK_SIZE}건 단위로 검증한 뒤 PostgreSQL COPY 로 적재합니다.
+ *
+ * - 형식/길이/공통코드/부서 검증은 행을 읽을 때 메모리의 코드 집합으로 수행 (기동 시가 아닌 요청마다 1회 조회)
+ * - 책무 존재 여부는 청크마다 한 번의 쿼리(= ANY(array))로 검증
+ * - 청크 단위로 버퍼를 비우므로 힙 사용량은 파일 크기가 아닌 청크 크기에 비례
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 부서장 내부통제 항목 대량 등록만 담당
+ * - Liskov Substitution: HodICItemImportService 인터페이스를 안전하게 구현
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class HodICItemImportServiceImpl implements HodICItemImportService {
+
+    /**
+     * 검증/적재 단위 행 수
+     */
+    private static final int CHUNK_SIZE = 5000;
+
+    /**
+     * 파일당 최대 데이터 행 수
+     */
+    private static final int MAX_ROWS = 200_000;
+
+    private static final String TABLE = "hod_ic_item";
+
+    private static final String[] COPY_COLUMNS = {"responsibility_id", "ledger_order", "order_status",
+            "date_expired", "field_type_cd", "role_type_cd", "dept_cd", "ic_task", "measure_desc", "measure_type",
+            "period_cd", "support_doc", "check_period", "check_way", "proof_doc", "created_id", "updated_id",
+            "created_at", "updated_at"};
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("yyyy/MM/dd"), DateTimeFormatter.ofPattern("yyyy.MM.dd"),
+            DateTimeFormatter.BASIC_ISO_DATE);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public BulkImportResultDto importHodICItems(MultipartFile file, boolean allowPartial, String currentUserId) {
+        log.info("부서장 내부통제 항목 대량 등록 시작: file={}, size={}, 사용자={}", file.getOriginalFilename(),
+                file.getSize(), currentUserId);
+
+        ImportReport report = new ImportReport();
+        ChunkLoader loader = new ChunkLoader(report, loadCodeSets(), currentUserId);
+        try {
+            TabularFileParser.parse(file, loader::accept);
+        } catch (IOException e) {
+            throw new BusinessException("업로드 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+        loader.finish();
+
+        boolean committed = !report.hasErrors() || allowPartial;
+        if (!committed) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+        BulkImportResultDto result = report.toResult(committed);
+        log.info("부서장 내부통제 항목 대량 등록 완료: 전체 {}건, 적재 {}건, 오류 {}건, 반영={}, {}ms",
+                result.getTotalRows(), result.getImportedRows(), result.getErrorRows(), committed,
+                result.getElapsedMs());
+        return result;
+    }
+
+    /**
+     * 검증용 공통코드/부서 코드 집합 조회
+     */
+    private CodeSets loadCodeSets() {
+        Map<String, Set<String>> groups = new HashMap<>();
+        jdbcTemplate.query("SELECT group_code, code FROM common_code WHERE use_yn = 'Y' "
+                + "AND group_code IN ('FIELD_TYPE', 'COM_ROLE_TYPE', 'UNI_ROLE_TYPE', 'PERIOD', 'MONTH')",
+                rs -> {
+                    groups.computeIfAbsent(rs.getString(1), key -> new HashSet<>()).add(rs.getString(2));
+                });
+        Set<String> roleTypes = new HashSet<>(groups.getOrDefault("COM_ROLE_TYPE", Set.of()));
+        roleTypes.addAll(groups.getOrDefault("UNI_ROLE_TYPE", Set.of()));
+        Set<String> departments = new HashSet<>(
+                jdbcTemplate.queryForList("SELECT department_id FROM departments", String.class));
+        return new CodeSets(groups.getOrDefault("FIELD_TYPE", Set.of()), roleTypes,
+                groups.getOrDefault("PERIOD", Set.of()), groups.getOrDefault("MONTH", Set.of()), departments);
+    }
+
+    /**
+     * 검증용 코드 집합 (그룹에 코드가 하나도 없으면 해당 컬럼은 코드 검증 생략)
+     */
+    private record CodeSets(Set<String> fieldTypes, Set<String> roleTypes, Set<String> periods,
+            Set<String> months, Set<String> departments) {
+    }
+
+    /**
+     * 검증을 통과한 행 (책무 존재 여부는 청크 단위로 검증)
+     */
+    private record ImportRow(int rowNumber, Long responsibilityId, Object[] values) {
+    }
+
+    /**
+     * 행 검증과 청크 단위 COPY 적재
+     */
+    private final class ChunkLoader {
+
+        private final ImportReport report;
+        private final CodeSets codes;
+        private final String currentUserId;
+        private final String now = OffsetDateTime.now().toString();
+        private final PgCopyBuffer copyBuffer = new PgCopyBuffer(TABLE, COPY_COLUMNS);
+        private final List<ImportRow> pending = new ArrayList<>(CHUNK_SIZE);
+        private TabularHeader header;
+
+        ChunkLoader(ImportReport report, CodeSets codes, String currentUserId) {
+            this.report = report;
+            this.codes = codes;
+            this.currentUserId = currentUserId;
+        }
+
+        void accept(int rowNumber, String[] cells) {
+            if (header == null) {
+                header = TabularHeader.of(cells);
+                if (!header.contains("responsibility_id")) {
+                    throw new BusinessException("필수 컬럼(responsibility_id)이 헤더에 없습니다.");
+                }
+                return;
+            }
+            report.countRow();
+            if (report.getTotalRows() > MAX_ROWS) {
+                throw new BusinessException("한 번에 등록할 수 있는 행은 최대 " + MAX_ROWS + "건입니다.");
+            }
+
+            List<RowError> errors = new ArrayList<>(2);
+            Long responsibilityId = null;
+            String responsibilityIdText = header.get(cells, "responsibility_id");
+            if (responsibilityIdText == null) {
+                errors.add(new RowError(rowNumber, "responsibility_id", "필수 값입니다."));
+            } else {
+                try {
+                    responsibilityId = Long.valueOf(responsibilityIdText);
+                } catch (NumberFormatException e) {
+                    errors.add(new RowError(rowNumber, "responsibility_id", "숫자여야 합니다: " + responsibilityIdText));
+                }
+            }
+
+            LocalDate dateExpired = parseDate(rowNumber, header.get(cells, "date_expired"), errors);
+            Object[] values = {responsibilityId,
+                    text(rowNumber, cells, "ledger_order", 100, errors),
+                    text(rowNumber, cells, "order_status", 20, errors),
+                    dateExpired != null ? dateExpired : LocalDate.of(9999, 12, 31),
+                    code(rowNumber, cells, "field_type_cd", codes.fieldTypes(), errors),
+                    code(rowNumber, cells, "role_type_cd", codes.roleTypes(), errors),
+                    code(rowNumber, cells, "dept_cd", codes.departments(), errors),
+                    text(rowNumber, cells, "ic_task", 1000, errors),
+                    text(rowNumber, cells, "measure_desc", 1000, errors),
+                    text(rowNumber, cells, "measure_type", 1000, errors),
+                    code(rowNumber, cells, "period_cd", codes.periods(), errors),
+                    text(rowNumber, cells, "support_doc", 1000, errors),
+                    code(rowNumber, cells, "check_period", codes.months(), errors),
+                    text(rowNumber, cells, "check_way", 1000, errors),
+                    text(rowNumber, cells, "proof_doc", 1000, errors),
+                    currentUserId, currentUserId, now, now};
+
+            if (!errors.isEmpty()) {
+                report.reject(errors);
+                return;
+            }
+            pending.add(new ImportRow(rowNumber, responsibilityId, values));
+            if (pending.size() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void finish() {
+            if (header == null) {
+                throw new BusinessException("업로드 파일에 헤더 행이 없습니다.");
+            }
+            flush();
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            Set<Long> existing = findExistingResponsibilityIds(pending);
+            for (ImportRow row : pending) {
+                if (existing.contains(row.responsibilityId())) {
+                    copyBuffer.addRow(row.values());
+                } else {
+                    report.reject(row.rowNumber(), "responsibility_id",
+                            "존재하지 않는 책무입니다: " + row.responsibilityId());
+                }
+            }
+            pending.clear();
+            long copied = jdbcTemplate.execute((ConnectionCallback<Long>) copyBuffer::flush);
+            report.addImported(copied);
+        }
+
+        private Set<Long> findExistingResponsibilityIds(List<ImportRow> rows) {
+            Long[] ids = rows.stream().map(ImportRow::responsibilityId).distinct().toArray(Long[]::new);
+            Set<Long> existing = new HashSet<>();
+            jdbcTemplate.query("SELECT responsibility_id FROM responsibility WHERE responsibility_id = ANY(?)",
+                    ps -> {
+                        Array array = ps.getConnection().createArrayOf("int8", ids);
+                        ps.setArray(1, array);
+                    },
+                    rs -> {
+                        existing.add(rs.getLong(1));
+                    });
+            return existing;
+        }
+
+        private String text(int rowNumber, String[] cells, String column, int maxLength, List<RowError> errors) {
+            String value = header.get(cells, column);
+            if (value != null && value.length() > maxLength) {
+                errors.add(new RowError(rowNumber, column, "최대 " + maxLength + "자까지 입력할 수 있습니다."));
+            }
+            return value;
+        }
+
+        private String code(int rowNumber, String[] cells, String column, Set<String> allowed,
+                List<RowError> errors) {
+            String value = text(rowNumber, cells, column, 10, errors);
+            if (value != null && !allowed.isEmpty() && !allowed.contains(value)) {
+                errors.add(new RowError(rowNumber, column, "유효하지 않은 코드입니다: " + value));
+            }
+            return value;
+        }
+
+        private LocalDate parseDate(int rowNumber, String value, List<RowError> errors) {
+            if (value == null) {
+                return null;
+            }
+            for (DateTimeFormatter format : DATE_FORMATS) {
+                try {
+                    return LocalDate.parse(value, format);
+                } catch (DateTimeParseException e) {
+                    // 다음 형식 시도
+                }
+            }
+            errors.add(new RowError(rowNumber, "date_expired", "날짜 형식(yyyy-MM-dd)이 아닙니다: " + value));
+            return null;
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package org.itcen.domain.hodicitem.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.itcen.domain.hodicitem.dto.HodICItemBatchResultDto;
 import org.itcen.domain.hodicitem.dto.HodICItemCreateRequestDto;
 import org.itcen.domain.hodicitem.dto.HodICItemResponseDto;
-import org.itcen.domain.hodicitem.dto.HodICItemStatusProjection;
+import org.itcen.domain.hodicitem.dto.HodICItemSearchRequestDto;
+import org.itcen.domain.hodicitem.dto.HodICItemStatusDto;
+import org.springframework.data.domain.Page;
 
 /**
  * 부서장 내부통제 항목 서비스 인터페이스
@@ -21,7 +27,35 @@ public interface HodICItemService {
      * @param ledgerOrder 책무번호(원장차수) 필터 (null이면 전체 조회)
      * @return 부서장 내부통제 항목 현황 목록
      */
-    List<HodICItemStatusProjection> getHodICItemStatusList(String ledgerOrder);
+    List<HodICItemStatusDto> getHodICItemStatusList(String ledgerOrder);
+
+    /**
+     * 부서장 내부통제 항목 현황 페이징 조회 (부서, 항목구분, 결재상태 필터 및 정렬)
+     *
+     * @param searchRequest 검색 조건
+     * @return 페이징된 부서장 내부통제 항목 현황
+     */
+    Page<HodICItemStatusDto> searchHodICItemStatus(HodICItemSearchRequestDto searchRequest);
+
+    /**
+     * 부서장 내부통제 항목 현황 페이징 조회 (고른 속성의 컬럼만 조회)
+     *
+     * @param searchRequest 검색 조건
+     * @param fields HodICItemStatusDto 속성명 (SparseFieldsets.parse 로 검증된 값)
+     * @return 속성명 → 값 페이지
+     */
+    Page<Map<String, Object>> searchHodICItemStatus(HodICItemSearchRequestDto searchRequest, Set<String> fields);
+
+    /**
+     * 부서장 내부통제 항목 현황 전체 스트리밍 조회 (원장 전체 다운로드용)
+     *
+     * 조회 결과를 메모리에 모으지 않고 한 행씩 consumer 로 전달합니다.
+     *
+     * @param searchRequest 검색 조건 (페이징/정렬 정보는 무시)
+     * @param consumer 행 처리기
+     */
+    void exportHodICItemStatus(HodICItemSearchRequestDto searchRequest,
+            Consumer<HodICItemStatusDto> consumer);
 
     /**
      * 부서장 내부통제 항목 상세 조회
@@ -62,19 +96,35 @@ public interface HodICItemService {
     /**
      * 결재 승인 요청 작성자ID = 로그인ID 인 경우에만 가능
      *
+     * 결재 요청을 Outbox 에 접수만 하고 즉시 반환합니다. 결재 생성과 approval_id 반영은 ApprovalOutboxWorker 가 처리합니다.
+     *
      * @param hodIcItemId 부서장 내부통제 항목 ID
      * @param currentUserId 현재 사용자 ID (작성자와 같아야 함)
-     * @return 생성된 결재 ID
+     * @return 결재 요청 접수 ID (Outbox ID)
      */
     Long requestApproval(Long hodIcItemId, String currentUserId);
 
     /**
      * 다중 삭제
      *
+     * 대상 항목을 한 번에 조회하여 검증한 뒤 단일 DELETE 문으로 삭제합니다.
+     *
      * @param hodIcItemIds 삭제할 부서장 내부통제 항목 ID 목록
      * @param currentUserId 현재 사용자 ID
+     * @return 항목별 처리 결과
+     */
+    HodICItemBatchResultDto deleteMultipleHodICItems(List<Long> hodIcItemIds, String currentUserId);
+
+    /**
+     * 다중 결재 승인 요청 작성자ID = 로그인ID 이고 결재 요청 전인 항목만 처리
+     *
+     * 대상 항목을 한 번에 조회하여 검증한 뒤 결재 요청을 Outbox 에 일괄 접수합니다.
+     *
+     * @param hodIcItemIds 결재 요청할 부서장 내부통제 항목 ID 목록
+     * @param currentUserId 현재 사용자 ID (작성자와 같아야 함)
+     * @return 항목별 처리 결과
      */
-    void deleteMultipleHodICItems(List<Long> hodIcItemIds, String currentUserId);
+    HodICItemBatchResultDto requestApprovalBatch(List<Long> hodIcItemIds, String currentUserId);
 
     /**
      * 작성자 권한 확인 결재 승인 요청 등에서 사용
@@ -2,18 +2,37 @@ package org.itcen.domain.hodicitem.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.itcen.common.cache.Coalesced;
 import org.itcen.common.exception.BusinessException;
+import org.itcen.domain.approval.service.ApprovalOutboxService;
+import org.itcen.domain.hodicitem.dto.HodICItemBatchResultDto;
+import org.itcen.domain.hodicitem.dto.HodICItemBatchResultDto.ItemResult;
 import org.itcen.domain.hodicitem.dto.HodICItemCreateRequestDto;
 import org.itcen.domain.hodicitem.dto.HodICItemResponseDto;
-import org.itcen.domain.hodicitem.dto.HodICItemStatusProjection;
+import org.itcen.domain.hodicitem.dto.HodICItemSearchRequestDto;
+import org.itcen.domain.hodicitem.dto.HodICItemStatusDto;
 import org.itcen.domain.hodicitem.entity.HodICItem;
 import org.itcen.domain.hodicitem.repository.HodICItemRepository;
 import org.itcen.domain.responsibility.entity.Responsibility;
 import org.itcen.domain.responsibility.repository.ResponsibilityRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 부서장 내부통제 항목 서비스 구현체
@@ -33,19 +52,94 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class HodICItemServiceImpl implements HodICItemService {
 
+    /**
+     * 현황 페이징 조회 최대 페이지 크기
+     */
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * 일괄 삭제/결재 요청 최대 건수
+     */
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final HodICItemRepository hodICItemRepository;
     private final ResponsibilityRepository responsibilityRepository;
+    private final ApprovalOutboxService approvalOutboxService;
 
     @Override
-    public List<HodICItemStatusProjection> getHodICItemStatusList(String ledgerOrder) {
+    @Coalesced(scope = Coalesced.Scope.GLOBAL)
+    public List<HodICItemStatusDto> getHodICItemStatusList(String ledgerOrder) {
         log.debug("부서장 내부통제 항목 현황 조회 시작: ledgerOrder={}", ledgerOrder);
 
-        List<HodICItemStatusProjection> resultList = hodICItemRepository.findHodICItemStatusList(ledgerOrder);
+        HodICItemSearchRequestDto searchRequest = HodICItemSearchRequestDto.builder()
+                .ledgerOrder(ledgerOrder)
+                .build();
+        List<HodICItemStatusDto> resultList;
+        try (Stream<HodICItemStatusDto> stream = hodICItemRepository.streamHodICItemStatus(searchRequest)) {
+            resultList = stream.toList();
+        }
 
         log.debug("부서장 내부통제 항목 현황 조회 완료: 총 {}건", resultList.size());
         return resultList;
     }
 
+    @Override
+    @Coalesced(scope = Coalesced.Scope.GLOBAL)
+    public Page<HodICItemStatusDto> searchHodICItemStatus(HodICItemSearchRequestDto searchRequest) {
+        log.debug("부서장 내부통제 항목 현황 검색 요청: {}", searchRequest);
+
+        Page<HodICItemStatusDto> result =
+                hodICItemRepository.searchHodICItemStatus(searchRequest, toPageable(searchRequest));
+
+        log.debug("부서장 내부통제 항목 현황 검색 완료: 총 {}건", result.getTotalElements());
+        return result;
+    }
+
+    @Override
+    @Coalesced(scope = Coalesced.Scope.GLOBAL)
+    public Page<Map<String, Object>> searchHodICItemStatus(HodICItemSearchRequestDto searchRequest,
+            Set<String> fields) {
+        log.debug("부서장 내부통제 항목 현황 검색 요청: {}, fields={}", searchRequest, fields);
+
+        Page<Map<String, Object>> result =
+                hodICItemRepository.searchHodICItemStatus(searchRequest, toPageable(searchRequest), fields);
+
+        log.debug("부서장 내부통제 항목 현황 검색 완료: 총 {}건", result.getTotalElements());
+        return result;
+    }
+
+    /**
+     * 검색 조건의 페이지/정렬 정보 (페이지 크기 검증)
+     */
+    private Pageable toPageable(HodICItemSearchRequestDto searchRequest) {
+        int page = searchRequest.getPage() != null ? Math.max(searchRequest.getPage(), 0) : 0;
+        int size = searchRequest.getSize() != null ? searchRequest.getSize() : 20;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        Sort.Direction direction = "desc".equalsIgnoreCase(searchRequest.getSortDirection())
+                ? Sort.Direction.DESC : Sort.Direction.ASC;
+        String sortBy = searchRequest.getSortBy() != null ? searchRequest.getSortBy() : "hodIcItemId";
+        return PageRequest.of(page, size, Sort.by(direction, sortBy));
+    }
+
+    @Override
+    public void exportHodICItemStatus(HodICItemSearchRequestDto searchRequest,
+            Consumer<HodICItemStatusDto> consumer) {
+        log.debug("부서장 내부통제 항목 현황 스트리밍 조회 시작: {}", searchRequest);
+
+        long count = 0;
+        try (Stream<HodICItemStatusDto> stream = hodICItemRepository.streamHodICItemStatus(searchRequest)) {
+            Iterator<HodICItemStatusDto> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
+            }
+        }
+
+        log.info("부서장 내부통제 항목 현황 스트리밍 조회 완료: 총 {}건", count);
+    }
+
     @Override
     public HodICItemResponseDto getHodICItemById(Long hodIcItemId) {
         log.debug("부서장 내부통제 항목 상세 조회 시작: hodIcItemId={}", hodIcItemId);
@@ -133,11 +227,13 @@ public class HodICItemServiceImpl implements HodICItemService {
     public void deleteHodICItem(Long hodIcItemId, String currentUserId) {
         log.debug("부서장 내부통제 항목 삭제 시작: hodIcItemId={}, 사용자={}", hodIcItemId, currentUserId);
 
-        HodICItem hodICItem = hodICItemRepository.findById(hodIcItemId)
-                .orElseThrow(() -> new BusinessException("존재하지 않는 부서장 내부통제 항목입니다. ID: " + hodIcItemId));
+        HodICItem hodICItem = loadTargetsForUpdate(List.of(hodIcItemId)).get(hodIcItemId);
+        if (hodICItem == null) {
+            throw new BusinessException("존재하지 않는 부서장 내부통제 항목입니다. ID: " + hodIcItemId);
+        }
 
-        // 결재 진행 중인 경우 삭제 불가
-        if (hodICItem.getApprovalId() != null) {
+        // 결재 진행 중(접수 포함)인 경우 삭제 불가
+        if (hodICItem.getApprovalId() != null || !findApprovalInFlightIds(List.of(hodIcItemId)).isEmpty()) {
             throw new BusinessException("결재 진행 중인 항목은 삭제할 수 없습니다.");
         }
 
@@ -151,44 +247,140 @@ public class HodICItemServiceImpl implements HodICItemService {
     public Long requestApproval(Long hodIcItemId, String currentUserId) {
         log.debug("결재 승인 요청 시작: hodIcItemId={}, 사용자={}", hodIcItemId, currentUserId);
 
-        HodICItem hodICItem = hodICItemRepository.findById(hodIcItemId)
-                .orElseThrow(() -> new BusinessException("존재하지 않는 부서장 내부통제 항목입니다. ID: " + hodIcItemId));
+        // 동일 항목에 대한 동시 요청/삭제와 직렬화하기 위해 행 잠금 후 검증
+        HodICItem hodICItem = loadTargetsForUpdate(List.of(hodIcItemId)).get(hodIcItemId);
+        if (hodICItem == null) {
+            throw new BusinessException("존재하지 않는 부서장 내부통제 항목입니다. ID: " + hodIcItemId);
+        }
 
-        // 작성자 권한 확인
-        if (!isCreatedBy(hodIcItemId, currentUserId)) {
+        // 작성자 권한 확인 (조회한 엔티티로 확인하여 추가 조회 없음)
+        if (!currentUserId.equals(hodICItem.getCreatedId())) {
             throw new BusinessException("작성자만 결재 승인을 요청할 수 있습니다.");
         }
 
-        // 이미 결재 요청된 경우 확인
-        if (hodICItem.getApprovalId() != null) {
+        // 이미 결재 요청(접수 포함)된 경우 확인
+        if (hodICItem.getApprovalId() != null || !findApprovalInFlightIds(List.of(hodIcItemId)).isEmpty()) {
             throw new BusinessException("이미 결재 요청된 항목입니다.");
         }
 
-        // TODO: 실제 결재 시스템과 연동
-        // 여기서는 임시로 1을 반환
-        Long approvalId = 1L;
-        hodICItem.setApprovalId(approvalId);
-        hodICItemRepository.save(hodICItem);
+        Long requestId = approvalOutboxService.enqueue(HodICItemApprovalTargetHandler.AGGREGATE_TYPE, hodIcItemId,
+                currentUserId);
 
-        log.info("결재 승인 요청 완료: hodIcItemId={}, approvalId={}", hodIcItemId, approvalId);
-        return approvalId;
+        log.info("결재 승인 요청 접수: hodIcItemId={}, requestId={}", hodIcItemId, requestId);
+        return requestId;
     }
 
     @Override
     @Transactional
-    public void deleteMultipleHodICItems(List<Long> hodIcItemIds, String currentUserId) {
-        log.debug("다중 삭제 시작: 개수={}, 사용자={}", hodIcItemIds.size(), currentUserId);
-
-        for (Long hodIcItemId : hodIcItemIds) {
-            try {
-                deleteHodICItem(hodIcItemId, currentUserId);
-            } catch (Exception e) {
-                log.warn("부서장 내부통제 항목 삭제 실패: ID={}, 오류={}", hodIcItemId, e.getMessage());
-                // 개별 삭제 실패는 로그만 남기고 계속 진행
+    public HodICItemBatchResultDto deleteMultipleHodICItems(List<Long> hodIcItemIds, String currentUserId) {
+        List<Long> ids = distinctIds(hodIcItemIds);
+        log.debug("다중 삭제 시작: 개수={}, 사용자={}", ids.size(), currentUserId);
+
+        Map<Long, HodICItem> targets = loadTargetsForUpdate(ids);
+        Set<Long> inFlightIds = findApprovalInFlightIds(targets.keySet());
+
+        List<ItemResult> results = new ArrayList<>(ids.size());
+        List<Long> deletableIds = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            HodICItem hodICItem = targets.get(id);
+            if (hodICItem == null) {
+                results.add(ItemResult.failure(id, "NOT_FOUND", "존재하지 않는 부서장 내부통제 항목입니다."));
+            } else if (hodICItem.getApprovalId() != null || inFlightIds.contains(id)) {
+                results.add(ItemResult.failure(id, "APPROVAL_IN_PROGRESS", "결재 진행 중인 항목은 삭제할 수 없습니다."));
+            } else {
+                results.add(ItemResult.success(id));
+                deletableIds.add(id);
             }
         }
 
-        log.info("다중 삭제 완료: 총 {}개 항목 처리", hodIcItemIds.size());
+        if (!deletableIds.isEmpty()) {
+            int deleted = hodICItemRepository.deleteAllUnapprovedByIdIn(deletableIds);
+            verifyAffectedRows(deletableIds.size(), deleted);
+        }
+
+        HodICItemBatchResultDto result = HodICItemBatchResultDto.of(results);
+        log.info("다중 삭제 완료: 요청 {}건, 성공 {}건, 실패 {}건", result.getRequestedCount(),
+                result.getSuccessCount(), result.getFailureCount());
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public HodICItemBatchResultDto requestApprovalBatch(List<Long> hodIcItemIds, String currentUserId) {
+        List<Long> ids = distinctIds(hodIcItemIds);
+        log.debug("다중 결재 승인 요청 시작: 개수={}, 사용자={}", ids.size(), currentUserId);
+
+        Map<Long, HodICItem> targets = loadTargetsForUpdate(ids);
+        Set<Long> inFlightIds = findApprovalInFlightIds(targets.keySet());
+
+        List<ItemResult> results = new ArrayList<>(ids.size());
+        List<Long> requestableIds = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            HodICItem hodICItem = targets.get(id);
+            if (hodICItem == null) {
+                results.add(ItemResult.failure(id, "NOT_FOUND", "존재하지 않는 부서장 내부통제 항목입니다."));
+            } else if (!currentUserId.equals(hodICItem.getCreatedId())) {
+                results.add(ItemResult.failure(id, "NOT_OWNER", "작성자만 결재 승인을 요청할 수 있습니다."));
+            } else if (hodICItem.getApprovalId() != null || inFlightIds.contains(id)) {
+                results.add(ItemResult.failure(id, "ALREADY_REQUESTED", "이미 결재 요청된 항목입니다."));
+            } else {
+                results.add(ItemResult.success(id));
+                requestableIds.add(id);
+            }
+        }
+
+        approvalOutboxService.enqueueAll(HodICItemApprovalTargetHandler.AGGREGATE_TYPE, requestableIds,
+                currentUserId);
+
+        HodICItemBatchResultDto result = HodICItemBatchResultDto.of(results);
+        log.info("다중 결재 승인 요청 접수 완료: 요청 {}건, 성공 {}건, 실패 {}건", result.getRequestedCount(),
+                result.getSuccessCount(), result.getFailureCount());
+        return result;
+    }
+
+    /**
+     * 요청 ID 목록 정리 (null 제거, 중복 제거, 순서 유지) 및 최대 건수 검증
+     */
+    private List<Long> distinctIds(List<Long> hodIcItemIds) {
+        if (hodIcItemIds == null || hodIcItemIds.isEmpty()) {
+            throw new BusinessException("처리할 부서장 내부통제 항목을 선택해주세요.");
+        }
+        List<Long> ids = hodIcItemIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException("한 번에 처리할 수 있는 항목은 최대 " + MAX_BATCH_SIZE + "건입니다.");
+        }
+        return ids;
+    }
+
+    /**
+     * 일괄 처리 대상 항목을 단일 쿼리(행 잠금)로 조회
+     */
+    private Map<Long, HodICItem> loadTargetsForUpdate(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return hodICItemRepository.findAllByIdForUpdate(ids).stream()
+                .collect(Collectors.toMap(HodICItem::getHodIcItemId, Function.identity()));
+    }
+
+    /**
+     * 결재 요청이 접수되어 처리 대기/처리 중인 항목 ID 조회
+     */
+    private Set<Long> findApprovalInFlightIds(Collection<Long> ids) {
+        return approvalOutboxService.findInFlightAggregateIds(HodICItemApprovalTargetHandler.AGGREGATE_TYPE, ids);
+    }
+
+    /**
+     * 행 잠금 이후 벌크 DML 결과 건수 검증 (불일치 시 트랜잭션 롤백)
+     */
+    private void verifyAffectedRows(int expected, int actual) {
+        if (expected != actual) {
+            throw new IllegalStateException(
+                    "일괄 처리 중 대상 항목이 변경되었습니다. 다시 시도해주세요. (예상 " + expected + "건, 처리 " + actual + "건)");
+        }
     }
 
     @Override
@@ -0,0 +1,113 @@
+package org.itcen.domain.meeting.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회의체 검색용 pg_trgm GIN 인덱스 관리
+ *
+ * 회의체명/내용 ILIKE '%검색어%' 검색이 인덱스를 사용할 수 있도록 기동 시 pg_trgm 확장과 GIN 인덱스를 확인하고 없으면 생성합니다.
+ *
+ * - CREATE INDEX CONCURRENTLY 로 생성하여 테이블 쓰기를 막지 않으며, 기동을 지연시키지 않도록 별도 스레드에서 수행
+ * - 여러 노드가 동시에 기동해도 advisory lock 으로 한 노드만 수행
+ * - 이전 CONCURRENTLY 생성이 중단되어 INVALID 로 남은 인덱스는 삭제 후 다시 생성
+ * - 권한 부족 등으로 실패해도 검색은 인덱스 없이 동작 (경고 로그만 남김)
+ *
+ * DBA 가 인덱스를 직접 관리하는 환경에서는 itcen.meeting.trgm-index.enabled=false 로 비활성화합니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 회의체 검색 인덱스 생성/복구만 담당
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingBodySearchIndexInitializer {
+
+    /**
+     * 인덱스 생성 중복 방지 advisory lock 키
+     */
+    private static final long ADVISORY_LOCK_KEY = 0x6d656574696e67L;
+
+    private static final List<String[]> INDEXES = List.of(
+            new String[] {"idx_meeting_body_name_trgm", "meeting_name"},
+            new String[] {"idx_meeting_body_content_trgm", "content"});
+
+    private final DataSource dataSource;
+
+    @Value("${itcen.meeting.trgm-index.enabled:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(this::ensureIndexes, "meeting-body-trgm-index");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void ensureIndexes() {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            // CREATE INDEX CONCURRENTLY 는 트랜잭션 블록 안에서 실행할 수 없음
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                if (!tryLock(statement)) {
+                    log.debug("다른 노드에서 회의체 검색 인덱스를 확인 중이므로 건너뜁니다.");
+                    return;
+                }
+                try {
+                    statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+                    for (String[] index : INDEXES) {
+                        ensureIndex(statement, index[0], index[1]);
+                    }
+                } finally {
+                    statement.execute("SELECT pg_advisory_unlock(" + ADVISORY_LOCK_KEY + ")");
+                }
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            log.warn("회의체 검색 pg_trgm 인덱스를 생성하지 못했습니다. 검색은 인덱스 없이 동작합니다: {}", e.getMessage());
+        }
+    }
+
+    private boolean tryLock(Statement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery("SELECT pg_try_advisory_lock(" + ADVISORY_LOCK_KEY + ")")) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private void ensureIndex(Statement statement, String indexName, String column) throws SQLException {
+        Boolean valid = null;
+        try (ResultSet rs = statement.executeQuery("SELECT i.indisvalid FROM pg_index i "
+                + "JOIN pg_class c ON c.oid = i.indexrelid WHERE c.relname = '" + indexName + "'")) {
+            if (rs.next()) {
+                valid = rs.getBoolean(1);
+            }
+        }
+        if (Boolean.TRUE.equals(valid)) {
+            return;
+        }
+        if (Boolean.FALSE.equals(valid)) {
+            log.warn("INVALID 상태의 회의체 검색 인덱스를 다시 생성합니다: {}", indexName);
+            statement.execute("DROP INDEX CONCURRENTLY IF EXISTS " + indexName);
+        }
+
+        long started = System.currentTimeMillis();
+        statement.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + indexName
+                + " ON meeting_body USING gin (" + column + " gin_trgm_ops)");
+        log.info("회의체 검색 인덱스 생성 완료: {} ({}ms)", indexName, System.currentTimeMillis() - started);
+    }
+}
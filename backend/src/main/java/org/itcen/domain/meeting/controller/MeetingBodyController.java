@@ -4,14 +4,17 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.itcen.common.dto.ApiResponse;
+import org.itcen.common.web.SparseFieldsets;
 import org.itcen.domain.meeting.dto.*;
 import org.itcen.domain.meeting.service.MeetingBodyService;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * 회의체 Controller
@@ -124,12 +127,15 @@ public class MeetingBodyController {
     /**
      * 전체 회의체 목록 조회
      *
+     * @param fields 응답에 포함할 속성 (',' 구분, 없으면 전체)
      * @return 회의체 목록
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<MeetingBodyDto>>> getAllMeetingBodies() {
+    public ResponseEntity<MappingJacksonValue> getAllMeetingBodies(
+            @RequestParam(value = "fields", required = false) String fields) {
         log.debug("전체 회의체 목록 조회 API 호출");
 
+        Set<String> selectedFields = SparseFieldsets.parse(fields, MeetingBodyDto.class);
         List<MeetingBodyDto> meetingBodies = meetingBodyService.getAllMeetingBodies();
 
         ApiResponse<List<MeetingBodyDto>> response = ApiResponse.<List<MeetingBodyDto>>builder()
@@ -138,7 +144,7 @@ public class MeetingBodyController {
                 .data(meetingBodies)
                 .build();
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(SparseFieldsets.select(response, selectedFields));
     }
 
     /**
@@ -173,10 +179,11 @@ public class MeetingBodyController {
      * @param size 페이지 크기 (기본값: 10)
      * @param sortBy 정렬 기준 (기본값: createdAt)
      * @param sortDirection 정렬 방향 (기본값: desc)
+     * @param fields 응답에 포함할 속성 (',' 구분, 없으면 전체)
      * @return 페이징된 회의체 목록
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<Page<MeetingBodyDto>>> searchMeetingBodies(
+    public ResponseEntity<MappingJacksonValue> searchMeetingBodies(
             @RequestParam(required = false) String gubun,
             @RequestParam(required = false) String meetingName,
             @RequestParam(required = false) String meetingPeriod,
@@ -184,10 +191,13 @@ public class MeetingBodyController {
             @RequestParam(defaultValue = "0") Integer page,
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDirection) {
+            @RequestParam(defaultValue = "desc") String sortDirection,
+            @RequestParam(value = "fields", required = false) String fields) {
 
         log.info("회의체 검색 API 호출 시작: gubun={}, meetingName={}, page={}, size={}", gubun, meetingName, page, size);
 
+        Set<String> selectedFields = SparseFieldsets.parse(fields, MeetingBodyDto.class);
+
         try {
             MeetingBodySearchRequestDto searchRequestDto = MeetingBodySearchRequestDto.builder()
                     .gubun(gubun)
@@ -210,7 +220,7 @@ public class MeetingBodyController {
                     .data(meetingBodies)
                     .build();
 
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(SparseFieldsets.select(response, selectedFields));
         } catch (Exception e) {
             log.error("회의체 검색 API 호출 실패: gubun={}, meetingName={}, page={}, size={}, error={}",
                     gubun, meetingName, page, size, e.getMessage(), e);
@@ -220,7 +230,7 @@ public class MeetingBodyController {
                     .message("회의체 검색 중 오류가 발생했습니다: " + e.getMessage())
                     .build();
 
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MappingJacksonValue(errorResponse));
         }
     }
 
@@ -4,13 +4,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.itcen.common.web.SparseFieldset;
 
 import java.time.LocalDateTime;
 
 /**
  * 회의체 기본 DTO
  * 
- * 회의체 정보를 전송하기 위한 기본 DTO입니다.
+ * 회의체 정보를 전송하기 위한 기본 DTO입니다. (?fields= 로 직렬화할 속성 선택 가능)
  * 
  * SOLID 원칙:
  * - Single Responsibility: 회의체 데이터 전송만 담당
@@ -20,6 +21,7 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@SparseFieldset
 public class MeetingBodyDto {
 
     /**
@@ -7,6 +7,10 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import org.itcen.common.entity.BaseTimeEntity;
+import org.itcen.common.jpa.HibernateCacheRegions;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.itcen.common.id.UuidV7Id;
 
 /**
  * 회의체 엔티티
@@ -21,6 +25,8 @@ import org.itcen.common.entity.BaseTimeEntity;
  * - Dependency Inversion: 구체적인 구현에 의존하지 않음
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheRegions.MEETING_BODY)
 @Table(name = "meeting_body")
 @Data
 @EqualsAndHashCode(callSuper = false)
@@ -31,9 +37,10 @@ public class MeetingBody extends BaseTimeEntity {
 
     /**
      * 회의체 ID (Primary Key)
-     * 서비스 레이어에서 수동 할당
+     * INSERT 시 UUIDv7(시간 순서) 문자열 자동 할당
      */
     @Id
+    @UuidV7Id
     @Column(name = "meeting_body_id", nullable = false, length = 100)
     private String meetingBodyId;
 
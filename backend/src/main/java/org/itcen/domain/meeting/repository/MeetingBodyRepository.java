@@ -50,27 +50,25 @@ public interface MeetingBodyRepository extends JpaRepository<MeetingBody, String
 
     /**
      * 복합 검색 (구분, 회의체명, 개최주기, 내용)
-     * 
+     *
+     * 회의체명/내용은 ILIKE 부분 검색이며 pg_trgm GIN 인덱스(MeetingBodySearchIndexInitializer)를 사용합니다.
+     * 검색어의 %, _, \ 는 호출자가 이스케이프해야 합니다. 전체 건수는 countBySearchConditions 로 별도 조회합니다.
+     *
      * @param gubun 구분 (선택)
      * @param meetingName 회의체명 (부분 검색, 선택)
      * @param meetingPeriod 개최주기 (선택)
      * @param content 내용 (부분 검색, 선택)
      * @param pageable 페이징 정보
-     * @return 페이징된 회의체 목록
+     * @return 회의체 목록 (해당 페이지)
      */
     @Query(value = "SELECT * FROM meeting_body m WHERE " +
            "(:gubun IS NULL OR m.gubun = :gubun) AND " +
-           "(:meetingName IS NULL OR LOWER(m.meeting_name::text) LIKE LOWER(CONCAT('%', :meetingName, '%'))) AND " +
-           "(:meetingPeriod IS NULL OR m.meeting_period = :meetingPeriod) AND " +
-           "(:content IS NULL OR LOWER(m.content::text) LIKE LOWER(CONCAT('%', :content, '%'))) " +
-           "ORDER BY m.created_at DESC",
-           countQuery = "SELECT COUNT(*) FROM meeting_body m WHERE " +
-           "(:gubun IS NULL OR m.gubun = :gubun) AND " +
-           "(:meetingName IS NULL OR LOWER(m.meeting_name::text) LIKE LOWER(CONCAT('%', :meetingName, '%'))) AND " +
+           "(:meetingName IS NULL OR m.meeting_name ILIKE CONCAT('%', :meetingName, '%')) AND " +
            "(:meetingPeriod IS NULL OR m.meeting_period = :meetingPeriod) AND " +
-           "(:content IS NULL OR LOWER(m.content::text) LIKE LOWER(CONCAT('%', :content, '%')))",
+           "(:content IS NULL OR m.content ILIKE CONCAT('%', :content, '%')) " +
+           "ORDER BY m.created_at DESC, m.meeting_body_id DESC",
            nativeQuery = true)
-    Page<MeetingBody> findBySearchConditions(
+    List<MeetingBody> findBySearchConditions(
             @Param("gubun") String gubun,
             @Param("meetingName") String meetingName,
             @Param("meetingPeriod") String meetingPeriod,
@@ -78,6 +76,37 @@ public interface MeetingBodyRepository extends JpaRepository<MeetingBody, String
             Pageable pageable
     );
 
+    /**
+     * 복합 검색 전체 건수
+     *
+     * @param gubun 구분 (선택)
+     * @param meetingName 회의체명 (부분 검색, 선택)
+     * @param meetingPeriod 개최주기 (선택)
+     * @param content 내용 (부분 검색, 선택)
+     * @return 건수
+     */
+    @Query(value = "SELECT COUNT(*) FROM meeting_body m WHERE " +
+           "(:gubun IS NULL OR m.gubun = :gubun) AND " +
+           "(:meetingName IS NULL OR m.meeting_name ILIKE CONCAT('%', :meetingName, '%')) AND " +
+           "(:meetingPeriod IS NULL OR m.meeting_period = :meetingPeriod) AND " +
+           "(:content IS NULL OR m.content ILIKE CONCAT('%', :content, '%'))",
+           nativeQuery = true)
+    long countBySearchConditions(
+            @Param("gubun") String gubun,
+            @Param("meetingName") String meetingName,
+            @Param("meetingPeriod") String meetingPeriod,
+            @Param("content") String content
+    );
+
+    /**
+     * 구분/개최주기별 회의체 개수 (통계 스냅샷 적재용)
+     *
+     * @return [gubun, meeting_period, count] 목록
+     */
+    @Query(value = "SELECT m.gubun, m.meeting_period, COUNT(*) FROM meeting_body m GROUP BY m.gubun, m.meeting_period",
+           nativeQuery = true)
+    List<Object[]> countGroupByGubunAndMeetingPeriod();
+
     /**
      * 구분별 회의체 개수 조회
      * 
@@ -6,21 +6,24 @@ import org.itcen.common.exception.BusinessException;
 import org.itcen.domain.meeting.dto.*;
 import org.itcen.domain.meeting.entity.MeetingBody;
 import org.itcen.domain.meeting.repository.MeetingBodyRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * 회의체 Service 구현체
  *
  * 회의체 비즈니스 로직을 구현하는 서비스 클래스입니다.
+ * 전체 목록은 {@value #CACHE_NAME} 캐시(로컬 + Redis)를 사용하고, 변경 시 커밋 후 무효화합니다.
  *
  * SOLID 원칙:
  * - Single Responsibility: 회의체 비즈니스 로직만 담당
@@ -35,13 +38,20 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class MeetingBodyServiceImpl implements MeetingBodyService {
 
+    /**
+     * 회의체 목록 캐시 이름
+     */
+    public static final String CACHE_NAME = "meetingBodies";
+
     private final MeetingBodyRepository meetingBodyRepository;
+    private final MeetingBodyStatsCache statsCache;
 
     /**
      * 회의체 생성
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CACHE_NAME, allEntries = true)
     public MeetingBodyDto createMeetingBody(MeetingBodyCreateRequestDto createRequestDto) {
         log.info("회의체 생성 요청: {}", createRequestDto.getMeetingName());
 
@@ -50,9 +60,8 @@ public class MeetingBodyServiceImpl implements MeetingBodyService {
             throw new BusinessException("이미 존재하는 회의체명입니다: " + createRequestDto.getMeetingName());
         }
 
-        // Entity 생성 (UUID로 ID 생성)
+        // Entity 생성 (ID는 저장 시 UUIDv7 자동 할당)
         MeetingBody meetingBody = MeetingBody.builder()
-                .meetingBodyId(UUID.randomUUID().toString())
                 .gubun(createRequestDto.getGubun())
                 .meetingName(createRequestDto.getMeetingName())
                 .meetingPeriod(createRequestDto.getMeetingPeriod())
@@ -71,6 +80,7 @@ public class MeetingBodyServiceImpl implements MeetingBodyService {
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CACHE_NAME, allEntries = true)
     public MeetingBodyDto updateMeetingBody(String meetingBodyId, MeetingBodyUpdateRequestDto updateRequestDto) {
         log.info("회의체 수정 요청: ID={}, 회의체명={}", meetingBodyId, updateRequestDto.getMeetingName());
 
@@ -101,6 +111,7 @@ public class MeetingBodyServiceImpl implements MeetingBodyService {
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CACHE_NAME, allEntries = true)
     public void deleteMeetingBody(String meetingBodyId) {
         log.info("회의체 삭제 요청: ID={}", meetingBodyId);
 
@@ -131,6 +142,7 @@ public class MeetingBodyServiceImpl implements MeetingBodyService {
      * 전체 회의체 목록 조회
      */
     @Override
+    @Cacheable(cacheNames = CACHE_NAME, key = "'all'", sync = true)
     public List<MeetingBodyDto> getAllMeetingBodies() {
         log.debug("전체 회의체 목록 조회 요청");
 
@@ -170,26 +182,46 @@ public class MeetingBodyServiceImpl implements MeetingBodyService {
         String gubun = (searchRequestDto.getGubun() != null && !searchRequestDto.getGubun().trim().isEmpty())
                 ? searchRequestDto.getGubun().trim() : null;
         String meetingName = (searchRequestDto.getMeetingName() != null && !searchRequestDto.getMeetingName().trim().isEmpty())
-                ? searchRequestDto.getMeetingName().trim() : null;
+                ? escapeLike(searchRequestDto.getMeetingName().trim()) : null;
         String meetingPeriod = (searchRequestDto.getMeetingPeriod() != null && !searchRequestDto.getMeetingPeriod().trim().isEmpty())
                 ? searchRequestDto.getMeetingPeriod().trim() : null;
         String content = (searchRequestDto.getContent() != null && !searchRequestDto.getContent().trim().isEmpty())
-                ? searchRequestDto.getContent().trim() : null;
+                ? escapeLike(searchRequestDto.getContent().trim()) : null;
 
-        // 검색 실행
-        Page<MeetingBody> meetingBodyPage = meetingBodyRepository.findBySearchConditions(
+        // 검색 실행 (전체 건수는 필요한 경우에만, 같은 조건은 짧은 시간 캐시 재사용)
+        List<MeetingBody> meetingBodies = meetingBodyRepository.findBySearchConditions(
                 gubun, meetingName, meetingPeriod, content, pageable);
+        MeetingBodyStatsCache.SearchKey countKey =
+                new MeetingBodyStatsCache.SearchKey(gubun, meetingName, meetingPeriod, content);
+        Page<MeetingBody> meetingBodyPage = PageableExecutionUtils.getPage(meetingBodies, pageable,
+                () -> statsCache.countBySearch(countKey, () -> meetingBodyRepository.countBySearchConditions(
+                        gubun, meetingName, meetingPeriod, content)));
 
         // DTO 변환
         return meetingBodyPage.map(this::convertToDto);
     }
 
+    /**
+     * LIKE 패턴 문자(%, _, \) 이스케이프 (검색어를 문자 그대로 부분 검색)
+     */
+    private String escapeLike(String keyword) {
+        StringBuilder sb = new StringBuilder(keyword.length() + 4);
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (c == '%' || c == '_' || c == '\\') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
     /**
      * 구분별 회의체 개수 조회
      */
     @Override
     public Long countByGubun(String gubun) {
-        return meetingBodyRepository.countByGubun(gubun);
+        return statsCache.countByGubun(gubun);
     }
 
     /**
@@ -197,7 +229,7 @@ public class MeetingBodyServiceImpl implements MeetingBodyService {
      */
     @Override
     public Long countByMeetingPeriod(String meetingPeriod) {
-        return meetingBodyRepository.countByMeetingPeriod(meetingPeriod);
+        return statsCache.countByMeetingPeriod(meetingPeriod);
     }
 
     /**
@@ -227,6 +259,7 @@ public class MeetingBodyServiceImpl implements MeetingBodyService {
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CACHE_NAME, allEntries = true)
     public void deleteMeetingBodies(List<String> ids) {
         log.info("여러 회의체 일괄 삭제 요청: {}건", ids.size());
 
@@ -0,0 +1,139 @@
+package org.itcen.domain.meeting.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.concurrent.locks.ReentrantLock;
+import org.itcen.common.cache.TtlCache;
+import org.itcen.common.notify.PgNotificationListener;
+import org.itcen.domain.meeting.repository.MeetingBodyRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회의체 건수 캐시
+ *
+ * - 구분/개최주기별 건수: GROUP BY 한 번으로 만든 불변 스냅샷에서 바로 반환 (DB 접근 없음)
+ * - 검색 조건별 전체 건수: 같은 조건의 COUNT 를 {@value #SEARCH_COUNT_TTL_SECONDS}초 동안 재사용
+ *
+ * meeting_body 가 변경되면 DB 트리거가 {@value #CHANNEL} 채널로 NOTIFY 하고, 모든 노드가 스냅샷을 다시 적재하고 검색 건수
+ * 캐시를 비웁니다. (database/init/34.create_trigger_meeting_body_notify.sql)
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 회의체 건수 캐싱만 담당
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingBodyStatsCache {
+
+    /**
+     * 회의체 변경 알림 채널
+     */
+    public static final String CHANNEL = "meeting_body_changed";
+
+    private static final long SEARCH_COUNT_TTL_SECONDS = 5;
+
+    private final MeetingBodyRepository meetingBodyRepository;
+    private final PgNotificationListener notificationListener;
+
+    private final TtlCache<SearchKey, Long> searchCounts =
+            new TtlCache<>("meetingBody.searchCount", Duration.ofSeconds(SEARCH_COUNT_TTL_SECONDS), 1000);
+
+    private volatile Counts counts;
+
+    /**
+     * 스냅샷 재적재 직렬화
+     */
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    @PostConstruct
+    void subscribe() {
+        notificationListener.subscribe(CHANNEL, payload -> {
+            searchCounts.clear();
+            refresh();
+        });
+    }
+
+    /**
+     * 기동 시 최초 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("회의체 건수 스냅샷 최초 적재 실패, 첫 조회 시 재시도합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 구분별 건수
+     */
+    public long countByGubun(String gubun) {
+        return currentCounts().byGubun().getOrDefault(gubun, 0L);
+    }
+
+    /**
+     * 개최주기별 건수
+     */
+    public long countByMeetingPeriod(String meetingPeriod) {
+        return currentCounts().byMeetingPeriod().getOrDefault(meetingPeriod, 0L);
+    }
+
+    /**
+     * 검색 조건별 전체 건수 (짧은 TTL 캐시)
+     *
+     * @param key 검색 조건
+     * @param loader COUNT 조회
+     * @return 건수
+     */
+    public long countBySearch(SearchKey key, Supplier<Long> loader) {
+        return searchCounts.get(key, loader);
+    }
+
+    /**
+     * 구분/개최주기별 건수 스냅샷을 다시 적재합니다.
+     */
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            List<Object[]> rows = meetingBodyRepository.countGroupByGubunAndMeetingPeriod();
+            Map<String, Long> byGubun = new HashMap<>();
+            Map<String, Long> byMeetingPeriod = new HashMap<>();
+            for (Object[] row : rows) {
+                long count = ((Number) row[2]).longValue();
+                byGubun.merge((String) row[0], count, Long::sum);
+                byMeetingPeriod.merge((String) row[1], count, Long::sum);
+            }
+            counts = new Counts(Map.copyOf(byGubun), Map.copyOf(byMeetingPeriod));
+            log.debug("회의체 건수 스냅샷 갱신 완료: 구분 {}종, 개최주기 {}종", byGubun.size(), byMeetingPeriod.size());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Counts currentCounts() {
+        Counts current = counts;
+        if (current == null) {
+            refresh();
+            current = counts;
+        }
+        return current;
+    }
+
+    private record Counts(Map<String, Long> byGubun, Map<String, Long> byMeetingPeriod) {
+    }
+
+    /**
+     * 검색 건수 캐시 키 (정규화된 검색 조건)
+     */
+    public record SearchKey(String gubun, String meetingName, String meetingPeriod, String content) {
+    }
+}
@@ -2,6 +2,10 @@ package org.itcen.domain.menu.entity;
 
 import jakarta.persistence.*;
 import org.itcen.common.entity.BaseTimeEntity;
+import org.itcen.common.jpa.HibernateCacheRegions;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -18,6 +22,8 @@ import java.util.List;
  * - Dependency Inversion: 인터페이스 기반 설계
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheRegions.MENU)
 @Table(name = "menus", indexes = {
     @Index(name = "idx_menus_parent_id", columnList = "parent_id"),
     @Index(name = "idx_menus_menu_code", columnList = "menu_code"),
@@ -58,8 +64,10 @@ public class Menu extends BaseTimeEntity {
     
     /**
      * 하위 메뉴 목록
+     * 계층 구성 시 같은 단계 메뉴들의 하위 목록을 한 번에 조회하도록 일괄 로딩
      */
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @OrderBy("sortOrder ASC")
     private List<Menu> children = new ArrayList<>();
     
@@ -2,6 +2,9 @@ package org.itcen.domain.menu.entity;
 
 import jakarta.persistence.*;
 import org.itcen.common.entity.BaseTimeEntity;
+import org.itcen.common.jpa.HibernateCacheRegions;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * 메뉴 권한 엔티티
@@ -15,6 +18,8 @@ import org.itcen.common.entity.BaseTimeEntity;
  * - Dependency Inversion: 인터페이스 기반 설계
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheRegions.MENU_PERMISSION)
 @Table(name = "menu_permissions", 
        uniqueConstraints = @UniqueConstraint(name = "uk_menu_permission", columnNames = {"menu_id", "role_name"}))
 public class MenuPermission extends BaseTimeEntity {
@@ -3,6 +3,9 @@ package org.itcen.domain.menu.repository;
 import org.itcen.domain.menu.entity.Menu;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -25,16 +28,19 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
     /**
      * 메뉴 코드로 메뉴 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Menu> findByMenuCode(String menuCode);
     
     /**
      * 활성화된 메뉴만 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Menu> findByIsActiveTrueOrderByMenuLevelAscSortOrderAsc();
     
     /**
      * 표시 가능한 메뉴만 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Menu> findByIsActiveTrueAndIsVisibleTrueOrderByMenuLevelAscSortOrderAsc();
     
     /**
@@ -105,6 +111,7 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
     /**
      * 사용자가 접근 가능한 메뉴 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("""
         SELECT DISTINCT m FROM Menu m 
         JOIN m.permissions p 
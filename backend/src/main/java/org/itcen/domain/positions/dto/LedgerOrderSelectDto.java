@@ -1,15 +1,17 @@
 package org.itcen.domain.positions.dto;
 
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 
 /**
  * 원장차수+진행상태 SelectBox용 DTO
  * value: ledgerOrdersTitle, label: "ledgerOrdersTitle(진행상태)"
+ *
+ * 캐시 스냅샷으로 여러 요청이 공유하므로 불변 객체로 정의합니다.
  */
-@Data
+@Getter
 @AllArgsConstructor
 public class LedgerOrderSelectDto {
-    private String value; // ledgerOrdersTitle
-    private String label; // 예: 2025-001(진행중)
+    private final String value; // ledgerOrdersTitle
+    private final String label; // 예: 2025-001(진행중)
 }
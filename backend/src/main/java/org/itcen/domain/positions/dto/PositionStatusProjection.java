@@ -2,11 +2,13 @@ package org.itcen.domain.positions.dto;
 
 /**
  * 직책 현황 목록 조회를 위한 JPA 프로젝션 인터페이스
+ *
+ * 부서명은 부서 사전(DepartmentDictionary)에서 변환하므로 부서 코드만 조회합니다.
  */
 public interface PositionStatusProjection {
     Long getPositionsId();
     String getPositionsNm();
-    String getWriteDeptNm();
-    String getOwnerDeptNms();
+    String getWriteDeptCd();
+    String getOwnerDeptCds(); // ',' 로 연결된 소관부서 코드
     Long getAdminCount();
 } 
\ No newline at end of file
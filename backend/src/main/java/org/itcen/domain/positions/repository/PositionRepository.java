@@ -82,19 +82,18 @@ public interface PositionRepository extends JpaRepository<Position, Long> {
     boolean existsByPositionsNmAndPositionsIdNot(String positionsNm, Long positionsId);
 
     /**
-     * 직책 현황 목록 조회 (Native Query) - departments 테이블 사용
+     * 직책 현황 목록 조회 (Native Query) - 부서명은 서비스에서 부서 사전으로 변환
      */
     @Query(value = """
                 SELECT
                     p.positions_id AS positionsId,
                     p.positions_nm AS positionsNm,
-                    COALESCE(d_write.department_name, p.write_dept_cd) AS writeDeptNm,
+                    p.write_dept_cd AS writeDeptCd,
                     (
-                        SELECT STRING_AGG(COALESCE(d_owner.department_name, pod.owner_dept_cd), ', ')
+                        SELECT STRING_AGG(pod.owner_dept_cd, ',')
                         FROM positions_owner_dept pod
-                        LEFT JOIN departments d_owner ON pod.owner_dept_cd = d_owner.department_id AND d_owner.use_yn = 'Y'
                         WHERE pod.positions_id = p.positions_id
-                    ) AS ownerDeptNms,
+                    ) AS ownerDeptCds,
                     (
                         SELECT COUNT(*)
                         FROM positions_admin pa
@@ -102,8 +101,6 @@ public interface PositionRepository extends JpaRepository<Position, Long> {
                     ) AS adminCount
                 FROM
                     positions p
-                LEFT JOIN
-                    departments d_write ON p.write_dept_cd = d_write.department_id AND d_write.use_yn = 'Y'
                 ORDER BY
                     p.created_at DESC
             """,
@@ -0,0 +1,97 @@
+package org.itcen.domain.positions.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import org.itcen.common.notify.PgNotificationListener;
+import org.itcen.domain.positions.dto.LedgerOrderSelectDto;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 원장차수+진행상태 SelectBox 스냅샷 캐시
+ *
+ * 거의 모든 화면에서 호출되는 원장차수 SelectBox 목록을 불변 스냅샷으로 보관합니다. 조회 시에는 DB 접근, 로그, 추가 객체 생성 없이
+ * 스냅샷을 그대로 반환하고, ledger_orders 또는 ORDER_STATUS 공통코드가 변경되어 DB 트리거가 {@value #CHANNEL} 채널로
+ * NOTIFY 할 때만 다시 적재합니다. (database/init/30.create_trigger_ledger_orders_notify.sql)
+ *
+ * SOLID 원칙: - Single Responsibility: 원장차수 SelectBox 스냅샷 관리만 담당
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LedgerOrderSelectCache {
+
+    /**
+     * 원장차수 변경 알림 채널
+     */
+    public static final String CHANNEL = "ledger_orders_changed";
+
+    private final PgNotificationListener notificationListener;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private volatile List<LedgerOrderSelectDto> snapshot = List.of();
+
+    /**
+     * 스냅샷 재적재 직렬화
+     */
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    @PostConstruct
+    void subscribe() {
+        notificationListener.subscribe(CHANNEL, payload -> refresh());
+    }
+
+    /**
+     * 기동 시 최초 적재 (알림 연결 실패 시에도 목록이 비어 있지 않도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("원장차수 SelectBox 최초 적재 실패, 알림 수신 시 재시도합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 스냅샷 반환 (불변 목록)
+     */
+    public List<LedgerOrderSelectDto> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * ledger_orders + ORDER_STATUS 공통코드로 스냅샷을 다시 적재합니다.
+     */
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            @SuppressWarnings("unchecked")
+            List<Object[]> rows = em.createNativeQuery("SELECT lo.ledger_orders_title, cc.code_name "
+                    + "FROM ledger_orders lo "
+                    + "LEFT JOIN common_code cc ON cc.group_code = 'ORDER_STATUS' AND cc.code = lo.ledger_orders_status_cd "
+                    + "ORDER BY lo.ledger_orders_title DESC").getResultList();
+
+            List<LedgerOrderSelectDto> result = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                String title = (String) row[0];
+                String statusName = (String) row[1];
+                String label = title + (statusName != null ? " (" + statusName + ")" : "");
+                result.add(new LedgerOrderSelectDto(title, label));
+            }
+            snapshot = List.copyOf(result);
+            log.debug("원장차수 SelectBox 스냅샷 갱신 완료: 총 {}건", result.size());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+}
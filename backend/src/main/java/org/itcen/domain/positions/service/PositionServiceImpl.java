@@ -1,12 +1,15 @@
 package org.itcen.domain.positions.service;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.StringJoiner;
 import java.util.stream.Collectors;
+import org.itcen.common.cache.Coalesced;
 import org.itcen.common.exception.BusinessException;
 import org.itcen.domain.common.entity.CommonCode;
 import org.itcen.domain.common.repository.CommonCodeRepository;
+import org.itcen.domain.departments.service.DepartmentDictionary;
 import org.itcen.domain.departments.service.DepartmentService;
 import org.itcen.domain.meeting.entity.MeetingBody;
 import org.itcen.domain.meeting.repository.MeetingBodyRepository;
@@ -27,9 +30,8 @@ import org.itcen.domain.positions.repository.PositionRepository;
 import org.itcen.domain.user.entity.User;
 import org.itcen.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -56,28 +58,18 @@ public class PositionServiceImpl implements PositionService {
     private final MeetingBodyRepository meetingBodyRepository;
     private final UserRepository userRepository;
     private final DepartmentService departmentService;
-
-    @PersistenceContext
-    private EntityManager em; // EntityManager를 직접 생성하지 않고 주입받습니다.
-
+    private final DepartmentDictionary departmentDictionary;
+    private final LedgerOrderSelectCache ledgerOrderSelectCache;
+
+    /**
+     * 원장차수+진행상태 목록 조회
+     *
+     * 변경 알림 기반 스냅샷을 그대로 반환하므로 트랜잭션(커넥션)을 시작하지 않습니다.
+     */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<LedgerOrderSelectDto> getLedgerOrderSelectList() {
-        // 원장차수+진행상태 목록 조회 (ledger_orders 테이블 사용)
-        List<Object[]> rows = em.createNativeQuery("SELECT lo.ledger_orders_title, cc.code_name "
-                + "FROM ledger_orders lo "
-                + "LEFT JOIN common_code cc ON cc.group_code = 'ORDER_STATUS' AND cc.code = lo.ledger_orders_status_cd "
-                + "ORDER BY lo.ledger_orders_title DESC").getResultList();
-
-        List<LedgerOrderSelectDto> result = new ArrayList<>();
-        for (Object[] row : rows) {
-            log.info("Query Result Row: {}", (Object) row);
-            String title = (String) row[0];
-            String statusName = (String) row[1];
-            String label = title + (statusName != null ? " (" + statusName + ")" : "");
-            result.add(new LedgerOrderSelectDto(title, label));
-        }
-        return result;
+        return ledgerOrderSelectCache.getSnapshot();
     }
 
     @Override
@@ -245,16 +237,40 @@ public class PositionServiceImpl implements PositionService {
     }
 
     @Override
+    @Coalesced(scope = Coalesced.Scope.GLOBAL)
     @Transactional(readOnly = true)
     public List<PositionStatusDto> getPositionStatusList() {
         List<PositionStatusProjection> projections = positionRepository.findPositionStatusList();
         return projections.stream()
                 .map(p -> PositionStatusDto.builder().positionsId(p.getPositionsId())
-                        .positionsNm(p.getPositionsNm()).writeDeptNm(p.getWriteDeptNm())
-                        .ownerDeptNms(p.getOwnerDeptNms()).adminCount(p.getAdminCount()).build())
+                        .positionsNm(p.getPositionsNm())
+                        .writeDeptNm(toActiveDeptName(p.getWriteDeptCd()))
+                        .ownerDeptNms(toActiveDeptNames(p.getOwnerDeptCds()))
+                        .adminCount(p.getAdminCount()).build())
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 부서 코드를 활성 부서명으로 변환 (미사용/없는 부서는 코드 그대로)
+     */
+    private String toActiveDeptName(String deptCd) {
+        return deptCd == null ? null : departmentDictionary.getActiveName(deptCd);
+    }
+
+    /**
+     * ',' 로 연결된 부서 코드 목록을 ', ' 로 연결된 활성 부서명 목록으로 변환
+     */
+    private String toActiveDeptNames(String deptCds) {
+        if (deptCds == null) {
+            return null;
+        }
+        StringJoiner names = new StringJoiner(", ");
+        for (String deptCd : deptCds.split(",")) {
+            names.add(departmentDictionary.getActiveName(deptCd));
+        }
+        return names.toString();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PositionDetailDto getPositionDetail(Long id) {
@@ -262,12 +278,14 @@ public class PositionServiceImpl implements PositionService {
         Position position = positionRepository.findById(id).orElseThrow(
                 () -> new BusinessException("해당 직책을 찾을 수 없습니다.", "POSITION_NOT_FOUND"));
 
-        List<PositionDetailDto.OwnerDeptInfo> ownerDepts =
-                positionOwnerDeptRepository.findByPosition_PositionsId(id).stream().map(pod -> {
-                    String deptName = departmentService.getDepartmentNameById(pod.getOwnerDeptCd());
-                    return PositionDetailDto.OwnerDeptInfo.builder().deptCode(pod.getOwnerDeptCd())
-                            .deptName(deptName).build();
-                }).collect(Collectors.toList());
+        List<PositionOwnerDept> ownerDeptEntities = positionOwnerDeptRepository.findByPosition_PositionsId(id);
+        Map<String, String> deptNames = departmentService.getDepartmentNames(
+                ownerDeptEntities.stream().map(PositionOwnerDept::getOwnerDeptCd).toList());
+        List<PositionDetailDto.OwnerDeptInfo> ownerDepts = ownerDeptEntities.stream()
+                .map(pod -> PositionDetailDto.OwnerDeptInfo.builder().deptCode(pod.getOwnerDeptCd())
+                        .deptName(deptNames.getOrDefault(pod.getOwnerDeptCd(), pod.getOwnerDeptCd()))
+                        .build())
+                .collect(Collectors.toList());
 
         List<PositionDetailDto.MeetingInfo> meetings =
                 positionMeetingRepository.findByPosition_PositionsId(id).stream().map(pm -> {
@@ -4,14 +4,17 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.itcen.common.dto.ApiResponse;
+import org.itcen.common.web.SparseFieldsets;
 import org.itcen.domain.qna.dto.*;
 import org.itcen.domain.qna.service.QnaService;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Q&A 컨트롤러
@@ -37,18 +40,21 @@ public class QnaController {
      * Q&A 목록 조회
      * 
      * @param searchRequest 검색 조건
+     * @param fields 응답에 포함할 속성 (',' 구분, 없으면 전체)
      * @return Q&A 목록 페이지
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<QnaListResponseDto>>> getQnaList(
-            @ModelAttribute QnaSearchRequestDto searchRequest) {
+    public ResponseEntity<MappingJacksonValue> getQnaList(
+            @ModelAttribute QnaSearchRequestDto searchRequest,
+            @RequestParam(value = "fields", required = false) String fields) {
         
         log.debug("Q&A 목록 조회 요청: {}", searchRequest);
         
+        Set<String> selectedFields = SparseFieldsets.parse(fields, QnaListResponseDto.class);
         Page<QnaListResponseDto> qnaList = qnaService.getQnaList(searchRequest);
         
-        return ResponseEntity.ok(
-            ApiResponse.success("Q&A 목록 조회가 완료되었습니다.", qnaList)
+        return ResponseEntity.ok(SparseFieldsets.select(
+            ApiResponse.success("Q&A 목록 조회가 완료되었습니다.", qnaList), selectedFields)
         );
     }
 
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.itcen.common.web.SparseFieldset;
 import org.itcen.domain.qna.entity.Qna;
 import org.itcen.domain.qna.entity.QnaPriority;
 import org.itcen.domain.qna.entity.QnaStatus;
@@ -14,7 +15,7 @@ import java.time.format.DateTimeFormatter;
 /**
  * Q&A 목록 조회 응답 DTO
  *
- * Q&A 목록 화면에서 필요한 정보만 포함하여 성능을 최적화합니다.
+ * Q&A 목록 화면에서 필요한 정보만 포함하여 성능을 최적화합니다. (?fields= 로 직렬화할 속성 선택 가능)
  *
  * SOLID 원칙:
  * - Single Responsibility: Q&A 목록 데이터 전송만 담당
@@ -24,6 +25,7 @@ import java.time.format.DateTimeFormatter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@SparseFieldset
 public class QnaListResponseDto {
 
     /**
@@ -2,13 +2,21 @@ package org.itcen.domain.responsibility.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.itcen.common.dto.ApiResponse;
+import org.itcen.common.dto.BulkImportResultDto;
 import org.itcen.domain.responsibility.dto.ResponsibilityCreateRequestDto;
 import org.itcen.domain.responsibility.dto.ResponsibilityResponseDto;
+import org.itcen.domain.responsibility.dto.ResponsibilitySearchRequestDto;
 import org.itcen.domain.responsibility.dto.ResponsibilityStatusDto;
+import org.itcen.domain.responsibility.dto.ResponsibilityTreeDto;
 import org.itcen.domain.responsibility.entity.Responsibility;
+import org.itcen.domain.responsibility.service.ResponsibilityImportService;
 import org.itcen.domain.responsibility.service.ResponsibilityService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -18,6 +26,7 @@ import java.util.List;
 public class ResponsibilityController {
 
     private final ResponsibilityService responsibilityService;
+    private final ResponsibilityImportService responsibilityImportService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<Long>> createResponsibility(@RequestBody ResponsibilityCreateRequestDto requestDto) {
@@ -31,6 +40,25 @@ public class ResponsibilityController {
         }
     }
 
+    /**
+     * 파일(CSV/XLSX) 대량 등록
+     *
+     * @param file 업로드 파일 (첫 행은 헤더)
+     * @param allowPartial 오류 행을 제외하고 적재할지 여부 (기본값: false)
+     * @param currentUserId 현재 사용자 ID
+     * @return 적재 결과 및 행 단위 오류
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<BulkImportResultDto>> importResponsibilities(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "allowPartial", defaultValue = "false") boolean allowPartial,
+            @RequestHeader(value = "X-User-Id", defaultValue = "system") String currentUserId) {
+        BulkImportResultDto result = responsibilityImportService.importResponsibilities(file, allowPartial, currentUserId);
+        String message = result.isCommitted() ? "책무 대량 등록이 완료되었습니다."
+                : "오류가 있어 등록되지 않았습니다. 오류 내역을 확인해주세요.";
+        return ResponseEntity.ok(ApiResponse.success(message, result));
+    }
+
     @GetMapping("/status")
     public ResponseEntity<ApiResponse<List<ResponsibilityStatusDto>>> getResponsibilityStatusList(
             @RequestParam(name = "responsibilityId", required = false) Long responsibilityId) {
@@ -42,6 +70,55 @@ public class ResponsibilityController {
         }
     }
 
+    /**
+     * 책무 현황 페이징 조회
+     *
+     * @param responsibilityId 책무ID 필터
+     * @param useYn 책무상세 사용여부 필터 (Y, N)
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     */
+    @GetMapping("/status/search")
+    public ResponseEntity<ApiResponse<Page<ResponsibilityStatusDto>>> searchResponsibilityStatus(
+            @RequestParam(name = "responsibilityId", required = false) Long responsibilityId,
+            @RequestParam(name = "useYn", required = false) String useYn,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        ResponsibilitySearchRequestDto searchRequest = ResponsibilitySearchRequestDto.builder()
+                .responsibilityId(responsibilityId)
+                .useYn(useYn)
+                .page(page)
+                .size(size)
+                .build();
+        return ResponseEntity.ok(ApiResponse.success(responsibilityService.searchResponsibilityStatus(searchRequest)));
+    }
+
+    /**
+     * 책무 트리 조회 (책무 + 상세, 쿼리 2회)
+     *
+     * @param responsibilityId 책무ID 필터
+     * @param useYn 책무상세 사용여부 필터 (Y, N)
+     * @param expand true 이면 TEXT 컬럼 전체 내용 포함
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     */
+    @GetMapping("/tree")
+    public ResponseEntity<ApiResponse<Slice<ResponsibilityTreeDto>>> getResponsibilityTree(
+            @RequestParam(name = "responsibilityId", required = false) Long responsibilityId,
+            @RequestParam(name = "useYn", required = false) String useYn,
+            @RequestParam(name = "expand", defaultValue = "false") boolean expand,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        ResponsibilitySearchRequestDto searchRequest = ResponsibilitySearchRequestDto.builder()
+                .responsibilityId(responsibilityId)
+                .useYn(useYn)
+                .expand(expand)
+                .page(page)
+                .size(size)
+                .build();
+        return ResponseEntity.ok(ApiResponse.success(responsibilityService.getResponsibilityTree(searchRequest)));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ResponsibilityResponseDto>> getResponsibilityById(@PathVariable Long id) {
         try {
@@ -0,0 +1,48 @@
+package org.itcen.domain.responsibility.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 책무 현황/트리 검색 요청 DTO
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 책무 검색 조건 데이터 전송만 담당
+ * - Open/Closed: 새로운 검색 조건 추가 시 확장 가능
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResponsibilitySearchRequestDto {
+
+    /**
+     * 책무ID 필터
+     */
+    private Long responsibilityId;
+
+    /**
+     * 책무상세 사용여부 필터 (Y, N)
+     */
+    private String useYn;
+
+    /**
+     * 트리 조회 시 TEXT 컬럼 전체 내용 포함 여부 (false 이면 요약만)
+     */
+    @Builder.Default
+    private boolean expand = false;
+
+    /**
+     * 페이지 번호 (0부터 시작)
+     */
+    @Builder.Default
+    private Integer page = 0;
+
+    /**
+     * 페이지 크기
+     */
+    @Builder.Default
+    private Integer size = 20;
+}
@@ -20,6 +20,7 @@ public class ResponsibilityStatusDto {
     private String responsibilityDetailContent;
     private String responsibilityMgtSts;
     private String responsibilityRelEvid;
+    private String responsibilityUseYn;
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
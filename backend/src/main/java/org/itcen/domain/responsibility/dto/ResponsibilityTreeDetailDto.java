@@ -0,0 +1,42 @@
+package org.itcen.domain.responsibility.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+
+/**
+ * 책무 트리 상세 DTO
+ *
+ * 요약 조회 시에는 상세내용 앞부분만 담고 관리업무/관련근거(TEXT)는 조회하지 않습니다. (null 필드는 응답에서 제외)
+ */
+@Getter
+public class ResponsibilityTreeDetailDto {
+
+    @JsonIgnore
+    private final Long responsibilityId;
+    private final Long id;
+    private final String responsibilityDetailContent;
+    private final String keyManagementTasks;
+    private final String relatedBasis;
+    private final String responsibilityUseYn;
+
+    /**
+     * 요약 조회용
+     */
+    public ResponsibilityTreeDetailDto(Long responsibilityId, Long id, String responsibilityDetailContent,
+            String responsibilityUseYn) {
+        this(responsibilityId, id, responsibilityDetailContent, null, null, responsibilityUseYn);
+    }
+
+    /**
+     * 전체 조회용
+     */
+    public ResponsibilityTreeDetailDto(Long responsibilityId, Long id, String responsibilityDetailContent,
+            String keyManagementTasks, String relatedBasis, String responsibilityUseYn) {
+        this.responsibilityId = responsibilityId;
+        this.id = id;
+        this.responsibilityDetailContent = responsibilityDetailContent;
+        this.keyManagementTasks = keyManagementTasks;
+        this.relatedBasis = relatedBasis;
+        this.responsibilityUseYn = responsibilityUseYn;
+    }
+}
@@ -0,0 +1,29 @@
+package org.itcen.domain.responsibility.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 책무 트리 DTO (책무 + 책무상세 목록)
+ *
+ * 책무 페이지 조회 1회, 해당 책무들의 상세 조회 1회로 구성됩니다. 요약 조회(expand=false) 시 책무내용은 앞부분만 담습니다.
+ */
+@Getter
+public class ResponsibilityTreeDto {
+
+    private final Long id;
+    private final String responsibilityContent;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final List<ResponsibilityTreeDetailDto> details = new ArrayList<>();
+
+    public ResponsibilityTreeDto(Long id, String responsibilityContent, LocalDateTime createdAt,
+            LocalDateTime updatedAt) {
+        this.id = id;
+        this.responsibilityContent = responsibilityContent;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
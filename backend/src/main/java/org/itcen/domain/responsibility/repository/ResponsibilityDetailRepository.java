@@ -1,9 +1,14 @@
 package org.itcen.domain.responsibility.repository;
 
+import java.util.Collection;
 import org.itcen.domain.responsibility.dto.ResponsibilityStatusDto;
+import org.itcen.domain.responsibility.dto.ResponsibilityTreeDetailDto;
 import org.itcen.domain.responsibility.entity.ResponsibilityDetail;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -16,6 +21,7 @@ public interface ResponsibilityDetailRepository extends JpaRepository<Responsibi
             "d.responsibilityDetailContent, " +
             "d.responsibilityMgtSts, " +
             "d.responsibilityRelEvid, " +
+            "d.responsibilityUseYn, " +
             "d.createdAt, " +
             "d.updatedAt) " +
             "FROM ResponsibilityDetail d JOIN d.responsibility r " +
@@ -29,6 +35,7 @@ public interface ResponsibilityDetailRepository extends JpaRepository<Responsibi
             "d.responsibilityDetailContent, " +
             "d.responsibilityMgtSts, " +
             "d.responsibilityRelEvid, " +
+            "d.responsibilityUseYn, " +
             "d.createdAt, " +
             "d.updatedAt) " +
             "FROM ResponsibilityDetail d JOIN d.responsibility r WHERE r.id = :responsibilityId " +
@@ -36,4 +43,51 @@ public interface ResponsibilityDetailRepository extends JpaRepository<Responsibi
     List<ResponsibilityStatusDto> findResponsibilityStatusListById(Long responsibilityId);
 
     List<ResponsibilityDetail> findAllByResponsibilityId(Long responsibilityId);
+
+    /**
+     * 책무 현황 페이징 조회 (책무ID, 사용여부 필터)
+     */
+    @Query(value = "SELECT new org.itcen.domain.responsibility.dto.ResponsibilityStatusDto(" +
+            "r.id, " +
+            "r.responsibilityContent, " +
+            "d.id, " +
+            "d.responsibilityDetailContent, " +
+            "d.responsibilityMgtSts, " +
+            "d.responsibilityRelEvid, " +
+            "d.responsibilityUseYn, " +
+            "d.createdAt, " +
+            "d.updatedAt) " +
+            "FROM ResponsibilityDetail d JOIN d.responsibility r " +
+            "WHERE (:responsibilityId IS NULL OR r.id = :responsibilityId) " +
+            "AND (:useYn IS NULL OR d.responsibilityUseYn = :useYn) " +
+            "ORDER BY r.id, d.id",
+            countQuery = "SELECT COUNT(d) FROM ResponsibilityDetail d " +
+            "WHERE (:responsibilityId IS NULL OR d.responsibility.id = :responsibilityId) " +
+            "AND (:useYn IS NULL OR d.responsibilityUseYn = :useYn)")
+    Page<ResponsibilityStatusDto> searchResponsibilityStatus(@Param("responsibilityId") Long responsibilityId,
+            @Param("useYn") String useYn, Pageable pageable);
+
+    /**
+     * 책무 트리 2단계 - 페이지에 포함된 책무들의 상세 (전체 내용)
+     */
+    @Query("SELECT new org.itcen.domain.responsibility.dto.ResponsibilityTreeDetailDto(" +
+            "d.responsibility.id, d.id, d.responsibilityDetailContent, d.responsibilityMgtSts, " +
+            "d.responsibilityRelEvid, d.responsibilityUseYn) FROM ResponsibilityDetail d " +
+            "WHERE d.responsibility.id IN :responsibilityIds " +
+            "AND (:useYn IS NULL OR d.responsibilityUseYn = :useYn) " +
+            "ORDER BY d.responsibility.id, d.id")
+    List<ResponsibilityTreeDetailDto> findTreeDetails(
+            @Param("responsibilityIds") Collection<Long> responsibilityIds, @Param("useYn") String useYn);
+
+    /**
+     * 책무 트리 2단계 - 페이지에 포함된 책무들의 상세 (상세내용 앞부분만, 관리업무/관련근거 제외)
+     */
+    @Query("SELECT new org.itcen.domain.responsibility.dto.ResponsibilityTreeDetailDto(" +
+            "d.responsibility.id, d.id, SUBSTRING(d.responsibilityDetailContent, 1, 100), " +
+            "d.responsibilityUseYn) FROM ResponsibilityDetail d " +
+            "WHERE d.responsibility.id IN :responsibilityIds " +
+            "AND (:useYn IS NULL OR d.responsibilityUseYn = :useYn) " +
+            "ORDER BY d.responsibility.id, d.id")
+    List<ResponsibilityTreeDetailDto> findTreeDetailSummaries(
+            @Param("responsibilityIds") Collection<Long> responsibilityIds, @Param("useYn") String useYn);
 } 
\ No newline at end of file
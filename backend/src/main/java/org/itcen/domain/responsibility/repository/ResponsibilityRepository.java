@@ -1,7 +1,43 @@
 package org.itcen.domain.responsibility.repository;
 
+import java.util.Optional;
+import org.itcen.domain.responsibility.dto.ResponsibilityTreeDto;
 import org.itcen.domain.responsibility.entity.Responsibility;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ResponsibilityRepository extends JpaRepository<Responsibility, Long> {
+
+    /**
+     * 책무와 상세를 단일 쿼리로 조회 (fetch join)
+     */
+    @Query("SELECT DISTINCT r FROM Responsibility r LEFT JOIN FETCH r.details WHERE r.id = :id")
+    Optional<Responsibility> findWithDetailsById(@Param("id") Long id);
+
+    /**
+     * 책무 트리 1단계 - 책무 페이지 (전체 내용, COUNT 쿼리 없음)
+     */
+    @Query("SELECT new org.itcen.domain.responsibility.dto.ResponsibilityTreeDto("
+            + "r.id, r.responsibilityContent, r.createdAt, r.updatedAt) FROM Responsibility r "
+            + "WHERE (:responsibilityId IS NULL OR r.id = :responsibilityId) "
+            + "AND (:useYn IS NULL OR EXISTS (SELECT 1 FROM ResponsibilityDetail d "
+            + "WHERE d.responsibility = r AND d.responsibilityUseYn = :useYn)) "
+            + "ORDER BY r.id")
+    Slice<ResponsibilityTreeDto> findTreeSlice(@Param("responsibilityId") Long responsibilityId,
+            @Param("useYn") String useYn, Pageable pageable);
+
+    /**
+     * 책무 트리 1단계 - 책무 페이지 (책무내용 앞부분만, COUNT 쿼리 없음)
+     */
+    @Query("SELECT new org.itcen.domain.responsibility.dto.ResponsibilityTreeDto("
+            + "r.id, SUBSTRING(r.responsibilityContent, 1, 100), r.createdAt, r.updatedAt) FROM Responsibility r "
+            + "WHERE (:responsibilityId IS NULL OR r.id = :responsibilityId) "
+            + "AND (:useYn IS NULL OR EXISTS (SELECT 1 FROM ResponsibilityDetail d "
+            + "WHERE d.responsibility = r AND d.responsibilityUseYn = :useYn)) "
+            + "ORDER BY r.id")
+    Slice<ResponsibilityTreeDto> findTreeSummarySlice(@Param("responsibilityId") Long responsibilityId,
+            @Param("useYn") String useYn, Pageable pageable);
 } 
\ No newline at end of file
@@ -0,0 +1,27 @@
+package org.itcen.domain.responsibility.service;
+
+import org.itcen.common.dto.BulkImportResultDto;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 책무 대량 등록 서비스 인터페이스
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 책무/책무상세 파일 대량 등록만 담당
+ * - Dependency Inversion: 구현체가 아닌 인터페이스에 의존
+ */
+public interface ResponsibilityImportService {
+
+    /**
+     * CSV/XLSX 파일로 책무와 책무상세 대량 등록
+     *
+     * 한 행이 책무상세 1건이며, responsibility_content 가 있는 행에서 새 책무가 시작되고 비어 있는 행은 직전 책무의 상세로
+     * 등록됩니다. (Excel 병합 셀 형태 그대로 업로드 가능)
+     *
+     * @param file 업로드 파일
+     * @param allowPartial true 이면 오류 행을 제외하고 적재, false 이면 오류가 하나라도 있으면 전체 롤백
+     * @param currentUserId 현재 사용자 ID
+     * @return 적재 결과 및 행 단위 오류
+     */
+    BulkImportResultDto importResponsibilities(MultipartFile file, boolean allowPartial, String currentUserId);
+}
@@ -0,0 +1,216 @@
+package org.itcen.domain.responsibility.service;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.itcen.common.dto.BulkImportResultDto;
+import org.itcen.common.exception.BusinessException;
+import org.itcen.common.importer.ImportReport;
+import org.itcen.common.importer.PgCopyBuffer;
+import org.itcen.common.importer.TabularFileParser;
+import org.itcen.common.importer.TabularHeader;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 책무 대량 등록 서비스 구현체
+ *
+ * 파일을 스트리밍으로 읽어 {@value #CHUNK_SIZE}건 단위로 PostgreSQL COPY 로 적재합니다. 책무 ID 는 청크마다 시퀀스에서 한 번에
+ * 할당하여 책무 COPY 후 상세 COPY 순서로 외래키를 만족시킵니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 책무 대량 등록만 담당
+ * - Liskov Substitution: ResponsibilityImportService 인터페이스를 안전하게 구현
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ResponsibilityImportServiceImpl implements ResponsibilityImportService {
+
+    private static final int CHUNK_SIZE = 5000;
+
+    private static final int MAX_ROWS = 200_000;
+
+    private static final String ALLOCATE_IDS_SQL = "SELECT nextval(pg_get_serial_sequence('responsibility', "
+            + "'responsibility_id')) FROM generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public BulkImportResultDto importResponsibilities(MultipartFile file, boolean allowPartial,
+            String currentUserId) {
+        log.info("책무 대량 등록 시작: file={}, size={}, 사용자={}", file.getOriginalFilename(), file.getSize(),
+                currentUserId);
+
+        ImportReport report = new ImportReport();
+        ChunkLoader loader = new ChunkLoader(report, currentUserId);
+        try {
+            TabularFileParser.parse(file, loader::accept);
+        } catch (IOException e) {
+            throw new BusinessException("업로드 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+        loader.finish();
+
+        boolean committed = !report.hasErrors() || allowPartial;
+        if (!committed) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+        BulkImportResultDto result = report.toResult(committed);
+        log.info("책무 대량 등록 완료: 전체 {}건, 적재 {}건, 오류 {}건, 반영={}, {}ms", result.getTotalRows(),
+                result.getImportedRows(), result.getErrorRows(), committed, result.getElapsedMs());
+        return result;
+    }
+
+    /**
+     * 파일에서 시작된 책무 (ID 는 청크 적재 시 할당)
+     */
+    private static final class PendingResponsibility {
+        private final String content;
+        private final String ledgerOrder;
+        private Long id;
+
+        PendingResponsibility(String content, String ledgerOrder) {
+            this.content = content;
+            this.ledgerOrder = ledgerOrder;
+        }
+    }
+
+    /**
+     * 책무상세 행 (상세 컬럼이 모두 비어 있으면 책무만 등록)
+     */
+    private record DetailRow(PendingResponsibility responsibility, String content, String mgtSts,
+            String relEvid, String useYn, boolean hasDetail) {
+    }
+
+    /**
+     * 행 검증과 청크 단위 COPY 적재
+     */
+    private final class ChunkLoader {
+
+        private final ImportReport report;
+        private final String currentUserId;
+        private final String now = OffsetDateTime.now().toString();
+        private final PgCopyBuffer responsibilityBuffer = new PgCopyBuffer("responsibility", "responsibility_id",
+                "responsibility_content", "ledger_order", "created_id", "updated_id", "created_at", "updated_at");
+        private final PgCopyBuffer detailBuffer = new PgCopyBuffer("responsibility_detail", "responsibility_id",
+                "responsibility_detail_content", "responsibility_mgt_sts", "responsibility_rel_evid",
+                "responsibility_use_yn", "created_id", "updated_id", "created_at", "updated_at");
+        private final List<PendingResponsibility> newResponsibilities = new ArrayList<>();
+        private final List<DetailRow> pending = new ArrayList<>(CHUNK_SIZE);
+        private TabularHeader header;
+        private PendingResponsibility current;
+
+        ChunkLoader(ImportReport report, String currentUserId) {
+            this.report = report;
+            this.currentUserId = currentUserId;
+        }
+
+        void accept(int rowNumber, String[] cells) {
+            if (header == null) {
+                header = TabularHeader.of(cells);
+                if (!header.contains("responsibility_content")) {
+                    throw new BusinessException("필수 컬럼(responsibility_content)이 헤더에 없습니다.");
+                }
+                return;
+            }
+            report.countRow();
+            if (report.getTotalRows() > MAX_ROWS) {
+                throw new BusinessException("한 번에 등록할 수 있는 행은 최대 " + MAX_ROWS + "건입니다.");
+            }
+
+            // 행 전체를 검증한 뒤에 상위 책무를 등록 (거절된 행의 책무가 적재되지 않도록)
+            String content = header.get(cells, "responsibility_content");
+            String ledgerOrder = content != null ? header.get(cells, "ledger_order") : null;
+            String useYn = header.get(cells, "responsibility_use_yn");
+            if (ledgerOrder != null && ledgerOrder.length() > 100) {
+                reject(rowNumber, content, "ledger_order", "최대 100자까지 입력할 수 있습니다.");
+                return;
+            }
+            if (useYn != null && !"Y".equals(useYn) && !"N".equals(useYn)) {
+                reject(rowNumber, content, "responsibility_use_yn", "Y 또는 N 이어야 합니다: " + useYn);
+                return;
+            }
+            if (content != null) {
+                current = new PendingResponsibility(content, ledgerOrder);
+                newResponsibilities.add(current);
+            } else if (current == null) {
+                report.reject(rowNumber, "responsibility_content", "책무내용이 없는 행의 상위 책무를 찾을 수 없습니다.");
+                return;
+            }
+
+            String detailContent = header.get(cells, "responsibility_detail_content");
+            String mgtSts = first(cells, "key_management_tasks", "responsibility_mgt_sts");
+            String relEvid = first(cells, "related_basis", "responsibility_rel_evid");
+            boolean hasDetail = detailContent != null || mgtSts != null || relEvid != null;
+
+            pending.add(new DetailRow(current, detailContent, mgtSts, relEvid, useYn != null ? useYn : "Y",
+                    hasDetail));
+            if (pending.size() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        /**
+         * 행 거절 (상위 책무 행이면 이어지는 세부 행도 상위 책무 없음으로 거절되도록 현재 책무를 비움)
+         */
+        private void reject(int rowNumber, String content, String column, String message) {
+            report.reject(rowNumber, column, message);
+            if (content != null) {
+                current = null;
+            }
+        }
+
+        void finish() {
+            if (header == null) {
+                throw new BusinessException("업로드 파일에 헤더 행이 없습니다.");
+            }
+            flush();
+        }
+
+        private void flush() {
+            if (!newResponsibilities.isEmpty()) {
+                allocateIds();
+                for (PendingResponsibility responsibility : newResponsibilities) {
+                    responsibilityBuffer.addRow(responsibility.id, responsibility.content,
+                            responsibility.ledgerOrder, currentUserId, currentUserId, now, now);
+                }
+                newResponsibilities.clear();
+                jdbcTemplate.execute((ConnectionCallback<Long>) responsibilityBuffer::flush);
+            }
+            for (DetailRow row : pending) {
+                if (row.hasDetail()) {
+                    detailBuffer.addRow(row.responsibility().id, row.content(), row.mgtSts(), row.relEvid(),
+                            row.useYn(), currentUserId, currentUserId, now, now);
+                }
+            }
+            report.addImported(pending.size());
+            pending.clear();
+            jdbcTemplate.execute((ConnectionCallback<Long>) detailBuffer::flush);
+        }
+
+        /**
+         * 청크에서 새로 시작된 책무 ID 를 시퀀스에서 한 번에 할당
+         */
+        private void allocateIds() {
+            List<Long> ids = jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, newResponsibilities.size());
+            Iterator<Long> iterator = ids.iterator();
+            for (PendingResponsibility responsibility : newResponsibilities) {
+                responsibility.id = iterator.next();
+            }
+        }
+
+        private String first(String[] cells, String name, String alias) {
+            String value = header.get(cells, name);
+            return value != null ? value : header.get(cells, alias);
+        }
+    }
+}
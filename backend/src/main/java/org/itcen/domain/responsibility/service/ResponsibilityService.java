@@ -2,8 +2,12 @@ package org.itcen.domain.responsibility.service;
 
 import org.itcen.domain.responsibility.dto.ResponsibilityCreateRequestDto;
 import org.itcen.domain.responsibility.dto.ResponsibilityResponseDto;
+import org.itcen.domain.responsibility.dto.ResponsibilitySearchRequestDto;
 import org.itcen.domain.responsibility.dto.ResponsibilityStatusDto;
+import org.itcen.domain.responsibility.dto.ResponsibilityTreeDto;
 import org.itcen.domain.responsibility.entity.Responsibility;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -12,6 +16,18 @@ public interface ResponsibilityService {
 
     List<ResponsibilityStatusDto> getResponsibilityStatusList(Long responsibilityId);
 
+    /**
+     * 책무 현황 페이징 조회 (책무ID, 책무상세 사용여부 필터)
+     */
+    Page<ResponsibilityStatusDto> searchResponsibilityStatus(ResponsibilitySearchRequestDto searchRequest);
+
+    /**
+     * 책무 트리 조회 (책무 페이지 + 상세, 페이지 크기와 관계없이 쿼리 2회)
+     *
+     * expand=false 이면 TEXT 컬럼은 앞부분만 조회하고 관리업무/관련근거는 조회하지 않습니다.
+     */
+    Slice<ResponsibilityTreeDto> getResponsibilityTree(ResponsibilitySearchRequestDto searchRequest);
+
     ResponsibilityResponseDto getResponsibilityById(Long id);
 
     Responsibility updateResponsibility(Long id, ResponsibilityCreateRequestDto requestDto);
@@ -1,17 +1,27 @@
 package org.itcen.domain.responsibility.service;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.itcen.common.exception.BusinessException;
 import org.itcen.domain.responsibility.dto.ResponsibilityCreateRequestDto;
 import org.itcen.domain.responsibility.dto.ResponsibilityDetailDto;
 import org.itcen.domain.responsibility.dto.ResponsibilityDetailResponseDto;
 import org.itcen.domain.responsibility.dto.ResponsibilityResponseDto;
+import org.itcen.domain.responsibility.dto.ResponsibilitySearchRequestDto;
 import org.itcen.domain.responsibility.dto.ResponsibilityStatusDto;
+import org.itcen.domain.responsibility.dto.ResponsibilityTreeDetailDto;
+import org.itcen.domain.responsibility.dto.ResponsibilityTreeDto;
 import org.itcen.domain.responsibility.entity.Responsibility;
 import org.itcen.domain.responsibility.entity.ResponsibilityDetail;
 import org.itcen.domain.responsibility.repository.ResponsibilityDetailRepository;
 import org.itcen.domain.responsibility.repository.ResponsibilityRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +30,11 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ResponsibilityServiceImpl implements ResponsibilityService {
 
+    /**
+     * 현황/트리 페이징 조회 최대 페이지 크기
+     */
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final ResponsibilityRepository responsibilityRepository;
     private final ResponsibilityDetailRepository responsibilityDetailRepository;
 
@@ -54,16 +69,70 @@ public class ResponsibilityServiceImpl implements ResponsibilityService {
         return responsibilityDetailRepository.findResponsibilityStatusList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ResponsibilityStatusDto> searchResponsibilityStatus(
+            ResponsibilitySearchRequestDto searchRequest) {
+        return responsibilityDetailRepository.searchResponsibilityStatus(
+                searchRequest.getResponsibilityId(), normalizeUseYn(searchRequest.getUseYn()),
+                toPageable(searchRequest));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ResponsibilityTreeDto> getResponsibilityTree(ResponsibilitySearchRequestDto searchRequest) {
+        String useYn = normalizeUseYn(searchRequest.getUseYn());
+        Pageable pageable = toPageable(searchRequest);
+
+        // 1) 책무 페이지 (size + 1 건 조회로 다음 페이지 여부 판단, COUNT 없음)
+        Slice<ResponsibilityTreeDto> slice = searchRequest.isExpand()
+                ? responsibilityRepository.findTreeSlice(searchRequest.getResponsibilityId(), useYn, pageable)
+                : responsibilityRepository.findTreeSummarySlice(searchRequest.getResponsibilityId(), useYn,
+                        pageable);
+        if (!slice.hasContent()) {
+            return slice;
+        }
+
+        // 2) 페이지에 포함된 책무들의 상세를 한 번에 조회하여 부모에 연결
+        Map<Long, ResponsibilityTreeDto> byId = slice.getContent().stream()
+                .collect(Collectors.toMap(ResponsibilityTreeDto::getId, Function.identity()));
+        List<ResponsibilityTreeDetailDto> details = searchRequest.isExpand()
+                ? responsibilityDetailRepository.findTreeDetails(byId.keySet(), useYn)
+                : responsibilityDetailRepository.findTreeDetailSummaries(byId.keySet(), useYn);
+        for (ResponsibilityTreeDetailDto detail : details) {
+            byId.get(detail.getResponsibilityId()).getDetails().add(detail);
+        }
+        return slice;
+    }
+
+    private Pageable toPageable(ResponsibilitySearchRequestDto searchRequest) {
+        int page = searchRequest.getPage() != null ? Math.max(searchRequest.getPage(), 0) : 0;
+        int size = searchRequest.getSize() != null ? searchRequest.getSize() : 20;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        return PageRequest.of(page, size);
+    }
+
+    private String normalizeUseYn(String useYn) {
+        if (useYn == null || useYn.isBlank()) {
+            return null;
+        }
+        if (!"Y".equals(useYn) && !"N".equals(useYn)) {
+            throw new IllegalArgumentException("사용여부는 Y 또는 N 이어야 합니다: " + useYn);
+        }
+        return useYn;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ResponsibilityResponseDto getResponsibilityById(Long id) {
-        Responsibility responsibility = responsibilityRepository.findById(id)
+        // 책무와 상세를 fetch join 으로 한 번에 조회
+        Responsibility responsibility = responsibilityRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new BusinessException("책무를 찾을 수 없습니다. ID: " + id));
 
-        List<ResponsibilityDetail> details =
-                responsibilityDetailRepository.findAllByResponsibilityId(id);
-
-        List<ResponsibilityDetailResponseDto> detailDtos = details.stream()
+        List<ResponsibilityDetailResponseDto> detailDtos = responsibility.getDetails().stream()
+                .sorted(Comparator.comparing(ResponsibilityDetail::getId))
                 .map(detail -> ResponsibilityDetailResponseDto.builder().id(detail.getId())
                         .responsibilityDetailContent(detail.getResponsibilityDetailContent())
                         .keyManagementTasks(detail.getResponsibilityMgtSts())
@@ -1,16 +1,24 @@
 package org.itcen.domain.submission.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import org.itcen.common.dto.ApiResponse;
+import org.itcen.common.file.FileDownloadSupport;
+import org.itcen.domain.submission.dto.SubmissionAttachment;
 import org.itcen.domain.submission.dto.SubmissionDto;
 import org.itcen.domain.submission.service.SubmissionService;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 @RestController
 @RequestMapping("/api/submissions")
 @RequiredArgsConstructor
 public class SubmissionController {
     private final SubmissionService submissionService;
+    private final FileDownloadSupport fileDownloadSupport;
 
     @PostMapping
     public ApiResponse<SubmissionDto> create(@RequestBody SubmissionDto dto) {
@@ -26,4 +34,24 @@ public class SubmissionController {
     public ApiResponse<SubmissionDto> get(@PathVariable Long id) {
         return ApiResponse.success(submissionService.getSubmission(id));
     }
+
+    /**
+     * 첨부파일 업로드 (multipart/form-data, 파트명 file)
+     */
+    @PostMapping(value = "/{id}/attachment", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ApiResponse<SubmissionDto> uploadAttachment(@PathVariable Long id,
+            @RequestParam("file") MultipartFile file) throws IOException {
+        return ApiResponse.success(submissionService.uploadAttachment(id, file));
+    }
+
+    /**
+     * 첨부파일 다운로드 (ETag / Range 지원, 파일 내용을 힙에 올리지 않고 전송)
+     */
+    @GetMapping("/{id}/attachment")
+    public void downloadAttachment(@PathVariable Long id, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        SubmissionAttachment attachment = submissionService.getAttachment(id);
+        fileDownloadSupport.send(request, response, attachment.path(), attachment.sha256(),
+                attachment.contentType(), attachment.fileName());
+    }
 }
@@ -0,0 +1,14 @@
+package org.itcen.domain.submission.dto;
+
+import java.nio.file.Path;
+
+/**
+ * 제출 이력 첨부파일 다운로드 정보
+ *
+ * @param path 파일 저장소 내 경로
+ * @param sha256 내용 SHA-256 (ETag)
+ * @param fileName 원본 파일명
+ * @param contentType 콘텐츠 타입
+ */
+public record SubmissionAttachment(Path path, String sha256, String fileName, String contentType) {
+}
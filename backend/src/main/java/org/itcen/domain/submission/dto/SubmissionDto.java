@@ -2,6 +2,7 @@ package org.itcen.domain.submission.dto;
 
 import lombok.*;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class SubmissionDto {
@@ -11,5 +12,8 @@ public class SubmissionDto {
     private String position;
     private LocalDate submissionDate;
     private String attachmentFile;
+    private Long attachmentSize;
+    private String attachmentContentType;
+    private LocalDateTime attachmentUploadedAt;
     private String remarks;
 }
@@ -3,6 +3,7 @@ package org.itcen.domain.submission.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "rm_submit_mgmt")
@@ -28,6 +29,18 @@ public class Submission {
     @Column(name = "attachment_file", nullable = false)
     private String attachmentFile;
 
+    @Column(name = "attachment_sha256", length = 64)
+    private String attachmentSha256;
+
+    @Column(name = "attachment_size")
+    private Long attachmentSize;
+
+    @Column(name = "attachment_content_type", length = 200)
+    private String attachmentContentType;
+
+    @Column(name = "attachment_uploaded_at")
+    private LocalDateTime attachmentUploadedAt;
+
     @Column(name = "remarks")
     private String remarks;
 }
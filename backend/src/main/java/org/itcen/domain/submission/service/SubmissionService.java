@@ -1,9 +1,14 @@
 package org.itcen.domain.submission.service;
 
+import java.io.IOException;
+import org.itcen.domain.submission.dto.SubmissionAttachment;
 import org.itcen.domain.submission.dto.SubmissionDto;
+import org.springframework.web.multipart.MultipartFile;
 
 public interface SubmissionService {
     SubmissionDto createSubmission(SubmissionDto dto);
     SubmissionDto updateSubmission(Long id, SubmissionDto dto);
     SubmissionDto getSubmission(Long id);
+    SubmissionDto uploadAttachment(Long id, MultipartFile file) throws IOException;
+    SubmissionAttachment getAttachment(Long id) throws IOException;
 }
@@ -1,16 +1,26 @@
 package org.itcen.domain.submission.service;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.itcen.common.file.LocalFileStore;
+import org.itcen.common.file.StoredFile;
+import org.itcen.domain.submission.dto.SubmissionAttachment;
 import org.itcen.domain.submission.dto.SubmissionDto;
 import org.itcen.domain.submission.entity.Submission;
 import org.itcen.domain.submission.repository.SubmissionRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SubmissionServiceImpl implements SubmissionService {
     private final SubmissionRepository repository;
+    private final LocalFileStore fileStore;
 
     @Override
     @Transactional
@@ -56,7 +66,49 @@ public class SubmissionServiceImpl implements SubmissionService {
             .position(entity.getPosition())
             .submissionDate(entity.getSubmissionDate())
             .attachmentFile(entity.getAttachmentFile())
+            .attachmentSize(entity.getAttachmentSize())
+            .attachmentContentType(entity.getAttachmentContentType())
+            .attachmentUploadedAt(entity.getAttachmentUploadedAt())
             .remarks(entity.getRemarks())
             .build();
     }
+
+    /**
+     * 첨부파일 업로드
+     *
+     * 파일 저장(디스크 I/O) 중에는 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 저장한 뒤 메타데이터만 기록합니다.
+     */
+    @Override
+    public SubmissionDto uploadAttachment(Long id, MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+        }
+        Submission entity = repository.findById(id)
+            .orElseThrow(() -> new IllegalArgumentException("제출 이력이 존재하지 않습니다."));
+
+        StoredFile stored = fileStore.store(file);
+        entity.setAttachmentFile(StringUtils.hasText(file.getOriginalFilename())
+            ? StringUtils.getFilename(StringUtils.cleanPath(file.getOriginalFilename()))
+            : stored.sha256());
+        entity.setAttachmentSha256(stored.sha256());
+        entity.setAttachmentSize(stored.size());
+        entity.setAttachmentContentType(file.getContentType());
+        entity.setAttachmentUploadedAt(LocalDateTime.now());
+        repository.save(entity);
+        log.debug("제출 이력 첨부파일 업로드: id={}, sha256={}, size={}, 신규저장={}", id, stored.sha256(),
+            stored.size(), stored.created());
+        return getSubmission(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SubmissionAttachment getAttachment(Long id) throws IOException {
+        Submission entity = repository.findById(id)
+            .orElseThrow(() -> new IllegalArgumentException("제출 이력이 존재하지 않습니다."));
+        if (entity.getAttachmentSha256() == null) {
+            throw new IllegalArgumentException("첨부파일이 없습니다.");
+        }
+        return new SubmissionAttachment(fileStore.resolve(entity.getAttachmentSha256()), entity.getAttachmentSha256(),
+            entity.getAttachmentFile(), entity.getAttachmentContentType());
+    }
 }
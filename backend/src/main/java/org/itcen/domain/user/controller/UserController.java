@@ -4,17 +4,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.itcen.common.dto.ApiResponse;
+import org.itcen.common.web.SparseFieldsets;
 import org.itcen.domain.user.dto.UserDto;
 import org.itcen.domain.user.service.UserService;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 사용자 컨트롤러
@@ -35,10 +38,10 @@ public class UserController {
 
     /**
      * 사용자 목록 조회
-     * GET /api/users
+     * GET /api/users (?fields= 로 응답 속성 선택)
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<UserDto.Response>>> getUsers(
+    public ResponseEntity<MappingJacksonValue> getUsers(
             @RequestParam(required = false) String username,
             @RequestParam(required = false) String email,
             @RequestParam(required = false) String address,
@@ -50,8 +53,10 @@ public class UserController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sort,
-            @RequestParam(defaultValue = "desc") String direction) {
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(value = "fields", required = false) String fields) {
 
+        Set<String> selectedFields = SparseFieldsets.parse(fields, UserDto.Response.class);
         UserDto.SearchRequest request = UserDto.SearchRequest.builder()
                 .username(username)
                 .email(email)
@@ -68,7 +73,8 @@ public class UserController {
                 .build();
 
         Page<UserDto.Response> users = userService.getUsers(request);
-        return ResponseEntity.ok(ApiResponse.success("사용자 목록을 성공적으로 조회했습니다.", users));
+        return ResponseEntity.ok(SparseFieldsets.select(
+                ApiResponse.success("사용자 목록을 성공적으로 조회했습니다.", users), selectedFields));
     }
 
     /**
@@ -152,7 +158,7 @@ public class UserController {
      * GET /api/users/employees
      * 
      * 사원 검색 팝업에서 사용하는 API
-     * 페이징 없이 검색 조건에 맞는 사원 목록을 반환
+     * 페이징 없이 검색 조건에 맞는 사원 목록을 반환 (keyword: 통합 검색어, 초성 검색 지원)
      */
     @GetMapping("/employees")
     public ResponseEntity<ApiResponse<List<UserDto.Response>>> getEmployees(
@@ -160,6 +166,7 @@ public class UserController {
             @RequestParam(required = false) String num,
             @RequestParam(required = false) String deptCd,
             @RequestParam(required = false) String jobRankCd,
+            @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "100") int limit) {
 
         UserDto.EmployeeSearchRequest request = UserDto.EmployeeSearchRequest.builder()
@@ -167,6 +174,7 @@ public class UserController {
                 .num(num)
                 .deptCd(deptCd)
                 .jobRankCd(jobRankCd)
+                .keyword(keyword)
                 .limit(limit)
                 .build();
 
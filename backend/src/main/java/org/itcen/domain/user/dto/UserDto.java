@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.itcen.common.web.SparseFieldset;
 import org.itcen.domain.user.entity.User;
 
 import jakarta.validation.constraints.Email;
@@ -23,12 +24,13 @@ import java.time.LocalDateTime;
 public class UserDto {
 
     /**
-     * 사용자 응답 DTO
+     * 사용자 응답 DTO (?fields= 로 직렬화할 속성 선택 가능)
      */
     @Data
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
+    @SparseFieldset
     public static class Response {
         private String id;
         private String username;
@@ -207,6 +209,11 @@ public class UserDto {
         private String num;
         private String deptCd;
         private String jobRankCd;
+
+        /**
+         * 통합 검색어 (사원명/사번/부서코드/직급코드/사원명 초성, 앞부분 일치 우선)
+         */
+        private String keyword;
         
         @Builder.Default
         private int limit = 100;
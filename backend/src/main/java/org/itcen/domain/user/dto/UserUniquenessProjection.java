@@ -0,0 +1,12 @@
+package org.itcen.domain.user.dto;
+
+/**
+ * 사용자 고유값 중복 여부 조회 프로젝션 (항목별 사용 중 여부)
+ */
+public interface UserUniquenessProjection {
+    Boolean getIdTaken();
+    Boolean getUsernameTaken();
+    Boolean getEmailTaken();
+    Boolean getMobileTaken();
+    Boolean getNumTaken();
+}
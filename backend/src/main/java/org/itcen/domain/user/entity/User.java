@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -26,7 +27,7 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class User {
+public class User implements Persistable<String> {
 
     /**
      * 사용자 ID (Primary Key)
@@ -115,6 +116,24 @@ public class User {
     @Column(name = "updated_id", length = 100)
     private String updatedId;
 
+    /**
+     * DB 에서 읽었거나 저장된 엔티티 여부 (저장 시 merge 의 사전 SELECT 없이 INSERT 하기 위함)
+     */
+    @Transient
+    @Builder.Default
+    private boolean persisted = false;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markPersisted() {
+        this.persisted = true;
+    }
+
     /**
      * 엔티티 생성 전 처리
      */
@@ -1,5 +1,6 @@
 package org.itcen.domain.user.repository;
 
+import org.itcen.domain.user.dto.UserUniquenessProjection;
 import org.itcen.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -87,22 +88,38 @@ public interface UserRepository extends JpaRepository<User, String> {
     );
 
     /**
-     * 사원 목록 조회 (팝업용)
-     * 페이징 없이 검색 조건에 맞는 사원 목록을 반환
+     * 사용자 ID/사용자명/이메일/휴대폰 번호/사번 중복 여부를 한 번에 조회
+     * 각 고유 인덱스를 BitmapOr 로 조회하며, 값이 null 인 항목은 비교하지 않음
+     * (사번 조건의 num <> '' 는 부분 고유 인덱스 users_num_key 를 사용하기 위함)
      */
-    @Query("SELECT u FROM User u WHERE " +
-           "(:username IS NULL OR u.username LIKE %:username%) AND " +
-           "(:num IS NULL OR u.num LIKE %:num%) AND " +
-           "(:deptCd IS NULL OR u.deptCd LIKE %:deptCd%) AND " +
-           "(:jobRankCd IS NULL OR u.jobRankCd LIKE %:jobRankCd%) " +
-           "ORDER BY u.num ASC")
-    List<User> findEmployeesBySearchCriteria(
+    @Query(value = """
+            SELECT
+                COALESCE(BOOL_OR(u.id = CAST(:id AS varchar)), FALSE) AS idTaken,
+                COALESCE(BOOL_OR(u.username = CAST(:username AS varchar)), FALSE) AS usernameTaken,
+                COALESCE(BOOL_OR(u.email = CAST(:email AS varchar)), FALSE) AS emailTaken,
+                COALESCE(BOOL_OR(u.mobile = CAST(:mobile AS varchar)), FALSE) AS mobileTaken,
+                COALESCE(BOOL_OR(u.num = CAST(:num AS varchar)), FALSE) AS numTaken
+            FROM users u
+            WHERE u.id = CAST(:id AS varchar)
+               OR u.username = CAST(:username AS varchar)
+               OR u.email = CAST(:email AS varchar)
+               OR u.mobile = CAST(:mobile AS varchar)
+               OR (u.num = CAST(:num AS varchar) AND u.num <> '')
+            """, nativeQuery = true)
+    UserUniquenessProjection findUniquenessConflicts(
+            @Param("id") String id,
             @Param("username") String username,
-            @Param("num") String num,
-            @Param("deptCd") String deptCd,
-            @Param("jobRankCd") String jobRankCd
+            @Param("email") String email,
+            @Param("mobile") String mobile,
+            @Param("num") String num
     );
 
+    /**
+     * 전체 사용자의 고유값 목록 (id, username, email, mobile, num) - 중복 검사 Bloom 필터 적재용
+     */
+    @Query(value = "SELECT u.id, u.username, u.email, u.mobile, u.num FROM users u", nativeQuery = true)
+    List<Object[]> findAllUniqueKeys();
+
     /**
      * 전체 사용자 수 조회
      */
@@ -0,0 +1,167 @@
+package org.itcen.domain.user.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import org.itcen.common.notify.PgNotificationListener;
+import org.itcen.domain.user.entity.User;
+import org.itcen.domain.user.repository.UserRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사원 검색 디렉터리
+ *
+ * 기동 시 전체 사원을 {@link EmployeeSearchIndex} 에 적재하고, 이후에는 변경된 사원만 다시 읽어 색인에 반영합니다.
+ *
+ * - users 행이 변경되면 DB 트리거가 {@value #CHANNEL} 채널로 사용자 ID 를 NOTIFY 하고 모든 노드가 해당 사원만 다시 적재
+ *   (database/init/36.create_trigger_users_notify.sql, TRUNCATE 또는 재연결 시에는 전체 재적재)
+ * - 변경한 노드는 커밋 직후 바로 반영하여 알림 도착 전에도 자신의 변경을 조회할 수 있음
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 사원 검색 색인의 적재와 동기화만 담당
+ */
+@Slf4j
+@Component
+public class EmployeeDirectory {
+
+    /**
+     * 사용자 변경 알림 채널 (payload: 사용자 ID, 빈 값이면 전체)
+     */
+    public static final String CHANNEL = "users_changed";
+
+    private final UserRepository userRepository;
+    private final PgNotificationListener notificationListener;
+    private final TransactionTemplate loadTransaction;
+
+    private volatile EmployeeSearchIndex index;
+
+    /**
+     * 전체 재적재 직렬화
+     */
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public EmployeeDirectory(UserRepository userRepository, PgNotificationListener notificationListener,
+            PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.notificationListener = notificationListener;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        notificationListener.subscribe(CHANNEL, payload -> {
+            if (payload == null || payload.isEmpty()) {
+                reloadAll();
+            } else {
+                reload(payload);
+            }
+        });
+    }
+
+    /**
+     * 기동 시 최초 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            reloadAll();
+        } catch (Exception e) {
+            log.warn("사원 검색 색인 최초 적재 실패, 첫 조회 시 재시도합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사원 검색
+     */
+    public List<EmployeeSearchIndex.Employee> search(EmployeeSearchIndex.Query query, int limit) {
+        return currentIndex().search(query, limit);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 해당 사원을 다시 적재합니다. (트랜잭션 밖이면 즉시)
+     */
+    public void reloadAfterCommit(String userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    reload(userId);
+                } catch (Exception e) {
+                    log.warn("사원 검색 색인 반영 실패, 변경 알림 수신 시 재시도합니다: userId={}, {}", userId,
+                            e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * 사원 한 명을 다시 적재 (없으면 색인에서 제거)
+     */
+    public void reload(String userId) {
+        EmployeeSearchIndex current = index;
+        if (current == null) {
+            // 아직 전체 적재 전이면 첫 조회 시 전체 적재에 포함됨
+            return;
+        }
+        EmployeeSearchIndex.Employee employee = loadTransaction.execute(status -> userRepository.findById(userId)
+                .map(EmployeeSearchIndex.Employee::from)
+                .orElse(null));
+        if (employee != null) {
+            current.upsert(employee);
+        } else {
+            current.remove(userId);
+        }
+    }
+
+    /**
+     * 전체 사원을 다시 적재합니다.
+     */
+    public void reloadAll() {
+        refreshLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            List<EmployeeSearchIndex.Employee> employees = loadTransaction.execute(status -> {
+                List<User> users = userRepository.findAll();
+                List<EmployeeSearchIndex.Employee> result = new ArrayList<>(users.size());
+                for (User user : users) {
+                    result.add(EmployeeSearchIndex.Employee.from(user));
+                }
+                return result;
+            });
+
+            EmployeeSearchIndex current = index;
+            if (current == null) {
+                index = new EmployeeSearchIndex(employees);
+            } else {
+                current.replaceAll(employees);
+            }
+            log.info("사원 검색 색인 적재 완료: {}명, {}ms", employees.size(), System.currentTimeMillis() - startedAt);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private EmployeeSearchIndex currentIndex() {
+        EmployeeSearchIndex current = index;
+        if (current == null) {
+            reloadAll();
+            current = index;
+        }
+        return current;
+    }
+}
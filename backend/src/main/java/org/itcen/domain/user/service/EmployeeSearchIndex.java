@@ -0,0 +1,418 @@
+package org.itcen.domain.user.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.itcen.common.util.HangulUtils;
+import org.itcen.domain.user.dto.UserDto;
+import org.itcen.domain.user.entity.User;
+
+/**
+ * 사원 검색 색인 (메모리)
+ *
+ * 사원명, 사번, 부서코드, 직급코드와 사원명 초성을 1-gram/2-gram 으로 색인하여 사원 검색 팝업(타이핑 중 검색)을
+ * DB 접근 없이 처리합니다.
+ *
+ * - 기본 색인: 사번 순으로 정렬된 사원 배열 + gram 별 배열 위치 목록 (불변)
+ * - 변경분: 등록/수정/삭제된 사원은 작은 변경분에 반영하고 기본 색인의 같은 사원은 가립니다.
+ *   변경분이 {@value #COMPACT_THRESHOLD}건을 넘으면 메모리 안에서 기본 색인을 다시 만듭니다.
+ * - 조회: 검색어 gram 중 위치 목록이 가장 짧은 것 하나만 사번 순으로 훑으며 실제 조건을 확인하고, 필요한 건수를 채우면 멈춥니다.
+ *
+ * 조회는 잠금 없이 현재 상태(불변)를 읽고, 변경은 새 상태로 교체합니다. 검색은 대소문자를 구분하지 않습니다.
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 사원 검색 색인 자료구조만 담당 (적재/동기화는 EmployeeDirectory)
+ */
+public final class EmployeeSearchIndex {
+
+    static final int COMPACT_THRESHOLD = 1024;
+
+    private static final Comparator<Doc> NUM_ORDER = Comparator
+            .comparing((Doc doc) -> doc.employee().num(), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(doc -> doc.employee().id());
+
+    private static final int RANK_NONE = -1;
+    private static final int RANK_PREFIX = 0;
+    private static final int RANK_INFIX = 1;
+
+    private volatile State state;
+
+    public EmployeeSearchIndex(Collection<Employee> employees) {
+        this.state = new State(Base.build(toDocs(employees)), Map.of(), Set.of());
+    }
+
+    /**
+     * 전체 교체
+     */
+    public synchronized void replaceAll(Collection<Employee> employees) {
+        state = new State(Base.build(toDocs(employees)), Map.of(), Set.of());
+    }
+
+    /**
+     * 사원 등록/수정 반영
+     */
+    public synchronized void upsert(Employee employee) {
+        State current = state;
+        Map<String, Doc> overlay = new HashMap<>(current.overlay());
+        overlay.put(employee.id(), Doc.of(employee));
+        Set<String> masked = new HashSet<>(current.masked());
+        masked.add(employee.id());
+        apply(current.base(), overlay, masked);
+    }
+
+    /**
+     * 사원 삭제 반영
+     */
+    public synchronized void remove(String id) {
+        State current = state;
+        Map<String, Doc> overlay = new HashMap<>(current.overlay());
+        overlay.remove(id);
+        Set<String> masked = new HashSet<>(current.masked());
+        masked.add(id);
+        apply(current.base(), overlay, masked);
+    }
+
+    /**
+     * 사원 검색
+     *
+     * 사원명/사번/부서코드/직급코드 조건은 각 항목에 포함되어야 하며(AND), 사원명 조건이 초성으로만 이루어져 있으면 사원명 초성과 비교합니다.
+     * 통합 검색어(keyword)는 네 항목 또는 사원명 초성 중 하나에 포함되면 되고, 앞부분이 일치하는 사원을 먼저 반환합니다.
+     * 같은 순위 안에서는 사번 순입니다.
+     *
+     * @param query 검색 조건 (빈 조건은 무시)
+     * @param limit 최대 건수
+     * @return 검색 결과
+     */
+    public List<Employee> search(Query query, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        State current = state;
+        Matcher matcher = new Matcher(query);
+
+        List<Doc> prefixMatches = new ArrayList<>();
+        List<Doc> infixMatches = new ArrayList<>();
+
+        Base base = current.base();
+        int[] candidates = base.candidates(matcher.grams());
+        int candidateCount = candidates != null ? candidates.length : base.docs().length;
+        for (int i = 0; i < candidateCount && prefixMatches.size() < limit; i++) {
+            Doc doc = base.docs()[candidates != null ? candidates[i] : i];
+            if (!current.masked().isEmpty() && current.masked().contains(doc.employee().id())) {
+                continue;
+            }
+            collect(matcher.rank(doc), doc, prefixMatches, infixMatches, limit);
+        }
+        for (Doc doc : current.overlay().values()) {
+            collect(matcher.rank(doc), doc, prefixMatches, infixMatches, Integer.MAX_VALUE);
+        }
+
+        if (!current.overlay().isEmpty()) {
+            prefixMatches.sort(NUM_ORDER);
+            infixMatches.sort(NUM_ORDER);
+        }
+        List<Employee> result = new ArrayList<>(Math.min(limit, prefixMatches.size() + infixMatches.size()));
+        for (Doc doc : prefixMatches) {
+            if (result.size() == limit) {
+                return result;
+            }
+            result.add(doc.employee());
+        }
+        for (Doc doc : infixMatches) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(doc.employee());
+        }
+        return result;
+    }
+
+    /**
+     * 색인된 사원 수
+     */
+    public int size() {
+        State current = state;
+        int size = current.overlay().size();
+        for (Doc doc : current.base().docs()) {
+            if (!current.masked().contains(doc.employee().id())) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private void apply(Base base, Map<String, Doc> overlay, Set<String> masked) {
+        if (masked.size() > COMPACT_THRESHOLD) {
+            List<Doc> docs = new ArrayList<>(base.docs().length + overlay.size());
+            for (Doc doc : base.docs()) {
+                if (!masked.contains(doc.employee().id())) {
+                    docs.add(doc);
+                }
+            }
+            docs.addAll(overlay.values());
+            state = new State(Base.build(docs), Map.of(), Set.of());
+            return;
+        }
+        state = new State(base, Map.copyOf(overlay), Set.copyOf(masked));
+    }
+
+    private static void collect(int rank, Doc doc, List<Doc> prefixMatches, List<Doc> infixMatches, int limit) {
+        if (rank == RANK_PREFIX) {
+            if (prefixMatches.size() < limit) {
+                prefixMatches.add(doc);
+            }
+        } else if (rank == RANK_INFIX) {
+            if (infixMatches.size() < limit) {
+                infixMatches.add(doc);
+            }
+        }
+    }
+
+    private static List<Doc> toDocs(Collection<Employee> employees) {
+        List<Doc> docs = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            docs.add(Doc.of(employee));
+        }
+        return docs;
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 문자열의 1-gram(길이 1) 또는 2-gram 목록
+     */
+    private static void addGrams(String value, Collection<String> grams) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        if (value.length() == 1) {
+            grams.add(value);
+            return;
+        }
+        for (int i = 0; i + 1 < value.length(); i++) {
+            grams.add(value.substring(i, i + 2));
+        }
+    }
+
+    /**
+     * 색인 대상 사원 정보
+     */
+    public record Employee(String id, String username, String email, String address, String mobile,
+            String deptCd, String num, String jobRankCd, String jobTitleCd, LocalDateTime createdAt,
+            LocalDateTime updatedAt) {
+
+        public static Employee from(User user) {
+            return new Employee(user.getId(), user.getUsername(), user.getEmail(), user.getAddress(),
+                    user.getMobile(), user.getDeptCd(), user.getNum(), user.getJobRankCd(),
+                    user.getJobTitleCd(), user.getCreatedAt(), user.getUpdatedAt());
+        }
+
+        public UserDto.Response toResponse() {
+            return UserDto.Response.builder()
+                    .id(id)
+                    .username(username)
+                    .email(email)
+                    .address(address)
+                    .mobile(mobile)
+                    .deptCd(deptCd)
+                    .num(num)
+                    .jobRankCd(jobRankCd)
+                    .jobTitleCd(jobTitleCd)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+    }
+
+    /**
+     * 검색 조건
+     */
+    public record Query(String username, String num, String deptCd, String jobRankCd, String keyword) {
+    }
+
+    /**
+     * 색인 문서 (비교용 소문자/초성 값 미리 계산)
+     */
+    private record Doc(Employee employee, String username, String num, String deptCd, String jobRankCd,
+            String chosung) {
+
+        static Doc of(Employee employee) {
+            String username = normalize(employee.username());
+            return new Doc(employee, username, normalize(employee.num()), normalize(employee.deptCd()),
+                    normalize(employee.jobRankCd()), HangulUtils.toChosung(username));
+        }
+
+        void collectGrams(Set<String> grams) {
+            EmployeeSearchIndex.addAllGrams(username, grams);
+            EmployeeSearchIndex.addAllGrams(num, grams);
+            EmployeeSearchIndex.addAllGrams(deptCd, grams);
+            EmployeeSearchIndex.addAllGrams(jobRankCd, grams);
+            EmployeeSearchIndex.addAllGrams(chosung, grams);
+        }
+    }
+
+    /**
+     * 색인용: 모든 1-gram 과 2-gram (길이 1 검색어도 찾을 수 있도록)
+     */
+    private static void addAllGrams(String value, Set<String> grams) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            grams.add(value.substring(i, i + 1));
+            if (i + 1 < value.length()) {
+                grams.add(value.substring(i, i + 2));
+            }
+        }
+    }
+
+    /**
+     * 불변 기본 색인
+     */
+    private record Base(Doc[] docs, Map<String, int[]> postings) {
+
+        static Base build(List<Doc> source) {
+            Doc[] docs = source.toArray(new Doc[0]);
+            Arrays.sort(docs, NUM_ORDER);
+
+            Map<String, IntList> lists = new HashMap<>();
+            Set<String> grams = new HashSet<>();
+            for (int i = 0; i < docs.length; i++) {
+                grams.clear();
+                docs[i].collectGrams(grams);
+                for (String gram : grams) {
+                    lists.computeIfAbsent(gram, key -> new IntList()).add(i);
+                }
+            }
+            Map<String, int[]> postings = new HashMap<>(lists.size() * 4 / 3 + 1);
+            lists.forEach((gram, list) -> postings.put(gram, list.toArray()));
+            return new Base(docs, postings);
+        }
+
+        /**
+         * 모든 gram 을 포함해야 하므로 가장 짧은 위치 목록 하나를 후보로 사용 (gram 이 없으면 null = 전체)
+         */
+        int[] candidates(List<String> grams) {
+            int[] shortest = null;
+            for (String gram : grams) {
+                int[] posting = postings.get(gram);
+                if (posting == null) {
+                    return new int[0];
+                }
+                if (shortest == null || posting.length < shortest.length) {
+                    shortest = posting;
+                }
+            }
+            return shortest;
+        }
+    }
+
+    private record State(Base base, Map<String, Doc> overlay, Set<String> masked) {
+    }
+
+    /**
+     * 검색 조건 판정
+     */
+    private static final class Matcher {
+
+        private final String username;
+        private final boolean usernameChosung;
+        private final String num;
+        private final String deptCd;
+        private final String jobRankCd;
+        private final String keyword;
+        private final boolean keywordChosung;
+        private final List<String> grams = new ArrayList<>();
+
+        Matcher(Query query) {
+            this.username = normalize(query.username());
+            this.usernameChosung = HangulUtils.isChosungOnly(username);
+            this.num = normalize(query.num());
+            this.deptCd = normalize(query.deptCd());
+            this.jobRankCd = normalize(query.jobRankCd());
+            this.keyword = normalize(query.keyword());
+            this.keywordChosung = HangulUtils.isChosungOnly(keyword);
+
+            addGrams(username, grams);
+            addGrams(num, grams);
+            addGrams(deptCd, grams);
+            addGrams(jobRankCd, grams);
+            addGrams(keyword, grams);
+        }
+
+        List<String> grams() {
+            return grams;
+        }
+
+        int rank(Doc doc) {
+            if (username != null && !contains(usernameChosung ? doc.chosung() : doc.username(), username)) {
+                return RANK_NONE;
+            }
+            if (num != null && !contains(doc.num(), num)) {
+                return RANK_NONE;
+            }
+            if (deptCd != null && !contains(doc.deptCd(), deptCd)) {
+                return RANK_NONE;
+            }
+            if (jobRankCd != null && !contains(doc.jobRankCd(), jobRankCd)) {
+                return RANK_NONE;
+            }
+            if (keyword == null) {
+                return RANK_PREFIX;
+            }
+            if (startsWith(doc.username(), keyword) || startsWith(doc.num(), keyword)
+                    || startsWith(doc.deptCd(), keyword) || startsWith(doc.jobRankCd(), keyword)
+                    || (keywordChosung && startsWith(doc.chosung(), keyword))) {
+                return RANK_PREFIX;
+            }
+            if (contains(doc.username(), keyword) || contains(doc.num(), keyword)
+                    || contains(doc.deptCd(), keyword) || contains(doc.jobRankCd(), keyword)
+                    || (keywordChosung && contains(doc.chosung(), keyword))) {
+                return RANK_INFIX;
+            }
+            return RANK_NONE;
+        }
+
+        private static boolean contains(String value, String term) {
+            return value != null && value.contains(term);
+        }
+
+        private static boolean startsWith(String value, String term) {
+            return value != null && value.startsWith(term);
+        }
+    }
+
+    /**
+     * 위치 목록 적재용 가변 int 배열
+     */
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +32,8 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final EmployeeDirectory employeeDirectory;
+    private final UserUniquenessValidator uniquenessValidator;
 
     /**
      * 사용자 목록 조회
@@ -67,23 +70,21 @@ public class UserService {
 
     /**
      * 사원 목록 조회 (팝업용)
-     * 페이징 없이 검색 조건에 맞는 사원 목록을 반환
+     * 메모리 사원 검색 색인에서 검색 조건에 맞는 사원을 최대 limit 건 반환 (DB 접근 없음)
      */
     public List<UserDto.Response> getEmployees(UserDto.EmployeeSearchRequest request) {
         log.debug("Getting employees with search criteria: {}", request);
 
-        // 검색 조건에 따른 조회
-        List<User> employees = userRepository.findEmployeesBySearchCriteria(
+        EmployeeSearchIndex.Query query = new EmployeeSearchIndex.Query(
                 request.getUsername(),
                 request.getNum(),
                 request.getDeptCd(),
-                request.getJobRankCd()
+                request.getJobRankCd(),
+                request.getKeyword()
         );
 
-        // limit 적용
-        return employees.stream()
-                .limit(request.getLimit())
-                .map(UserDto.Response::from)
+        return employeeDirectory.search(query, request.getLimit()).stream()
+                .map(EmployeeSearchIndex.Employee::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -118,33 +119,23 @@ public class UserService {
     public UserDto.Response createUser(UserDto.CreateRequest request) {
         log.debug("Creating user: {}", request.getUsername());
 
-        // 중복 검사
-        if (userRepository.existsById(request.getId())) {
-            throw new IllegalArgumentException("이미 존재하는 ID입니다: " + request.getId());
-        }
-
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new IllegalArgumentException("이미 존재하는 사용자명입니다: " + request.getUsername());
-        }
-
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("이미 존재하는 이메일입니다: " + request.getEmail());
-        }
-
-        if (userRepository.existsByMobile(request.getMobile())) {
-            throw new IllegalArgumentException("이미 존재하는 휴대폰 번호입니다: " + request.getMobile());
-        }
+        // 중복 검사 (ID/사용자명/이메일/휴대폰 번호/사번을 한 번에 조회)
+        throwIfTaken(uniquenessValidator.check(request.getId(), request.getUsername(), request.getEmail(),
+                request.getMobile(), request.getNum()), request.getId(), request.getUsername(), request.getEmail(),
+                request.getMobile(), request.getNum());
 
-        // 사번 중복 검사 (사번이 있는 경우에만)
-        if (request.getNum() != null && !request.getNum().trim().isEmpty()) {
-            if (userRepository.existsByNum(request.getNum())) {
-                throw new IllegalArgumentException("이미 존재하는 사번입니다: " + request.getNum());
-            }
-        }
-
-        // 엔티티 생성 및 저장
+        // 엔티티 생성 및 저장 (동시 요청으로 고유 인덱스에 걸리면 같은 메시지로 변환)
         User user = request.toEntity();
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throwIfTaken(UserUniquenessValidator.conflictOf(e), request.getId(), request.getUsername(),
+                    request.getEmail(), request.getMobile(), request.getNum());
+            throw e;
+        }
+        uniquenessValidator.registerTaken(savedUser);
+        employeeDirectory.reloadAfterCommit(savedUser.getId());
 
         log.info("User created successfully: {}", savedUser.getUsername());
         return UserDto.Response.from(savedUser);
@@ -160,28 +151,25 @@ public class UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + id));
 
-        // 이메일 중복 검사 (자신 제외)
-        if (request.getEmail() != null && !request.getEmail().equals(user.getEmail())) {
-            if (userRepository.existsByEmail(request.getEmail())) {
-                throw new IllegalArgumentException("이미 존재하는 이메일입니다: " + request.getEmail());
-            }
-            user.setEmail(request.getEmail());
+        // 이메일/휴대폰 번호/사번 중복 검사 (변경되는 항목만, 한 번에 조회)
+        String newEmail = request.getEmail() != null && !request.getEmail().equals(user.getEmail())
+                ? request.getEmail() : null;
+        String newMobile = request.getMobile() != null && !request.getMobile().equals(user.getMobile())
+                ? request.getMobile() : null;
+        String newNum = request.getNum() != null && !request.getNum().equals(user.getNum())
+                ? request.getNum() : null;
+        if (newEmail != null || newMobile != null || newNum != null) {
+            throwIfTaken(uniquenessValidator.check(null, null, newEmail, newMobile, newNum), null, null,
+                    newEmail, newMobile, newNum);
         }
-
-        // 휴대폰 번호 중복 검사 (자신 제외)
-        if (request.getMobile() != null && !request.getMobile().equals(user.getMobile())) {
-            if (userRepository.existsByMobile(request.getMobile())) {
-                throw new IllegalArgumentException("이미 존재하는 휴대폰 번호입니다: " + request.getMobile());
-            }
-            user.setMobile(request.getMobile());
+        if (newEmail != null) {
+            user.setEmail(newEmail);
         }
-
-        // 사번 중복 검사 (자신 제외)
-        if (request.getNum() != null && !request.getNum().equals(user.getNum())) {
-            if (userRepository.existsByNum(request.getNum())) {
-                throw new IllegalArgumentException("이미 존재하는 사번입니다: " + request.getNum());
-            }
-            user.setNum(request.getNum());
+        if (newMobile != null) {
+            user.setMobile(newMobile);
+        }
+        if (newNum != null) {
+            user.setNum(newNum);
         }
 
         // 필드 업데이트
@@ -202,6 +190,7 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        employeeDirectory.reloadAfterCommit(updatedUser.getId());
         log.info("User updated successfully: {}", updatedUser.getUsername());
         
         return UserDto.Response.from(updatedUser);
@@ -218,9 +207,32 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + id));
 
         userRepository.delete(user);
+        employeeDirectory.reloadAfterCommit(user.getId());
         log.info("User deleted successfully: {}", user.getUsername());
     }
 
+    /**
+     * 중복 항목이 있으면 첫 번째 항목의 메시지로 예외 발생
+     */
+    private void throwIfTaken(UserUniquenessValidator.Conflicts conflicts, String id, String username,
+            String email, String mobile, String num) {
+        if (conflicts.idTaken()) {
+            throw new IllegalArgumentException("이미 존재하는 ID입니다: " + id);
+        }
+        if (conflicts.usernameTaken()) {
+            throw new IllegalArgumentException("이미 존재하는 사용자명입니다: " + username);
+        }
+        if (conflicts.emailTaken()) {
+            throw new IllegalArgumentException("이미 존재하는 이메일입니다: " + email);
+        }
+        if (conflicts.mobileTaken()) {
+            throw new IllegalArgumentException("이미 존재하는 휴대폰 번호입니다: " + mobile);
+        }
+        if (conflicts.numTaken()) {
+            throw new IllegalArgumentException("이미 존재하는 사번입니다: " + num);
+        }
+    }
+
     /**
      * 전체 사용자 수 조회
      */
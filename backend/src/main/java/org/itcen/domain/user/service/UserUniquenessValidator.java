@@ -0,0 +1,253 @@
+package org.itcen.domain.user.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.itcen.common.cache.BloomFilter;
+import org.itcen.common.notify.PgNotificationListener;
+import org.itcen.domain.user.dto.UserUniquenessProjection;
+import org.itcen.domain.user.entity.User;
+import org.itcen.domain.user.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 고유값 중복 검사기
+ *
+ * 사용자 ID, 사용자명, 이메일, 휴대폰 번호, 사번의 중복 여부를 쿼리 한 번으로 조회합니다. 최종 보장은 users 의 고유 인덱스가 하며
+ * (database/init/37.create_index_users_unique.sql), 동시 가입으로 INSERT 시점에 위반되면 {@link #conflictOf} 로 항목을 판별합니다.
+ *
+ * itcen.user.uniqueness.bloom-filter.enabled=true 이면 사용 중인 고유값을 Bloom 필터로 보관하여, 모든 값이 "확실히 없음"인
+ * 대부분의 가입 요청은 DB 조회 없이 통과시킵니다. 필터가 놓친 동시 가입은 고유 인덱스가 막습니다.
+ *
+ * - 다른 노드의 가입/수정은 {@value EmployeeDirectory#CHANNEL} 알림으로 필터에 반영
+ * - 재연결 시에는 필터를 새로 적재 (삭제된 값도 이때 정리)
+ *
+ * SOLID 원칙:
+ * - Single Responsibility: 사용자 고유값 중복 판정만 담당
+ */
+@Slf4j
+@Component
+public class UserUniquenessValidator {
+
+    /**
+     * Bloom 필터 키 접두어 (항목 간 같은 값 구분)
+     */
+    private static final char KEY_ID = 'i';
+    private static final char KEY_USERNAME = 'u';
+    private static final char KEY_EMAIL = 'e';
+    private static final char KEY_MOBILE = 'm';
+    private static final char KEY_NUM = 'n';
+
+    /**
+     * PostgreSQL 고유 제약 위반 메시지의 제약 이름
+     */
+    private static final Pattern CONSTRAINT_NAME = Pattern.compile("constraint \"([^\"]+)\"");
+
+    private final UserRepository userRepository;
+    private final PgNotificationListener notificationListener;
+    private final TransactionTemplate readTransaction;
+    private final Timer bloomChecks;
+    private final Timer databaseChecks;
+
+    @Value("${itcen.user.uniqueness.bloom-filter.enabled:false}")
+    private boolean bloomFilterEnabled;
+
+    @Value("${itcen.user.uniqueness.bloom-filter.expected-insertions:200000}")
+    private long expectedInsertions;
+
+    @Value("${itcen.user.uniqueness.bloom-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    /**
+     * 적재 전에는 null (항상 DB 조회)
+     */
+    private volatile BloomFilter bloomFilter;
+
+    /**
+     * 필터 재적재 직렬화
+     */
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public UserUniquenessValidator(UserRepository userRepository, PgNotificationListener notificationListener,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.notificationListener = notificationListener;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.bloomChecks = Timer.builder("user.uniqueness.check")
+                .description("사용자 고유값 중복 검사")
+                .tag("path", "bloom")
+                .register(meterRegistry);
+        this.databaseChecks = Timer.builder("user.uniqueness.check")
+                .description("사용자 고유값 중복 검사")
+                .tag("path", "db")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (!bloomFilterEnabled) {
+            return;
+        }
+        notificationListener.subscribe(EmployeeDirectory.CHANNEL, payload -> {
+            if (payload == null || payload.isEmpty()) {
+                rebuildBloomFilter();
+            } else if (bloomFilter != null) {
+                readTransaction.executeWithoutResult(status -> userRepository.findById(payload)
+                        .ifPresent(this::registerTaken));
+            }
+        });
+    }
+
+    /**
+     * 기동 시 Bloom 필터 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!bloomFilterEnabled) {
+            return;
+        }
+        try {
+            rebuildBloomFilter();
+        } catch (Exception e) {
+            log.warn("사용자 중복 검사 Bloom 필터 적재 실패, DB 조회로 검사합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 중복 여부 조회 (null 또는 빈 값은 검사하지 않음)
+     */
+    public Conflicts check(String id, String username, String email, String mobile, String num) {
+        id = blankToNull(id);
+        username = blankToNull(username);
+        email = blankToNull(email);
+        mobile = blankToNull(mobile);
+        num = blankToNull(num);
+
+        long startedAt = System.nanoTime();
+        BloomFilter filter = bloomFilter;
+        if (filter != null
+                && !filter.mightContain(key(KEY_ID, id))
+                && !filter.mightContain(key(KEY_USERNAME, username))
+                && !filter.mightContain(key(KEY_EMAIL, email))
+                && !filter.mightContain(key(KEY_MOBILE, mobile))
+                && !filter.mightContain(key(KEY_NUM, num))) {
+            bloomChecks.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return Conflicts.NONE;
+        }
+
+        UserUniquenessProjection row = userRepository.findUniquenessConflicts(id, username, email, mobile, num);
+        databaseChecks.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        if (row == null) {
+            return Conflicts.NONE;
+        }
+        return new Conflicts(Boolean.TRUE.equals(row.getIdTaken()), Boolean.TRUE.equals(row.getUsernameTaken()),
+                Boolean.TRUE.equals(row.getEmailTaken()), Boolean.TRUE.equals(row.getMobileTaken()),
+                Boolean.TRUE.equals(row.getNumTaken()));
+    }
+
+    /**
+     * 저장된 사용자의 고유값을 Bloom 필터에 반영
+     */
+    public void registerTaken(User user) {
+        BloomFilter filter = bloomFilter;
+        if (filter == null) {
+            return;
+        }
+        filter.put(key(KEY_ID, user.getId()));
+        filter.put(key(KEY_USERNAME, user.getUsername()));
+        filter.put(key(KEY_EMAIL, user.getEmail()));
+        filter.put(key(KEY_MOBILE, user.getMobile()));
+        filter.put(key(KEY_NUM, blankToNull(user.getNum())));
+    }
+
+    /**
+     * 고유 인덱스 위반 예외에서 충돌 항목 판별
+     *
+     * @return 판별된 항목 (알 수 없으면 {@link Conflicts#NONE})
+     */
+    public static Conflicts conflictOf(DataIntegrityViolationException e) {
+        String constraint = constraintNameOf(e);
+        if (constraint == null) {
+            return Conflicts.NONE;
+        }
+        return new Conflicts(constraint.equals("users_pkey"), constraint.equals("users_username_key"),
+                constraint.equals("users_email_key"), constraint.equals("users_mobile_key"),
+                constraint.equals("users_num_key"));
+    }
+
+    /**
+     * 위반된 제약 이름 (Hibernate 가 추출한 이름, 없으면 DB 메시지의 따옴표 안 이름)
+     *
+     * 메시지 전체에서 찾으면 Detail 에 실린 입력값(예: 이메일)에 제약 이름이 들어 있을 때 다른 항목으로 판별되므로 이름만 봅니다.
+     */
+    private static String constraintNameOf(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName();
+            }
+        }
+        Matcher matcher = CONSTRAINT_NAME.matcher(String.valueOf(e.getMostSpecificCause().getMessage()));
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * 사용 중인 고유값 전체로 Bloom 필터를 새로 적재하여 교체
+     */
+    public void rebuildBloomFilter() {
+        refreshLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            BloomFilter filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+            List<Object[]> rows = readTransaction.execute(status -> userRepository.findAllUniqueKeys());
+            for (Object[] row : rows) {
+                filter.put(key(KEY_ID, (String) row[0]));
+                filter.put(key(KEY_USERNAME, (String) row[1]));
+                filter.put(key(KEY_EMAIL, (String) row[2]));
+                filter.put(key(KEY_MOBILE, (String) row[3]));
+                filter.put(key(KEY_NUM, blankToNull((String) row[4])));
+            }
+            bloomFilter = filter;
+            log.info("사용자 중복 검사 Bloom 필터 적재 완료: {}명, {}ms", rows.size(),
+                    System.currentTimeMillis() - startedAt);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private static String key(char type, String value) {
+        return value == null ? null : type + ":" + value;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    /**
+     * 항목별 중복 여부
+     */
+    public record Conflicts(boolean idTaken, boolean usernameTaken, boolean emailTaken, boolean mobileTaken,
+            boolean numTaken) {
+
+        public static final Conflicts NONE = new Conflicts(false, false, false, false, false);
+
+        public boolean any() {
+            return idTaken || usernameTaken || emailTaken || mobileTaken || numTaken;
+        }
+    }
+}
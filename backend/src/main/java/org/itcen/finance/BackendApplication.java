@@ -25,14 +25,16 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
         "org.itcen.domain.menu.repository", "org.itcen.domain.positions.repository",
         "org.itcen.domain.qna.repository", "org.itcen.domain.responsibility.repository",
         "org.itcen.domain.user.repository", "org.itcen.auth.repository",
-        "org.itcen.domain.execofficer.repository", "org.itcen.domain.submission.repository"})
+        "org.itcen.domain.execofficer.repository", "org.itcen.domain.submission.repository",
+        "org.itcen.domain.approval.repository"})
 @EntityScan(basePackages = {"org.itcen.domain.departments.entity", "org.itcen.domain.common.entity",
         "org.itcen.domain.casestudy.entity", "org.itcen.domain.hodicitem.entity",
         "org.itcen.domain.meeting.entity", "org.itcen.domain.menu.entity",
         "org.itcen.domain.positions.entity", "org.itcen.domain.qna.entity",
         "org.itcen.domain.responsibility.entity", "org.itcen.domain.user.entity",
         "org.itcen.auth.domain", "org.itcen.auth.domain.permission",
-        "org.itcen.domain.execofficer.entity", "org.itcen.domain.submission.entity"})
+        "org.itcen.domain.execofficer.entity", "org.itcen.domain.submission.entity",
+        "org.itcen.domain.approval.entity"})
 // @EnableRedisHttpSession(maxInactiveIntervalInSeconds = 3600) // H2 프로파일에서는 비활성화
 public class BackendApplication {
 
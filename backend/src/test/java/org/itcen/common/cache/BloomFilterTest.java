@@ -0,0 +1,93 @@
+package org.itcen.common.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link BloomFilter} 테스트 (누락 없음, 오탐률)
+ */
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 100_000;
+
+    @Test
+    void neverReportsAddedValueAsAbsent() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        List<String> values = values("u:", INSERTIONS);
+        values.forEach(filter::put);
+
+        assertThat(values).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void neverReportsValueAddedConcurrentlyAsAbsent() throws Exception {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String prefix = "t" + t + ":";
+                futures.add(executor.submit(() -> {
+                    List<String> values = values(prefix, INSERTIONS / threads);
+                    values.forEach(filter::put);
+                    return values;
+                }));
+            }
+            for (Future<List<String>> future : futures) {
+                assertThat(future.get()).allMatch(filter::mightContain);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void keepsFalsePositiveRateNearTarget() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        values("in:", INSERTIONS).forEach(filter::put);
+
+        long falsePositives = values("out:", INSERTIONS).stream().filter(filter::mightContain).count();
+
+        assertThat((double) falsePositives / INSERTIONS).isLessThan(0.02);
+    }
+
+    @Test
+    void distinguishesKeyPrefixes() {
+        BloomFilter filter = new BloomFilter(1_000, 0.001);
+        filter.put("e:hong@example.com");
+
+        assertThat(filter.mightContain("e:hong@example.com")).isTrue();
+        assertThat(filter.mightContain("u:hong@example.com")).isFalse();
+    }
+
+    @Test
+    void ignoresNull() {
+        BloomFilter filter = new BloomFilter(10, 0.01);
+        filter.put(null);
+
+        assertThat(filter.mightContain(null)).isFalse();
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(10, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(10, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> values(String prefix, int count) {
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(prefix + UUID.randomUUID());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,250 @@
+package org.itcen.common.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * {@link CoalescingAspect} 테스트 (조회 범위별 합치기 키, 대기 초과 시 직접 실행, 트랜잭션 안 우회)
+ */
+class CoalescingAspectTest {
+
+    private static final Duration MAX_WAIT = Duration.ofSeconds(5);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Thread> threads = new ArrayList<>();
+    private Lookups target;
+    private Lookups proxy;
+
+    @BeforeEach
+    void setUp() {
+        CoalescingAspect aspect = new CoalescingAspect(meterRegistry);
+        ReflectionTestUtils.setField(aspect, "enabled", true);
+        ReflectionTestUtils.setField(aspect, "defaultMaxWaitMs", MAX_WAIT.toMillis());
+        target = new Lookups();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        proxy = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        target.release.countDown();
+        threads.forEach(Thread::interrupt);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void scopeKeyOfGlobalIgnoresCaller() {
+        login("alice", "ROLE_USER");
+
+        assertThat(CoalescingAspect.scopeOf(Coalesced.Scope.GLOBAL)).isEqualTo(Coalesced.Scope.GLOBAL);
+    }
+
+    @Test
+    void scopeKeyOfUserIsUserName() {
+        login("alice", "ROLE_USER");
+        Object alice = CoalescingAspect.scopeOf(Coalesced.Scope.USER);
+        login("bob", "ROLE_USER");
+        Object bob = CoalescingAspect.scopeOf(Coalesced.Scope.USER);
+
+        assertThat(alice).isEqualTo("user:alice");
+        assertThat(bob).isNotEqualTo(alice);
+    }
+
+    @Test
+    void scopeKeyOfAuthoritiesIgnoresOrderAndUser() {
+        login("alice", "ROLE_USER", "ROLE_ADMIN");
+        Object alice = CoalescingAspect.scopeOf(Coalesced.Scope.AUTHORITIES);
+        login("bob", "ROLE_ADMIN", "ROLE_USER");
+        Object bob = CoalescingAspect.scopeOf(Coalesced.Scope.AUTHORITIES);
+        login("carol", "ROLE_USER");
+        Object carol = CoalescingAspect.scopeOf(Coalesced.Scope.AUTHORITIES);
+
+        assertThat(alice).isEqualTo(bob);
+        assertThat(carol).isNotEqualTo(alice);
+    }
+
+    @Test
+    void scopeKeyWithoutAuthenticationIsScopeItself() {
+        assertThat(CoalescingAspect.scopeOf(Coalesced.Scope.USER)).isEqualTo(Coalesced.Scope.USER);
+        assertThat(CoalescingAspect.scopeOf(Coalesced.Scope.AUTHORITIES)).isEqualTo(Coalesced.Scope.AUTHORITIES);
+    }
+
+    @Test
+    void collapsesGlobalCallsAcrossUsers() throws Exception {
+        FutureTask<String> alice = callAs("alice", () -> proxy.global("q"), "ROLE_USER");
+        awaitCalls(1);
+        FutureTask<String> bob = callAs("bob", () -> proxy.global("q"), "ROLE_ADMIN");
+        awaitAllBlocked();
+
+        target.release.countDown();
+        assertThat(alice.get()).isEqualTo("q#1");
+        assertThat(bob.get()).isEqualTo("q#1");
+        assertThat(target.calls).hasValue(1);
+        assertThat(calls("Lookups.global", "executed")).isEqualTo(1);
+        assertThat(calls("Lookups.global", "collapsed")).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotCollapseDifferentArguments() throws Exception {
+        FutureTask<String> first = callAs("alice", () -> proxy.global("a"), "ROLE_USER");
+        FutureTask<String> second = callAs("alice", () -> proxy.global("b"), "ROLE_USER");
+        awaitCalls(2);
+
+        target.release.countDown();
+        assertThat(List.of(first.get(), second.get())).allMatch(result -> result.startsWith("a#")
+                || result.startsWith("b#"));
+        assertThat(calls("Lookups.global", "executed")).isEqualTo(2);
+    }
+
+    @Test
+    void collapsesUserCallsOnlyForSameUser() throws Exception {
+        FutureTask<String> alice = callAs("alice", () -> proxy.user("q"), "ROLE_USER");
+        awaitCalls(1);
+        FutureTask<String> aliceAgain = callAs("alice", () -> proxy.user("q"), "ROLE_USER");
+        awaitAllBlocked();
+        FutureTask<String> bob = callAs("bob", () -> proxy.user("q"), "ROLE_USER");
+        awaitCalls(2);
+
+        target.release.countDown();
+        assertThat(aliceAgain.get()).isEqualTo(alice.get());
+        assertThat(bob.get()).isNotEqualTo(alice.get());
+        assertThat(target.calls).hasValue(2);
+    }
+
+    @Test
+    void collapsesAuthoritiesCallsOnlyForSameAuthorities() throws Exception {
+        FutureTask<String> alice = callAs("alice", () -> proxy.authorities("q"), "ROLE_USER", "ROLE_ADMIN");
+        awaitCalls(1);
+        FutureTask<String> bob = callAs("bob", () -> proxy.authorities("q"), "ROLE_ADMIN", "ROLE_USER");
+        awaitAllBlocked();
+        FutureTask<String> carol = callAs("carol", () -> proxy.authorities("q"), "ROLE_USER");
+        awaitCalls(2);
+
+        target.release.countDown();
+        assertThat(bob.get()).isEqualTo(alice.get());
+        assertThat(carol.get()).isNotEqualTo(alice.get());
+        assertThat(target.calls).hasValue(2);
+    }
+
+    @Test
+    void runsDirectlyAfterMaxWait() throws Exception {
+        FutureTask<String> first = callAs("alice", () -> proxy.shortWait("q"), "ROLE_USER");
+        awaitCalls(1);
+        FutureTask<String> second = callAs("bob", () -> proxy.shortWait("q"), "ROLE_USER");
+
+        // 50ms 대기 후 직접 실행
+        awaitCalls(2);
+        target.release.countDown();
+        assertThat(List.of(first.get(), second.get())).containsExactlyInAnyOrder("q#1", "q#2");
+        assertThat(calls("Lookups.shortWait", "timeout")).isEqualTo(1);
+    }
+
+    @Test
+    void bypassesInsideTransaction() throws Exception {
+        target.release.countDown();
+        FutureTask<String> call = callAs("alice", () -> {
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            try {
+                return proxy.global("q");
+            } finally {
+                TransactionSynchronizationManager.setActualTransactionActive(false);
+            }
+        }, "ROLE_USER");
+
+        assertThat(call.get()).isEqualTo("q#1");
+        assertThat(calls("Lookups.global", "bypassed")).isEqualTo(1);
+        assertThat(calls("Lookups.global", "executed")).isZero();
+    }
+
+    private static void login(String username, String... authorities) {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                username, null, Arrays.stream(authorities).map(SimpleGrantedAuthority::new).toList()));
+    }
+
+    private <T> FutureTask<T> callAs(String username, Callable<T> call, String... authorities) {
+        FutureTask<T> task = new FutureTask<>(() -> {
+            login(username, authorities);
+            try {
+                return call.call();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        });
+        Thread thread = new Thread(task, "coalescing-test-" + threads.size());
+        threads.add(thread);
+        thread.start();
+        return task;
+    }
+
+    private void awaitCalls(int calls) {
+        await().atMost(MAX_WAIT).until(() -> target.calls.get() == calls);
+    }
+
+    /**
+     * 실행 중인 호출은 대상 메서드 안에서, 합쳐진 호출은 결과를 기다리며 멈출 때까지 대기
+     */
+    private void awaitAllBlocked() {
+        await().atMost(MAX_WAIT).until(() -> threads.stream()
+                .allMatch(t -> t.getState() == Thread.State.WAITING || t.getState() == Thread.State.TIMED_WAITING));
+    }
+
+    private double calls(String name, String result) {
+        return meterRegistry.get("coalesce.calls").tag("name", name).tag("result", result).counter().count();
+    }
+
+    /**
+     * 합치기 대상 (호출마다 번호를 붙여 반환하고, release 까지 멈춤)
+     */
+    public static class Lookups {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Coalesced(scope = Coalesced.Scope.GLOBAL)
+        public String global(String query) throws InterruptedException {
+            return run(query);
+        }
+
+        @Coalesced(scope = Coalesced.Scope.USER)
+        public String user(String query) throws InterruptedException {
+            return run(query);
+        }
+
+        @Coalesced(scope = Coalesced.Scope.AUTHORITIES)
+        public String authorities(String query) throws InterruptedException {
+            return run(query);
+        }
+
+        @Coalesced(scope = Coalesced.Scope.GLOBAL, maxWaitMs = 50)
+        public String shortWait(String query) throws InterruptedException {
+            return run(query);
+        }
+
+        private String run(String query) throws InterruptedException {
+            int call = calls.incrementAndGet();
+            release.await();
+            return query + "#" + call;
+        }
+    }
+}
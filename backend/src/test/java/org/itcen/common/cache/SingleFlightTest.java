@@ -0,0 +1,126 @@
+package org.itcen.common.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * {@link SingleFlight} 동시 실행 테스트 (합치기, 최대 대기, 예외 공유)
+ */
+class SingleFlightTest {
+
+    private static final Duration MAX_WAIT = Duration.ofSeconds(5);
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final List<Thread> threads = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        threads.forEach(Thread::interrupt);
+    }
+
+    @Test
+    void collapsesConcurrentCallsForSameKey() throws Exception {
+        List<FutureTask<String>> calls = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            calls.add(start(() -> singleFlight.execute("key", this::blockingLoad, MAX_WAIT)));
+        }
+        awaitAllBlocked();
+
+        release.countDown();
+        for (FutureTask<String> call : calls) {
+            assertThat(call.get()).isEqualTo("value-1");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void runsDifferentKeysSeparately() throws Exception {
+        FutureTask<String> first = start(() -> singleFlight.execute("a", this::blockingLoad, MAX_WAIT));
+        FutureTask<String> second = start(() -> singleFlight.execute("b", this::blockingLoad, MAX_WAIT));
+        await().atMost(MAX_WAIT).until(() -> loads.get() == 2);
+
+        release.countDown();
+        assertThat(List.of(first.get(), second.get())).containsExactlyInAnyOrder("value-1", "value-2");
+    }
+
+    @Test
+    void doesNotKeepResultAfterCompletion() throws Exception {
+        release.countDown();
+
+        assertThat(singleFlight.execute("key", this::blockingLoad)).isEqualTo("value-1");
+        assertThat(singleFlight.execute("key", this::blockingLoad)).isEqualTo("value-2");
+    }
+
+    @Test
+    void sharesLoaderExceptionWithWaiters() throws Exception {
+        IllegalStateException failure = new IllegalStateException("load failed");
+        List<FutureTask<String>> calls = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            calls.add(start(() -> singleFlight.execute("key", () -> {
+                blockingLoad();
+                throw failure;
+            }, MAX_WAIT)));
+        }
+        awaitAllBlocked();
+
+        release.countDown();
+        for (FutureTask<String> call : calls) {
+            assertThatThrownBy(call::get).isInstanceOf(ExecutionException.class).hasCause(failure);
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void throwsWaitTimeoutWhenRunningLoadExceedsMaxWait() throws Exception {
+        FutureTask<String> leader = start(() -> singleFlight.execute("key", this::blockingLoad, MAX_WAIT));
+        await().atMost(MAX_WAIT).until(() -> singleFlight.inFlightCount() == 1);
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> singleFlight.execute("key", this::blockingLoad, Duration.ofMillis(50)))
+                .isInstanceOf(SingleFlight.WaitTimeoutException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+        assertThat(loads).hasValue(1);
+
+        // 대기 초과는 진행 중인 적재에 영향 없음
+        release.countDown();
+        assertThat(leader.get()).isEqualTo("value-1");
+    }
+
+    private String blockingLoad() throws InterruptedException {
+        int load = loads.incrementAndGet();
+        release.await();
+        return "value-" + load;
+    }
+
+    private <T> FutureTask<T> start(Callable<T> call) {
+        FutureTask<T> task = new FutureTask<>(call);
+        Thread thread = new Thread(task, "single-flight-test-" + threads.size());
+        threads.add(thread);
+        thread.start();
+        return task;
+    }
+
+    /**
+     * 첫 호출은 적재 함수 안에서, 나머지는 결과를 기다리며 멈출 때까지 대기
+     */
+    private void awaitAllBlocked() {
+        await().atMost(MAX_WAIT).until(() -> loads.get() == 1 && threads.stream()
+                .allMatch(t -> t.getState() == Thread.State.WAITING || t.getState() == Thread.State.TIMED_WAITING));
+    }
+}
@@ -0,0 +1,127 @@
+package org.itcen.common.id;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link UuidV7} 비트 배치와 단조 증가 테스트
+ */
+class UuidV7Test {
+
+    private static final long MILLIS = 1_750_000_000_000L;
+    private static final int MAX_COUNTER = 0xFFF;
+
+    @Test
+    void setsVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        // 다른 테스트의 카운터 올림으로 상태가 시계보다 조금 앞설 수 있음
+        assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, after + 1_000);
+    }
+
+    @Test
+    void placesCounterInRandA() {
+        UUID uuid = UuidV7.toUuid((MILLIS << 12) | 0xABC);
+
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(MILLIS);
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.getMostSignificantBits() & 0xFFF).isEqualTo(0xABC);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void startsNewMillisecondWithCounterInLowerHalf() {
+        long state = UuidV7.next((MILLIS - 1) << 12 | MAX_COUNTER, MILLIS);
+
+        assertThat(state >>> 12).isEqualTo(MILLIS);
+        assertThat(state & MAX_COUNTER).isLessThan(1 << 11);
+    }
+
+    @Test
+    void incrementsCounterWithinSameMillisecond() {
+        long state = (MILLIS << 12) | 5;
+
+        for (int i = 0; i < 100; i++) {
+            long next = UuidV7.next(state, MILLIS);
+            assertThat(next).isEqualTo(state + 1);
+            assertThat(UuidV7.toUuid(next).toString()).isGreaterThan(UuidV7.toUuid(state).toString());
+            state = next;
+        }
+    }
+
+    @Test
+    void keepsIncreasingWhenClockGoesBackwards() {
+        long state = (MILLIS << 12) | 5;
+
+        assertThat(UuidV7.next(state, MILLIS - 1000)).isEqualTo(state + 1);
+    }
+
+    @Test
+    void carriesCounterOverflowIntoNextMillisecond() {
+        long state = (MILLIS << 12) | MAX_COUNTER;
+
+        long next = UuidV7.next(state, MILLIS);
+        UUID uuid = UuidV7.toUuid(next);
+
+        assertThat(next >>> 12).isEqualTo(MILLIS + 1);
+        assertThat(next & MAX_COUNTER).isZero();
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.toString()).isGreaterThan(UuidV7.toUuid(state).toString());
+
+        // 시계가 올림된 밀리초에 도달해도 이어서 증가
+        assertThat(UuidV7.next(next, MILLIS + 1)).isEqualTo(next + 1);
+    }
+
+    @Test
+    void generatesStrictlyIncreasingStrings() {
+        String previous = UuidV7.generateString();
+        for (int i = 0; i < 100_000; i++) {
+            String current = UuidV7.generateString();
+            assertThat(current).hasSize(36).isGreaterThan(previous);
+            previous = current;
+        }
+    }
+
+    @Test
+    void generatesUniqueValuesAcrossThreads() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<UUID>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    List<UUID> generated = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        generated.add(UuidV7.generate());
+                    }
+                    return generated;
+                }));
+            }
+            Set<UUID> all = new HashSet<>();
+            for (Future<List<UUID>> future : futures) {
+                List<UUID> generated = future.get();
+                for (int i = 1; i < generated.size(); i++) {
+                    assertThat(generated.get(i).toString()).isGreaterThan(generated.get(i - 1).toString());
+                }
+                all.addAll(generated);
+            }
+            assertThat(all).hasSize(threads * perThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.itcen.common.jdbc;
+
+import java.time.Duration;
+import java.util.concurrent.FutureTask;
+import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * {@link DbAdmissionGate} 진입 순서와 거절 테스트
+ */
+class DbAdmissionGateTest {
+
+    private static final long MAX_WAIT_MS = 500;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void admitsQueuedCallerBeforeNewcomer() throws Exception {
+        DbAdmissionGate gate = new DbAdmissionGate(1, MAX_WAIT_MS, 10, meterRegistry);
+        gate.acquire();
+        FutureTask<Void> waiter = new FutureTask<>(() -> {
+            gate.acquire();
+            return null;
+        });
+        new Thread(waiter, "admission-waiter").start();
+        await().atMost(Duration.ofSeconds(5)).until(() -> queued() == 1);
+
+        gate.release();
+
+        // 반환된 자리는 먼저 기다린 호출에게 (새 호출은 대기 후 시간 초과)
+        assertThatThrownBy(gate::acquire).isInstanceOf(DbAdmissionRejectedException.class);
+        waiter.get();
+        assertThat(rejected("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() throws Exception {
+        DbAdmissionGate gate = new DbAdmissionGate(1, MAX_WAIT_MS, 1, meterRegistry);
+        gate.acquire();
+        FutureTask<Void> waiter = new FutureTask<>(() -> {
+            gate.acquire();
+            return null;
+        });
+        new Thread(waiter, "admission-waiter").start();
+        await().atMost(Duration.ofSeconds(5)).until(() -> queued() == 1);
+
+        assertThatThrownBy(gate::acquire).isInstanceOf(DbAdmissionRejectedException.class);
+        assertThat(rejected("queue_full")).isEqualTo(1);
+
+        gate.release();
+        waiter.get();
+    }
+
+    @Test
+    void admitsWithoutWaitingWhenPermitIsFree() throws Exception {
+        DbAdmissionGate gate = new DbAdmissionGate(2, MAX_WAIT_MS, 10, meterRegistry);
+
+        gate.acquire();
+        gate.acquire();
+
+        assertThat(meterRegistry.get("db.admission.active").gauge().value()).isEqualTo(2);
+        gate.release();
+        gate.release();
+        assertThat(meterRegistry.get("db.admission.active").gauge().value()).isZero();
+    }
+
+    private double queued() {
+        return meterRegistry.get("db.admission.queued").gauge().value();
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("db.admission.rejected").tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,37 @@
+package org.itcen.common.jdbc;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * 테스트 한 건에서 실행할 수 있는 최대 SQL 문장 수
+ *
+ * 테스트 스레드에서 실행된 문장(MockMvc 요청 포함)을 세어 초과하면 실패시킵니다. 클래스에 붙이면 모든 테스트 메서드에 적용되고,
+ * 메서드에 붙인 값이 우선합니다.
+ *
+ * <pre>
+ * &#64;SpringBootTest
+ * &#64;MaxSqlStatements(5)
+ * class PositionServiceTest { ... }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@ExtendWith(SqlStatementCountExtension.class)
+public @interface MaxSqlStatements {
+
+    /**
+     * 최대 문장 수
+     */
+    int value();
+
+    /**
+     * 같은 형태 문장의 최대 반복 횟수 (N+1 판정, 0 이면 검사하지 않음)
+     */
+    int maxRepeats() default 0;
+}
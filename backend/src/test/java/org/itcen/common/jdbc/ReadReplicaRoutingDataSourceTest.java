@@ -0,0 +1,209 @@
+package org.itcen.common.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * {@link ReadReplicaRoutingDataSource} 라우팅 테스트
+ *
+ * primary/복제본 대신 H2 메모리 DB 두 개를 사용하고, 복제 지연 조회는 lag-query 로 흉내 냅니다. (SELECT 0 / SELECT 5000)
+ * 어느 DB 로 갔는지는 커넥션 URL 로 확인합니다.
+ */
+class ReadReplicaRoutingDataSourceTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReadReplicaProperties properties = new ReadReplicaProperties();
+    private final MockHttpSession session = new MockHttpSession();
+
+    private String primaryUrl;
+    private String replicaUrl;
+    private ReadReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        int sequence = SEQUENCE.incrementAndGet();
+        primaryUrl = "jdbc:h2:mem:primary" + sequence;
+        replicaUrl = "jdbc:h2:mem:replica" + sequence;
+        properties.setLagQuery("SELECT 0");
+        properties.setMaxLagMs(1000);
+        properties.setHealthCheckIntervalMs(50);
+        properties.setStickyWindowMs(5000);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setSession(session);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (routing != null) {
+            routing.close();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.clear();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void writeGoesToPrimary() throws SQLException {
+        routing = routing(replicaUrl);
+
+        assertThat(write()).startsWith(primaryUrl);
+        assertThat(routed("primary", "write")).isEqualTo(1);
+    }
+
+    @Test
+    void readOnlyGoesToReplica() throws SQLException {
+        routing = routing(replicaUrl);
+
+        assertThat(readOnly()).startsWith(replicaUrl);
+        assertThat(routed("replica-1", "read")).isEqualTo(1);
+    }
+
+    @Test
+    void readOnlyFallsBackToPrimaryWhenReplicaLagsBehind() throws SQLException {
+        properties.setLagQuery("SELECT 5000");
+        routing = routing(replicaUrl);
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> meterRegistry.get("db.replica.available").gauge().value() == 0);
+
+        assertThat(readOnly()).startsWith(primaryUrl);
+        assertThat(routed("primary", "fallback")).isEqualTo(1);
+    }
+
+    @Test
+    void readOnlyFallsBackToPrimaryWhenReplicaIsDown() throws SQLException {
+        // 접속할 수 없는 복제본
+        routing = routing("jdbc:h2:tcp://localhost:1/~/replica");
+
+        assertThat(readOnly()).startsWith(primaryUrl);
+        assertThat(routed("primary", "fallback")).isEqualTo(1);
+    }
+
+    @Test
+    void readOnlyStaysOnPrimaryWithinStickyWindowAfterWrite() throws SQLException {
+        routing = routing(replicaUrl);
+
+        write();
+        assertThat(session.getAttribute(ReadReplicaRoutingDataSource.LAST_WRITE_ATTRIBUTE)).isNotNull();
+        assertThat(readOnly()).startsWith(primaryUrl);
+        assertThat(routed("primary", "sticky")).isEqualTo(1);
+
+        // 창이 지난 쓰기는 복제본으로
+        session.setAttribute(ReadReplicaRoutingDataSource.LAST_WRITE_ATTRIBUTE,
+                System.currentTimeMillis() - properties.getStickyWindowMs() - 1);
+        assertThat(readOnly()).startsWith(replicaUrl);
+    }
+
+    @Test
+    void stickyWindowDoesNotApplyToOtherSessions() throws SQLException {
+        routing = routing(replicaUrl);
+
+        write();
+        MockHttpServletRequest otherRequest = new MockHttpServletRequest();
+        otherRequest.setSession(new MockHttpSession());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(otherRequest));
+
+        assertThat(readOnly()).startsWith(replicaUrl);
+    }
+
+    @Test
+    void primaryReadScopeGoesToPrimary() {
+        routing = routing(replicaUrl);
+
+        String url = PrimaryRead.call(() -> {
+            try {
+                return readOnly();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(url).startsWith(primaryUrl);
+        assertThat(routed("primary", "pinned")).isEqualTo(1);
+    }
+
+    @Test
+    void connectionWithCredentialsGoesToPrimary() throws SQLException {
+        routing = routing(replicaUrl);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        try (Connection connection = routing.getConnection("sa", "")) {
+            assertThat(connection.getMetaData().getURL()).startsWith(primaryUrl);
+        }
+    }
+
+    private ReadReplicaRoutingDataSource routing(String replicaJdbcUrl) {
+        return new ReadReplicaRoutingDataSource(pool("primary", primaryUrl),
+                List.of(pool("replica-1", replicaJdbcUrl)), properties, meterRegistry);
+    }
+
+    private static HikariDataSource pool(String name, String url) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setMaximumPoolSize(2);
+        config.setMinimumIdle(0);
+        config.setConnectionTimeout(250);
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * 쓰기 트랜잭션 흉내 (커넥션 사용 후 커밋 콜백 실행)
+     */
+    private String write() throws SQLException {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            String url;
+            try (Connection connection = routing.getConnection()) {
+                url = connection.getMetaData().getURL();
+            }
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+            return url;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * readOnly 트랜잭션 흉내
+     */
+    private String readOnly() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try (Connection connection = routing.getConnection()) {
+            return connection.getMetaData().getURL();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private double routed(String target, String reason) {
+        return meterRegistry.get("db.routing").tag("target", target).tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,64 @@
+package org.itcen.common.jdbc;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * {@link MaxSqlStatements} 검사 확장
+ *
+ * 테스트 메서드 본문마다 {@link SqlStatementContext} 집계 범위를 열고, 종료 시 문장 수와 같은 형태 반복 횟수를 검사합니다.
+ * (@BeforeEach 의 데이터 준비 문장은 세지 않음)
+ * 애플리케이션 컨텍스트의 DataSource 가 SQL 실행 수신기로 감싸져 있어야 합니다. (itcen.sql-stats.enabled=true)
+ */
+public class SqlStatementCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(SqlStatementCountExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), SqlStatementContext.begin());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatementStats stats = context.getStore(NAMESPACE).remove(context.getUniqueId(), SqlStatementStats.class);
+        if (stats == null) {
+            return;
+        }
+        SqlStatementContext.end(stats);
+
+        Optional<MaxSqlStatements> limit = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(),
+                MaxSqlStatements.class);
+        if (limit.isEmpty()) {
+            limit = AnnotationSupport.findAnnotation(context.getRequiredTestClass(), MaxSqlStatements.class);
+        }
+        if (limit.isEmpty()) {
+            return;
+        }
+
+        if (stats.getStatementCount() > limit.get().value()) {
+            fail(String.format("SQL 실행 %d건이 허용치 %d건을 초과했습니다.%n%s", stats.getStatementCount(),
+                    limit.get().value(), describe(stats.getRepeatedShapes(2))));
+        }
+        if (limit.get().maxRepeats() > 0) {
+            Map<String, Integer> repeated = stats.getRepeatedShapes(limit.get().maxRepeats() + 1);
+            if (!repeated.isEmpty()) {
+                fail(String.format("같은 형태의 SQL 이 %d회를 초과해 반복 실행되었습니다. (N+1 의심)%n%s",
+                        limit.get().maxRepeats(), describe(repeated)));
+            }
+        }
+    }
+
+    private static String describe(Map<String, Integer> shapes) {
+        return shapes.entrySet().stream()
+                .map(entry -> "  " + entry.getValue() + "회: " + entry.getKey())
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+}
@@ -0,0 +1,94 @@
+package org.itcen.common.jdbc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link StatementDeadline} 문장 제한 시간 적용 테스트 (H2)
+ */
+class StatementDeadlineTest {
+
+    private Connection connection;
+    private Statement statement;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:statement-deadline");
+        statement = connection.createStatement();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        statement.close();
+        connection.close();
+    }
+
+    @Test
+    void leavesStatementOutsideScope() throws Exception {
+        StatementDeadline.apply(statement);
+
+        assertThat(statement.getQueryTimeout()).isZero();
+    }
+
+    @Test
+    void roundsRemainingTimeUpToSeconds() throws Exception {
+        StatementDeadline.call(deadlineAfterMillis(1_500), () -> {
+            StatementDeadline.apply(statement);
+            return null;
+        });
+
+        assertThat(statement.getQueryTimeout()).isEqualTo(2);
+    }
+
+    @Test
+    void appliesAtLeastOneSecondAfterDeadline() throws Exception {
+        StatementDeadline.call(deadlineAfterMillis(-5_000), () -> {
+            StatementDeadline.apply(statement);
+            return null;
+        });
+
+        assertThat(statement.getQueryTimeout()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsEarlierDeadlineWhenNested() throws Exception {
+        StatementDeadline.call(deadlineAfterMillis(2_500), () ->
+                StatementDeadline.call(deadlineAfterMillis(60_000), () -> {
+                    StatementDeadline.apply(statement);
+                    return null;
+                }));
+
+        assertThat(statement.getQueryTimeout()).isEqualTo(3);
+    }
+
+    @Test
+    void keepsShorterExistingTimeout() throws Exception {
+        statement.setQueryTimeout(1);
+
+        StatementDeadline.call(deadlineAfterMillis(60_000), () -> {
+            StatementDeadline.apply(statement);
+            return null;
+        });
+
+        assertThat(statement.getQueryTimeout()).isEqualTo(1);
+    }
+
+    @Test
+    void clearsDeadlineAfterScope() throws Exception {
+        StatementDeadline.call(deadlineAfterMillis(1_000), () -> null);
+
+        StatementDeadline.apply(statement);
+
+        assertThat(statement.getQueryTimeout()).isZero();
+    }
+
+    private static long deadlineAfterMillis(long millis) {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
@@ -0,0 +1,66 @@
+package org.itcen.domain.menu.service;
+
+import java.util.List;
+import org.itcen.common.jdbc.MaxSqlStatements;
+import org.itcen.domain.menu.dto.MenuDto;
+import org.itcen.domain.menu.entity.Menu;
+import org.itcen.finance.BackendApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.EntityManager;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계층형 메뉴 조회 SQL 문장 수 검사
+ *
+ * 기존 메뉴를 비활성화하고 2 x 3 x 2 고정 계층을 넣은 뒤 (테스트 후 롤백) 조회합니다.
+ * 하위 메뉴는 단계별로 한 번에 로딩되어야 하므로 최상위 조회 1건 + 단계별 3건을 넘으면 N+1 입니다.
+ */
+@SpringBootTest(classes = BackendApplication.class)
+@Transactional
+class MenuServiceSqlStatementTest {
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.createQuery("UPDATE Menu m SET m.isActive = false").executeUpdate();
+        for (int r = 1; r <= 2; r++) {
+            Menu root = menu("SQLTEST_" + r, null, r);
+            for (int c = 1; c <= 3; c++) {
+                Menu child = menu("SQLTEST_" + r + "_" + c, root, c);
+                root.addChild(child);
+                for (int g = 1; g <= 2; g++) {
+                    child.addChild(menu("SQLTEST_" + r + "_" + c + "_" + g, child, g));
+                }
+            }
+            entityManager.persist(root);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @MaxSqlStatements(value = 4, maxRepeats = 3)
+    void getMenuHierarchyLoadsChildrenOncePerLevel() {
+        List<MenuDto> hierarchy = menuService.getMenuHierarchy();
+
+        assertThat(hierarchy).extracting(MenuDto::getMenuCode).containsExactly("SQLTEST_1", "SQLTEST_2");
+        assertThat(hierarchy).allSatisfy(root -> {
+            assertThat(root.getChildren()).hasSize(3);
+            assertThat(root.getChildren()).allSatisfy(child -> assertThat(child.getChildren()).hasSize(2));
+        });
+    }
+
+    private static Menu menu(String code, Menu parent, int sortOrder) {
+        return new Menu(code, code, code, parent, parent == null ? 1 : parent.getMenuLevel() + 1, sortOrder,
+                null, null, null);
+    }
+}
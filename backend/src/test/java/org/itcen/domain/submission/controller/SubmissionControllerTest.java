@@ -0,0 +1,161 @@
+package org.itcen.domain.submission.controller;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import org.itcen.common.exception.GlobalExceptionHandler;
+import org.itcen.common.file.FileDownloadSupport;
+import org.itcen.common.file.LocalFileStore;
+import org.itcen.domain.submission.entity.Submission;
+import org.itcen.domain.submission.repository.SubmissionRepository;
+import org.itcen.domain.submission.service.SubmissionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 제출 이력 첨부파일 다운로드 테스트 ({@link FileDownloadSupport} 의 ETag / Range 응답, 저장소에 없는 파일)
+ */
+class SubmissionControllerTest {
+
+    private static final String URL = "/api/submissions/{id}/attachment";
+    private static final byte[] CONTENT = new byte[1000];
+
+    static {
+        for (int i = 0; i < CONTENT.length; i++) {
+            CONTENT[i] = (byte) i;
+        }
+    }
+
+    @TempDir
+    Path root;
+
+    private final SubmissionRepository repository = mock(SubmissionRepository.class);
+    private MockMvc mockMvc;
+    private String etag;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        LocalFileStore fileStore = new LocalFileStore(root.toString());
+        String sha256 = fileStore.store(new MockMultipartFile("file", "보고서.pdf", "application/pdf", CONTENT)).sha256();
+        etag = "\"" + sha256 + "\"";
+        when(repository.findById(1L)).thenReturn(Optional.of(submission(1L, sha256)));
+        // 메타데이터만 남고 내용이 없는 첨부파일
+        when(repository.findById(2L)).thenReturn(Optional.of(submission(2L, "0".repeat(64))));
+
+        SubmissionController controller = new SubmissionController(new SubmissionServiceImpl(repository, fileStore),
+                new FileDownloadSupport());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void sendsWholeFile() throws Exception {
+        mockMvc.perform(get(URL, 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, startsWith("attachment;")))
+                .andExpect(content().contentType("application/pdf"))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    void sendsRequestedRange() throws Exception {
+        mockMvc.perform(get(URL, 1L).header(HttpHeaders.RANGE, "bytes=100-199"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-199/1000"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 100))
+                .andExpect(content().bytes(Arrays.copyOfRange(CONTENT, 100, 200)));
+    }
+
+    @Test
+    void sendsSuffixRange() throws Exception {
+        mockMvc.perform(get(URL, 1L).header(HttpHeaders.RANGE, "bytes=-10"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 990-999/1000"))
+                .andExpect(content().bytes(Arrays.copyOfRange(CONTENT, 990, 1000)));
+    }
+
+    @Test
+    void sendsRangeWhenIfRangeMatches() throws Exception {
+        mockMvc.perform(get(URL, 1L).header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, etag))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(Arrays.copyOfRange(CONTENT, 0, 10)));
+    }
+
+    @Test
+    void sendsWholeFileWhenIfRangeDiffers() throws Exception {
+        mockMvc.perform(get(URL, 1L).header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    void sendsWholeFileForMultipleRanges() throws Exception {
+        mockMvc.perform(get(URL, 1L).header(HttpHeaders.RANGE, "bytes=0-9,20-29"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    void returnsNotModifiedWhenEtagMatches() throws Exception {
+        mockMvc.perform(get(URL, 1L).header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void returnsNotModifiedForWeakEtag() throws Exception {
+        mockMvc.perform(get(URL, 1L).header(HttpHeaders.IF_NONE_MATCH, "W/" + etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void rejectsUnsatisfiableRange() throws Exception {
+        mockMvc.perform(get(URL, 1L).header(HttpHeaders.RANGE, "bytes=1000-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */1000"))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void ignoresMalformedRange() throws Exception {
+        mockMvc.perform(get(URL, 1L).header(HttpHeaders.RANGE, "lines=1-2"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    void returnsNotFoundWhenStoredFileIsMissing() throws Exception {
+        mockMvc.perform(get(URL, 2L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.error.code").value("FILE_NOT_FOUND"));
+    }
+
+    private static Submission submission(Long id, String sha256) {
+        return Submission.builder()
+                .id(id)
+                .attachmentFile("보고서.pdf")
+                .attachmentSha256(sha256)
+                .attachmentContentType("application/pdf")
+                .build();
+    }
+}
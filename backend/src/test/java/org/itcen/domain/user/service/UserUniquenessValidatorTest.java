@@ -0,0 +1,77 @@
+package org.itcen.domain.user.service;
+
+import java.sql.SQLException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link UserUniquenessValidator#conflictOf} 고유 제약 → 항목 판별 테스트
+ *
+ * 고유 제약: database/init/23.create_table_users.sql, 37.create_index_users_unique.sql
+ */
+class UserUniquenessValidatorTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "users_pkey, id, hong",
+            "users_username_key, username, 홍길동",
+            "users_email_key, email, hong@example.com",
+            "users_mobile_key, mobile, 010-1234-5678",
+            "users_num_key, num, 20240001"
+    })
+    void mapsPostgresMessageToField(String constraint, String column, String value) {
+        UserUniquenessValidator.Conflicts conflicts =
+                UserUniquenessValidator.conflictOf(fromPostgres(constraint, column, value));
+
+        assertThat(conflicts).isEqualTo(only(constraint));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "users_pkey",
+            "users_username_key",
+            "users_email_key",
+            "users_mobile_key",
+            "users_num_key"
+    })
+    void mapsHibernateConstraintNameToField(String constraint) {
+        SQLException sqlException = new SQLException("duplicate key", "23505");
+        DataIntegrityViolationException e = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, constraint));
+
+        assertThat(UserUniquenessValidator.conflictOf(e)).isEqualTo(only(constraint));
+    }
+
+    @Test
+    void ignoresConstraintNamesInsideDuplicatedValue() {
+        // 입력값(Detail)에 다른 제약 이름이 들어 있어도 위반된 제약만 판별
+        DataIntegrityViolationException e = fromPostgres("users_email_key", "email", "users_num_key@example.com");
+
+        assertThat(UserUniquenessValidator.conflictOf(e)).isEqualTo(only("users_email_key"));
+    }
+
+    @Test
+    void returnsNoneForOtherViolations() {
+        assertThat(UserUniquenessValidator.conflictOf(fromPostgres("user_roles_pkey", "user_id", "hong")))
+                .isEqualTo(UserUniquenessValidator.Conflicts.NONE);
+        assertThat(UserUniquenessValidator.conflictOf(new DataIntegrityViolationException("not null",
+                new SQLException("null value in column \"email\" violates not-null constraint"))))
+                .isEqualTo(UserUniquenessValidator.Conflicts.NONE);
+    }
+
+    private static DataIntegrityViolationException fromPostgres(String constraint, String column, String value) {
+        SQLException cause = new SQLException("ERROR: duplicate key value violates unique constraint \"" + constraint
+                + "\"\n  Detail: Key (" + column + ")=(" + value + ") already exists.", "23505");
+        return new DataIntegrityViolationException("could not execute statement", cause);
+    }
+
+    private static UserUniquenessValidator.Conflicts only(String constraint) {
+        return new UserUniquenessValidator.Conflicts(constraint.equals("users_pkey"),
+                constraint.equals("users_username_key"), constraint.equals("users_email_key"),
+                constraint.equals("users_mobile_key"), constraint.equals("users_num_key"));
+    }
+}